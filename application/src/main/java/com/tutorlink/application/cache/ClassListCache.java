@@ -0,0 +1,268 @@
+package com.tutorlink.application.cache;
+
+import com.tutorlink.teacher.dto.ClassFacetRequest;
+import com.tutorlink.teacher.dto.ClassFacets;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.PageResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 선생님별 클래스 목록 조회 결과를 메모리 예산 안에서 보관하는 LRU 캐시.
+ * <p>
+ * 캐시 키에는 선생님별 버전이 포함되며, 클래스가 등록되면 버전을 올려 해당 선생님의 결과만 무효화한다.
+ * 이전 버전의 결과는 더 이상 조회되지 않고 LRU 순서에 따라 제거된다.
+ * 버전은 선생님 ID의 해시로 나눈 고정 개수의 카운터에 보관하므로, 선생님 수와 관계없이 메모리 사용량이 일정하다.
+ * 같은 카운터를 쓰는 다른 선생님의 결과도 함께 무효화되지만 다시 조회될 뿐 오래된 결과가 반환되지는 않는다.
+ * <p>
+ * 버전은 조회 전에 읽어 두므로, 조회 도중 버전이 올라가면 그 결과는 이미 지난 버전의 키로 저장되어 다시 읽히지 않는다.
+ * 등록 트랜잭션이 커밋되기 전에 조회된 결과가 새 버전으로 저장되는 것을 막기 위해 등록 시점과 커밋 직후에 버전을 한 번씩 올린다.
+ * <p>
+ * 캐시에 없는 같은 키를 동시에 조회하면 {@link SingleFlight}로 한 번만 조회하고 결과를 나눠 받는다.
+ * 키에 버전이 포함되어 있으므로 무효화 이후의 호출이 무효화 이전에 시작된 조회에 합쳐지지 않는다.
+ * <p>
+ * 목록과 함께 반환되는 facet 개수도 같은 버전을 키에 포함해 보관하므로, 클래스가 등록되면 목록과 facet이 함께 무효화된다.
+ * <p>
+ * 무효화 직후에는 복제본이 등록 커밋을 아직 반영하지 않았을 수 있으므로, 호출자는 {@link #isRecentlyInvalidated(Long)}로 확인해
+ * 새 버전을 채우는 조회를 주 DB에서 실행한다. 무효화 이후 복제 지연보다 긴 시간이 지난 뒤의 미스는 복제본에서 읽어도 된다.
+ */
+public class ClassListCache {
+
+    /**
+     * 기본 메모리 예산 (64MB)
+     */
+    public static final long DEFAULT_MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * 무효화 이후 캐시를 채우는 조회를 주 DB에서 실행하는 기본 시간. 복제 지연보다 길어야 한다
+     */
+    public static final Duration DEFAULT_PRIMARY_READ_WINDOW = Duration.ofSeconds(5);
+
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+    private static final long ROW_OVERHEAD_BYTES = 120;
+    private static final int VERSION_STRIPES = 4096;
+    private static final int MAX_FACET_ENTRIES = 1_000;
+
+    private final long maxWeightBytes;
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final SingleFlight<Key, PageResponse<ClassMetadataDto>> loads = new SingleFlight<>();
+    private final Map<FacetKey, ClassFacets> facets = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FacetKey, ClassFacets> eldest) {
+            return size() > MAX_FACET_ENTRIES;
+        }
+    };
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLongArray primaryReadsUntil = new AtomicLongArray(VERSION_STRIPES);
+    private final long primaryReadWindowNanos;
+    private long weightBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ClassListCache() {
+        this(DEFAULT_MAX_WEIGHT_BYTES);
+    }
+
+    public ClassListCache(long maxWeightBytes) {
+        this(maxWeightBytes, DEFAULT_PRIMARY_READ_WINDOW);
+    }
+
+    public ClassListCache(long maxWeightBytes, Duration primaryReadWindow) {
+        if (maxWeightBytes < 0) {
+            throw new IllegalArgumentException("메모리 예산은 0 이상이어야 합니다.");
+        }
+        this.maxWeightBytes = maxWeightBytes;
+        this.primaryReadWindowNanos = primaryReadWindow.toNanos();
+
+        // 한 번도 무효화되지 않은 선생님은 주 DB에서 읽지 않는다
+        long now = System.nanoTime();
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            primaryReadsUntil.set(i, now);
+        }
+    }
+
+    /**
+     * 캐시된 조회 결과를 반환하고, 없으면 조회 함수를 실행해 결과를 저장한다.
+     *
+     * @param teacherId 선생님 ID
+     * @param condition 검색 조건
+     * @param loader    캐시에 없을 때 실행할 조회 함수
+     * @return 클래스 목록 조회 결과
+     */
+    public PageResponse<ClassMetadataDto> get(Long teacherId, ClassSearchCondition condition, Supplier<PageResponse<ClassMetadataDto>> loader) {
+        // 조회 전에 버전을 읽어야 조회 도중 등록된 클래스가 결과에 빠져도 새 버전으로 저장되지 않는다
+        Key key = new Key(teacherId, currentVersion(teacherId), condition);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.increment();
+                return entry.value();
+            }
+        }
+        misses.increment();
+
+        // 느린 조회가 다른 키의 조회를 막지 않도록 락 밖에서 조회하고, 같은 키의 동시 조회는 하나로 합친다
+        return loads.execute(key, () -> {
+            PageResponse<ClassMetadataDto> value = loader.get();
+            put(key, value);
+            return value;
+        });
+    }
+
+    /**
+     * 캐시된 facet 개수를 반환하고, 없으면 조회 함수를 실행해 결과를 저장한다.
+     * <p>
+     * 페이징과 정렬은 facet 개수에 영향을 주지 않으므로 같은 제목 키워드의 모든 페이지가 하나의 결과를 공유한다.
+     *
+     * @param teacherId    선생님 ID
+     * @param titleKeyword 제목 키워드
+     * @param facetRequest 계산할 가격 구간과 등록일 히스토그램 단위
+     * @param loader       캐시에 없을 때 실행할 조회 함수
+     * @return facet 개수
+     */
+    public ClassFacets getFacets(Long teacherId, String titleKeyword, ClassFacetRequest facetRequest, Supplier<ClassFacets> loader) {
+        // 목록과 마찬가지로 조회 전에 버전을 읽어 둔다
+        FacetKey key = new FacetKey(teacherId, currentVersion(teacherId), titleKeyword, facetRequest);
+        synchronized (facets) {
+            ClassFacets cached = facets.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ClassFacets value = loader.get();
+        synchronized (facets) {
+            facets.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 선생님의 버전을 올려 캐시된 조회 결과를 무효화한다.
+     *
+     * @param teacherId 선생님 ID
+     */
+    public void invalidate(Long teacherId) {
+        int stripe = stripeOf(teacherId);
+        primaryReadsUntil.set(stripe, System.nanoTime() + primaryReadWindowNanos);
+        versions.incrementAndGet(stripe);
+    }
+
+    /**
+     * 선생님의 캐시가 최근에 무효화되어, 캐시를 채우는 조회가 주 DB에서 실행되어야 하는지 확인한다.
+     * <p>
+     * 커밋 직후의 무효화부터 시간을 재므로, 이 시간 안의 미스는 복제본이 반영하지 않은 커밋을 놓칠 수 있다.
+     *
+     * @param teacherId 선생님 ID
+     * @return 마지막 무효화 이후 주 DB에서 읽는 시간이 지나지 않았으면 true
+     */
+    public boolean isRecentlyInvalidated(Long teacherId) {
+        return primaryReadsUntil.get(stripeOf(teacherId)) - System.nanoTime() > 0;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 직후에 선생님의 캐시를 무효화한다. 트랜잭션이 없으면 바로 무효화한다.
+     *
+     * @param teacherId 선생님 ID
+     */
+    public void invalidateAfterCommit(Long teacherId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(teacherId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(teacherId);
+            }
+        });
+    }
+
+    /**
+     * @return 캐시 적중, 미스, 제거, 합쳐진 조회 횟수와 현재 사용량
+     */
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), loads.coalesced(), entries.size(), weightBytes);
+        }
+    }
+
+    private long currentVersion(Long teacherId) {
+        return versions.get(stripeOf(teacherId));
+    }
+
+    private static int stripeOf(Long teacherId) {
+        int hash = Long.hashCode(teacherId);
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+
+    private void put(Key key, PageResponse<ClassMetadataDto> value) {
+        long weight = weigh(value);
+        if (weight > maxWeightBytes) {
+            return;
+        }
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(value, weight));
+            if (previous != null) {
+                weightBytes -= previous.weight();
+            }
+            weightBytes += weight;
+
+            // 예산을 넘으면 가장 오래 사용되지 않은 결과부터 제거한다
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (weightBytes > maxWeightBytes && iterator.hasNext()) {
+                weightBytes -= iterator.next().weight();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 조회 결과가 차지하는 힙 크기를 대략 추정한다. (문자열은 UTF-16 기준)
+     */
+    private static long weigh(PageResponse<ClassMetadataDto> value) {
+        long weight = ENTRY_OVERHEAD_BYTES;
+        for (ClassMetadataDto dto : value.content()) {
+            weight += ROW_OVERHEAD_BYTES + stringWeight(dto.title()) + stringWeight(dto.description());
+        }
+        return weight;
+    }
+
+    private static long stringWeight(String value) {
+        return value != null ? 40L + 2L * value.length() : 0L;
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param hits        캐시 적중 횟수
+     * @param misses      캐시 미스 횟수
+     * @param evictions   메모리 예산 초과로 제거된 결과 수
+     * @param coalesced   진행 중인 같은 조회에 합쳐져 리포지토리를 호출하지 않은 미스 수
+     * @param size        현재 보관 중인 결과 수
+     * @param weightBytes 현재 보관 중인 결과의 추정 크기
+     */
+    public record Stats(long hits, long misses, long evictions, long coalesced, int size, long weightBytes) {
+    }
+
+    private record Key(Long teacherId, long version, ClassSearchCondition condition) {
+    }
+
+    private record FacetKey(Long teacherId, long version, String titleKeyword, ClassFacetRequest facetRequest) {
+    }
+
+    private record Entry(PageResponse<ClassMetadataDto> value, long weight) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.tutorlink.application.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나의 실행으로 합친다.
+ * <p>
+ * 먼저 들어온 호출이 호출한 스레드에서 직접 실행하고, 실행 중에 들어온 같은 키의 호출은 그 결과(또는 예외)를 함께 받는다.
+ * 대기는 {@link CompletableFuture}로 하며 모니터 락을 잡지 않으므로 가상 스레드에서도 캐리어 스레드를 점유하지 않는다.
+ *
+ * @param <K> 호출을 구분하는 키
+ * @param <V> 실행 결과
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 같은 키의 실행이 진행 중이면 그 결과를 기다리고, 아니면 직접 실행한다.
+     *
+     * @param key      호출을 구분하는 키
+     * @param supplier 실행할 함수
+     * @return 실행 결과
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executions.increment();
+        try {
+            V value = supplier.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return 실제로 실행된 횟수
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return 진행 중인 실행에 합쳐진 호출 수
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 실행한 쪽과 같은 예외를 그대로 전달한다
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
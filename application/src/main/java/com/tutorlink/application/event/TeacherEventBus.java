@@ -0,0 +1,110 @@
+package com.tutorlink.application.event;
+
+import com.tutorlink.common.event.EventHandler;
+import com.tutorlink.common.event.RingBuffer;
+import com.tutorlink.common.event.WaitStrategy;
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 선생님과 클래스 등록 이벤트를 프로세스 안의 구독자에게 전달하는 이벤트 버스.
+ * <p>
+ * 이벤트는 미리 할당된 {@link RingBuffer}에 담기고, 구독자마다 전용 스레드가 쌓인 이벤트를 한 번에 꺼내 처리한다.
+ * 등록 요청 스레드는 슬롯에 이벤트를 쓰기만 하므로 구독자가 느려도 등록이 기다리지 않으며,
+ * 구독자가 링 한 바퀴만큼 밀려 있으면 이벤트를 버리고 개수를 센다.
+ * <p>
+ * 롤백된 등록의 이벤트가 전달되지 않도록 트랜잭션 안에서 발행한 이벤트는 커밋 직후에 링 버퍼에 넣는다.
+ */
+public class TeacherEventBus implements AutoCloseable {
+
+    /**
+     * 기본 링 버퍼 크기
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private final RingBuffer<TeacherEvent> ringBuffer;
+
+    public TeacherEventBus() {
+        this(DEFAULT_CAPACITY, WaitStrategy.blocking());
+    }
+
+    /**
+     * @param capacity     링 버퍼 크기 (2의 거듭제곱)
+     * @param waitStrategy 구독자 스레드가 이벤트를 기다리는 방식
+     */
+    public TeacherEventBus(int capacity, WaitStrategy waitStrategy) {
+        this.ringBuffer = new RingBuffer<>(capacity, waitStrategy);
+    }
+
+    /**
+     * 구독자를 추가한다. 구독자는 {@link #start()} 전에 추가해야 한다.
+     *
+     * @param name    구독자 이름 (스레드 이름과 통계에 사용된다)
+     * @param handler 이벤트마다 호출될 핸들러
+     */
+    public void subscribe(String name, EventHandler<? super TeacherEvent> handler) {
+        ringBuffer.addConsumer(name, handler);
+    }
+
+    /**
+     * 구독자 스레드를 시작한다.
+     */
+    public void start() {
+        ringBuffer.start(Thread.ofPlatform().name("teacher-event").daemon().factory());
+    }
+
+    /**
+     * 이벤트를 발행한다. 트랜잭션 안이면 커밋 직후에, 아니면 바로 링 버퍼에 넣는다.
+     *
+     * @param event 발행할 이벤트
+     */
+    public void publishAfterCommit(TeacherEvent event) {
+        publishAfterCommit(List.of(event));
+    }
+
+    /**
+     * 여러 이벤트를 순서대로 발행한다. 트랜잭션 안이면 커밋 직후에 한 번에 링 버퍼에 넣는다.
+     *
+     * @param events 발행할 이벤트 목록
+     */
+    public void publishAfterCommit(List<? extends TeacherEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(events);
+            }
+        });
+    }
+
+    /**
+     * @return 발행, 버려진 이벤트 수와 구독자별 처리 위치, 지연된 이벤트 수
+     */
+    public RingBuffer.Stats stats() {
+        return ringBuffer.stats();
+    }
+
+    /**
+     * 지금까지 발행된 이벤트를 구독자가 모두 처리할 때까지 기다린 뒤 구독자 스레드를 멈춘다.
+     */
+    @Override
+    public void close() {
+        ringBuffer.close();
+    }
+
+    private void publish(List<? extends TeacherEvent> events) {
+        for (TeacherEvent event : events) {
+            // 링이 가득 차면 버려진 개수만 기록되고 등록 흐름은 계속된다
+            ringBuffer.tryPublish(event);
+        }
+    }
+}
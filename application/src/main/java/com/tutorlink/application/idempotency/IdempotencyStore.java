@@ -0,0 +1,167 @@
+package com.tutorlink.application.idempotency;
+
+import com.tutorlink.teacher.domain.repository.IdempotencyRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 멱등성 키로 처리된 명령의 결과를 보관한다.
+ * <p>
+ * 최근 결과는 크기가 고정된 메모리 테이블에 두고, 없으면 영속 테이블({@link IdempotencyRepository})을 확인한다.
+ * 메모리 테이블은 키의 해시로 정해지는 두 칸 중 하나에 결과를 두며, 조회는 락 없이 두 칸을 읽어 비교하기만 하므로 객체를 만들지 않는다.
+ * 두 칸이 모두 차 있으면 먼저 만료될 결과를 덮어쓰므로 보관되는 결과 수는 용량을 넘지 않고, 밀려난 결과는 영속 테이블에서 다시 찾는다.
+ * <p>
+ * 결과는 명령과 같은 트랜잭션에서 영속 테이블에 저장되고, 커밋된 뒤에만 메모리 테이블에 들어간다.
+ * 명령은 결과를 저장하기 전에 미리 발급한 ID로 키를 먼저 기록한다. 같은 키의 명령이 동시에 실행되면 늦은 쪽은 먼저 기록한 명령이 끝나기를
+ * 기다렸다가 그 결과를 돌려받으므로, 아무것도 저장하지 않고 같은 ID를 응답한다. 영속 테이블의 키는 TTL이 지나면 만료되어 삭제된다.
+ */
+public class IdempotencyStore {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public IdempotencyStore(IdempotencyRepository idempotencyRepository) {
+        this(idempotencyRepository, DEFAULT_CAPACITY, DEFAULT_TTL, System::nanoTime);
+    }
+
+    IdempotencyStore(IdempotencyRepository idempotencyRepository, int capacity, Duration ttl, LongSupplier clock) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("용량은 2 이상의 2의 거듭제곱이어야 합니다.");
+        }
+        this.idempotencyRepository = idempotencyRepository;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * 멱등성 키로 이미 처리된 명령의 결과를 찾는다.
+     *
+     * @param operation      명령 이름
+     * @param idempotencyKey 멱등성 키
+     * @return 명령이 만든 ID, 처리된 적이 없으면 null
+     */
+    public Long find(String operation, String idempotencyKey) {
+        int index = indexOf(operation, idempotencyKey);
+        long now = clock.getAsLong();
+        Entry entry = slots.get(index);
+        if (!matches(entry, operation, idempotencyKey, now)) {
+            entry = slots.get(index ^ 1);
+        }
+        if (matches(entry, operation, idempotencyKey, now)) {
+            hits.increment();
+            return entry.resultId();
+        }
+        misses.increment();
+
+        // 메모리에서 밀려났거나 다른 노드에서 처리된 명령
+        Optional<Long> stored = idempotencyRepository.findResultId(operation, idempotencyKey);
+        stored.ifPresent(resultId -> put(operation, idempotencyKey, resultId));
+        return stored.orElse(null);
+    }
+
+    /**
+     * 명령의 결과를 진행 중인 트랜잭션에서 저장하고, 커밋된 뒤에 메모리 테이블에 넣는다. 트랜잭션이 없으면 바로 넣는다.
+     * 같은 키를 먼저 기록한 명령이 있으면 저장하지 않고 그 명령의 결과를 돌려준다.
+     *
+     * @param operation      명령 이름
+     * @param idempotencyKey 멱등성 키
+     * @param resultId       명령이 만든 ID
+     * @return 같은 키를 먼저 기록한 명령이 만든 ID, 이 명령의 결과가 기록되었으면 빈 값
+     */
+    public Optional<Long> record(String operation, String idempotencyKey, Long resultId) {
+        Optional<Long> recorded = idempotencyRepository.save(operation, idempotencyKey, resultId);
+        if (recorded.isPresent()) {
+            // 먼저 기록한 명령은 이미 커밋되었다
+            put(operation, idempotencyKey, recorded.get());
+            return recorded;
+        }
+
+        // 롤백된 명령의 결과가 메모리에 남지 않도록 커밋된 뒤에 넣는다
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(operation, idempotencyKey, resultId);
+            return recorded;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(operation, idempotencyKey, resultId);
+            }
+        });
+        return recorded;
+    }
+
+    /**
+     * @return 메모리 테이블 적중 횟수와 영속 테이블을 확인한 횟수
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum());
+    }
+
+    private void put(String operation, String idempotencyKey, Long resultId) {
+        int index = indexOf(operation, idempotencyKey);
+        long now = clock.getAsLong();
+        Entry entry = new Entry(operation, idempotencyKey, resultId, now + ttlNanos);
+
+        // 같은 키나 빈 칸, 만료된 칸을 먼저 쓰고, 없으면 먼저 만료될 결과를 덮어쓴다.
+        // 동시에 같은 칸을 쓰면 한쪽 결과가 사라질 수 있지만 영속 테이블에서 다시 찾을 수 있다.
+        Entry first = slots.get(index);
+        Entry second = slots.get(index ^ 1);
+        int target;
+        if (isReplaceable(first, operation, idempotencyKey, now)) {
+            target = index;
+        } else if (isReplaceable(second, operation, idempotencyKey, now)) {
+            target = index ^ 1;
+        } else {
+            target = first.expiresAt() - second.expiresAt() <= 0 ? index : index ^ 1;
+        }
+        slots.set(target, entry);
+    }
+
+    private int indexOf(String operation, String idempotencyKey) {
+        int hash = operation.hashCode() * 31 + idempotencyKey.hashCode();
+        hash ^= hash >>> 16;
+        return hash & mask;
+    }
+
+    private static boolean matches(Entry entry, String operation, String idempotencyKey, long now) {
+        return entry != null
+                && entry.expiresAt() - now > 0
+                && entry.idempotencyKey().equals(idempotencyKey)
+                && entry.operation().equals(operation);
+    }
+
+    private static boolean isReplaceable(Entry entry, String operation, String idempotencyKey, long now) {
+        return entry == null
+                || entry.expiresAt() - now <= 0
+                || (entry.idempotencyKey().equals(idempotencyKey) && entry.operation().equals(operation));
+    }
+
+    /**
+     * 멱등성 저장소 통계
+     *
+     * @param hits   메모리 테이블에서 결과를 찾은 횟수
+     * @param misses 메모리 테이블에 없어 영속 테이블을 확인한 횟수
+     */
+    public record Stats(long hits, long misses) {
+    }
+
+    private record Entry(String operation, String idempotencyKey, Long resultId, long expiresAt) {
+    }
+}
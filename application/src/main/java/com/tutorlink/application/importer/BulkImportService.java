@@ -0,0 +1,213 @@
+package com.tutorlink.application.importer;
+
+import com.tutorlink.common.id.IdGenerator;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.TeacherImportRepository;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * CSV/NDJSON 파일에서 선생님과 클래스를 대량으로 가져온다.
+ * <p>
+ * 파일을 한 레코드씩 읽어 청크로 묶고, 청크 검증은 작업 스레드에서 병렬로 실행한 뒤 청크를 파일 순서대로 저장한다.
+ * 검증 중인 청크 수가 제한되므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * <p>
+ * 청크마다 별도의 트랜잭션으로 저장되고 체크포인트도 같은 트랜잭션에서 갱신되므로, 중단된 가져오기를 같은 키로 다시 실행하면
+ * 저장된 다음 레코드부터 이어서 가져온다. 검증에 실패한 레코드는 거절 보고서 파일에 줄 번호와 이유가 기록된다.
+ */
+public class BulkImportService {
+
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final TeacherImportRepository teacherImportRepository;
+    private final ClassPolicy classPolicy;
+    private final IdGenerator idGenerator;
+    private final int chunkSize;
+    private final int workerCount;
+
+    public BulkImportService(TeacherImportRepository teacherImportRepository, ClassPolicy classPolicy, IdGenerator idGenerator) {
+        this(teacherImportRepository, classPolicy, idGenerator, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BulkImportService(TeacherImportRepository teacherImportRepository, ClassPolicy classPolicy, IdGenerator idGenerator,
+                             int chunkSize, int workerCount) {
+        if (chunkSize <= 0 || workerCount <= 0) {
+            throw new IllegalArgumentException("청크 크기와 작업 스레드 수는 1 이상이어야 합니다.");
+        }
+        this.teacherImportRepository = teacherImportRepository;
+        this.classPolicy = classPolicy;
+        this.idGenerator = idGenerator;
+        this.chunkSize = chunkSize;
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * 파일을 가져온다.
+     *
+     * @param source           가져올 파일 (.csv, .ndjson, .jsonl)
+     * @param importKey        가져오기 식별자 (같은 키로 다시 실행하면 체크포인트부터 이어서 가져온다)
+     * @param rejectsFile      거절된 레코드를 기록할 파일 (이미 있으면 뒤에 이어서 기록한다)
+     * @param progressListener 청크가 저장될 때마다 호출된다
+     * @return 최종 진행 상황
+     * @throws IOException 파일을 읽거나 거절 보고서를 쓰지 못한 경우
+     */
+    public ImportProgress importFile(Path source, String importKey, Path rejectsFile, Consumer<ImportProgress> progressListener) throws IOException {
+        ImportFormat format = ImportFormat.of(source);
+        ImportProgress progress = ImportProgress.start(importKey, teacherImportRepository.findCheckpoint(importKey));
+
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+        Deque<Future<ValidatedChunk>> inFlight = new ArrayDeque<>();
+        try (ImportRecordReader reader = format.open(Files.newBufferedReader(source, StandardCharsets.UTF_8));
+             BufferedWriter rejects = openRejects(rejectsFile)) {
+            List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+            ImportRecord record;
+            while ((record = reader.read()) != null) {
+                // 이전 실행에서 이미 저장된 레코드는 건너뛴다
+                if (record.lastLine() <= progress.resumedFrom()) {
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() < chunkSize) {
+                    continue;
+                }
+
+                List<ImportRecord> fullChunk = chunk;
+                inFlight.add(workers.submit(() -> validate(fullChunk)));
+                chunk = new ArrayList<>(chunkSize);
+
+                // 검증이 끝난 청크가 쌓이지 않도록 가장 오래된 청크부터 저장한다
+                if (inFlight.size() >= workerCount * 2) {
+                    progress = write(inFlight.poll(), progress, rejects, progressListener);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<ImportRecord> lastChunk = chunk;
+                inFlight.add(workers.submit(() -> validate(lastChunk)));
+            }
+            while (!inFlight.isEmpty()) {
+                progress = write(inFlight.poll(), progress, rejects, progressListener);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return progress;
+    }
+
+    /**
+     * 작업 스레드에서 실행된다. 레코드마다 선생님과 클래스를 만들고 클래스 정책으로 검증한다.
+     */
+    private ValidatedChunk validate(List<ImportRecord> records) {
+        List<Teacher> teachers = new ArrayList<>(records.size());
+        List<String> rejections = new ArrayList<>();
+        for (ImportRecord record : records) {
+            if (record.isMalformed()) {
+                rejections.add(rejection(record, record.error()));
+                continue;
+            }
+            try {
+                teachers.add(toTeacher(record));
+            } catch (IllegalArgumentException | IllegalStateException | NullPointerException e) {
+                rejections.add(rejection(record, e.getMessage()));
+            }
+        }
+        return new ValidatedChunk(teachers, rejections, records.getLast().lastLine());
+    }
+
+    private Teacher toTeacher(ImportRecord record) {
+        String name = record.teacher().name();
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("선생님의 이름이 비어있을 수 없습니다.");
+        }
+        Teacher teacher = new Teacher(idGenerator.nextId(), name, new ArrayList<>(), ActiveStatus.ACTIVE);
+        if (record.classes().isEmpty()) {
+            return teacher;
+        }
+
+        classPolicy.validateAll(teacher, record.classes());
+        List<TeachingClass> teachingClasses = new ArrayList<>(record.classes().size());
+        for (RegisterClassCommand command : record.classes()) {
+            teachingClasses.add(new TeachingClass(
+                    idGenerator.nextId(),
+                    teacher.id(),
+                    command.title(),
+                    command.description(),
+                    command.price(),
+                    command.registeredAt()
+            ));
+        }
+        return teacher.registerClasses(teachingClasses);
+    }
+
+    /**
+     * 검증된 청크를 저장하고 체크포인트를 옮긴다. 거절 보고서는 저장 전에 기록하므로, 중단 후 다시 실행해도 거절 내역이 빠지지 않는다.
+     */
+    private ImportProgress write(Future<ValidatedChunk> pending, ImportProgress progress, BufferedWriter rejects,
+                                 Consumer<ImportProgress> progressListener) throws IOException {
+        ValidatedChunk chunk = await(pending);
+        for (String rejection : chunk.rejections()) {
+            rejects.write(rejection);
+            rejects.newLine();
+        }
+        rejects.flush();
+
+        teacherImportRepository.importChunk(progress.importKey(), chunk.lastLine(), chunk.teachers());
+
+        int classCount = chunk.teachers().stream()
+                .mapToInt(teacher -> teacher.teachingClasses().size())
+                .sum();
+        ImportProgress advanced = progress.advance(chunk.lastLine(), chunk.teachers().size(), classCount, chunk.rejections().size());
+        progressListener.accept(advanced);
+        return advanced;
+    }
+
+    private ValidatedChunk await(Future<ValidatedChunk> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가져오기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("레코드를 검증하지 못했습니다.", e.getCause());
+        }
+    }
+
+    private static BufferedWriter openRejects(Path rejectsFile) throws IOException {
+        boolean exists = Files.exists(rejectsFile) && Files.size(rejectsFile) > 0;
+        BufferedWriter writer = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (!exists) {
+            writer.write("line,reason");
+            writer.newLine();
+        }
+        return writer;
+    }
+
+    private static String rejection(ImportRecord record, String reason) {
+        String escaped = reason == null ? "" : reason.replace("\"", "\"\"");
+        return record.firstLine() + ",\"" + escaped + "\"";
+    }
+
+    private record ValidatedChunk(List<Teacher> teachers, List<String> rejections, long lastLine) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.tutorlink.application.importer;
+
+import com.tutorlink.teacher.dto.CreateTeacherCommand;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 가져오기 파일을 읽는다.
+ * <p>
+ * 첫 줄은 헤더({@code teacher_ref,teacher_name,title,description,price,registered_at})이고, 이후 한 줄이 클래스 하나다.
+ * 같은 teacher_ref 를 가진 연속된 줄이 한 선생님의 레코드가 되며, title 이 비어 있는 줄은 클래스 없이 선생님만 등록한다.
+ * 쉼표나 따옴표가 포함된 값은 큰따옴표로 감싸고 따옴표는 두 번 쓴다. 값 안의 줄바꿈은 지원하지 않는다.
+ */
+public class CsvImportRecordReader implements ImportRecordReader {
+
+    private static final int COLUMN_COUNT = 6;
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private List<String> pendingRow;
+    private long pendingLine;
+
+    public CsvImportRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRecord read() throws IOException {
+        if (lineNumber == 0) {
+            // 헤더는 건너뛴다
+            reader.readLine();
+            lineNumber = 1;
+        }
+        if (pendingRow == null && !advance()) {
+            return null;
+        }
+
+        List<String> firstRow = pendingRow;
+        long firstLine = pendingLine;
+        pendingRow = null;
+        if (firstRow.size() != COLUMN_COUNT) {
+            return ImportRecord.malformed(firstLine, firstLine, "컬럼 수가 올바르지 않습니다: " + firstRow.size());
+        }
+
+        // 같은 선생님의 연속된 줄을 하나의 레코드로 묶는다
+        List<List<String>> rows = new ArrayList<>();
+        rows.add(firstRow);
+        long lastLine = firstLine;
+        while (advance()) {
+            if (pendingRow.size() != COLUMN_COUNT || !pendingRow.getFirst().equals(firstRow.getFirst())) {
+                break;
+            }
+            rows.add(pendingRow);
+            lastLine = pendingLine;
+            pendingRow = null;
+        }
+        return toRecord(firstLine, lastLine, rows);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 비어 있지 않은 다음 줄을 읽어 pendingRow 에 담는다.
+     */
+    private boolean advance() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                pendingRow = null;
+                return false;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        pendingRow = split(line);
+        pendingLine = lineNumber;
+        return true;
+    }
+
+    private ImportRecord toRecord(long firstLine, long lastLine, List<List<String>> rows) {
+        List<RegisterClassCommand> classes = new ArrayList<>();
+        try {
+            for (List<String> row : rows) {
+                if (row.get(2).isEmpty()) {
+                    continue;
+                }
+                classes.add(new RegisterClassCommand(null, row.get(2), row.get(3), Integer.parseInt(row.get(4).trim()), LocalDateTime.parse(row.get(5).trim())));
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return ImportRecord.malformed(firstLine, lastLine, "값을 읽을 수 없습니다: " + e.getMessage());
+        }
+        return ImportRecord.of(firstLine, lastLine, new CreateTeacherCommand(rows.getFirst().get(1)), classes);
+    }
+
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tutorlink.application.importer;
+
+import java.io.BufferedReader;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 가져오기 파일 형식. 파일 확장자로 결정된다.
+ */
+public enum ImportFormat {
+    CSV {
+        @Override
+        public ImportRecordReader open(BufferedReader reader) {
+            return new CsvImportRecordReader(reader);
+        }
+    },
+    NDJSON {
+        @Override
+        public ImportRecordReader open(BufferedReader reader) {
+            return new NdjsonImportRecordReader(reader);
+        }
+    };
+
+    public abstract ImportRecordReader open(BufferedReader reader);
+
+    public static ImportFormat of(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return CSV;
+        }
+        if (fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("지원하지 않는 가져오기 파일 형식입니다: " + fileName);
+    }
+}
@@ -0,0 +1,30 @@
+package com.tutorlink.application.importer;
+
+/**
+ * 가져오기 진행 상황. 청크가 저장될 때마다 갱신된다.
+ *
+ * @param importKey        가져오기 식별자
+ * @param resumedFrom      이번 실행이 이어받은 체크포인트 (처음 실행이면 0)
+ * @param checkpoint       저장이 끝난 마지막 줄 번호
+ * @param importedTeachers 이번 실행에서 등록된 선생님 수
+ * @param importedClasses  이번 실행에서 등록된 클래스 수
+ * @param rejectedRecords  이번 실행에서 거절된 레코드 수
+ */
+public record ImportProgress(
+        String importKey,
+        long resumedFrom,
+        long checkpoint,
+        long importedTeachers,
+        long importedClasses,
+        long rejectedRecords
+) {
+
+    static ImportProgress start(String importKey, long checkpoint) {
+        return new ImportProgress(importKey, checkpoint, checkpoint, 0, 0, 0);
+    }
+
+    ImportProgress advance(long checkpoint, int teachers, int classes, int rejected) {
+        return new ImportProgress(importKey, resumedFrom, checkpoint,
+                importedTeachers + teachers, importedClasses + classes, rejectedRecords + rejected);
+    }
+}
@@ -0,0 +1,38 @@
+package com.tutorlink.application.importer;
+
+import com.tutorlink.teacher.dto.CreateTeacherCommand;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+
+import java.util.List;
+
+/**
+ * 가져오기 파일에서 읽은 선생님 한 명과 그 선생님의 클래스 목록.
+ * <p>
+ * 선생님과 클래스는 함께 등록되거나 함께 거절된다. 파일에서 읽지 못한 레코드는 {@code error}에 이유를 담는다.
+ *
+ * @param firstLine 레코드가 시작하는 줄 번호 (거절 보고서에 기록된다)
+ * @param lastLine  레코드가 끝나는 줄 번호 (체크포인트로 사용된다)
+ * @param teacher   선생님 등록 요청
+ * @param classes   클래스 등록 요청 목록 (teacherId는 비어 있다)
+ * @param error     읽기 실패 이유 (정상 레코드이면 null)
+ */
+public record ImportRecord(
+        long firstLine,
+        long lastLine,
+        CreateTeacherCommand teacher,
+        List<RegisterClassCommand> classes,
+        String error
+) {
+
+    public static ImportRecord of(long firstLine, long lastLine, CreateTeacherCommand teacher, List<RegisterClassCommand> classes) {
+        return new ImportRecord(firstLine, lastLine, teacher, List.copyOf(classes), null);
+    }
+
+    public static ImportRecord malformed(long firstLine, long lastLine, String error) {
+        return new ImportRecord(firstLine, lastLine, null, List.of(), error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.tutorlink.application.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 파일을 레코드 단위로 읽는다. 파일 전체를 메모리에 올리지 않고 한 레코드씩 읽는다.
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * @return 다음 레코드 (파일 끝이면 null)
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    ImportRecord read() throws IOException;
+}
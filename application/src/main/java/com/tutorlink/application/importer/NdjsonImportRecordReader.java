@@ -0,0 +1,77 @@
+package com.tutorlink.application.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tutorlink.teacher.dto.CreateTeacherCommand;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON 가져오기 파일을 읽는다. 한 줄이 선생님 한 명이다.
+ * <pre>
+ * {"name": "suchan", "classes": [{"title": "...", "description": "...", "price": 50000, "registeredAt": "2024-01-01T07:00:00"}]}
+ * </pre>
+ */
+public class NdjsonImportRecordReader implements ImportRecordReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    public NdjsonImportRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRecord read() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return toRecord(lineNumber, OBJECT_MAPPER.readTree(line));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.malformed(lineNumber, lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRecord toRecord(long line, JsonNode node) {
+        List<RegisterClassCommand> classes = new ArrayList<>();
+        for (JsonNode classNode : node.path("classes")) {
+            JsonNode price = classNode.path("price");
+            if (!price.canConvertToInt()) {
+                return ImportRecord.malformed(line, line, "가격을 읽을 수 없습니다: " + price);
+            }
+            try {
+                classes.add(new RegisterClassCommand(
+                        null,
+                        classNode.path("title").asText(),
+                        classNode.path("description").asText(null),
+                        price.intValue(),
+                        LocalDateTime.parse(classNode.path("registeredAt").asText())
+                ));
+            } catch (DateTimeParseException e) {
+                return ImportRecord.malformed(line, line, "값을 읽을 수 없습니다: " + e.getMessage());
+            }
+        }
+        return ImportRecord.of(line, line, new CreateTeacherCommand(node.path("name").asText(null)), classes);
+    }
+}
@@ -0,0 +1,197 @@
+package com.tutorlink.application.mailbox;
+
+import com.tutorlink.application.service.ClassRegistrationOutcome;
+import com.tutorlink.application.service.TeacherService;
+import com.tutorlink.common.retry.RetryPolicy;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클래스 등록 요청을 선생님 ID로 나눈 메일박스에 넣고, 메일박스마다 한 번에 하나의 가상 스레드만 요청을 처리한다.
+ * <p>
+ * 같은 선생님의 요청은 항상 같은 메일박스로 가므로 이 노드 안에서는 같은 선생님의 행을 두 트랜잭션이 동시에 갱신하지 않는다.
+ * 메일박스를 비울 때는 쌓인 요청을 선생님별로 묶어 {@link TeacherService#registerClassBatch(Long, List)}로 한 번에 처리하므로,
+ * 요청이 몰릴수록 선생님 애그리거트를 한 번 조회하고 한 번 저장하는 비용을 여러 요청이 나눠 낸다.
+ * <p>
+ * 다른 노드와의 버전 충돌은 묶음 전체를 다시 시도하며, 요청별 결과는 {@link CompletableFuture}로 전달된다.
+ */
+public class ClassRegistrationMailboxes implements AutoCloseable {
+
+    public static final int DEFAULT_STRIPES = 64;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final TeacherService teacherService;
+    private final RetryPolicy retryPolicy;
+    private final int maxBatchSize;
+    private final Mailbox[] mailboxes;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean closed;
+
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public ClassRegistrationMailboxes(TeacherService teacherService) {
+        this(teacherService, DEFAULT_STRIPES, DEFAULT_MAX_BATCH_SIZE,
+                new RetryPolicy(5, Duration.ofMillis(10), Duration.ofMillis(200), e -> e instanceof ConcurrencyFailureException));
+    }
+
+    public ClassRegistrationMailboxes(TeacherService teacherService, int stripes, int maxBatchSize, RetryPolicy retryPolicy) {
+        if (stripes <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("메일박스 수와 최대 묶음 크기는 1 이상이어야 합니다.");
+        }
+        this.teacherService = teacherService;
+        this.retryPolicy = retryPolicy;
+        this.maxBatchSize = maxBatchSize;
+        this.mailboxes = new Mailbox[stripes];
+        for (int i = 0; i < stripes; i++) {
+            mailboxes[i] = new Mailbox();
+        }
+    }
+
+    /**
+     * 등록 요청을 선생님의 메일박스에 넣는다.
+     *
+     * @param command 클래스 등록 요청
+     * @return 등록된 클래스 ID로 완료되거나, 거절된 이유로 실패하는 future
+     */
+    public CompletableFuture<Long> submit(RegisterClassCommand command) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("메일박스가 닫혔습니다."));
+        }
+        if (command.teacherId() == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("선생님이 존재하지 않습니다."));
+        }
+        Pending pending = new Pending(command, new CompletableFuture<>());
+        mailboxFor(command.teacherId()).offer(pending);
+        return pending.result();
+    }
+
+    /**
+     * @return 처리한 요청 수와 묶음 수
+     */
+    public Stats stats() {
+        return new Stats(commands.sum(), batches.sum());
+    }
+
+    /**
+     * 새 요청을 받지 않고, 이미 받은 요청을 모두 처리할 때까지 기다린다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.close();
+    }
+
+    private Mailbox mailboxFor(Long teacherId) {
+        // 연속된 ID가 한 메일박스에 몰리지 않도록 비트를 섞는다
+        int hash = Long.hashCode(teacherId) * 0x9E3779B9;
+        return mailboxes[Math.floorMod(hash ^ (hash >>> 16), mailboxes.length)];
+    }
+
+    /**
+     * 한 묶음의 요청을 선생님별로 나눠 처리하고 결과를 전달한다.
+     */
+    private void apply(List<Pending> batch) {
+        Map<Long, List<Pending>> byTeacher = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byTeacher.computeIfAbsent(pending.command().teacherId(), teacherId -> new ArrayList<>()).add(pending);
+        }
+
+        byTeacher.forEach((teacherId, pendings) -> {
+            List<RegisterClassCommand> teacherCommands = pendings.stream().map(Pending::command).toList();
+            commands.add(pendings.size());
+            batches.increment();
+            try {
+                List<ClassRegistrationOutcome> outcomes = retryPolicy.execute(() -> teacherService.registerClassBatch(teacherId, teacherCommands));
+                for (int i = 0; i < pendings.size(); i++) {
+                    ClassRegistrationOutcome outcome = outcomes.get(i);
+                    if (outcome.isRegistered()) {
+                        pendings.get(i).result().complete(outcome.classId());
+                    } else {
+                        pendings.get(i).result().completeExceptionally(outcome.failure());
+                    }
+                }
+            } catch (RuntimeException e) {
+                pendings.forEach(pending -> pending.result().completeExceptionally(e));
+            }
+        });
+    }
+
+    /**
+     * 요청 큐와 실행 여부 플래그. 플래그를 얻은 스레드 하나만 큐를 비우므로 메일박스 안의 요청은 한 번에 하나의 스레드에서만 처리된다.
+     */
+    private final class Mailbox implements Runnable {
+
+        private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void offer(Pending pending) {
+            queue.add(pending);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // 닫히는 도중에 들어온 요청
+                Pending pending;
+                while ((pending = queue.poll()) != null) {
+                    pending.result().completeExceptionally(new IllegalStateException("메일박스가 닫혔습니다."));
+                }
+                scheduled.set(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<Pending> batch;
+                while (!(batch = pollBatch()).isEmpty()) {
+                    apply(batch);
+                }
+            } finally {
+                scheduled.set(false);
+                // 플래그를 내리기 직전에 들어온 요청이 처리되지 않고 남지 않도록 다시 확인한다
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private List<Pending> pollBatch() {
+            List<Pending> batch = new ArrayList<>();
+            Pending pending;
+            while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+                batch.add(pending);
+            }
+            return batch;
+        }
+    }
+
+    private record Pending(RegisterClassCommand command, CompletableFuture<Long> result) {
+    }
+
+    /**
+     * @param commands 처리한 요청 수
+     * @param batches  등록 요청을 처리하기 위해 선생님 애그리거트를 조회하고 저장한 횟수
+     */
+    public record Stats(long commands, long batches) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.tutorlink.application.service;
+
+import com.tutorlink.common.retry.RetryPolicy;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 같은 선생님에게 동시에 클래스를 등록하다 버전 충돌이 나면 조회-검증-저장을 처음부터 다시 실행한다.
+ * <p>
+ * 충돌한 트랜잭션은 롤백되므로 재시도는 트랜잭션 바깥에서 해야 한다. 그래서 이 클래스는 트랜잭션을 열지 않고
+ * 시도마다 {@link TeacherService}의 새 트랜잭션을 연다. 다시 조회한 선생님으로 검증하므로 동시에 등록해도 최대 클래스 개수를 넘지 않는다.
+ * 버전 충돌({@link OptimisticLockingFailureException})뿐 아니라 교착 상태나 락 대기 시간 초과로 진 트랜잭션도 같은 이유로 다시 시도한다.
+ */
+public class ClassRegistrationFacade {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration BASE_BACKOFF = Duration.ofMillis(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMillis(200);
+
+    private final TeacherService teacherService;
+    private final RetryPolicy retryPolicy;
+
+    public ClassRegistrationFacade(TeacherService teacherService) {
+        this(teacherService, new RetryPolicy(MAX_ATTEMPTS, BASE_BACKOFF, MAX_BACKOFF, e -> e instanceof ConcurrencyFailureException));
+    }
+
+    public ClassRegistrationFacade(TeacherService teacherService, RetryPolicy retryPolicy) {
+        this.teacherService = teacherService;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * @see TeacherService#registerClass(RegisterClassCommand)
+     * @throws OptimisticLockingFailureException 최대 시도 횟수만큼 충돌한 경우
+     */
+    public Long registerClass(RegisterClassCommand command) {
+        return retryPolicy.execute(() -> teacherService.registerClass(command));
+    }
+
+    /**
+     * @see TeacherService#registerClasses(Long, List)
+     * @throws OptimisticLockingFailureException 최대 시도 횟수만큼 충돌한 경우
+     */
+    public List<Long> registerClasses(Long teacherId, List<RegisterClassCommand> commands) {
+        return retryPolicy.execute(() -> teacherService.registerClasses(teacherId, commands));
+    }
+
+    /**
+     * @return 버전 충돌, 재시도, 재시도 포기 횟수
+     */
+    public RetryPolicy.Stats stats() {
+        return retryPolicy.stats();
+    }
+}
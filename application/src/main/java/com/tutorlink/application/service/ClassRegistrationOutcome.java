@@ -0,0 +1,22 @@
+package com.tutorlink.application.service;
+
+/**
+ * 여러 등록 요청을 한 번에 처리할 때 요청 하나의 결과. 등록된 클래스 ID 또는 거절된 이유 중 하나를 가진다.
+ *
+ * @param classId 등록된 클래스 ID (거절되었으면 null)
+ * @param failure 거절된 이유 (등록되었으면 null)
+ */
+public record ClassRegistrationOutcome(Long classId, RuntimeException failure) {
+
+    public static ClassRegistrationOutcome registered(Long classId) {
+        return new ClassRegistrationOutcome(classId, null);
+    }
+
+    public static ClassRegistrationOutcome rejected(RuntimeException failure) {
+        return new ClassRegistrationOutcome(null, failure);
+    }
+
+    public boolean isRegistered() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.tutorlink.application.service;
+
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * 주 DB에서 읽어야 하는 조회를 읽기 전용이 아닌 새 트랜잭션에서 실행한다.
+ * <p>
+ * 읽기 전용 트랜잭션은 복제본으로 보내질 수 있고, 한 트랜잭션 안에서는 연결을 바꿀 수 없으므로 진행 중인 트랜잭션을 잠시 멈추고 새 트랜잭션을 연다.
+ * 같은 클래스 안에서 호출하면 트랜잭션 프록시를 거치지 않으므로 {@link TeacherService}와 별도의 빈으로 둔다.
+ */
+public class PrimaryReader {
+
+    /**
+     * 조회 함수를 주 DB의 연결을 쓰는 새 트랜잭션에서 실행한다.
+     *
+     * @param query 조회 함수
+     * @return 조회 결과
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public <T> T read(Supplier<T> query) {
+        return query.get();
+    }
+}
@@ -1,41 +1,98 @@
 package com.tutorlink.application.service;
 
+import com.tutorlink.application.cache.ClassListCache;
+import com.tutorlink.application.event.TeacherEventBus;
+import com.tutorlink.application.idempotency.IdempotencyStore;
+import com.tutorlink.common.id.IdGenerator;
 import com.tutorlink.teacher.domain.ActiveStatus;
 import com.tutorlink.teacher.domain.ClassPolicy;
 import com.tutorlink.teacher.domain.Teacher;
 import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import com.tutorlink.teacher.domain.event.TeacherRegistered;
+import com.tutorlink.teacher.domain.repository.TeacherEventOutbox;
 import com.tutorlink.teacher.domain.repository.TeacherRepository;
 import com.tutorlink.teacher.dto.*;
 
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Transactional
 public class TeacherService {
 
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    private static final String REGISTER_TEACHER = "registerTeacher";
+    private static final String REGISTER_CLASS = "registerClass";
+
     private final TeacherRepository teacherRepository;
     private final ClassPolicy classPolicy;
+    private final ClassListCache classListCache;
+    private final IdGenerator idGenerator;
+    private final IdempotencyStore idempotencyStore;
+    private final TeacherEventBus teacherEventBus;
+    private final TeacherEventOutbox teacherEventOutbox;
+    private final PrimaryReader primaryReader;
 
-    public TeacherService(TeacherRepository teacherRepository, ClassPolicy classPolicy) {
+    public TeacherService(TeacherRepository teacherRepository, ClassPolicy classPolicy, ClassListCache classListCache, IdGenerator idGenerator,
+                          IdempotencyStore idempotencyStore, TeacherEventBus teacherEventBus, TeacherEventOutbox teacherEventOutbox,
+                          PrimaryReader primaryReader) {
         this.teacherRepository = teacherRepository;
         this.classPolicy = classPolicy;
+        this.classListCache = classListCache;
+        this.idGenerator = idGenerator;
+        this.idempotencyStore = idempotencyStore;
+        this.teacherEventBus = teacherEventBus;
+        this.teacherEventOutbox = teacherEventOutbox;
+        this.primaryReader = primaryReader;
     }
 
     public RegisterTeacherResult registerTeacher(CreateTeacherCommand command) {
-        Teacher teacher = new Teacher(0L, command.name(), new ArrayList<>(), ActiveStatus.ACTIVE);
-        Teacher savedTeacher = teacherRepository.save(teacher);
+        // 재시도된 요청이면 선생님을 다시 만들지 않고 처음 결과를 돌려준다
+        String idempotencyKey = command.idempotencyKey();
+        if (idempotencyKey != null) {
+            Long registeredTeacherId = idempotencyStore.find(REGISTER_TEACHER, idempotencyKey);
+            if (registeredTeacherId != null) {
+                return new RegisterTeacherResult(registeredTeacherId);
+            }
+        }
+
+        Teacher teacher = new Teacher(idGenerator.nextId(), command.name(), new ArrayList<>(), ActiveStatus.ACTIVE);
+        if (idempotencyKey != null) {
+            // 같은 키로 동시에 들어온 요청이 먼저 등록했으면 그 선생님 ID를 돌려준다
+            Optional<Long> concurrentTeacherId = idempotencyStore.record(REGISTER_TEACHER, idempotencyKey, teacher.id());
+            if (concurrentTeacherId.isPresent()) {
+                return new RegisterTeacherResult(concurrentTeacherId.get());
+            }
+        }
+        Teacher savedTeacher = teacherRepository.insert(teacher);
+        publish(List.of(new TeacherRegistered(savedTeacher.id(), savedTeacher.name())));
         return new RegisterTeacherResult(savedTeacher.id());
     }
 
     public Long registerClass(RegisterClassCommand command) {
+        // 재시도된 요청이면 애그리거트를 불러오지 않고 처음 등록된 클래스 ID를 돌려준다
+        String idempotencyKey = command.idempotencyKey();
+        if (idempotencyKey != null) {
+            Long registeredClassId = idempotencyStore.find(REGISTER_CLASS, idempotencyKey);
+            if (registeredClassId != null) {
+                return registeredClassId;
+            }
+        }
+
         Teacher teacher = teacherRepository.findById(command.teacherId())
                 .orElseThrow(() -> new IllegalArgumentException("선생님이 존재하지 않습니다."));
 
         classPolicy.validate(teacher, command);
 
         TeachingClass teachingClass = new TeachingClass(
-                0L,
+                idGenerator.nextId(),
                 command.teacherId(),
                 command.title(),
                 command.description(),
@@ -43,10 +100,267 @@ public class TeacherService {
                 command.registeredAt()
         );
 
+        if (idempotencyKey != null) {
+            // 같은 키로 동시에 들어온 요청이 먼저 등록했으면 그 클래스 ID를 돌려준다
+            Optional<Long> concurrentClassId = idempotencyStore.record(REGISTER_CLASS, idempotencyKey, teachingClass.id());
+            if (concurrentClassId.isPresent()) {
+                return concurrentClassId.get();
+            }
+        }
+
         Teacher updatedTeacher = teacher.registerClass(teachingClass);
-        Teacher savedTeacher = teacherRepository.save(updatedTeacher);
 
-        return savedTeacher.teachingClasses().getLast().id();
+        saveAndInvalidate(command.teacherId(), () -> teacherRepository.save(updatedTeacher));
+        publish(List.of(ClassRegistered.of(teachingClass)));
+
+        // id는 저장 전에 발급되므로 저장 결과에서 다시 찾지 않는다
+        return teachingClass.id();
+    }
+
+    /**
+     * 여러 클래스를 한 번에 등록한다.
+     * <p>
+     * 요청 전체를 한 번에 검증한 뒤 모든 클래스를 한 번의 저장으로 INSERT 하므로, 클래스마다 애그리거트를 불러오고 저장하지 않는다.
+     * 하나라도 검증에 실패하면 어떤 클래스도 등록되지 않는다.
+     * 이미 처리된 멱등성 키의 요청은 다시 등록하지 않고 처음 등록된 클래스 ID를 결과로 받으며, 나머지 요청만 검증하고 등록한다.
+     *
+     * @param teacherId 선생님 ID
+     * @param commands  클래스 등록 요청 목록
+     * @return 요청 순서대로 등록된 클래스 ID 목록
+     * @throws IllegalArgumentException 선생님이 존재하지 않거나 등록 요청이 올바르지 않은 경우
+     * @throws IllegalStateException    비활성화된 선생님이거나 최대 클래스 개수를 초과한 경우
+     */
+    public List<Long> registerClasses(Long teacherId, List<RegisterClassCommand> commands) {
+        // 멱등성 키별로 등록된 클래스 ID. 같은 요청 목록 안에서 반복된 키도 한 번만 등록한다
+        Map<String, Long> keyedClassIds = new HashMap<>();
+        List<RegisterClassCommand> newCommands = new ArrayList<>(commands.size());
+        // 멱등성 키를 기록하면서 미리 발급한 클래스 ID. 키가 없는 요청은 null
+        List<Long> newClassIds = new ArrayList<>(commands.size());
+        for (RegisterClassCommand command : commands) {
+            String idempotencyKey = command.idempotencyKey();
+            if (idempotencyKey == null) {
+                newCommands.add(command);
+                newClassIds.add(null);
+            } else if (!keyedClassIds.containsKey(idempotencyKey)) {
+                Long registeredClassId = idempotencyStore.find(REGISTER_CLASS, idempotencyKey);
+                if (registeredClassId == null) {
+                    // 키를 먼저 기록한다. 같은 키로 동시에 들어온 요청이 먼저 등록했으면 그 클래스 ID를 받고, 검증에 실패하면 기록도 롤백된다
+                    Long classId = idGenerator.nextId();
+                    registeredClassId = idempotencyStore.record(REGISTER_CLASS, idempotencyKey, classId).orElse(null);
+                    if (registeredClassId == null) {
+                        newCommands.add(command);
+                        newClassIds.add(classId);
+                    }
+                }
+                keyedClassIds.put(idempotencyKey, registeredClassId);
+            }
+        }
+
+        List<Long> unkeyedClassIds = new ArrayList<>();
+        if (!newCommands.isEmpty()) {
+            Teacher teacher = teacherRepository.findById(teacherId)
+                    .orElseThrow(() -> new IllegalArgumentException("선생님이 존재하지 않습니다."));
+
+            classPolicy.validateAll(teacher, newCommands);
+
+            List<TeachingClass> teachingClasses = new ArrayList<>(newCommands.size());
+            for (int i = 0; i < newCommands.size(); i++) {
+                RegisterClassCommand command = newCommands.get(i);
+                Long classId = newClassIds.get(i);
+                teachingClasses.add(new TeachingClass(
+                        classId != null ? classId : idGenerator.nextId(),
+                        teacherId,
+                        command.title(),
+                        command.description(),
+                        command.price(),
+                        command.registeredAt()
+                ));
+            }
+
+            Teacher updatedTeacher = teacher.registerClasses(teachingClasses);
+
+            saveAndInvalidate(teacherId, () -> teacherRepository.save(updatedTeacher));
+            for (int i = 0; i < newCommands.size(); i++) {
+                String idempotencyKey = newCommands.get(i).idempotencyKey();
+                Long classId = teachingClasses.get(i).id();
+                if (idempotencyKey == null) {
+                    unkeyedClassIds.add(classId);
+                }
+            }
+            publish(teachingClasses.stream().map(ClassRegistered::of).toList());
+        }
+
+        Iterator<Long> unkeyed = unkeyedClassIds.iterator();
+        return commands.stream()
+                .map(command -> command.idempotencyKey() != null ? keyedClassIds.get(command.idempotencyKey()) : unkeyed.next())
+                .toList();
+    }
+
+    /**
+     * 한 선생님에 대한 여러 등록 요청을 한 번의 조회와 한 번의 저장으로 처리한다.
+     * <p>
+     * {@link #registerClasses(Long, List)}와 달리 요청마다 따로 검증하므로, 앞선 요청이 등록된 상태를 기준으로 검증에 실패한 요청만 거절되고
+     * 나머지는 등록된다. 요청 순서대로 처리되므로 최대 클래스 개수를 넘는 요청은 뒤쪽부터 거절된다.
+     * 이미 처리된 멱등성 키의 요청은 다시 등록하지 않고 처음 등록된 클래스 ID를 결과로 받는다.
+     *
+     * @param teacherId 선생님 ID
+     * @param commands  클래스 등록 요청 목록
+     * @return 요청 순서대로 요청별 등록 결과
+     */
+    public List<ClassRegistrationOutcome> registerClassBatch(Long teacherId, List<RegisterClassCommand> commands) {
+        Optional<Teacher> loaded = teacherRepository.findById(teacherId);
+        if (loaded.isEmpty()) {
+            IllegalArgumentException notFound = new IllegalArgumentException("선생님이 존재하지 않습니다.");
+            return commands.stream()
+                    .map(command -> ClassRegistrationOutcome.rejected(notFound))
+                    .toList();
+        }
+
+        Teacher teacher = loaded.get();
+        List<ClassRegistrationOutcome> outcomes = new ArrayList<>(commands.size());
+        // 이번 묶음에서 등록한 요청의 멱등성 키. 같은 묶음 안에서 재시도된 요청도 한 번만 등록한다
+        Map<String, Long> registeredKeys = new HashMap<>();
+        List<ClassRegistered> registeredEvents = new ArrayList<>();
+        for (RegisterClassCommand command : commands) {
+            String idempotencyKey = command.idempotencyKey();
+            if (idempotencyKey != null) {
+                Long registeredClassId = registeredKeys.get(idempotencyKey);
+                if (registeredClassId == null) {
+                    registeredClassId = idempotencyStore.find(REGISTER_CLASS, idempotencyKey);
+                }
+                if (registeredClassId != null) {
+                    outcomes.add(ClassRegistrationOutcome.registered(registeredClassId));
+                    continue;
+                }
+            }
+            try {
+                classPolicy.validate(teacher, command);
+                TeachingClass teachingClass = new TeachingClass(
+                        idGenerator.nextId(),
+                        teacherId,
+                        command.title(),
+                        command.description(),
+                        command.price(),
+                        command.registeredAt()
+                );
+                Teacher registeredTeacher = teacher.registerClass(teachingClass);
+                if (idempotencyKey != null) {
+                    // 거절될 수 있는 검증이 모두 끝난 뒤에 키를 기록한다. 같은 키로 동시에 들어온 요청이 먼저 등록했으면 그 클래스 ID를 결과로 받는다
+                    Long classId = idempotencyStore.record(REGISTER_CLASS, idempotencyKey, teachingClass.id())
+                            .orElse(teachingClass.id());
+                    registeredKeys.put(idempotencyKey, classId);
+                    if (!classId.equals(teachingClass.id())) {
+                        outcomes.add(ClassRegistrationOutcome.registered(classId));
+                        continue;
+                    }
+                }
+                teacher = registeredTeacher;
+                registeredEvents.add(ClassRegistered.of(teachingClass));
+                outcomes.add(ClassRegistrationOutcome.registered(teachingClass.id()));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                outcomes.add(ClassRegistrationOutcome.rejected(e));
+            }
+        }
+
+        if (!registeredEvents.isEmpty()) {
+            Teacher updatedTeacher = teacher;
+            saveAndInvalidate(teacherId, () -> teacherRepository.save(updatedTeacher));
+            publish(registeredEvents);
+        }
+        return outcomes;
+    }
+
+    /**
+     * 선생님 애그리거트를 불러오지 않고 클래스를 등록한다.
+     * <p>
+     * 선생님의 클래스 개수를 조건부 UPDATE로 늘린 뒤 새 클래스만 INSERT 하므로, 등록된 클래스 수와 관계없이 쿼리 수가 일정하고
+     * 동시에 등록해도 최대 클래스 개수를 넘지 않는다.
+     * 이미 처리된 멱등성 키의 요청은 다시 등록하지 않고 처음 등록된 클래스 ID를 돌려준다.
+     *
+     * @param command 클래스 등록 요청
+     * @return 등록된 클래스 ID
+     * @throws IllegalArgumentException 선생님이 존재하지 않거나 등록 요청이 올바르지 않은 경우
+     * @throws IllegalStateException    비활성화된 선생님이거나 최대 클래스 개수를 초과한 경우
+     */
+    public Long registerClassAppendOnly(RegisterClassCommand command) {
+        String idempotencyKey = command.idempotencyKey();
+        if (idempotencyKey != null) {
+            Long registeredClassId = idempotencyStore.find(REGISTER_CLASS, idempotencyKey);
+            if (registeredClassId != null) {
+                return registeredClassId;
+            }
+        }
+
+        classPolicy.validateCommand(command);
+
+        TeachingClass teachingClass = new TeachingClass(
+                idGenerator.nextId(),
+                command.teacherId(),
+                command.title(),
+                command.description(),
+                command.price(),
+                command.registeredAt()
+        );
+
+        if (idempotencyKey != null) {
+            // 같은 키로 동시에 들어온 요청이 먼저 등록했으면 그 클래스 ID를 돌려준다
+            Optional<Long> concurrentClassId = idempotencyStore.record(REGISTER_CLASS, idempotencyKey, teachingClass.id());
+            if (concurrentClassId.isPresent()) {
+                return concurrentClassId.get();
+            }
+        }
+
+        Long classId = saveAndInvalidate(command.teacherId(), () -> teacherRepository
+                .appendClass(teachingClass, ClassPolicy.MAX_CLASS_COUNT)
+                .orElseThrow(() -> rejectionOf(command)));
+        publish(List.of(ClassRegistered.of(teachingClass)));
+
+        return classId;
+    }
+
+    /**
+     * 선생님의 클래스를 저장하고 클래스 목록 캐시를 무효화한다.
+     * <p>
+     * 커밋 전에 조회된 목록이 캐시되지 않도록 저장 전과 커밋 직후에 모두 캐시를 무효화한다.
+     *
+     * @param teacherId 선생님 ID
+     * @param save      선생님의 클래스를 저장하는 함수
+     * @return 저장 함수의 결과
+     */
+    private <T> T saveAndInvalidate(Long teacherId, Supplier<T> save) {
+        classListCache.invalidate(teacherId);
+        T result = save.get();
+        classListCache.invalidateAfterCommit(teacherId);
+        return result;
+    }
+
+    /**
+     * 캐시를 채우는 조회를 실행한다. 선생님의 캐시가 최근에 무효화되었으면 복제본이 등록을 아직 반영하지 않았을 수 있으므로 주 DB에서 읽는다.
+     * <p>
+     * 이 클래스 안에서 호출되는 조회는 트랜잭션 프록시를 거치지 않으므로, 주 DB의 트랜잭션은 {@link PrimaryReader}가 연다.
+     */
+    private <T> T readForCache(Long teacherId, Supplier<T> query) {
+        return classListCache.isRecentlyInvalidated(teacherId) ? primaryReader.read(query) : query.get();
+    }
+
+    /**
+     * 등록 이벤트를 같은 트랜잭션에서 아웃박스에 남기고, 프로세스 안의 구독자에게는 커밋 직후에 전달한다.
+     * 아웃박스의 이벤트는 등록과 함께 커밋되거나 롤백되므로, 커밋 직후 프로세스가 죽어도 릴레이가 외부로 전달한다.
+     */
+    private void publish(List<? extends TeacherEvent> events) {
+        teacherEventOutbox.append(events);
+        teacherEventBus.publishAfterCommit(events);
+    }
+
+    /**
+     * 조건부 UPDATE가 실패한 경우에만 선생님을 조회해 등록이 거절된 이유에 맞는 예외를 던지거나 반환한다.
+     */
+    private RuntimeException rejectionOf(RegisterClassCommand command) {
+        Teacher teacher = teacherRepository.findById(command.teacherId()).orElse(null);
+
+        // 선생님이 없거나 비활성화되었거나 클래스가 가득 찬 경우 정책 검증에서 예외가 발생한다
+        classPolicy.validate(teacher, command);
+        return new IllegalStateException("최대 클래스 개수를 초과했습니다.");
     }
 
     /**
@@ -57,6 +371,7 @@ public class TeacherService {
      * @return 클래스 메타데이터 DTO 목록
      * @throws IllegalArgumentException 선생님이 존재하지 않는 경우
      */
+    @Transactional(readOnly = true)
     public List<ClassMetadataDto> getClassesByTeacherId(Long teacherId, ClassSearchCondition condition) {
         // 검색 조건이 null이면 빈 조건으로 초기화
         final ClassSearchCondition finalCondition = condition != null ? condition : ClassSearchCondition.empty();
@@ -76,27 +391,196 @@ public class TeacherService {
      * @deprecated Use {@link #getClassesByTeacherId(Long, ClassSearchCondition)} instead
      */
     @Deprecated
+    @Transactional(readOnly = true)
     public List<ClassMetadataDto> getClassesByTeacherIdWithTitleKeyword(Long teacherId, String titleKeyword) {
         return getClassesByTeacherId(teacherId, ClassSearchCondition.withTitleKeyword(titleKeyword));
     }
 
     /**
      * 선생님이 등록한 클래스 목록을 페이징하여 조회한다.
+     * <p>
+     * 조회 결과는 선생님이 클래스를 등록하기 전까지 캐시에서 반환된다.
+     * <p>
+     * 읽기 전용 트랜잭션은 복제본으로 보내질 수 있는데, 복제본이 등록 커밋을 아직 반영하지 않았다면 지난 결과가 새 버전의 키로 캐시되어
+     * 다음 등록 전까지 반환된다. 그래서 등록 직후 캐시를 채우는 조회만 {@link PrimaryReader}로 주 DB에서 읽고, 나머지 미스는 복제본에서 읽는다.
      *
      * @param teacherId 선생님 ID
      * @param condition 검색 조건 (페이징, 필터링, 정렬 포함)
      * @return 페이징된 클래스 메타데이터 DTO 목록
      * @throws IllegalArgumentException 선생님이 존재하지 않는 경우
      */
+    @Transactional(readOnly = true)
     public PageResponse<ClassMetadataDto> getClassesByTeacherIdPaginated(Long teacherId, ClassSearchCondition condition) {
+        requireTeacherId(teacherId);
+
+        // 검색 조건이 null이면 빈 조건으로 초기화
+        final ClassSearchCondition finalCondition = condition != null ? condition : ClassSearchCondition.empty();
+
+        // 캐시에 없을 때만 리포지토리에서 페이징된 결과 조회
+        return classListCache.get(teacherId, finalCondition, () -> readForCache(teacherId, () -> {
+            PageResponse<ClassMetadataDto> page = teacherRepository.findClassesByTeacherId(teacherId, finalCondition);
+
+            // 선생님 존재 여부 확인 (존재하지 않으면 예외 발생)
+            requireTeacherIfEmpty(teacherId, page.content());
+            return page;
+        }));
+    }
+
+    /**
+     * 선생님이 등록한 클래스 목록을 가격 구간, 등록 기간별 개수(facet)와 함께 조회한다.
+     * <p>
+     * facet 개수는 페이지와 관계없이 검색 조건에 맞는 전체 클래스를 대상으로 한 번의 그룹 쿼리로 계산된다.
+     * facet 개수는 목록과 같은 버전으로 캐시되므로 클래스가 등록되면 목록과 함께 다시 계산된다.
+     *
+     * @param teacherId    선생님 ID
+     * @param condition    검색 조건 (페이징, 필터링, 정렬 포함)
+     * @param facetRequest 계산할 가격 구간과 등록일 히스토그램 단위
+     * @return 페이징된 클래스 메타데이터 DTO 목록과 facet 개수
+     * @throws IllegalArgumentException 선생님이 존재하지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public FacetedPageResponse<ClassMetadataDto> getClassesWithFacets(Long teacherId, ClassSearchCondition condition, ClassFacetRequest facetRequest) {
+        PageResponse<ClassMetadataDto> page = getClassesByTeacherIdPaginated(teacherId, condition);
+
+        final ClassSearchCondition finalCondition = condition != null ? condition : ClassSearchCondition.empty();
+        ClassFacets facets = classListCache.getFacets(teacherId, finalCondition.titleKeyword(), facetRequest,
+                () -> readForCache(teacherId, () -> teacherRepository.findClassFacets(teacherId, finalCondition, facetRequest)));
+
+        return FacetedPageResponse.of(page, facets);
+    }
+
+    /**
+     * 활성화된 모든 선생님의 클래스를 검색한다.
+     * <p>
+     * 특정 선생님을 조회하지 않고 전체 카탈로그를 대상으로 하며, 정렬 조건이 없으면 최신순으로 정렬한다.
+     *
+     * @param condition 검색 조건 (페이징, 필터링, 정렬 포함)
+     * @return 페이징된 클래스 메타데이터 DTO 목록
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ClassMetadataDto> searchClassCatalog(ClassSearchCondition condition) {
+        // 검색 조건이 null이면 빈 조건으로 초기화
+        final ClassSearchCondition finalCondition = condition != null ? condition : ClassSearchCondition.empty();
+
+        return teacherRepository.searchClassCatalog(finalCondition);
+    }
+
+    /**
+     * 선생님이 등록한 클래스 목록을 전체 개수 없이 슬라이스로 조회한다.
+     * <p>
+     * 전체 개수(totalElements, totalPages)가 필요 없는 화면(무한 스크롤 등)에서 사용하며, count 쿼리를 실행하지 않는다.
+     *
+     * @param teacherId 선생님 ID
+     * @param condition 검색 조건 (페이징, 필터링, 정렬 포함)
+     * @return 다음 페이지 존재 여부를 포함한 클래스 메타데이터 DTO 목록
+     * @throws IllegalArgumentException 선생님이 존재하지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<ClassMetadataDto> getClassesByTeacherIdSliced(Long teacherId, ClassSearchCondition condition) {
+        requireTeacherId(teacherId);
+
+        // 검색 조건이 null이면 빈 조건으로 초기화
+        final ClassSearchCondition finalCondition = condition != null ? condition : ClassSearchCondition.empty();
+
+        SliceResponse<ClassMetadataDto> slice = teacherRepository.findClassSliceByTeacherId(teacherId, finalCondition);
+
         // 선생님 존재 여부 확인 (존재하지 않으면 예외 발생)
-        teacherRepository.findById(teacherId)
-                .orElseThrow(() -> new IllegalArgumentException("선생님이 존재하지 않습니다."));
+        requireTeacherIfEmpty(teacherId, slice.content());
+        return slice;
+    }
+
+    /**
+     * 선생님이 등록한 클래스 목록을 커서 기반으로 페이징하여 조회한다.
+     * <p>
+     * offset 페이징과 달리 앞 페이지의 행을 건너뛰지 않고 마지막 행의 정렬 키 이후부터 조회하므로,
+     * 깊은 페이지도 첫 페이지와 같은 비용으로 조회되고 조회 도중 클래스가 등록되어도 페이지가 밀리지 않는다.
+     *
+     * @param teacherId         선생님 ID
+     * @param condition         검색 조건 (필터링, 정렬 포함. 페이징 조건은 무시된다)
+     * @param cursorPageRequest 이전 페이지가 반환한 커서와 페이지 크기
+     * @return 다음 페이지 커서를 포함한 클래스 메타데이터 DTO 목록
+     * @throws IllegalArgumentException 선생님이 존재하지 않거나 커서가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ClassMetadataDto> getClassesByTeacherIdWithCursor(Long teacherId, ClassSearchCondition condition, CursorPageRequest cursorPageRequest) {
+        requireTeacherId(teacherId);
 
         // 검색 조건이 null이면 빈 조건으로 초기화
         final ClassSearchCondition finalCondition = condition != null ? condition : ClassSearchCondition.empty();
+        final CursorPageRequest finalPageRequest = cursorPageRequest != null ? cursorPageRequest : CursorPageRequest.first(DEFAULT_CURSOR_PAGE_SIZE);
+
+        CursorPageResponse<ClassMetadataDto> page = teacherRepository.findClassesByTeacherIdWithCursor(teacherId, finalCondition, finalPageRequest);
+
+        // 선생님 존재 여부 확인 (존재하지 않으면 예외 발생)
+        requireTeacherIfEmpty(teacherId, page.content());
+        return page;
+    }
+
+    /**
+     * 선생님의 클래스와 선생님 정보가 변경 토큰 이후에 바뀐 내역을 오래된 순서로 조회한다.
+     * <p>
+     * 클라이언트는 전체 클래스 목록을 다시 내려받지 않고 응답의 다음 토큰으로 이어서 조회하므로,
+     * 동기화 비용이 카탈로그 크기가 아니라 변경 건수에 비례한다. 각 변경은 변경 후의 전체 상태를 담고 있어 클래스 변경은 upsert로 반영하면 된다.
+     *
+     * @param teacherId  선생님 ID
+     * @param sinceToken 이전 조회가 반환한 다음 토큰 (처음 조회할 때는 0)
+     * @param limit      한 번에 조회할 최대 변경 건수
+     * @return 변경 내역과 다음 조회에 사용할 토큰
+     * @throws IllegalArgumentException 선생님이 존재하지 않는 경우
+     * @throws IllegalStateException    변경 피드가 활성화되지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public ClassChangeFeed getClassChanges(Long teacherId, long sinceToken, int limit) {
+        requireTeacherId(teacherId);
+
+        ClassChangeFeed feed = teacherRepository.findClassChanges(teacherId, sinceToken, limit);
+
+        // 변경이 하나라도 조회되었다면 선생님이 존재하는 것이므로 비어 있을 때만 확인한다
+        if (feed.changes().isEmpty() && !teacherRepository.existsById(teacherId)) {
+            throw new IllegalArgumentException("선생님이 존재하지 않습니다.");
+        }
+        return feed;
+    }
 
-        // 리포지토리에서 페이징된 결과 조회
-        return teacherRepository.findClassesByTeacherId(teacherId, finalCondition);
+    /**
+     * 모든 선생님의 클래스와 선생님 정보가 변경 토큰 이후에 바뀐 내역을 오래된 순서로 조회한다.
+     * <p>
+     * 검색 색인처럼 전체 카탈로그를 동기화하는 클라이언트가 사용한다.
+     *
+     * @param sinceToken 이전 조회가 반환한 다음 토큰 (처음 조회할 때는 0)
+     * @param limit      한 번에 조회할 최대 변경 건수
+     * @return 변경 내역과 다음 조회에 사용할 토큰
+     * @throws IllegalStateException 변경 피드가 활성화되지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public ClassChangeFeed getClassCatalogChanges(long sinceToken, int limit) {
+        return teacherRepository.findClassChanges(null, sinceToken, limit);
+    }
+
+    /**
+     * 선생님 ID가 없으면 조회 조건에서 선생님 조건이 빠져 모든 선생님의 클래스가 조회되므로, 조회 전에 거절한다.
+     *
+     * @param teacherId 선생님 ID
+     * @throws IllegalArgumentException 선생님 ID가 null인 경우
+     */
+    private void requireTeacherId(Long teacherId) {
+        if (teacherId == null) {
+            throw new IllegalArgumentException("선생님이 존재하지 않습니다.");
+        }
+    }
+
+    /**
+     * 조회 결과가 비어 있을 때만 선생님 존재 여부를 확인한다.
+     * <p>
+     * 클래스가 하나라도 조회되었다면 선생님이 존재하는 것이므로, 목록 조회 시 선생님 애그리거트를 따로 불러오지 않는다.
+     *
+     * @param teacherId 선생님 ID
+     * @param content   조회된 클래스 목록
+     * @throws IllegalArgumentException 선생님이 존재하지 않는 경우
+     */
+    private void requireTeacherIfEmpty(Long teacherId, List<ClassMetadataDto> content) {
+        if (content.isEmpty() && !teacherRepository.existsById(teacherId)) {
+            throw new IllegalArgumentException("선생님이 존재하지 않습니다.");
+        }
     }
 }
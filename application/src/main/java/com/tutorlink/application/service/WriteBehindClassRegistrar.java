@@ -0,0 +1,79 @@
+package com.tutorlink.application.service;
+
+import com.tutorlink.application.cache.ClassListCache;
+import com.tutorlink.common.id.IdGenerator;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.ClassWriteBehindBuffer;
+import com.tutorlink.teacher.domain.repository.TeacherRepository;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클래스 등록을 로컬 저널에 기록한 뒤 바로 응답하고, DB 저장은 여러 등록을 모아 한 번의 커밋으로 처리하는 등록 경로.
+ * <p>
+ * 등록 요청마다 트랜잭션을 커밋하지 않으므로 등록이 몰리는 시간대에도 커밋 비용이 등록 수에 비례해 늘지 않는다.
+ * 요청 자체의 규칙과 선생님 존재 여부는 응답 전에 검증하지만, 선생님의 활성 상태와 최대 클래스 개수는 DB에 저장할 때 검증한다.
+ * 그래서 응답을 받은 등록도 저장 시점에 거절될 수 있으며, 거절과 저장 실패는 {@link ClassWriteBehindBuffer.FlushListener}로 전달된다.
+ */
+public class WriteBehindClassRegistrar {
+
+    private final TeacherRepository teacherRepository;
+    private final ClassPolicy classPolicy;
+    private final IdGenerator idGenerator;
+    private final ClassWriteBehindBuffer classWriteBehindBuffer;
+
+    public WriteBehindClassRegistrar(TeacherRepository teacherRepository, ClassPolicy classPolicy, IdGenerator idGenerator,
+                                     ClassWriteBehindBuffer classWriteBehindBuffer, ClassListCache classListCache) {
+        this.teacherRepository = teacherRepository;
+        this.classPolicy = classPolicy;
+        this.idGenerator = idGenerator;
+        this.classWriteBehindBuffer = classWriteBehindBuffer;
+        // 저장이 끝난 선생님의 클래스 목록 캐시를 무효화한다
+        classWriteBehindBuffer.addListener(new ClassWriteBehindBuffer.FlushListener() {
+            @Override
+            public void flushed(List<TeachingClass> classes) {
+                Set<Long> teacherIds = new LinkedHashSet<>();
+                classes.forEach(teachingClass -> teacherIds.add(teachingClass.teacherId()));
+                teacherIds.forEach(classListCache::invalidate);
+            }
+        });
+    }
+
+    /**
+     * 클래스 등록을 저널에 기록한다.
+     *
+     * @param command 클래스 등록 요청
+     * @return 등록될 클래스 ID
+     * @throws IllegalArgumentException 선생님이 존재하지 않거나 등록 요청이 올바르지 않은 경우
+     */
+    public Long register(RegisterClassCommand command) {
+        classPolicy.validateCommand(command);
+        if (!teacherRepository.existsById(command.teacherId())) {
+            throw new IllegalArgumentException("선생님이 존재하지 않습니다.");
+        }
+
+        TeachingClass teachingClass = new TeachingClass(
+                idGenerator.nextId(),
+                command.teacherId(),
+                command.title(),
+                command.description(),
+                command.price(),
+                command.registeredAt()
+        );
+        classWriteBehindBuffer.append(teachingClass);
+        return teachingClass.id();
+    }
+
+    /**
+     * 저장 시점에 거절되거나 저장에 실패한 등록을 전달받을 리스너를 등록한다.
+     *
+     * @param listener 리스너
+     */
+    public void addListener(ClassWriteBehindBuffer.FlushListener listener) {
+        classWriteBehindBuffer.addListener(listener);
+    }
+}
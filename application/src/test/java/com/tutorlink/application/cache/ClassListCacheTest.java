@@ -0,0 +1,132 @@
+package com.tutorlink.application.cache;
+
+import com.tutorlink.teacher.dto.ClassFacetRequest;
+import com.tutorlink.teacher.dto.ClassFacets;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.DateHistogramInterval;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.PageResponse;
+import com.tutorlink.teacher.dto.PriceBucket;
+import com.tutorlink.teacher.dto.SortType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassListCacheTest {
+
+    private static final ClassSearchCondition CONDITION = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+
+    @Test
+    @DisplayName("무효화된 선생님의 목록만 다시 조회한다.")
+    void invalidate() {
+        // given
+        ClassListCache cache = new ClassListCache();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, CONDITION, () -> page(loads.incrementAndGet()));
+        cache.get(2L, CONDITION, () -> page(loads.incrementAndGet()));
+
+        // when
+        cache.invalidate(1L);
+        cache.get(1L, CONDITION, () -> page(loads.incrementAndGet()));
+        cache.get(2L, CONDITION, () -> page(loads.incrementAndGet()));
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("무효화 직후에만 캐시를 채우는 조회를 주 DB에서 실행해야 한다고 알린다.")
+    void isRecentlyInvalidated() throws InterruptedException {
+        // given
+        ClassListCache cache = new ClassListCache(ClassListCache.DEFAULT_MAX_WEIGHT_BYTES, Duration.ofMillis(100));
+        boolean beforeInvalidation = cache.isRecentlyInvalidated(1L);
+
+        // when
+        cache.invalidate(1L);
+        boolean afterInvalidation = cache.isRecentlyInvalidated(1L);
+        Thread.sleep(150);
+
+        // then
+        assertThat(beforeInvalidation).isFalse();
+        assertThat(afterInvalidation).isTrue();
+        assertThat(cache.isRecentlyInvalidated(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 새 버전으로 반환하지 않는다.")
+    void invalidate_during_load() {
+        // given
+        ClassListCache cache = new ClassListCache();
+
+        // when
+        cache.get(1L, CONDITION, () -> {
+            cache.invalidate(1L);
+            return page(1);
+        });
+        PageResponse<ClassMetadataDto> result = cache.get(1L, CONDITION, () -> page(2));
+
+        // then
+        assertThat(result.content()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 사용되지 않은 목록부터 제거한다.")
+    void evict_least_recently_used() {
+        // given
+        ClassListCache cache = new ClassListCache(1_300);
+        cache.get(1L, CONDITION, () -> page(2));
+        cache.get(2L, CONDITION, () -> page(2));
+        cache.get(1L, CONDITION, () -> page(2));
+
+        // when
+        cache.get(3L, CONDITION, () -> page(2));
+
+        // then
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, CONDITION, () -> page(loads.incrementAndGet()));
+        cache.get(2L, CONDITION, () -> page(loads.incrementAndGet()));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().evictions()).isGreaterThanOrEqualTo(1);
+        assertThat(cache.stats().weightBytes()).isLessThanOrEqualTo(1_300);
+    }
+
+    @Test
+    @DisplayName("facet 개수는 목록과 같은 버전으로 무효화된다.")
+    void invalidate_facets() {
+        // given
+        ClassListCache cache = new ClassListCache();
+        ClassFacetRequest facetRequest = ClassFacetRequest.of(List.of(10000), DateHistogramInterval.MONTH);
+        AtomicInteger loads = new AtomicInteger();
+        cache.getFacets(1L, null, facetRequest, () -> facets(loads.incrementAndGet()));
+        cache.getFacets(1L, null, facetRequest, () -> facets(loads.incrementAndGet()));
+
+        // when
+        cache.invalidate(1L);
+        ClassFacets result = cache.getFacets(1L, null, facetRequest, () -> facets(loads.incrementAndGet()));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(result).isEqualTo(facets(2));
+    }
+
+    private PageResponse<ClassMetadataDto> page(int size) {
+        List<ClassMetadataDto> content = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> new ClassMetadataDto((long) i, 1L, "클래스 " + i, "설명", 10000, LocalDateTime.of(2024, 1, 1, 6, 0)))
+                .toList();
+        return PageResponse.of(content, 0, 10, size, 1);
+    }
+
+    private ClassFacets facets(long count) {
+        return new ClassFacets(List.of(new PriceBucket(null, 10000, count), new PriceBucket(10000, null, 0)), List.of());
+    }
+}
@@ -0,0 +1,104 @@
+package com.tutorlink.application.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    @Test
+    @DisplayName("같은 키로 동시에 호출하면 한 번만 실행하고 결과를 나눠 받는다.")
+    void execute_coalesces_platform_threads() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            assertCoalesced(executor);
+        }
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서도 같은 키의 동시 호출을 하나로 합친다.")
+    void execute_coalesces_virtual_threads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertCoalesced(executor);
+        }
+    }
+
+    @Test
+    @DisplayName("실행 중인 호출이 끝나면 같은 키로 다시 실행한다.")
+    void execute_after_completion() {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        singleFlight.execute("teacher-1", executions::incrementAndGet);
+        Integer result = singleFlight.execute("teacher-1", executions::incrementAndGet);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(singleFlight.coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 중 발생한 예외를 그대로 전달한다.")
+    void execute_propagates_exception() {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("teacher-1", () -> {
+            throw new IllegalArgumentException("선생님이 존재하지 않습니다.");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("선생님이 존재하지 않습니다.");
+    }
+
+    private void assertCoalesced(ExecutorService executor) throws Exception {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("teacher-1", () -> {
+                awaitCoalesced(singleFlight);
+                return executions.incrementAndGet();
+            })));
+        }
+
+        // then
+        for (Future<Integer> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.executions()).isEqualTo(1);
+        assertThat(singleFlight.coalesced()).isEqualTo(CALLERS - 1);
+    }
+
+    /**
+     * 나머지 호출이 모두 합쳐질 때까지 실행을 끝내지 않는다. (가상 스레드가 캐리어 스레드를 양보하도록 sleep 으로 기다린다)
+     */
+    private void awaitCoalesced(SingleFlight<String, Integer> singleFlight) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalesced() < CALLERS - 1 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
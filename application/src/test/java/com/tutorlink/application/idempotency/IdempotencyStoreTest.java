@@ -0,0 +1,132 @@
+package com.tutorlink.application.idempotency;
+
+import com.tutorlink.teacher.domain.repository.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(idempotencyRepository, 4, Duration.ofMinutes(10), now::get);
+    }
+
+    @Test
+    @DisplayName("저장한 결과는 영속 테이블을 확인하지 않고 메모리에서 찾는다.")
+    void find_afterRecord() {
+        // given
+        idempotencyStore.record("registerClass", "key-1", 2_000L);
+
+        // when
+        Long resultId = idempotencyStore.find("registerClass", "key-1");
+
+        // then
+        assertThat(resultId).isEqualTo(2_000L);
+        verify(idempotencyRepository).save("registerClass", "key-1", 2_000L);
+        verify(idempotencyRepository, never()).findResultId("registerClass", "key-1");
+        assertThat(idempotencyStore.stats()).isEqualTo(new IdempotencyStore.Stats(1, 0));
+    }
+
+    @Test
+    @DisplayName("같은 키를 먼저 기록한 명령이 있으면 그 결과를 돌려주고 메모리에 넣는다.")
+    void record_concurrentCommand() {
+        // given
+        when(idempotencyRepository.save("registerClass", "key-1", 2_001L)).thenReturn(Optional.of(2_000L));
+
+        // when
+        Optional<Long> recorded = idempotencyStore.record("registerClass", "key-1", 2_001L);
+
+        // then
+        assertThat(recorded).contains(2_000L);
+        assertThat(idempotencyStore.find("registerClass", "key-1")).isEqualTo(2_000L);
+        verify(idempotencyRepository, never()).findResultId("registerClass", "key-1");
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 키는 영속 테이블에서 찾고, 찾은 결과는 메모리에 넣는다.")
+    void find_fallsBackToRepository() {
+        // given
+        when(idempotencyRepository.findResultId("registerClass", "key-1")).thenReturn(Optional.of(2_000L));
+
+        // when
+        Long first = idempotencyStore.find("registerClass", "key-1");
+        Long second = idempotencyStore.find("registerClass", "key-1");
+
+        // then
+        assertThat(first).isEqualTo(2_000L);
+        assertThat(second).isEqualTo(2_000L);
+        verify(idempotencyRepository, times(1)).findResultId("registerClass", "key-1");
+    }
+
+    @Test
+    @DisplayName("처리된 적 없는 키는 null 을 반환한다.")
+    void find_unknownKey() {
+        // given
+        when(idempotencyRepository.findResultId("registerTeacher", "key-1")).thenReturn(Optional.empty());
+        idempotencyStore.record("registerClass", "key-1", 2_000L);
+
+        // when & then
+        assertThat(idempotencyStore.find("registerTeacher", "key-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 결과는 메모리에서 찾지 않는다.")
+    void find_expired() {
+        // given
+        idempotencyStore.record("registerClass", "key-1", 2_000L);
+        now.addAndGet(Duration.ofMinutes(10).toNanos());
+        when(idempotencyRepository.findResultId("registerClass", "key-1")).thenReturn(Optional.of(2_000L));
+
+        // when
+        Long resultId = idempotencyStore.find("registerClass", "key-1");
+
+        // then
+        assertThat(resultId).isEqualTo(2_000L);
+        verify(idempotencyRepository).findResultId("registerClass", "key-1");
+    }
+
+    @Test
+    @DisplayName("용량보다 많은 결과를 저장해도 밀려난 결과는 영속 테이블에서 찾는다.")
+    void find_beyondCapacity() {
+        // given
+        for (long i = 0; i < 100; i++) {
+            now.incrementAndGet();
+            idempotencyStore.record("registerClass", "key-" + i, i);
+        }
+        for (long i = 0; i < 100; i++) {
+            // 메모리에 남아 있는 키는 조회되지 않으므로 스텁을 엄격하게 검사하지 않는다
+            lenient().when(idempotencyRepository.findResultId("registerClass", "key-" + i)).thenReturn(Optional.of(i));
+        }
+
+        // when & then
+        for (long i = 0; i < 100; i++) {
+            assertThat(idempotencyStore.find("registerClass", "key-" + i)).isEqualTo(i);
+        }
+        IdempotencyStore.Stats stats = idempotencyStore.stats();
+        assertThat(stats.hits()).isLessThanOrEqualTo(4);
+        assertThat(stats.hits() + stats.misses()).isEqualTo(100);
+    }
+}
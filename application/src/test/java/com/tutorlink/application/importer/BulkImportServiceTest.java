@@ -0,0 +1,183 @@
+package com.tutorlink.application.importer;
+
+import com.tutorlink.common.id.TimeOrderedIdGenerator;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.TeacherImportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    private static final String CSV_HEADER = "teacher_ref,teacher_name,title,description,price,registered_at";
+
+    @Mock
+    private TeacherImportRepository teacherImportRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("CSV 파일의 연속된 줄을 선생님별로 묶어 클래스와 함께 가져온다.")
+    void importCsv() throws Exception {
+        // given
+        Path source = write("classes.csv",
+                CSV_HEADER,
+                "t1,suchan,프로그래밍 기초 클래스,\"자바, 스프링 기초\",50000,2024-01-01T07:00:00",
+                "t1,suchan,프로그래밍 심화 클래스,자바 심화,70000,2024-01-02T08:00:00",
+                "t2,minsu,,,,");
+        when(teacherImportRepository.findCheckpoint("classes")).thenReturn(0L);
+        List<ImportProgress> progresses = new ArrayList<>();
+
+        // when
+        ImportProgress result = bulkImportService(100).importFile(source, "classes", tempDir.resolve("rejects.csv"), progresses::add);
+
+        // then
+        ArgumentCaptor<List<Teacher>> teachersCaptor = teachersCaptor();
+        verify(teacherImportRepository).importChunk(eq("classes"), eq(4L), teachersCaptor.capture());
+        List<Teacher> teachers = teachersCaptor.getValue();
+        assertThat(teachers).extracting(Teacher::name).containsExactly("suchan", "minsu");
+        assertThat(teachers.getFirst().teachingClasses())
+                .extracting(TeachingClass::description)
+                .containsExactly("자바, 스프링 기초", "자바 심화");
+        assertThat(teachers.getFirst().teachingClasses())
+                .allSatisfy(teachingClass -> assertThat(teachingClass.teacherId()).isEqualTo(teachers.getFirst().id()));
+        assertThat(teachers.get(1).teachingClasses()).isEmpty();
+
+        assertThat(result.importedTeachers()).isEqualTo(2);
+        assertThat(result.importedClasses()).isEqualTo(2);
+        assertThat(result.rejectedRecords()).isZero();
+        assertThat(progresses).containsExactly(result);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 레코드는 거절 보고서에 줄 번호와 이유를 기록하고 나머지는 가져온다.")
+    void importCsv_rejectsInvalidRecords() throws Exception {
+        // given
+        Path source = write("classes.csv",
+                CSV_HEADER,
+                "t1,suchan,짧은 제목,설명,50000,2024-01-01T07:00:00",
+                "t2,minsu,프로그래밍 기초 클래스,설명,abc,2024-01-01T07:00:00",
+                "t3,jisu,프로그래밍 기초 클래스,설명,50000,2024-01-01T07:00:00");
+        Path rejects = tempDir.resolve("rejects.csv");
+        when(teacherImportRepository.findCheckpoint("classes")).thenReturn(0L);
+
+        // when
+        ImportProgress result = bulkImportService(100).importFile(source, "classes", rejects, progress -> {
+        });
+
+        // then
+        ArgumentCaptor<List<Teacher>> teachersCaptor = teachersCaptor();
+        verify(teacherImportRepository).importChunk(eq("classes"), eq(4L), teachersCaptor.capture());
+        assertThat(teachersCaptor.getValue()).extracting(Teacher::name).containsExactly("jisu");
+        assertThat(result.rejectedRecords()).isEqualTo(2);
+        assertThat(Files.readAllLines(rejects)).containsExactly(
+                "line,reason",
+                "2,\"클래스 제목은 10자 이상이어야 합니다.\"",
+                "3,\"값을 읽을 수 없습니다: For input string: \"\"abc\"\"\"");
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있으면 이미 가져온 레코드를 건너뛰고 이어서 가져온다.")
+    void importCsv_resumesFromCheckpoint() throws Exception {
+        // given
+        Path source = write("classes.csv",
+                CSV_HEADER,
+                "t1,suchan,프로그래밍 기초 클래스,설명,50000,2024-01-01T07:00:00",
+                "t1,suchan,프로그래밍 심화 클래스,설명,70000,2024-01-01T07:00:00",
+                "t2,minsu,프로그래밍 기초 클래스,설명,50000,2024-01-01T07:00:00");
+        when(teacherImportRepository.findCheckpoint("classes")).thenReturn(3L);
+
+        // when
+        ImportProgress result = bulkImportService(100).importFile(source, "classes", tempDir.resolve("rejects.csv"), progress -> {
+        });
+
+        // then
+        ArgumentCaptor<List<Teacher>> teachersCaptor = teachersCaptor();
+        verify(teacherImportRepository).importChunk(eq("classes"), eq(4L), teachersCaptor.capture());
+        assertThat(teachersCaptor.getValue()).extracting(Teacher::name).containsExactly("minsu");
+        assertThat(result.resumedFrom()).isEqualTo(3L);
+        assertThat(result.checkpoint()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("청크를 병렬로 검증해도 파일 순서대로 저장하고 체크포인트를 옮긴다.")
+    void importNdjson_writesChunksInOrder() throws Exception {
+        // given
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            lines.add("{\"name\": \"teacher" + i + "\", \"classes\": [{\"title\": \"프로그래밍 기초 클래스 " + i
+                    + "\", \"description\": \"설명\", \"price\": 50000, \"registeredAt\": \"2024-01-01T07:00:00\"}]}");
+        }
+        Path source = write("classes.ndjson", lines.toArray(String[]::new));
+        when(teacherImportRepository.findCheckpoint("classes")).thenReturn(0L);
+
+        // when
+        ImportProgress result = bulkImportService(2).importFile(source, "classes", tempDir.resolve("rejects.csv"), progress -> {
+        });
+
+        // then
+        InOrder inOrder = inOrder(teacherImportRepository);
+        inOrder.verify(teacherImportRepository).importChunk(eq("classes"), eq(2L), anyList());
+        inOrder.verify(teacherImportRepository).importChunk(eq("classes"), eq(4L), anyList());
+        inOrder.verify(teacherImportRepository).importChunk(eq("classes"), eq(5L), anyList());
+        verify(teacherImportRepository, times(3)).importChunk(eq("classes"), anyLong(), anyList());
+        assertThat(result.importedTeachers()).isEqualTo(5);
+        assertThat(result.importedClasses()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 올바르지 않은 줄은 거절하고 다음 줄을 계속 가져온다.")
+    void importNdjson_rejectsMalformedLine() throws Exception {
+        // given
+        Path source = write("classes.jsonl",
+                "{\"name\": \"suchan\"",
+                "{\"name\": \"minsu\", \"classes\": []}");
+        when(teacherImportRepository.findCheckpoint("classes")).thenReturn(0L);
+
+        // when
+        ImportProgress result = bulkImportService(100).importFile(source, "classes", tempDir.resolve("rejects.csv"), progress -> {
+        });
+
+        // then
+        ArgumentCaptor<List<Teacher>> teachersCaptor = teachersCaptor();
+        verify(teacherImportRepository).importChunk(eq("classes"), eq(2L), teachersCaptor.capture());
+        assertThat(teachersCaptor.getValue()).extracting(Teacher::name).containsExactly("minsu");
+        assertThat(result.rejectedRecords()).isEqualTo(1);
+    }
+
+    private BulkImportService bulkImportService(int chunkSize) {
+        return new BulkImportService(teacherImportRepository, new ClassPolicy(), new TimeOrderedIdGenerator(1), chunkSize, 2);
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        return Files.write(tempDir.resolve(fileName), List.of(lines));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Teacher>> teachersCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,149 @@
+package com.tutorlink.application.mailbox;
+
+import com.tutorlink.application.service.ClassRegistrationOutcome;
+import com.tutorlink.application.service.TeacherService;
+import com.tutorlink.common.retry.RetryPolicy;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClassRegistrationMailboxesTest {
+
+    @Mock
+    private TeacherService teacherService;
+
+    private ClassRegistrationMailboxes mailboxes;
+
+    private final AtomicLong nextClassId = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        RetryPolicy retryPolicy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(2),
+                e -> e instanceof ConcurrencyFailureException);
+        mailboxes = new ClassRegistrationMailboxes(teacherService, 4, 100, retryPolicy);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailboxes.close();
+    }
+
+    @Test
+    @DisplayName("처리 중에 쌓인 같은 선생님의 요청은 한 번의 조회와 저장으로 묶어 처리한다.")
+    void submit_batchesPendingCommands() throws Exception {
+        // given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        when(teacherService.registerClassBatch(eq(1L), anyList())).thenAnswer(invocation -> {
+            firstBatchStarted.countDown();
+            releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            return registered(invocation.getArgument(1));
+        });
+
+        // when
+        CompletableFuture<Long> first = mailboxes.submit(command(1L, "프로그래밍 클래스 0"));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<Long>> queued = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            queued.add(mailboxes.submit(command(1L, "프로그래밍 클래스 " + i)));
+        }
+        releaseFirstBatch.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(100L);
+        List<Long> classIds = new ArrayList<>();
+        for (CompletableFuture<Long> future : queued) {
+            classIds.add(future.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(classIds).containsExactly(101L, 102L, 103L, 104L, 105L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RegisterClassCommand>> commandsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(teacherService, times(2)).registerClassBatch(eq(1L), commandsCaptor.capture());
+        assertThat(commandsCaptor.getAllValues()).extracting(List::size).containsExactly(1, 5);
+        assertThat(mailboxes.stats()).isEqualTo(new ClassRegistrationMailboxes.Stats(6, 2));
+    }
+
+    @Test
+    @DisplayName("거절된 요청의 future 는 거절 이유로 실패한다.")
+    void submit_deliversRejection() {
+        // given
+        IllegalStateException rejection = new IllegalStateException("최대 클래스 개수를 초과했습니다.");
+        when(teacherService.registerClassBatch(eq(1L), anyList()))
+                .thenReturn(List.of(ClassRegistrationOutcome.rejected(rejection)));
+
+        // when
+        CompletableFuture<Long> result = mailboxes.submit(command(1L, "프로그래밍 클래스 0"));
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(rejection);
+    }
+
+    @Test
+    @DisplayName("다른 노드와 버전 충돌이 나면 묶음 전체를 다시 처리한다.")
+    void submit_retriesBatchOnConflict() throws Exception {
+        // given
+        when(teacherService.registerClassBatch(eq(1L), anyList()))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenAnswer(invocation -> registered(invocation.getArgument(1)));
+
+        // when
+        CompletableFuture<Long> result = mailboxes.submit(command(1L, "프로그래밍 클래스 0"));
+
+        // then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(100L);
+        verify(teacherService, times(2)).registerClassBatch(eq(1L), anyList());
+    }
+
+    @Test
+    @DisplayName("닫힌 메일박스는 요청을 받지 않는다.")
+    void submit_afterClose() {
+        // given
+        mailboxes.close();
+
+        // when
+        CompletableFuture<Long> result = mailboxes.submit(command(1L, "프로그래밍 클래스 0"));
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    private List<ClassRegistrationOutcome> registered(List<RegisterClassCommand> commands) {
+        return commands.stream()
+                .map(command -> ClassRegistrationOutcome.registered(nextClassId.getAndIncrement()))
+                .toList();
+    }
+
+    private static RegisterClassCommand command(Long teacherId, String title) {
+        return new RegisterClassCommand(teacherId, title, "설명", 10000, LocalDateTime.of(2024, 1, 1, 7, 0));
+    }
+}
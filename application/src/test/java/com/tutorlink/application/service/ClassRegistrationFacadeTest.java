@@ -0,0 +1,82 @@
+package com.tutorlink.application.service;
+
+import com.tutorlink.common.retry.RetryPolicy;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClassRegistrationFacadeTest {
+
+    @Mock
+    private TeacherService teacherService;
+
+    private ClassRegistrationFacade classRegistrationFacade;
+
+    private final RegisterClassCommand command =
+            new RegisterClassCommand(1L, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+
+    @BeforeEach
+    void setUp() {
+        RetryPolicy retryPolicy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(2),
+                e -> e instanceof OptimisticLockingFailureException);
+        classRegistrationFacade = new ClassRegistrationFacade(teacherService, retryPolicy);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 나면 클래스 등록을 다시 시도한다.")
+    void registerClass_retriesOnConflict() {
+        // given
+        when(teacherService.registerClass(command))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(11L);
+
+        // when
+        Long classId = classRegistrationFacade.registerClass(command);
+
+        // then
+        assertThat(classId).isEqualTo(11L);
+        verify(teacherService, times(2)).registerClass(command);
+        assertThat(classRegistrationFacade.stats()).isEqualTo(new RetryPolicy.Stats(1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 충돌하면 충돌 예외를 던진다.")
+    void registerClass_givesUpAfterMaxAttempts() {
+        // given
+        when(teacherService.registerClass(command)).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        // when & then
+        assertThatThrownBy(() -> classRegistrationFacade.registerClass(command))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(teacherService, times(3)).registerClass(command);
+        assertThat(classRegistrationFacade.stats().exhausted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정책 위반은 다시 시도하지 않는다.")
+    void registerClass_doesNotRetryPolicyViolation() {
+        // given
+        when(teacherService.registerClass(command)).thenThrow(new IllegalStateException("최대 클래스 개수를 초과했습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> classRegistrationFacade.registerClass(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("최대 클래스 개수를 초과했습니다.");
+        verify(teacherService, times(1)).registerClass(command);
+    }
+}
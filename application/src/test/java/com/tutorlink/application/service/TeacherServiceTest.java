@@ -1,9 +1,17 @@
 package com.tutorlink.application.service;
 
+import com.tutorlink.application.cache.ClassListCache;
+import com.tutorlink.application.event.TeacherEventBus;
+import com.tutorlink.application.idempotency.IdempotencyStore;
+import com.tutorlink.common.id.IdGenerator;
+import com.tutorlink.common.id.TimeOrderedIdGenerator;
 import com.tutorlink.teacher.domain.ActiveStatus;
 import com.tutorlink.teacher.domain.ClassPolicy;
 import com.tutorlink.teacher.domain.Teacher;
 import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.event.TeacherRegistered;
+import com.tutorlink.teacher.domain.repository.TeacherEventOutbox;
 import com.tutorlink.teacher.domain.repository.TeacherRepository;
 import com.tutorlink.teacher.dto.*;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +23,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,20 +52,39 @@ class TeacherServiceTest {
     @Mock
     private ClassPolicy classPolicy;
 
+    @Spy
+    private ClassListCache classListCache = new ClassListCache();
+
+    @Spy
+    private IdGenerator idGenerator = new TimeOrderedIdGenerator(1);
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private TeacherEventBus teacherEventBus;
+
+    @Mock
+    private TeacherEventOutbox teacherEventOutbox;
+
+    @Spy
+    private PrimaryReader primaryReader = new PrimaryReader();
+
     @Test
     @DisplayName("선생님 정보로 선생님을 등록할 수 있다.")
     void registerTeacher() {
         // given
-        when(teacherRepository.save(Mockito.any(Teacher.class))).thenReturn(new Teacher(1L, "suchan", null, null));
+        when(teacherRepository.insert(Mockito.any(Teacher.class))).thenReturn(new Teacher(1L, "suchan", null, null));
 
         // when
         RegisterTeacherResult result = teacherService.registerTeacher(new CreateTeacherCommand("suchan"));
 
         // then
         ArgumentCaptor<Teacher> teacherArgumentCaptor = ArgumentCaptor.forClass(Teacher.class);
-        verify(teacherRepository).save(teacherArgumentCaptor.capture());
+        verify(teacherRepository).insert(teacherArgumentCaptor.capture());
         Teacher teacher = teacherArgumentCaptor.getValue();
         assertThat(teacher.name()).isEqualTo("suchan");
+        assertThat(teacher.id()).isPositive();
 
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo(1L);
@@ -93,6 +123,7 @@ class TeacherServiceTest {
         assertThat(registeredClass.price()).isEqualTo(price);
         assertThat(registeredClass.teacherId()).isEqualTo(teacherId);
         assertThat(classId).isNotNull();
+        assertThat(registeredClass.id()).isEqualTo(classId);
     }
 
     @Test
@@ -154,9 +185,6 @@ class TeacherServiceTest {
         teachingClasses.add(new TeachingClass(1L, teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초를 배우는 클래스입니다.", 50000, yesterday));
         teachingClasses.add(new TeachingClass(2L, teacherId, "알고리즘 마스터 클래스", "알고리즘 문제 해결 능력을 키우는 클래스입니다.", 70000, now));
 
-        // Create a teacher with the teaching classes
-        Teacher teacher = new Teacher(teacherId, "suchan", teachingClasses, ActiveStatus.ACTIVE);
-
         // Create expected content
         List<ClassMetadataDto> expectedContent = teachingClasses.stream()
                 .map(tc -> new ClassMetadataDto(
@@ -176,8 +204,7 @@ class TeacherServiceTest {
                 1
         );
 
-        // Mock the repository to return the teacher and the page
-        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        // Mock the repository to return the page
         when(teacherRepository.findClassesByTeacherId(eq(teacherId), any(ClassSearchCondition.class)))
                 .thenReturn(expectedPage);
 
@@ -211,7 +238,9 @@ class TeacherServiceTest {
     void getClassesByTeacherId_teacherNotFound() {
         // given
         Long nonExistentTeacherId = 999L;
-        when(teacherRepository.findById(nonExistentTeacherId)).thenReturn(Optional.empty());
+        when(teacherRepository.findClassesByTeacherId(eq(nonExistentTeacherId), any(ClassSearchCondition.class)))
+                .thenReturn(PageResponse.of(List.of(), 0, 0, 0, 0));
+        when(teacherRepository.existsById(nonExistentTeacherId)).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> teacherService.getClassesByTeacherId(nonExistentTeacherId, null))
@@ -240,9 +269,6 @@ class TeacherServiceTest {
         teachingClasses.add(new TeachingClass(1L, teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초를 배우는 클래스입니다.", 50000, yesterday));
         teachingClasses.add(new TeachingClass(2L, teacherId, "알고리즘 마스터 프로그래밍", "알고리즘 문제 해결 능력을 키우는 클래스입니다.", 70000, now));
 
-        // Create a teacher with the teaching classes
-        Teacher teacher = new Teacher(teacherId, "suchan", teachingClasses, ActiveStatus.ACTIVE);
-
         // Filter classes based on keyword
         List<TeachingClass> filteredClasses = teachingClasses.stream()
                 .filter(tc -> keyword == null || keyword.isEmpty() || tc.title().contains(keyword))
@@ -267,10 +293,13 @@ class TeacherServiceTest {
                 1
         );
 
-        // Mock the repository to return the teacher and the page
-        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        // Mock the repository to return the page
         when(teacherRepository.findClassesByTeacherId(eq(teacherId), any(ClassSearchCondition.class)))
                 .thenReturn(expectedPage);
+        if (expectedCount == 0) {
+            // 조회 결과가 비어 있으면 선생님 존재 여부를 확인한다
+            when(teacherRepository.existsById(teacherId)).thenReturn(true);
+        }
 
         // when
         List<ClassMetadataDto> result = teacherService.getClassesByTeacherIdWithTitleKeyword(teacherId, keyword);
@@ -301,9 +330,6 @@ class TeacherServiceTest {
         teachingClasses.add(new TeachingClass(2L, teacherId, "알고리즘 마스터 클래스", "알고리즘 문제 해결 능력을 키우는 클래스입니다.", 70000, yesterday));
         teachingClasses.add(new TeachingClass(3L, teacherId, "웹 개발 클래스", "웹 개발 기초를 배우는 클래스입니다.", 60000, now));
 
-        // Create a teacher with the teaching classes
-        Teacher teacher = new Teacher(teacherId, "suchan", teachingClasses, ActiveStatus.ACTIVE);
-
         // Sort classes by latest (newest first)
         List<TeachingClass> sortedClasses = new ArrayList<>(teachingClasses);
         sortedClasses.sort((c1, c2) -> c2.registeredAt().compareTo(c1.registeredAt()));
@@ -327,8 +353,7 @@ class TeacherServiceTest {
                 1
         );
 
-        // Mock the repository to return the teacher and the page
-        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        // Mock the repository to return the page
         when(teacherRepository.findClassesByTeacherId(eq(teacherId), any(ClassSearchCondition.class)))
                 .thenReturn(expectedPage);
 
@@ -357,9 +382,6 @@ class TeacherServiceTest {
         teachingClasses.add(new TeachingClass(2L, teacherId, "초급 프로그래밍 클래스", "자바 프로그래밍 초급 과정입니다.", 50000, now));
         teachingClasses.add(new TeachingClass(3L, teacherId, "고급 프로그래밍 클래스", "자바 프로그래밍 고급 과정입니다.", 90000, now));
 
-        // Create a teacher with the teaching classes
-        Teacher teacher = new Teacher(teacherId, "suchan", teachingClasses, ActiveStatus.ACTIVE);
-
         // Sort classes by price (lowest first)
         List<TeachingClass> sortedClasses = new ArrayList<>(teachingClasses);
         sortedClasses.sort((c1, c2) -> Integer.compare(c1.price(), c2.price()));
@@ -383,8 +405,7 @@ class TeacherServiceTest {
                 1
         );
 
-        // Mock the repository to return the teacher and the page
-        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        // Mock the repository to return the page
         when(teacherRepository.findClassesByTeacherId(eq(teacherId), any(ClassSearchCondition.class)))
                 .thenReturn(expectedPage);
 
@@ -420,9 +441,6 @@ class TeacherServiceTest {
             ));
         }
 
-        // Create a teacher with the teaching classes
-        Teacher teacher = new Teacher(teacherId, "suchan", teachingClasses, ActiveStatus.ACTIVE);
-
         // Create page request for first page with 5 items
         PageRequest pageRequest = PageRequest.of(0, 5);
         ClassSearchCondition condition = ClassSearchCondition.withPageRequest(pageRequest);
@@ -446,8 +464,7 @@ class TeacherServiceTest {
                 4
         );
 
-        // Mock the repository to return the teacher and the page
-        when(teacherRepository.findById(eq(teacherId))).thenReturn(Optional.of(teacher));
+        // Mock the repository to return the page
         when(teacherRepository.findClassesByTeacherId(eq(teacherId), eq(condition)))
                 .thenReturn(expectedPage);
 
@@ -462,9 +479,607 @@ class TeacherServiceTest {
         assertThat(result.totalElements()).isEqualTo(20);
         assertThat(result.totalPages()).isEqualTo(4);
 
+        // 조회 결과가 있으면 선생님 존재 여부를 따로 조회하지 않는다
+        verify(teacherRepository, Mockito.never()).findById(any());
+        verify(teacherRepository, Mockito.never()).existsById(any());
+
         // Verify first item in the page
         ClassMetadataDto firstClass = result.content().get(0);
         assertThat(firstClass.id()).isEqualTo(1L);
         assertThat(firstClass.title()).isEqualTo("프로그래밍 클래스 1");
     }
+
+    @Test
+    @DisplayName("클래스 목록을 커서 기반으로 페이징하여 조회할 수 있다.")
+    void getClassesByTeacherIdWithCursor() {
+        // given
+        Long teacherId = 1L;
+        ClassSearchCondition condition = ClassSearchCondition.withSortType(SortType.PRICE);
+        CursorPageRequest cursorPageRequest = CursorPageRequest.first(1);
+
+        ClassMetadataDto cheapest = new ClassMetadataDto(1L, teacherId, "초급 프로그래밍 클래스", "자바 프로그래밍 초급 과정입니다.", 50000, LocalDateTime.now());
+        String nextCursor = ClassCursor.after(SortType.PRICE, cheapest).encode();
+        CursorPageResponse<ClassMetadataDto> expectedPage = CursorPageResponse.of(List.of(cheapest), 1, nextCursor);
+
+        when(teacherRepository.findClassesByTeacherIdWithCursor(teacherId, condition, cursorPageRequest))
+                .thenReturn(expectedPage);
+
+        // when
+        CursorPageResponse<ClassMetadataDto> result = teacherService.getClassesByTeacherIdWithCursor(teacherId, condition, cursorPageRequest);
+
+        // then
+        assertThat(result.content()).containsExactly(cheapest);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(ClassCursor.decode(result.nextCursor())).isEqualTo(new ClassCursor(SortType.PRICE, "50000", 1L));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선생님의 클래스 목록을 커서로 조회하면 예외가 발생한다.")
+    void getClassesByTeacherIdWithCursor_teacherNotFound() {
+        // given
+        Long nonExistentTeacherId = 999L;
+        when(teacherRepository.findClassesByTeacherIdWithCursor(eq(nonExistentTeacherId), any(ClassSearchCondition.class), any(CursorPageRequest.class)))
+                .thenReturn(CursorPageResponse.of(List.of(), 10, null));
+        when(teacherRepository.existsById(nonExistentTeacherId)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> teacherService.getClassesByTeacherIdWithCursor(nonExistentTeacherId, null, CursorPageRequest.first(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("선생님이 존재하지 않습니다");
+    }
+
+    @Test
+    @DisplayName("선생님 ID 없이 클래스 목록을 조회하면 리포지토리를 조회하지 않고 예외가 발생한다.")
+    void getClassesByTeacherId_nullTeacherId() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.withPageRequest(PageRequest.of(0, 10));
+
+        // when & then
+        assertThatThrownBy(() -> teacherService.getClassesByTeacherIdPaginated(null, condition))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("선생님이 존재하지 않습니다.");
+        assertThatThrownBy(() -> teacherService.getClassesByTeacherIdSliced(null, condition))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("선생님이 존재하지 않습니다.");
+        assertThatThrownBy(() -> teacherService.getClassesByTeacherIdWithCursor(null, condition, CursorPageRequest.first(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("선생님이 존재하지 않습니다.");
+        Mockito.verifyNoInteractions(teacherRepository);
+    }
+
+    @Test
+    @DisplayName("변경 토큰 이후에 바뀐 클래스를 조회할 수 있다.")
+    void getClassChanges() {
+        // given
+        Long teacherId = 1L;
+        ClassMetadataDto changed = new ClassMetadataDto(10L, teacherId, "수정된 클래스", "자바 프로그래밍 초급 과정입니다.", 50000, LocalDateTime.now());
+        ClassChangeFeed expectedFeed = ClassChangeFeed.of(List.of(ClassChange.ofClass(43L, ClassChangeType.CLASS_UPDATED, changed)), 43L, false);
+
+        when(teacherRepository.findClassChanges(teacherId, 42L, 100)).thenReturn(expectedFeed);
+
+        // when
+        ClassChangeFeed result = teacherService.getClassChanges(teacherId, 42L, 100);
+
+        // then
+        assertThat(result).isEqualTo(expectedFeed);
+        verify(teacherRepository, times(0)).existsById(teacherId);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선생님의 변경 내역을 조회하면 예외가 발생한다.")
+    void getClassChanges_teacherNotFound() {
+        // given
+        Long nonExistentTeacherId = 999L;
+        when(teacherRepository.findClassChanges(nonExistentTeacherId, 0L, 100)).thenReturn(ClassChangeFeed.of(List.of(), 0L, false));
+        when(teacherRepository.existsById(nonExistentTeacherId)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> teacherService.getClassChanges(nonExistentTeacherId, 0L, 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("선생님이 존재하지 않습니다");
+    }
+
+    @Test
+    @DisplayName("클래스 목록을 전체 개수 없이 슬라이스로 조회할 수 있다.")
+    void getClassesByTeacherIdSliced() {
+        // given
+        Long teacherId = 1L;
+        ClassSearchCondition condition = ClassSearchCondition.withPageRequest(PageRequest.of(0, 1));
+
+        ClassMetadataDto classMetadata = new ClassMetadataDto(1L, teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초를 배우는 클래스입니다.", 50000, LocalDateTime.now());
+        SliceResponse<ClassMetadataDto> expectedSlice = SliceResponse.of(List.of(classMetadata), 0, 1, true);
+
+        when(teacherRepository.findClassSliceByTeacherId(teacherId, condition)).thenReturn(expectedSlice);
+
+        // when
+        SliceResponse<ClassMetadataDto> result = teacherService.getClassesByTeacherIdSliced(teacherId, condition);
+
+        // then
+        assertThat(result.content()).containsExactly(classMetadata);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("선생님을 조회하지 않고 전체 클래스 카탈로그를 검색할 수 있다.")
+    void searchClassCatalog() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of("프로그래밍", SortType.LATEST, PageRequest.of(0, 10));
+        ClassMetadataDto classMetadata = new ClassMetadataDto(1L, 2L, "프로그래밍 기초 클래스", "자바 프로그래밍 기초를 배우는 클래스입니다.", 50000, LocalDateTime.now());
+        PageResponse<ClassMetadataDto> expectedPage = PageResponse.of(List.of(classMetadata), 0, 10, 1, 1);
+
+        when(teacherRepository.searchClassCatalog(condition)).thenReturn(expectedPage);
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherService.searchClassCatalog(condition);
+
+        // then
+        assertThat(result.content()).containsExactly(classMetadata);
+        verify(teacherRepository, Mockito.never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("클래스 목록과 facet 개수를 함께 조회할 수 있다.")
+    void getClassesWithFacets() {
+        // given
+        Long teacherId = 1L;
+        ClassSearchCondition condition = ClassSearchCondition.withPageRequest(PageRequest.of(0, 10));
+        ClassFacetRequest facetRequest = ClassFacetRequest.of(List.of(60000), DateHistogramInterval.MONTH);
+
+        ClassMetadataDto classMetadata = new ClassMetadataDto(1L, teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초를 배우는 클래스입니다.", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        PageResponse<ClassMetadataDto> expectedPage = PageResponse.of(List.of(classMetadata), 0, 10, 1, 1);
+        ClassFacets expectedFacets = new ClassFacets(
+                List.of(new PriceBucket(null, 60000, 1), new PriceBucket(60000, null, 0)),
+                List.of(new DateBucket(LocalDate.of(2023, 6, 1), 1)));
+
+        when(teacherRepository.findClassesByTeacherId(teacherId, condition)).thenReturn(expectedPage);
+        when(teacherRepository.findClassFacets(teacherId, condition, facetRequest)).thenReturn(expectedFacets);
+
+        // when
+        FacetedPageResponse<ClassMetadataDto> result = teacherService.getClassesWithFacets(teacherId, condition, facetRequest);
+
+        // then
+        assertThat(result.page()).isEqualTo(expectedPage);
+        assertThat(result.facets()).isEqualTo(expectedFacets);
+    }
+
+    @Test
+    @DisplayName("클래스를 등록하면 해당 선생님의 캐시된 facet 개수도 목록과 함께 무효화된다.")
+    void registerClass_invalidatesCachedFacets() {
+        // given
+        Long teacherId = 1L;
+        ClassSearchCondition condition = ClassSearchCondition.withPageRequest(PageRequest.of(0, 10));
+        ClassFacetRequest facetRequest = ClassFacetRequest.of(List.of(60000), DateHistogramInterval.MONTH);
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        ClassMetadataDto classMetadata = new ClassMetadataDto(1L, teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        ClassFacets emptyFacets = new ClassFacets(
+                List.of(new PriceBucket(null, 60000, 0), new PriceBucket(60000, null, 0)), List.of());
+        ClassFacets registeredFacets = new ClassFacets(
+                List.of(new PriceBucket(null, 60000, 1), new PriceBucket(60000, null, 0)),
+                List.of(new DateBucket(LocalDate.of(2023, 6, 1), 1)));
+
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        when(teacherRepository.save(any(Teacher.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(teacherRepository.existsById(teacherId)).thenReturn(true);
+        when(teacherRepository.findClassesByTeacherId(teacherId, condition))
+                .thenReturn(PageResponse.of(List.of(), 0, 10, 0, 0))
+                .thenReturn(PageResponse.of(List.of(classMetadata), 0, 10, 1, 1));
+        when(teacherRepository.findClassFacets(teacherId, condition, facetRequest))
+                .thenReturn(emptyFacets)
+                .thenReturn(registeredFacets);
+
+        // when
+        teacherService.getClassesWithFacets(teacherId, condition, facetRequest);
+        teacherService.getClassesWithFacets(teacherId, condition, facetRequest);
+        teacherService.registerClass(command);
+        FacetedPageResponse<ClassMetadataDto> result = teacherService.getClassesWithFacets(teacherId, condition, facetRequest);
+
+        // then
+        assertThat(result.page().content()).containsExactly(classMetadata);
+        assertThat(result.facets()).isEqualTo(registeredFacets);
+        verify(teacherRepository, times(2)).findClassFacets(teacherId, condition, facetRequest);
+    }
+
+    @Test
+    @DisplayName("같은 조건으로 다시 조회하면 캐시된 클래스 목록을 반환한다.")
+    void getClassesByTeacherIdPaginated_cached() {
+        // given
+        Long teacherId = 1L;
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+        PageResponse<ClassMetadataDto> page = PageResponse.of(List.of(), 0, 10, 0, 0);
+
+        when(teacherRepository.findClassesByTeacherId(teacherId, condition)).thenReturn(page);
+        when(teacherRepository.existsById(teacherId)).thenReturn(true);
+
+        // when
+        teacherService.getClassesByTeacherIdPaginated(teacherId, condition);
+        PageResponse<ClassMetadataDto> result = teacherService.getClassesByTeacherIdPaginated(teacherId, condition);
+
+        // then
+        assertThat(result).isEqualTo(page);
+        verify(teacherRepository, times(1)).findClassesByTeacherId(teacherId, condition);
+        assertThat(classListCache.stats().hits()).isEqualTo(1);
+        assertThat(classListCache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("클래스를 등록하면 해당 선생님의 캐시된 클래스 목록이 무효화된다.")
+    void registerClass_invalidatesCachedClasses() {
+        // given
+        Long teacherId = 1L;
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        PageResponse<ClassMetadataDto> page = PageResponse.of(List.of(), 0, 10, 0, 0);
+
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        when(teacherRepository.findClassesByTeacherId(teacherId, condition)).thenReturn(page);
+        when(teacherRepository.existsById(teacherId)).thenReturn(true);
+        when(teacherRepository.save(any(Teacher.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        teacherService.getClassesByTeacherIdPaginated(teacherId, condition);
+        teacherService.registerClass(command);
+        teacherService.getClassesByTeacherIdPaginated(teacherId, condition);
+
+        // then
+        verify(teacherRepository, times(2)).findClassesByTeacherId(teacherId, condition);
+        assertThat(classListCache.stats().hits()).isZero();
+    }
+
+    @Test
+    @DisplayName("클래스를 등록한 직후 캐시를 채우는 목록 조회만 주 DB에서 읽는다.")
+    void getClassesByTeacherId_readsPrimaryAfterRegistration() {
+        // given
+        Long teacherId = 1L;
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        when(teacherRepository.findClassesByTeacherId(teacherId, condition)).thenReturn(PageResponse.of(List.of(), 0, 10, 0, 0));
+        when(teacherRepository.existsById(teacherId)).thenReturn(true);
+        when(teacherRepository.save(any(Teacher.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        teacherService.getClassesByTeacherId(teacherId, condition);
+        verify(primaryReader, Mockito.never()).read(any());
+        teacherService.registerClass(command);
+        teacherService.getClassesByTeacherId(teacherId, condition);
+
+        // then
+        verify(primaryReader, times(1)).read(any());
+        verify(teacherRepository, times(2)).findClassesByTeacherId(teacherId, condition);
+    }
+
+    @Test
+    @DisplayName("선생님 애그리거트를 조회하지 않고 클래스를 등록할 수 있다.")
+    void registerClassAppendOnly() {
+        // given
+        Long teacherId = 1L;
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        when(teacherRepository.appendClass(any(TeachingClass.class), eq(ClassPolicy.MAX_CLASS_COUNT))).thenReturn(Optional.of(11L));
+
+        // when
+        Long classId = teacherService.registerClassAppendOnly(command);
+
+        // then
+        assertThat(classId).isEqualTo(11L);
+        verify(classPolicy).validateCommand(command);
+        verify(teacherRepository, Mockito.never()).findById(any());
+
+        ArgumentCaptor<TeachingClass> teachingClassCaptor = ArgumentCaptor.forClass(TeachingClass.class);
+        verify(teacherRepository).appendClass(teachingClassCaptor.capture(), eq(ClassPolicy.MAX_CLASS_COUNT));
+        assertThat(teachingClassCaptor.getValue().teacherId()).isEqualTo(teacherId);
+        assertThat(teachingClassCaptor.getValue().title()).isEqualTo("프로그래밍 기초 클래스");
+    }
+
+    @Test
+    @DisplayName("최대 개수만큼 클래스를 등록한 선생님은 클래스를 더 등록할 수 없다.")
+    void registerClassAppendOnly_maxClassCount() {
+        // given
+        Long teacherId = 1L;
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        when(teacherRepository.appendClass(any(TeachingClass.class), eq(ClassPolicy.MAX_CLASS_COUNT))).thenReturn(Optional.empty());
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+
+        // when & then
+        assertThatThrownBy(() -> teacherService.registerClassAppendOnly(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("최대 클래스 개수를 초과했습니다.");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선생님에게 클래스를 등록하면 정책 검증에서 예외가 발생한다.")
+    void registerClassAppendOnly_teacherNotFound() {
+        // given
+        Long teacherId = 999L;
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        when(teacherRepository.appendClass(any(TeachingClass.class), eq(ClassPolicy.MAX_CLASS_COUNT))).thenReturn(Optional.empty());
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.empty());
+        Mockito.doThrow(new IllegalArgumentException("선생님이 존재하지 않습니다."))
+                .when(classPolicy).validate(null, command);
+
+        // when & then
+        assertThatThrownBy(() -> teacherService.registerClassAppendOnly(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("선생님이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("여러 클래스를 한 번에 등록하면 요청 순서대로 클래스 ID를 반환한다.")
+    void registerClasses() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        List<RegisterClassCommand> commands = List.of(
+                new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0)),
+                new RegisterClassCommand(teacherId, "프로그래밍 심화 클래스", "자바 프로그래밍 심화", 70000, LocalDateTime.of(2023, 6, 8, 9, 0)));
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        when(teacherRepository.save(any(Teacher.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<Long> classIds = teacherService.registerClasses(teacherId, commands);
+
+        // then
+        verify(classPolicy).validateAll(teacher, commands);
+        ArgumentCaptor<Teacher> teacherCaptor = ArgumentCaptor.forClass(Teacher.class);
+        verify(teacherRepository, times(1)).save(teacherCaptor.capture());
+        List<TeachingClass> savedClasses = teacherCaptor.getValue().teachingClasses();
+        assertThat(savedClasses).extracting(TeachingClass::title)
+                .containsExactly("프로그래밍 기초 클래스", "프로그래밍 심화 클래스");
+        assertThat(classIds).containsExactly(savedClasses.get(0).id(), savedClasses.get(1).id());
+    }
+
+    @Test
+    @DisplayName("여러 클래스를 등록할 때 검증에 실패하면 어떤 클래스도 저장하지 않는다.")
+    void registerClasses_policyValidationFails() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        List<RegisterClassCommand> commands = List.of(
+                new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0)));
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        Mockito.doThrow(new IllegalStateException("최대 클래스 개수를 초과했습니다."))
+                .when(classPolicy).validateAll(teacher, commands);
+
+        // when & then
+        assertThatThrownBy(() -> teacherService.registerClasses(teacherId, commands))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("최대 클래스 개수를 초과했습니다.");
+        verify(teacherRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    @DisplayName("여러 등록 요청을 한 번에 처리할 때 거절된 요청만 빼고 한 번에 저장한다.")
+    void registerClassBatch() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand accepted = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        RegisterClassCommand rejected = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "중복된 제목", 50000, LocalDateTime.of(2023, 6, 8, 9, 0));
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        when(teacherRepository.save(any(Teacher.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.doThrow(new IllegalArgumentException("이미 등록된 클래스 제목입니다."))
+                .when(classPolicy).validate(any(Teacher.class), eq(rejected));
+
+        // when
+        List<ClassRegistrationOutcome> outcomes = teacherService.registerClassBatch(teacherId, List.of(accepted, rejected));
+
+        // then
+        assertThat(outcomes).extracting(ClassRegistrationOutcome::isRegistered).containsExactly(true, false);
+        assertThat(outcomes.get(1).failure()).hasMessage("이미 등록된 클래스 제목입니다.");
+        ArgumentCaptor<Teacher> teacherCaptor = ArgumentCaptor.forClass(Teacher.class);
+        verify(teacherRepository, times(1)).save(teacherCaptor.capture());
+        assertThat(teacherCaptor.getValue().teachingClasses()).extracting(TeachingClass::id)
+                .containsExactly(outcomes.get(0).classId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선생님에 대한 등록 요청은 모두 거절하고 저장하지 않는다.")
+    void registerClassBatch_teacherNotFound() {
+        // given
+        Long teacherId = 1L;
+        List<RegisterClassCommand> commands = List.of(
+                new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0)));
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.empty());
+
+        // when
+        List<ClassRegistrationOutcome> outcomes = teacherService.registerClassBatch(teacherId, commands);
+
+        // then
+        assertThat(outcomes).singleElement()
+                .satisfies(outcome -> assertThat(outcome.failure()).hasMessage("선생님이 존재하지 않습니다."));
+        verify(teacherRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    @DisplayName("이미 처리된 멱등성 키로 선생님 등록을 재시도하면 처음 등록된 선생님 ID를 반환한다.")
+    void registerTeacher_replay() {
+        // given
+        when(idempotencyStore.find("registerTeacher", "key-1")).thenReturn(1L);
+
+        // when
+        RegisterTeacherResult result = teacherService.registerTeacher(new CreateTeacherCommand("suchan", "key-1"));
+
+        // then
+        assertThat(result).isEqualTo(new RegisterTeacherResult(1L));
+        verify(teacherRepository, Mockito.never()).insert(any());
+        verify(teacherEventOutbox, Mockito.never()).append(any());
+        verify(teacherEventBus, Mockito.never()).publishAfterCommit(Mockito.<List<TeacherRegistered>>any());
+    }
+
+    @Test
+    @DisplayName("멱등성 키가 있는 클래스 등록은 등록된 클래스 ID를 키와 함께 남긴다.")
+    void registerClass_recordsIdempotencyKey() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0), "key-1");
+        when(idempotencyStore.find("registerClass", "key-1")).thenReturn(null);
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+
+        // when
+        Long classId = teacherService.registerClass(command);
+
+        // then
+        verify(idempotencyStore).record("registerClass", "key-1", classId);
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키의 클래스 등록이 동시에 먼저 처리되었으면 저장하지 않고 먼저 등록된 클래스 ID를 반환한다.")
+    void registerClass_concurrentIdempotencyKey() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0), "key-1");
+        when(idempotencyStore.find("registerClass", "key-1")).thenReturn(null);
+        when(idempotencyStore.record(eq("registerClass"), eq("key-1"), any())).thenReturn(Optional.of(2_000L));
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+
+        // when
+        Long classId = teacherService.registerClass(command);
+
+        // then
+        assertThat(classId).isEqualTo(2_000L);
+        verify(teacherRepository, Mockito.never()).save(any());
+        verify(teacherEventBus, Mockito.never()).publishAfterCommit(Mockito.<List<ClassRegistered>>any());
+    }
+
+    @Test
+    @DisplayName("이미 처리된 멱등성 키로 클래스 등록을 재시도하면 선생님을 조회하지 않고 처음 등록된 클래스 ID를 반환한다.")
+    void registerClass_replay() {
+        // given
+        RegisterClassCommand command = new RegisterClassCommand(1L, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0), "key-1");
+        when(idempotencyStore.find("registerClass", "key-1")).thenReturn(2_000L);
+
+        // when
+        Long classId = teacherService.registerClass(command);
+
+        // then
+        assertThat(classId).isEqualTo(2_000L);
+        verify(teacherRepository, Mockito.never()).findById(any());
+        verify(teacherRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    @DisplayName("이미 처리된 멱등성 키로 선생님을 조회하지 않는 클래스 등록을 재시도하면 처음 등록된 클래스 ID를 반환한다.")
+    void registerClassAppendOnly_replay() {
+        // given
+        RegisterClassCommand command = new RegisterClassCommand(1L, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0), "key-1");
+        when(idempotencyStore.find("registerClass", "key-1")).thenReturn(2_000L);
+
+        // when
+        Long classId = teacherService.registerClassAppendOnly(command);
+
+        // then
+        assertThat(classId).isEqualTo(2_000L);
+        verify(teacherRepository, Mockito.never()).appendClass(any(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 클래스를 한 번에 등록할 때 이미 처리된 멱등성 키의 요청은 다시 등록하지 않고 처음 등록된 클래스 ID를 반환한다.")
+    void registerClasses_replay() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand replayed = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0), "key-1");
+        RegisterClassCommand fresh = new RegisterClassCommand(teacherId, "프로그래밍 심화 클래스", "자바 프로그래밍 심화", 70000, LocalDateTime.of(2023, 6, 8, 9, 0), "key-2");
+        when(idempotencyStore.find("registerClass", "key-1")).thenReturn(2_000L);
+        when(idempotencyStore.find("registerClass", "key-2")).thenReturn(null);
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        when(teacherRepository.save(any(Teacher.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<Long> classIds = teacherService.registerClasses(teacherId, List.of(replayed, fresh, replayed));
+
+        // then
+        verify(classPolicy).validateAll(teacher, List.of(fresh));
+        ArgumentCaptor<Teacher> teacherCaptor = ArgumentCaptor.forClass(Teacher.class);
+        verify(teacherRepository).save(teacherCaptor.capture());
+        List<TeachingClass> savedClasses = teacherCaptor.getValue().teachingClasses();
+        assertThat(savedClasses).extracting(TeachingClass::title).containsExactly("프로그래밍 심화 클래스");
+        assertThat(classIds).containsExactly(2_000L, savedClasses.get(0).id(), 2_000L);
+        verify(idempotencyStore).record("registerClass", "key-2", savedClasses.get(0).id());
+    }
+
+    @Test
+    @DisplayName("한 묶음 안에서 같은 멱등성 키로 재시도된 클래스 등록은 한 번만 등록한다.")
+    void registerClassBatch_duplicateIdempotencyKey() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0), "key-1");
+        when(idempotencyStore.find("registerClass", "key-1")).thenReturn(null);
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+
+        // when
+        List<ClassRegistrationOutcome> outcomes = teacherService.registerClassBatch(teacherId, List.of(command, command));
+
+        // then
+        assertThat(outcomes.get(1).classId()).isEqualTo(outcomes.get(0).classId());
+        ArgumentCaptor<Teacher> teacherCaptor = ArgumentCaptor.forClass(Teacher.class);
+        verify(teacherRepository).save(teacherCaptor.capture());
+        assertThat(teacherCaptor.getValue().teachingClasses()).hasSize(1);
+        verify(idempotencyStore, times(1)).record("registerClass", "key-1", outcomes.get(0).classId());
+    }
+
+    @Test
+    @DisplayName("선생님을 등록하면 선생님 등록 이벤트를 아웃박스에 남기고 커밋 후 발행한다.")
+    void registerTeacher_publishesEvent() {
+        // given
+        when(teacherRepository.insert(Mockito.any(Teacher.class))).thenReturn(new Teacher(1L, "suchan", null, null));
+
+        // when
+        teacherService.registerTeacher(new CreateTeacherCommand("suchan"));
+
+        // then
+        List<TeacherRegistered> events = List.of(new TeacherRegistered(1L, "suchan"));
+        verify(teacherEventOutbox).append(events);
+        verify(teacherEventBus).publishAfterCommit(events);
+    }
+
+    @Test
+    @DisplayName("클래스를 등록하면 클래스 등록 이벤트를 아웃박스에 남기고 커밋 후 발행한다.")
+    void registerClass_publishesEvent() {
+        // given
+        Long teacherId = 1L;
+        LocalDateTime registeredAt = LocalDateTime.of(2023, 6, 8, 8, 0);
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, registeredAt);
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+
+        // when
+        Long classId = teacherService.registerClass(command);
+
+        // then
+        List<ClassRegistered> events = List.of(new ClassRegistered(classId, teacherId, "프로그래밍 기초 클래스", 50000, registeredAt));
+        verify(teacherEventOutbox).append(events);
+        verify(teacherEventBus).publishAfterCommit(events);
+    }
+
+    @Test
+    @DisplayName("여러 요청을 한 번에 처리하면 등록된 클래스의 이벤트만 남긴다.")
+    void registerClassBatch_publishesEventsOfRegisteredClasses() {
+        // given
+        Long teacherId = 1L;
+        Teacher teacher = new Teacher(teacherId, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE);
+        RegisterClassCommand valid = new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        RegisterClassCommand invalid = new RegisterClassCommand(teacherId, "짧은제목", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        when(teacherRepository.findById(teacherId)).thenReturn(Optional.of(teacher));
+        Mockito.doThrow(new IllegalArgumentException("클래스 제목은 10자 이상이어야 합니다."))
+                .when(classPolicy).validate(any(Teacher.class), eq(invalid));
+
+        // when
+        List<ClassRegistrationOutcome> outcomes = teacherService.registerClassBatch(teacherId, List.of(valid, invalid));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ClassRegistered>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(teacherEventBus).publishAfterCommit(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue())
+                .extracting(ClassRegistered::classId)
+                .containsExactly(outcomes.get(0).classId());
+    }
 }
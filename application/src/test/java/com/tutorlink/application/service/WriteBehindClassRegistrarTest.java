@@ -0,0 +1,101 @@
+package com.tutorlink.application.service;
+
+import com.tutorlink.application.cache.ClassListCache;
+import com.tutorlink.common.id.IdGenerator;
+import com.tutorlink.common.id.TimeOrderedIdGenerator;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.ClassWriteBehindBuffer;
+import com.tutorlink.teacher.domain.repository.TeacherRepository;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindClassRegistrarTest {
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private ClassWriteBehindBuffer classWriteBehindBuffer;
+
+    @Spy
+    private ClassPolicy classPolicy = new ClassPolicy();
+
+    @Spy
+    private ClassListCache classListCache = new ClassListCache();
+
+    private final IdGenerator idGenerator = new TimeOrderedIdGenerator(1);
+
+    private WriteBehindClassRegistrar registrar;
+
+    @BeforeEach
+    void setUp() {
+        registrar = new WriteBehindClassRegistrar(teacherRepository, classPolicy, idGenerator, classWriteBehindBuffer, classListCache);
+    }
+
+    @Test
+    @DisplayName("검증된 클래스를 저널에 기록하고 발급된 클래스 ID를 반환한다.")
+    void register() {
+        // given
+        RegisterClassCommand command = new RegisterClassCommand(1L, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        when(teacherRepository.existsById(1L)).thenReturn(true);
+
+        // when
+        Long classId = registrar.register(command);
+
+        // then
+        ArgumentCaptor<TeachingClass> classCaptor = ArgumentCaptor.forClass(TeachingClass.class);
+        verify(classWriteBehindBuffer).append(classCaptor.capture());
+        assertThat(classCaptor.getValue().id()).isEqualTo(classId);
+        assertThat(classCaptor.getValue().title()).isEqualTo("프로그래밍 기초 클래스");
+        verify(teacherRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선생님의 클래스는 저널에 기록하지 않는다.")
+    void register_teacherNotFound() {
+        // given
+        RegisterClassCommand command = new RegisterClassCommand(1L, "프로그래밍 기초 클래스", "자바 프로그래밍 기초", 50000, LocalDateTime.of(2023, 6, 8, 8, 0));
+        when(teacherRepository.existsById(1L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> registrar.register(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("선생님이 존재하지 않습니다.");
+        verify(classWriteBehindBuffer, Mockito.never()).append(any());
+    }
+
+    @Test
+    @DisplayName("클래스가 DB에 저장되면 선생님의 클래스 목록 캐시를 무효화한다.")
+    void flushed_invalidatesCache() {
+        // given
+        ArgumentCaptor<ClassWriteBehindBuffer.FlushListener> listenerCaptor = ArgumentCaptor.forClass(ClassWriteBehindBuffer.FlushListener.class);
+        verify(classWriteBehindBuffer).addListener(listenerCaptor.capture());
+
+        // when
+        listenerCaptor.getValue().flushed(List.of(
+                new TeachingClass(10L, 1L, "프로그래밍 기초 클래스", "설명", 50000, LocalDateTime.of(2023, 6, 8, 8, 0)),
+                new TeachingClass(11L, 1L, "프로그래밍 심화 클래스", "설명", 50000, LocalDateTime.of(2023, 6, 8, 9, 0))));
+
+        // then
+        verify(classListCache).invalidate(1L);
+    }
+}
@@ -0,0 +1,18 @@
+package com.tutorlink.common.event;
+
+/**
+ * Consumer of the events of a {@link RingBuffer}, called from the consumer's own thread.
+ *
+ * @param <E> the event type
+ */
+@FunctionalInterface
+public interface EventHandler<E> {
+
+    /**
+     * @param event      the event
+     * @param sequence   the sequence number of the event in the ring buffer
+     * @param endOfBatch true for the last event that was available when the batch started,
+     *                   so handlers can flush work they buffered for the batch
+     */
+    void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+}
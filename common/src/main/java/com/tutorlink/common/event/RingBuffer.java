@@ -0,0 +1,247 @@
+package com.tutorlink.common.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded, lock-free, multi-producer ring buffer that broadcasts every event to each of its consumers.
+ * <p>
+ * The slots are allocated once. A producer claims the next sequence with a CAS, stores the event in the slot and marks the slot
+ * as published for that lap of the ring. Any thread can publish, each thread acting as its own producer, and publishing never
+ * blocks: when the slowest consumer is a full ring behind, {@link #tryPublish(Object)} drops the event and counts it instead.
+ * <p>
+ * Every consumer runs on its own thread with its own sequence, waits for events with the {@link WaitStrategy} and drains all
+ * published events in one batch before it advances its sequence, which frees the slots for producers.
+ * Consumers are added before {@link #start(ThreadFactory)}.
+ *
+ * @param <E> the event type
+ */
+public final class RingBuffer<E> implements AutoCloseable {
+
+    private final Object[] entries;
+    private final AtomicIntegerArray publishedLaps;
+    private final int mask;
+    private final int lapShift;
+    private final WaitStrategy waitStrategy;
+
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<Consumer> consumers = new ArrayList<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean started;
+    private volatile boolean stopping;
+
+    /**
+     * @param capacity     the number of slots, a power of two
+     * @param waitStrategy how consumers wait for events
+     */
+    public RingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.entries = new Object[capacity];
+        this.publishedLaps = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            publishedLaps.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.lapShift = Integer.numberOfTrailingZeros(capacity);
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Add a consumer that receives every event published from now on
+     *
+     * @param name    the name of the consumer, used for its thread and its statistics
+     * @param handler the handler called for every event
+     * @throws IllegalStateException if the ring buffer is already started
+     */
+    public synchronized void addConsumer(String name, EventHandler<? super E> handler) {
+        if (started) {
+            throw new IllegalStateException("consumers must be added before the ring buffer is started");
+        }
+        consumers.add(new Consumer(name, handler, claimed.get()));
+    }
+
+    /**
+     * Start a thread for every consumer
+     *
+     * @param threadFactory creates the consumer threads
+     */
+    public synchronized void start(ThreadFactory threadFactory) {
+        if (started) {
+            throw new IllegalStateException("the ring buffer is already started");
+        }
+        started = true;
+        for (Consumer consumer : consumers) {
+            consumer.thread = threadFactory.newThread(consumer);
+            consumer.thread.setName(consumer.thread.getName() + "-" + consumer.name);
+            consumer.thread.start();
+        }
+    }
+
+    /**
+     * Publish an event without blocking
+     *
+     * @param event the event
+     * @return false if the event was dropped because the slowest consumer is a full ring behind
+     */
+    public boolean tryPublish(E event) {
+        long sequence;
+        do {
+            sequence = claimed.get() + 1;
+            if (sequence - entries.length > slowestConsumerSequence()) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence - 1, sequence));
+
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        // The volatile write of the lap publishes the event to consumers that read the lap
+        publishedLaps.set(index, lap(sequence));
+        published.increment();
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    /**
+     * @return the number of published and dropped events, and the position and lag of every consumer
+     */
+    public Stats stats() {
+        long cursor = claimed.get();
+        List<ConsumerStats> consumerStats = new ArrayList<>(consumers.size());
+        for (Consumer consumer : consumers) {
+            long sequence = consumer.sequence.get();
+            consumerStats.add(new ConsumerStats(consumer.name, sequence, cursor - sequence, consumer.processed.sum(), consumer.failures.sum()));
+        }
+        return new Stats(published.sum(), dropped.sum(), consumerStats);
+    }
+
+    /**
+     * Stop the consumers once they have processed every event published so far, and wait for them
+     */
+    @Override
+    public void close() {
+        stopping = true;
+        waitStrategy.signalAll();
+        for (Consumer consumer : consumers) {
+            if (consumer.thread == null) {
+                continue;
+            }
+            try {
+                consumer.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long slowestConsumerSequence() {
+        long slowest = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            slowest = Math.min(slowest, consumer.sequence.get());
+        }
+        // Without consumers nothing holds the slots back
+        return slowest == Long.MAX_VALUE ? claimed.get() : slowest;
+    }
+
+    private boolean isPublished(long sequence) {
+        return publishedLaps.get((int) sequence & mask) == lap(sequence);
+    }
+
+    private int lap(long sequence) {
+        return (int) (sequence >>> lapShift);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E entry(long sequence) {
+        return (E) entries[(int) sequence & mask];
+    }
+
+    private final class Consumer implements Runnable {
+
+        private final String name;
+        private final EventHandler<? super E> handler;
+        private final AtomicLong sequence;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final BooleanSupplier available = this::hasNext;
+        private final BooleanSupplier stopped = () -> stopping;
+        private Thread thread;
+
+        private Consumer(String name, EventHandler<? super E> handler, long sequence) {
+            this.name = name;
+            this.handler = handler;
+            this.sequence = new AtomicLong(sequence);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    waitStrategy.waitFor(available, stopped);
+                    if (!hasNext()) {
+                        return;
+                    }
+                    drain();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean hasNext() {
+            return isPublished(sequence.get() + 1);
+        }
+
+        /**
+         * Processes every event published contiguously after the consumer's sequence. A sequence claimed by a producer that has
+         * not stored its event yet ends the batch, so events are always handled in sequence order.
+         */
+        private void drain() {
+            long first = sequence.get() + 1;
+            long last = first;
+            long cursor = claimed.get();
+            while (last < cursor && isPublished(last + 1)) {
+                last++;
+            }
+            for (long next = first; next <= last; next++) {
+                try {
+                    handler.onEvent(entry(next), next, next == last);
+                } catch (Exception e) {
+                    // A failing event must not stop the consumer
+                    failures.increment();
+                }
+            }
+            processed.add(last - first + 1);
+            sequence.set(last);
+        }
+    }
+
+    /**
+     * Ring buffer statistics
+     *
+     * @param published the number of published events
+     * @param dropped   the number of events dropped because the ring was full
+     * @param consumers the statistics of every consumer
+     */
+    public record Stats(long published, long dropped, List<ConsumerStats> consumers) {
+    }
+
+    /**
+     * @param name      the name of the consumer
+     * @param sequence  the sequence of the last event the consumer processed
+     * @param lag       the number of claimed events the consumer has not processed yet
+     * @param processed the number of events the consumer processed
+     * @param failures  the number of events whose handler threw
+     */
+    public record ConsumerStats(String name, long sequence, long lag, long processed, long failures) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.tutorlink.common.event;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a consumer of a {@link RingBuffer} waits for the next event, trading latency for CPU.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Wait until the next event is published or the consumer has to stop
+     *
+     * @param available tells whether the next event is published
+     * @param stopping  tells whether the consumer has to stop
+     */
+    void waitFor(BooleanSupplier available, BooleanSupplier stopping) throws InterruptedException;
+
+    /**
+     * Wake up waiting consumers, called after every publication
+     */
+    void signalAll();
+
+    /**
+     * Spins on the CPU: lowest latency, but every consumer keeps a core busy
+     */
+    static WaitStrategy busySpin() {
+        return new WaitStrategy() {
+            @Override
+            public void waitFor(BooleanSupplier available, BooleanSupplier stopping) {
+                while (!available.getAsBoolean() && !stopping.getAsBoolean()) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            @Override
+            public void signalAll() {
+            }
+        };
+    }
+
+    /**
+     * Spins briefly, then yields the CPU to other threads between checks
+     */
+    static WaitStrategy yielding() {
+        return sleeping(Duration.ZERO);
+    }
+
+    /**
+     * Spins briefly, yields, then sleeps between checks: little CPU while idle, at most {@code sleep} of added latency
+     *
+     * @param sleep the time to sleep between checks once idle, zero to keep yielding
+     */
+    static WaitStrategy sleeping(Duration sleep) {
+        long sleepNanos = sleep.toNanos();
+        return new WaitStrategy() {
+            @Override
+            public void waitFor(BooleanSupplier available, BooleanSupplier stopping) {
+                for (int idle = 0; !available.getAsBoolean() && !stopping.getAsBoolean(); idle++) {
+                    if (idle < 100) {
+                        Thread.onSpinWait();
+                    } else if (idle < 200 || sleepNanos == 0) {
+                        Thread.yield();
+                    } else {
+                        LockSupport.parkNanos(sleepNanos);
+                    }
+                }
+            }
+
+            @Override
+            public void signalAll() {
+            }
+        };
+    }
+
+    /**
+     * Parks consumers until a producer signals them: no CPU while idle. Producers only take the lock when a consumer is parked.
+     */
+    static WaitStrategy blocking() {
+        return new WaitStrategy() {
+            private final ReentrantLock lock = new ReentrantLock();
+            private final Condition published = lock.newCondition();
+            private final AtomicInteger waiters = new AtomicInteger();
+
+            @Override
+            public void waitFor(BooleanSupplier available, BooleanSupplier stopping) throws InterruptedException {
+                if (available.getAsBoolean()) {
+                    return;
+                }
+                lock.lock();
+                try {
+                    // Registered before checking again: a producer publishing after the check sees the waiter and signals
+                    waiters.incrementAndGet();
+                    while (!available.getAsBoolean() && !stopping.getAsBoolean()) {
+                        published.await(100, TimeUnit.MILLISECONDS);
+                    }
+                } finally {
+                    waiters.decrementAndGet();
+                    lock.unlock();
+                }
+            }
+
+            @Override
+            public void signalAll() {
+                if (waiters.get() == 0) {
+                    return;
+                }
+                lock.lock();
+                try {
+                    published.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        };
+    }
+}
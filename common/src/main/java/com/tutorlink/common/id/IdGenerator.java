@@ -0,0 +1,12 @@
+package com.tutorlink.common.id;
+
+/**
+ * Source of 64-bit entity identifiers assigned by the application before an entity is persisted
+ */
+public interface IdGenerator {
+
+    /**
+     * @return a new identifier, unique across the nodes sharing the same id space
+     */
+    long nextId();
+}
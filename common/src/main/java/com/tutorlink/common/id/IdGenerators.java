@@ -0,0 +1,31 @@
+package com.tutorlink.common.id;
+
+import java.util.Objects;
+
+/**
+ * Holds the {@link IdGenerator} used where no dependency injection is available, such as Hibernate identifier generators.
+ * Defaults to a {@link TimeOrderedIdGenerator} for node 0 until the application installs its own.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator current = new TimeOrderedIdGenerator(0);
+
+    private IdGenerators() {
+    }
+
+    /**
+     * @return the installed generator
+     */
+    public static IdGenerator current() {
+        return current;
+    }
+
+    /**
+     * Installs the generator returned by {@link #current()}
+     *
+     * @param idGenerator the generator to install
+     */
+    public static void use(IdGenerator idGenerator) {
+        current = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+}
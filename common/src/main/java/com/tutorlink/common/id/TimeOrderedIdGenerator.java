@@ -0,0 +1,73 @@
+package com.tutorlink.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free generator of time-ordered 64-bit identifiers.
+ * <p>
+ * An id is laid out as {@code 0 | 41 bits of milliseconds since 2024-01-01T00:00Z | 10 bits of node id | 12 bits of sequence}.
+ * Ids issued by one node are strictly increasing: when the clock does not advance (or moves backwards) the sequence is
+ * incremented instead, and a sequence overflow carries into the millisecond part.
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+    /**
+     * 2024-01-01T00:00:00Z
+     */
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    /**
+     * Milliseconds since the epoch shifted left by the sequence bits, plus the sequence of the last issued id
+     */
+    private final AtomicLong lastState = new AtomicLong(-1L);
+
+    public TimeOrderedIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + " but was " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long last = lastState.get();
+            long now = Math.max(clock.getAsLong() - EPOCH_MILLIS, 0L) << SEQUENCE_BITS;
+            long next = now > last ? now : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * @param id an id issued by this generator
+     * @return the epoch milliseconds encoded in the id
+     */
+    public static long timestampMillisOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * @param id an id issued by this generator
+     * @return the node id encoded in the id
+     */
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,108 @@
+package com.tutorlink.common.retry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs an action that failed with a retryable exception, up to a bounded number of attempts.
+ * <p>
+ * Between attempts the caller sleeps for a random duration between zero and an exponentially growing cap
+ * ("full jitter"), so that writers that collided once do not collide again on the next attempt.
+ * Conflicts, retries and exhausted calls are counted for monitoring.
+ * <p>
+ * The action must be safe to re-run: each attempt has to start from a fresh state, e.g. a new transaction.
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Predicate<? super RuntimeException> retryable;
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @param baseBackoff the backoff cap after the first failed attempt, doubled after each further failure
+     * @param maxBackoff  the upper bound of the backoff cap
+     * @param retryable   tells which failures are worth another attempt; all others are rethrown immediately
+     */
+    public RetryPolicy(int maxAttempts, Duration baseBackoff, Duration maxBackoff, Predicate<? super RuntimeException> retryable) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        if (baseBackoff.isNegative() || maxBackoff.compareTo(baseBackoff) < 0) {
+            throw new IllegalArgumentException("backoff must satisfy 0 <= baseBackoff <= maxBackoff");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffNanos = baseBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.retryable = Objects.requireNonNull(retryable, "retryable");
+    }
+
+    /**
+     * Runs the action until it succeeds, fails with a non-retryable exception, or runs out of attempts.
+     *
+     * @return the result of the first successful attempt
+     * @throws RuntimeException the failure of the last attempt
+     */
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!retryable.test(e)) {
+                    throw e;
+                }
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retries.increment();
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * @return counters since the policy was created
+     */
+    public Stats stats() {
+        return new Stats(conflicts.sum(), retries.sum(), exhausted.sum());
+    }
+
+    long backoffCapNanos(int failedAttempts) {
+        int shift = Math.min(failedAttempts - 1, 62);
+        long cap = baseBackoffNanos << shift;
+        return cap < 0 || cap >>> shift != baseBackoffNanos ? maxBackoffNanos : Math.min(cap, maxBackoffNanos);
+    }
+
+    private void backOff(int failedAttempts, RuntimeException failure) {
+        long cap = backoffCapNanos(failedAttempts);
+        if (cap == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(cap + 1)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(e);
+            throw failure;
+        }
+    }
+
+    /**
+     * @param conflicts the number of retryable failures seen
+     * @param retries   the number of attempts made after a retryable failure
+     * @param exhausted the number of calls that failed after the last attempt
+     */
+    public record Stats(long conflicts, long retries, long exhausted) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.tutorlink.teacher.dto;
+
+/**
+ * An entry of the class change feed, carrying the full state of the changed class or teacher after the change.
+ * <p>
+ * Class entries carry {@code teachingClass}; teacher entries carry {@code teacherName} and {@code teacherStatus} instead.
+ * Since every entry holds the whole state, applying an entry twice or skipping superseded entries of the same key gives the
+ * same result, so clients apply class entries as upserts.
+ */
+public record ClassChange(
+        long token,
+        ClassChangeType type,
+        Long teacherId,
+        ClassMetadataDto teachingClass,
+        String teacherName,
+        String teacherStatus
+) {
+    /**
+     * Creates a class entry.
+     *
+     * @param token         the change token of the entry
+     * @param type          {@link ClassChangeType#CLASS_INSERTED} or {@link ClassChangeType#CLASS_UPDATED}
+     * @param teachingClass the class after the change
+     * @return a new ClassChange
+     */
+    public static ClassChange ofClass(long token, ClassChangeType type, ClassMetadataDto teachingClass) {
+        return new ClassChange(token, type, teachingClass.teacherId(), teachingClass, null, null);
+    }
+
+    /**
+     * Creates a teacher entry.
+     *
+     * @param token         the change token of the entry
+     * @param teacherId     the ID of the teacher
+     * @param teacherName   the name of the teacher after the change
+     * @param teacherStatus the active status of the teacher after the change
+     * @return a new ClassChange
+     */
+    public static ClassChange ofTeacher(long token, Long teacherId, String teacherName, String teacherStatus) {
+        return new ClassChange(token, ClassChangeType.TEACHER_CHANGED, teacherId, null, teacherName, teacherStatus);
+    }
+}
@@ -0,0 +1,27 @@
+package com.tutorlink.teacher.dto;
+
+import java.util.List;
+
+/**
+ * A batch of the class change feed with the token to request the next batch with.
+ * <p>
+ * {@code nextToken} may stay behind the last returned change while recent changes settle; those changes are returned again by
+ * the next request, which is harmless because every change carries the full state.
+ */
+public record ClassChangeFeed(
+        List<ClassChange> changes,
+        long nextToken,
+        boolean hasMore
+) {
+    /**
+     * Creates a new ClassChangeFeed.
+     *
+     * @param changes   the changes after the requested token, in token order
+     * @param nextToken the token to request the next batch with
+     * @param hasMore   whether more changes can be requested right away
+     * @return a new ClassChangeFeed
+     */
+    public static ClassChangeFeed of(List<ClassChange> changes, long nextToken, boolean hasMore) {
+        return new ClassChangeFeed(changes, nextToken, hasMore);
+    }
+}
@@ -0,0 +1,19 @@
+package com.tutorlink.teacher.dto;
+
+/**
+ * Kind of an entry of the class change feed
+ */
+public enum ClassChangeType {
+    /**
+     * A class was registered
+     */
+    CLASS_INSERTED,
+    /**
+     * The title, description, price or registration date of a class changed
+     */
+    CLASS_UPDATED,
+    /**
+     * A teacher was registered, or its name or active status changed
+     */
+    TEACHER_CHANGED
+}
@@ -0,0 +1,91 @@
+package com.tutorlink.teacher.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Seek position of a teaching class in a cursor-paginated listing.
+ * <p>
+ * The position is the sort key of the last returned class together with its id as a tie-breaker:
+ * ({@code registeredAt}, {@code id}) for {@link SortType#LATEST} and ({@code price}, {@code id}) for {@link SortType#PRICE}.
+ * Classes without a registration time (e.g. imported or restored rows) sort after all others in the latest-first order and
+ * are encoded with an empty sort key. Clients only ever see the encoded form, which is an opaque URL-safe token.
+ */
+public record ClassCursor(
+        SortType sortType,
+        String sortKey,
+        long id
+) {
+    private static final String DELIMITER = "|";
+    private static final String NULL_SORT_KEY = "";
+
+    /**
+     * Creates the cursor pointing right after the given class.
+     *
+     * @param sortType the sort order of the listing
+     * @param last     the last class of the current page
+     * @return a new ClassCursor
+     */
+    public static ClassCursor after(SortType sortType, ClassMetadataDto last) {
+        String sortKey;
+        if (sortType == SortType.PRICE) {
+            sortKey = Integer.toString(last.price());
+        } else {
+            sortKey = last.registeredAt() != null ? last.registeredAt().toString() : NULL_SORT_KEY;
+        }
+        return new ClassCursor(sortType, sortKey, last.id());
+    }
+
+    /**
+     * Decodes an opaque continuation token.
+     *
+     * @param token the token returned by a previous page
+     * @return the decoded ClassCursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ClassCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            ClassCursor cursor = new ClassCursor(SortType.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+            // Parse the sort key eagerly so that a tampered token fails here instead of in the query
+            if (cursor.sortType() == SortType.PRICE) {
+                cursor.price();
+            } else {
+                cursor.registeredAt();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Encodes this cursor into an opaque continuation token.
+     *
+     * @return the URL-safe token
+     */
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the registration time of the last returned class, or null if it has none ({@link SortType#LATEST} only)
+     */
+    public LocalDateTime registeredAt() {
+        return NULL_SORT_KEY.equals(sortKey) ? null : LocalDateTime.parse(sortKey);
+    }
+
+    /**
+     * @return the price of the last returned class ({@link SortType#PRICE} only)
+     */
+    public int price() {
+        return Integer.parseInt(sortKey);
+    }
+}
@@ -0,0 +1,34 @@
+package com.tutorlink.teacher.dto;
+
+import java.util.List;
+
+/**
+ * Facets to compute next to a class listing.
+ *
+ * @param priceBoundaries      ascending price boundaries; n boundaries produce n + 1 price buckets (empty for no price facet)
+ * @param registrationInterval bucket width of the registration date histogram (null for no date facet)
+ */
+public record ClassFacetRequest(
+        List<Integer> priceBoundaries,
+        DateHistogramInterval registrationInterval
+) {
+    public ClassFacetRequest {
+        priceBoundaries = priceBoundaries != null ? List.copyOf(priceBoundaries) : List.of();
+        for (int i = 1; i < priceBoundaries.size(); i++) {
+            if (priceBoundaries.get(i - 1) >= priceBoundaries.get(i)) {
+                throw new IllegalArgumentException("Price boundaries must be strictly ascending");
+            }
+        }
+    }
+
+    /**
+     * Creates a new ClassFacetRequest with the given price boundaries and histogram interval.
+     *
+     * @param priceBoundaries      ascending price boundaries
+     * @param registrationInterval bucket width of the registration date histogram
+     * @return a new ClassFacetRequest
+     */
+    public static ClassFacetRequest of(List<Integer> priceBoundaries, DateHistogramInterval registrationInterval) {
+        return new ClassFacetRequest(priceBoundaries, registrationInterval);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tutorlink.teacher.dto;
+
+import java.util.List;
+
+/**
+ * Facet counts of a class search.
+ *
+ * @param priceBuckets          counts per price bucket, in ascending price order (empty if not requested)
+ * @param registrationHistogram counts per registration interval, in chronological order, without empty intervals (empty if not requested)
+ */
+public record ClassFacets(
+        List<PriceBucket> priceBuckets,
+        List<DateBucket> registrationHistogram
+) {
+}
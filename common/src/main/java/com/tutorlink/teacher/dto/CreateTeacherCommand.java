@@ -1,7 +1,15 @@
 package com.tutorlink.teacher.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
-public record CreateTeacherCommand(@NotBlank String name) {
+/**
+ * @param name           the teacher's name
+ * @param idempotencyKey optional client-generated key; a retried command with the same key returns the original result
+ */
+public record CreateTeacherCommand(@NotBlank String name, @Size(max = 64) String idempotencyKey) {
 
+    public CreateTeacherCommand(String name) {
+        this(name, null);
+    }
 }
@@ -0,0 +1,42 @@
+package com.tutorlink.teacher.dto;
+
+/**
+ * A request for a page of data positioned by an opaque continuation token.
+ */
+public record CursorPageRequest(
+        String cursor,
+        int size
+) {
+    /**
+     * Creates a new CursorPageRequest with the given cursor and size.
+     *
+     * @param cursor the continuation token returned by the previous page (null for the first page)
+     * @param size   the page size
+     * @return a new CursorPageRequest
+     */
+    public static CursorPageRequest of(String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        return new CursorPageRequest(cursor, size);
+    }
+
+    /**
+     * Creates a new CursorPageRequest for the first page with the given size.
+     *
+     * @param size the page size
+     * @return a new CursorPageRequest
+     */
+    public static CursorPageRequest first(int size) {
+        return of(null, size);
+    }
+
+    /**
+     * Returns whether this request points at the first page.
+     *
+     * @return true if no cursor is given
+     */
+    public boolean isFirst() {
+        return cursor == null || cursor.isEmpty();
+    }
+}
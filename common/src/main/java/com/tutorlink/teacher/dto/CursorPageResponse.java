@@ -0,0 +1,28 @@
+package com.tutorlink.teacher.dto;
+
+import java.util.List;
+
+/**
+ * A pagination response positioned by an opaque continuation token.
+ *
+ * @param <T> the type of items in the page
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int pageSize,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * Creates a new CursorPageResponse with the given content and continuation token.
+     *
+     * @param content    the content of the page
+     * @param pageSize   the requested size of the page
+     * @param nextCursor the token to request the next page with (null if there is no next page)
+     * @param <T>        the type of items in the page
+     * @return a new CursorPageResponse
+     */
+    public static <T> CursorPageResponse<T> of(List<T> content, int pageSize, String nextCursor) {
+        return new CursorPageResponse<>(content, pageSize, nextCursor, nextCursor != null);
+    }
+}
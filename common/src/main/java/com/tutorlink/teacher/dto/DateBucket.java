@@ -0,0 +1,15 @@
+package com.tutorlink.teacher.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Number of classes registered within one histogram interval.
+ *
+ * @param start the first day of the interval
+ * @param count the number of classes registered within the interval
+ */
+public record DateBucket(
+        LocalDate start,
+        long count
+) {
+}
@@ -0,0 +1,21 @@
+package com.tutorlink.teacher.dto;
+
+/**
+ * Enum for specifying the bucket width of the registration date histogram
+ */
+public enum DateHistogramInterval {
+    /**
+     * One bucket per registration day
+     */
+    DAY,
+
+    /**
+     * One bucket per registration month
+     */
+    MONTH,
+
+    /**
+     * One bucket per registration year
+     */
+    YEAR
+}
@@ -0,0 +1,25 @@
+package com.tutorlink.teacher.dto;
+
+/**
+ * A page of items together with the facet counts of the whole search result.
+ *
+ * @param page   the requested page
+ * @param facets the facet counts over all pages
+ * @param <T>    the type of items in the page
+ */
+public record FacetedPageResponse<T>(
+        PageResponse<T> page,
+        ClassFacets facets
+) {
+    /**
+     * Creates a new FacetedPageResponse with the given page and facets.
+     *
+     * @param page   the requested page
+     * @param facets the facet counts over all pages
+     * @param <T>    the type of items in the page
+     * @return a new FacetedPageResponse
+     */
+    public static <T> FacetedPageResponse<T> of(PageResponse<T> page, ClassFacets facets) {
+        return new FacetedPageResponse<>(page, facets);
+    }
+}
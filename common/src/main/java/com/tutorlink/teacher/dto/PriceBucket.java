@@ -0,0 +1,15 @@
+package com.tutorlink.teacher.dto;
+
+/**
+ * Number of classes whose price falls into [from, to).
+ *
+ * @param from  the inclusive lower bound (null for the lowest bucket)
+ * @param to    the exclusive upper bound (null for the highest bucket)
+ * @param count the number of classes in the bucket
+ */
+public record PriceBucket(
+        Integer from,
+        Integer to,
+        long count
+) {
+}
@@ -2,11 +2,19 @@ package com.tutorlink.teacher.dto;
 
 import java.time.LocalDateTime;
 
+/**
+ * @param idempotencyKey optional client-generated key; a retried command with the same key returns the original class id
+ */
 public record RegisterClassCommand(
         Long teacherId,
         String title,
         String description,
         int price,
-        LocalDateTime registeredAt
+        LocalDateTime registeredAt,
+        String idempotencyKey
 ) {
+
+    public RegisterClassCommand(Long teacherId, String title, String description, int price, LocalDateTime registeredAt) {
+        this(teacherId, title, description, price, registeredAt, null);
+    }
 }
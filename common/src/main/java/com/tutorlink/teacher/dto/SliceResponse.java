@@ -0,0 +1,31 @@
+package com.tutorlink.teacher.dto;
+
+import java.util.List;
+
+/**
+ * A pagination response that only tells whether a next page exists, without the total number of elements.
+ * <p>
+ * Cheaper than {@link PageResponse} because it does not require a count query.
+ *
+ * @param <T> the type of items in the slice
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        int pageNumber,
+        int pageSize,
+        boolean hasNext
+) {
+    /**
+     * Creates a new SliceResponse with the given content and pagination metadata.
+     *
+     * @param content    the content of the slice
+     * @param pageNumber the current page number (0-based)
+     * @param pageSize   the size of the slice
+     * @param hasNext    whether a next slice exists
+     * @param <T>        the type of items in the slice
+     * @return a new SliceResponse
+     */
+    public static <T> SliceResponse<T> of(List<T> content, int pageNumber, int pageSize, boolean hasNext) {
+        return new SliceResponse<>(content, pageNumber, pageSize, hasNext);
+    }
+}
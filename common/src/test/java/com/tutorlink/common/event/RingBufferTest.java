@@ -0,0 +1,165 @@
+package com.tutorlink.common.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    private RingBuffer<Integer> ringBuffer;
+
+    @AfterEach
+    void tearDown() {
+        if (ringBuffer != null) {
+            ringBuffer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 발행한 이벤트를 모든 소비자가 빠짐없이 받는다.")
+    void tryPublish_broadcasts_to_every_consumer() throws InterruptedException {
+        // given
+        ringBuffer = new RingBuffer<>(1024, WaitStrategy.blocking());
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+        ringBuffer.addConsumer("first", (event, sequence, endOfBatch) -> first.add(event));
+        ringBuffer.addConsumer("second", (event, sequence, endOfBatch) -> second.add(event));
+        ringBuffer.start(Thread.ofPlatform().name("ring").factory());
+
+        // when
+        List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < 4; producer++) {
+            int base = producer * 100;
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 100; i++) {
+                    ringBuffer.tryPublish(base + i);
+                }
+            }));
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        ringBuffer.close();
+
+        // then
+        assertThat(first).hasSize(400).doesNotHaveDuplicates();
+        assertThat(second).containsExactlyElementsOf(first);
+        RingBuffer.Stats stats = ringBuffer.stats();
+        assertThat(stats.published()).isEqualTo(400);
+        assertThat(stats.dropped()).isZero();
+        assertThat(stats.consumers()).extracting(RingBuffer.ConsumerStats::lag).containsOnly(0L);
+    }
+
+    @Test
+    @DisplayName("소비자는 쌓인 이벤트를 한 번에 처리하고 마지막 이벤트에 배치의 끝을 알린다.")
+    void consumer_drains_published_events_in_one_batch() throws InterruptedException {
+        // given
+        ringBuffer = new RingBuffer<>(16, WaitStrategy.blocking());
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Boolean> endOfBatches = Collections.synchronizedList(new ArrayList<>());
+        ringBuffer.addConsumer("batch", (event, sequence, endOfBatch) -> {
+            if (event == 0) {
+                blocked.countDown();
+                release.await();
+            }
+            endOfBatches.add(endOfBatch);
+        });
+        ringBuffer.start(Thread.ofPlatform().name("ring").factory());
+
+        // when
+        ringBuffer.tryPublish(0);
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 3; i++) {
+            ringBuffer.tryPublish(i);
+        }
+        release.countDown();
+        ringBuffer.close();
+
+        // then
+        assertThat(endOfBatches).containsExactly(true, false, false, true);
+    }
+
+    @Test
+    @DisplayName("가장 느린 소비자가 링 한 바퀴만큼 밀려 있으면 이벤트를 버리고 개수를 센다.")
+    void tryPublish_drops_events_when_ring_is_full() throws InterruptedException {
+        // given
+        ringBuffer = new RingBuffer<>(4, WaitStrategy.blocking());
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        ringBuffer.addConsumer("slow", (event, sequence, endOfBatch) -> {
+            if (event == 0) {
+                blocked.countDown();
+                release.await();
+            }
+            received.add(event);
+        });
+        ringBuffer.start(Thread.ofPlatform().name("ring").factory());
+        ringBuffer.tryPublish(0);
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        List<Boolean> results = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            results.add(ringBuffer.tryPublish(i));
+        }
+        RingBuffer.Stats stats = ringBuffer.stats();
+        release.countDown();
+        ringBuffer.close();
+
+        // then
+        assertThat(results).containsExactly(true, true, true, false, false);
+        assertThat(stats.dropped()).isEqualTo(2);
+        assertThat(stats.consumers().getFirst().lag()).isEqualTo(4);
+        assertThat(received).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패해도 소비자는 다음 이벤트를 계속 처리한다.")
+    void consumer_continues_after_handler_failure() {
+        // given
+        ringBuffer = new RingBuffer<>(16, WaitStrategy.blocking());
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        ringBuffer.addConsumer("failing", (event, sequence, endOfBatch) -> {
+            if (event == 1) {
+                throw new IllegalStateException("failed");
+            }
+            received.add(event);
+        });
+        ringBuffer.start(Thread.ofPlatform().name("ring").factory());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            ringBuffer.tryPublish(i);
+        }
+        ringBuffer.close();
+
+        // then
+        assertThat(received).containsExactly(0, 2);
+        assertThat(ringBuffer.stats().consumers().getFirst())
+                .isEqualTo(new RingBuffer.ConsumerStats("failing", 2, 0, 3, 1));
+    }
+
+    @Test
+    @DisplayName("시작된 링 버퍼에는 소비자를 추가할 수 없다.")
+    void addConsumer_after_start_fails() {
+        // given
+        ringBuffer = new RingBuffer<>(16, WaitStrategy.blocking());
+        ringBuffer.start(Thread.ofPlatform().name("ring").factory());
+
+        // when & then
+        assertThatThrownBy(() -> ringBuffer.addConsumer("late", (event, sequence, endOfBatch) -> {
+        }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.tutorlink.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("id에는 발급 시각과 노드 번호가 담긴다.")
+    void encodes_timestamp_and_node() {
+        // given
+        long now = TimeOrderedIdGenerator.EPOCH_MILLIS + 123_456L;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, () -> now);
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(TimeOrderedIdGenerator.timestampMillisOf(id)).isEqualTo(now);
+        assertThat(TimeOrderedIdGenerator.nodeIdOf(id)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("시계가 멈추거나 뒤로 가도 id는 계속 증가한다.")
+    void monotonic_when_clock_goes_backwards() {
+        // given
+        AtomicLong clock = new AtomicLong(TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000L);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+            if (i == 5_000) {
+                clock.addAndGet(-500L);
+            }
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 id가 중복되지 않는다.")
+    void unique_across_threads() throws InterruptedException {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 범위를 벗어나면 예외가 발생한다.")
+    void invalid_node_id() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
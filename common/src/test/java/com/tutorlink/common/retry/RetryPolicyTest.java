@@ -0,0 +1,77 @@
+package com.tutorlink.common.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy retryPolicy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(4),
+            e -> e instanceof ConcurrentModificationException);
+
+    @Test
+    @DisplayName("재시도할 수 있는 예외가 발생하면 성공할 때까지 다시 실행한다.")
+    void execute_retries_until_success() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = retryPolicy.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConcurrentModificationException();
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        assertThat(retryPolicy.stats()).isEqualTo(new RetryPolicy.Stats(2, 2, 0));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 마지막 예외를 던진다.")
+    void execute_gives_up_after_max_attempts() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when // then
+        assertThatThrownBy(() -> retryPolicy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ConcurrentModificationException("conflict");
+        })).isInstanceOf(ConcurrentModificationException.class).hasMessage("conflict");
+        assertThat(attempts).hasValue(3);
+        assertThat(retryPolicy.stats()).isEqualTo(new RetryPolicy.Stats(3, 2, 1));
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 예외는 바로 던진다.")
+    void execute_rethrows_non_retryable_failure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when // then
+        assertThatThrownBy(() -> retryPolicy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("최대 클래스 개수를 초과했습니다.");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts).hasValue(1);
+        assertThat(retryPolicy.stats()).isEqualTo(new RetryPolicy.Stats(0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("대기 시간의 상한은 시도마다 두 배로 늘어나고 최대 대기 시간을 넘지 않는다.")
+    void backoff_cap_grows_exponentially() {
+        assertThat(retryPolicy.backoffCapNanos(1)).isEqualTo(Duration.ofMillis(1).toNanos());
+        assertThat(retryPolicy.backoffCapNanos(2)).isEqualTo(Duration.ofMillis(2).toNanos());
+        assertThat(retryPolicy.backoffCapNanos(3)).isEqualTo(Duration.ofMillis(4).toNanos());
+        assertThat(retryPolicy.backoffCapNanos(10)).isEqualTo(Duration.ofMillis(4).toNanos());
+        assertThat(retryPolicy.backoffCapNanos(100)).isEqualTo(Duration.ofMillis(4).toNanos());
+    }
+}
@@ -39,6 +39,7 @@ dependencies {
     implementation(project(":teacher"))
     implementation(project(":student"))
     implementation(project(":common"))
+    testImplementation(project(":application"))
 }
 
 tasks.withType<Test> {
@@ -0,0 +1,151 @@
+package com.tutorlink.infra.catalog;
+
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.teacher.dto.ClassChange;
+import com.tutorlink.teacher.dto.ClassChangeFeed;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies the {@link ClassChangeLog} to the {@link ColumnarClassCatalog} on a background thread, so the catalog also sees
+ * the classes written by other nodes.
+ * <p>
+ * Every poll reads the log to its end, including entries that have not settled yet, and then marks the catalog as synced
+ * as of the start of the poll. Unsettled entries are read again by the next poll; since every entry carries the full state of
+ * its class, applying one twice is harmless.
+ */
+public class ClassCatalogFollower implements AutoCloseable {
+
+    private final ColumnarClassCatalog catalog;
+    private final ClassChangeLog changeLog;
+    private final Duration interval;
+    private final int batchSize;
+    private final Thread worker;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile long token;
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder failedPolls = new LongAdder();
+    private final LongAdder appliedChanges = new LongAdder();
+
+    /**
+     * @param interval  how long the follower waits between two polls
+     * @param batchSize the largest number of entries read with one query
+     */
+    public ClassCatalogFollower(ColumnarClassCatalog catalog, ClassChangeLog changeLog, Duration interval, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.catalog = catalog;
+        this.changeLog = changeLog;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.worker = Thread.ofPlatform().name("class-catalog-follower").daemon().unstarted(this::pollLoop);
+    }
+
+    /**
+     * @return the token to start following from when the catalog is loaded by a read that starts now
+     */
+    public long settledToken() {
+        return changeLog.settledToken();
+    }
+
+    /**
+     * Start the polling thread once the catalog has been loaded
+     *
+     * @param sinceToken the token taken with {@link #settledToken()} before the load started
+     */
+    public void start(long sinceToken) {
+        this.token = sinceToken;
+        worker.start();
+    }
+
+    /**
+     * Apply the changes after the current token once
+     *
+     * @return the number of applied class changes
+     */
+    public int poll() {
+        long startedAt = System.nanoTime();
+        long readFrom = token;
+        boolean settled = true;
+        int applied = 0;
+        while (true) {
+            ClassChangeFeed feed = changeLog.findChanges(null, readFrom, batchSize);
+            List<ClassMetadataDto> classes = feed.changes().stream()
+                    .map(ClassChange::teachingClass)
+                    .filter(Objects::nonNull)
+                    .toList();
+            catalog.upsertAll(classes);
+            applied += classes.size();
+
+            // The token only advances over the settled prefix; past it the batches are read to the end but read again next time
+            if (settled) {
+                token = feed.nextToken();
+                settled = feed.hasMore();
+            }
+            if (feed.changes().size() < batchSize) {
+                break;
+            }
+            readFrom = feed.changes().getLast().token();
+        }
+        catalog.markSynced(startedAt);
+        polls.increment();
+        appliedChanges.add(applied);
+        return applied;
+    }
+
+    /**
+     * @return the counters of the follower
+     */
+    public Stats stats() {
+        return new Stats(polls.sum(), failedPolls.sum(), appliedChanges.sum());
+    }
+
+    /**
+     * Stop the polling thread after its current poll
+     */
+    @Override
+    public void close() {
+        stopped.countDown();
+        if (!worker.isAlive()) {
+            return;
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pollLoop() {
+        try {
+            do {
+                try {
+                    poll();
+                } catch (RuntimeException e) {
+                    // The catalog is not marked as synced, so it stops serving once the failures outlast the staleness bound
+                    failedPolls.increment();
+                }
+            } while (!stopped.await(interval.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Follower statistics
+     *
+     * @param polls          the number of completed polls
+     * @param failedPolls    the number of polls that failed
+     * @param appliedChanges the number of class changes applied to the catalog
+     */
+    public record Stats(long polls, long failedPolls, long appliedChanges) {
+    }
+}
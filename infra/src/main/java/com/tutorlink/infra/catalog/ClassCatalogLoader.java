@@ -0,0 +1,74 @@
+package com.tutorlink.infra.catalog;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tutorlink.infra.teacher.QTeachingClassEntity;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Fills the {@link ColumnarClassCatalog} from the database once the application has started.
+ * Until the load completes, listings keep being served by the database.
+ * <p>
+ * With a {@link ClassCatalogFollower} the change token is taken before the load, and the follower starts applying the changes
+ * after it once the load completes, so no write of another node made during the load is missed.
+ */
+public class ClassCatalogLoader {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final ColumnarClassCatalog catalog;
+    private final JPAQueryFactory queryFactory;
+    private final ClassCatalogFollower follower;
+
+    public ClassCatalogLoader(ColumnarClassCatalog catalog, JPAQueryFactory queryFactory) {
+        this(catalog, queryFactory, null);
+    }
+
+    /**
+     * @param follower the follower to start after the load, or null on a single-node deployment
+     */
+    public ClassCatalogLoader(ColumnarClassCatalog catalog, JPAQueryFactory queryFactory, ClassCatalogFollower follower) {
+        this.catalog = catalog;
+        this.queryFactory = queryFactory;
+        this.follower = follower;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
+        long changeToken = follower != null ? follower.settledToken() : 0L;
+
+        // Read in id order with keyset pagination so every chunk is a short index range scan
+        long lastId = 0L;
+        while (true) {
+            List<ClassMetadataDto> chunk = queryFactory
+                    .select(Projections.constructor(ClassMetadataDto.class,
+                            teachingClass.id,
+                            teachingClass.teacher.id,
+                            teachingClass.title,
+                            teachingClass.description,
+                            teachingClass.price,
+                            teachingClass.registeredAt))
+                    .from(teachingClass)
+                    .where(teachingClass.id.gt(lastId))
+                    .orderBy(teachingClass.id.asc())
+                    .limit(LOAD_CHUNK_SIZE)
+                    .fetch();
+            if (chunk.isEmpty()) {
+                break;
+            }
+            catalog.upsertAll(chunk);
+            lastId = chunk.getLast().id();
+        }
+        catalog.markReady();
+        if (follower != null) {
+            follower.start(changeToken);
+        }
+    }
+}
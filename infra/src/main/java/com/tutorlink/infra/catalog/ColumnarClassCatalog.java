@@ -0,0 +1,458 @@
+package com.tutorlink.infra.catalog;
+
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.PageResponse;
+import com.tutorlink.teacher.dto.SortType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process, column-oriented copy of the class catalog for the read-heavy listing path.
+ * <p>
+ * Every class is a row spread over primitive arrays ({@code long} ids and teacher ids, {@code int} prices,
+ * epoch-second registration times) and dictionary-encoded titles and descriptions, so millions of classes
+ * take a fraction of the heap of the equivalent {@code List<ClassMetadataDto>}.
+ * Permutation indexes keep the rows pre-sorted for {@link SortType#LATEST}, {@link SortType#PRICE} and by id,
+ * and the rows of each teacher are chained into a linked list, so a page is served without sorting.
+ * <p>
+ * Title keyword matching is a case-insensitive substring match, like the LIKE check under the database's case-insensitive
+ * collation. A teacher's listing only tests the titles of the teacher's rows; a listing over all teachers tests every
+ * distinct title once.
+ * <p>
+ * The catalog only sees the writes of its own node through after-commit hooks. On a single node that is every write, so the
+ * catalog serves as soon as it is loaded. With several nodes a {@link ClassCatalogFollower} applies the writes of the other
+ * nodes from the change log and marks the catalog as synced after every poll; the catalog then only serves while its last
+ * sync is within the allowed staleness, and the listing falls back to the database otherwise.
+ */
+public class ColumnarClassCatalog {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_ROW = -1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long maxStalenessNanos;
+    private volatile boolean ready;
+    private volatile boolean synced;
+    private volatile long syncedAtNanos;
+
+    private int size;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] teacherIds = new long[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private long[] registeredAtSeconds = new long[INITIAL_CAPACITY];
+    private int[] registeredAtNanos = new int[INITIAL_CAPACITY];
+    private int[] titleCodes = new int[INITIAL_CAPACITY];
+    private int[] descriptionCodes = new int[INITIAL_CAPACITY];
+    private int[] nextRowOfTeacher = new int[INITIAL_CAPACITY];
+    private int[] byId = new int[INITIAL_CAPACITY];
+    private int[] byLatest = new int[INITIAL_CAPACITY];
+    private int[] byPrice = new int[INITIAL_CAPACITY];
+
+    private final StringDictionary titles = new StringDictionary(true);
+    private final StringDictionary descriptions = new StringDictionary();
+    private final LongIntHashMap rowById = new LongIntHashMap(INITIAL_CAPACITY);
+    private final LongIntHashMap firstRowByTeacher = new LongIntHashMap(INITIAL_CAPACITY);
+
+    /**
+     * Creates a catalog for a single-node deployment, where every write reaches the catalog through after-commit hooks
+     */
+    public ColumnarClassCatalog() {
+        this.maxStalenessNanos = -1L;
+    }
+
+    /**
+     * Creates a catalog that is kept in sync with the writes of other nodes by a {@link ClassCatalogFollower}
+     *
+     * @param maxStaleness how long after its last sync the catalog may still serve reads
+     */
+    public ColumnarClassCatalog(Duration maxStaleness) {
+        if (maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("maxStaleness must not be negative: " + maxStaleness);
+        }
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    /**
+     * @return whether the initial load has completed and, when the catalog follows other nodes, it has synced recently
+     * enough to serve reads
+     */
+    public boolean isReady() {
+        if (!ready) {
+            return false;
+        }
+        return maxStalenessNanos < 0 || synced && System.nanoTime() - syncedAtNanos <= maxStalenessNanos;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Records that every write committed before the given time has been applied
+     *
+     * @param startedAtNanos the {@link System#nanoTime()} at which the sync started reading the writes
+     */
+    public void markSynced(long startedAtNanos) {
+        this.syncedAtNanos = startedAtNanos;
+        this.synced = true;
+    }
+
+    /**
+     * @return the number of classes in the catalog
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of distinct titles and descriptions held by the dictionaries
+     */
+    int dictionarySize() {
+        lock.readLock().lock();
+        try {
+            return titles.size() + descriptions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts new classes and overwrites known ones (matched by id).
+     *
+     * @param classes the classes to insert or update
+     */
+    public void upsertAll(Collection<ClassMetadataDto> classes) {
+        lock.writeLock().lock();
+        try {
+            for (ClassMetadataDto dto : classes) {
+                upsert(dto);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Publishes saved classes only once the surrounding transaction commits,
+     * so that a rolled back write never becomes visible. Without a transaction the classes are upserted immediately.
+     *
+     * @param classes the classes to insert or update
+     */
+    public void upsertAllAfterCommit(Collection<ClassMetadataDto> classes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsertAll(classes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                upsertAll(classes);
+            }
+        });
+    }
+
+    /**
+     * Find classes by teacher ID with pagination and filtering, with the same contract as the database-backed query
+     *
+     * @param teacherId the ID of the teacher (null for all teachers)
+     * @param condition the search condition including pagination, filtering, and sorting parameters
+     * @return a page of class metadata DTOs
+     */
+    public PageResponse<ClassMetadataDto> findClassesByTeacherId(Long teacherId, ClassSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            String keyword = lowerCaseKeyword(condition.titleKeyword());
+            int[] rows = teacherId != null
+                    ? rowsOfTeacher(teacherId, keyword, condition.sortType())
+                    : null;
+
+            PageRequest pageRequest = condition.pageRequest();
+            long offset = pageRequest != null ? (long) pageRequest.page() * pageRequest.size() : 0L;
+            int limit = pageRequest != null ? pageRequest.size() : Integer.MAX_VALUE;
+
+            List<ClassMetadataDto> content = new ArrayList<>(Math.min(limit, 64));
+            long total;
+            if (rows != null) {
+                total = rows.length;
+                for (long i = offset; i < rows.length && content.size() < limit; i++) {
+                    content.add(toDto(rows[(int) i]));
+                }
+            } else {
+                total = scanAll(matchingTitles(keyword), condition.sortType(), offset, limit, content);
+            }
+
+            int pageNumber = pageRequest != null ? pageRequest.page() : 0;
+            int pageSize = pageRequest != null ? pageRequest.size() : content.size();
+            int totalPages = pageSize > 0 ? (int) Math.ceil((double) total / pageSize) : 1;
+            return PageResponse.of(content, pageNumber, pageSize, total, totalPages);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long scanAll(BitSet matchingTitles, SortType sortType, long offset, int limit, List<ClassMetadataDto> content) {
+        int[] order = permutationOf(sortType);
+        if (matchingTitles == null) {
+            // Without a keyword the page is a plain slice of the permutation
+            for (long i = offset; i < size && content.size() < limit; i++) {
+                content.add(toDto(order[(int) i]));
+            }
+            return size;
+        }
+
+        long matched = 0;
+        for (int i = 0; i < size; i++) {
+            int row = order[i];
+            if (!matches(row, matchingTitles)) {
+                continue;
+            }
+            if (matched >= offset && content.size() < limit) {
+                content.add(toDto(row));
+            }
+            matched++;
+        }
+        return matched;
+    }
+
+    private int[] rowsOfTeacher(long teacherId, String keyword, SortType sortType) {
+        int count = 0;
+        int[] rows = new int[8];
+        for (int row = firstRowByTeacher.get(teacherId); row != NO_ROW; row = nextRowOfTeacher[row]) {
+            if (titleContains(titleCodes[row], keyword)) {
+                if (count == rows.length) {
+                    rows = Arrays.copyOf(rows, count * 2);
+                }
+                rows[count++] = row;
+            }
+        }
+
+        // A teacher only has a handful of classes, so an insertion sort is the cheapest way to order them
+        for (int i = 1; i < count; i++) {
+            int row = rows[i];
+            int j = i - 1;
+            while (j >= 0 && compare(rows[j], row, sortType) > 0) {
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            rows[j + 1] = row;
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private static String lowerCaseKeyword(String keyword) {
+        return keyword == null || keyword.isEmpty() ? null : keyword.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param keyword the lower-cased keyword, or null to match every title
+     */
+    private boolean titleContains(int code, String keyword) {
+        if (keyword == null) {
+            return true;
+        }
+        // Freed codes decode to null and match no keyword
+        String title = titles.decodeLowerCase(code);
+        return title != null && title.contains(keyword);
+    }
+
+    /**
+     * @param keyword the lower-cased keyword, or null to match every title
+     * @return the codes of the matching titles, or null if every title matches
+     */
+    private BitSet matchingTitles(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        int codeLimit = titles.limit();
+        BitSet matches = new BitSet(codeLimit);
+        for (int code = 0; code < codeLimit; code++) {
+            if (titleContains(code, keyword)) {
+                matches.set(code);
+            }
+        }
+        return matches;
+    }
+
+    private boolean matches(int row, BitSet matchingTitles) {
+        if (matchingTitles == null) {
+            return true;
+        }
+        int code = titleCodes[row];
+        return code != StringDictionary.NULL_CODE && matchingTitles.get(code);
+    }
+
+    private void upsert(ClassMetadataDto dto) {
+        int row = rowById.get(dto.id());
+        if (row == LongIntHashMap.MISSING) {
+            row = size;
+            ensureCapacity(size + 1);
+            ids[row] = dto.id();
+            teacherIds[row] = dto.teacherId();
+            writeColumns(row, dto);
+            titleCodes[row] = titles.encode(dto.title());
+            descriptionCodes[row] = descriptions.encode(dto.description());
+            linkToTeacher(row);
+            rowById.put(dto.id(), row);
+            insertInto(byId, size, row, null);
+            insertInto(byLatest, size, row, SortType.LATEST);
+            insertInto(byPrice, size, row, SortType.PRICE);
+            size++;
+            return;
+        }
+
+        // Take the row out of the sort orders while its sort keys change
+        removeFrom(byLatest, size, row, SortType.LATEST);
+        removeFrom(byPrice, size, row, SortType.PRICE);
+        if (teacherIds[row] != dto.teacherId()) {
+            unlinkFromTeacher(row);
+            teacherIds[row] = dto.teacherId();
+            linkToTeacher(row);
+        }
+        writeColumns(row, dto);
+        // Encode before releasing so that an unchanged value keeps its code
+        int previousTitle = titleCodes[row];
+        int previousDescription = descriptionCodes[row];
+        titleCodes[row] = titles.encode(dto.title());
+        descriptionCodes[row] = descriptions.encode(dto.description());
+        titles.release(previousTitle);
+        descriptions.release(previousDescription);
+        insertInto(byLatest, size - 1, row, SortType.LATEST);
+        insertInto(byPrice, size - 1, row, SortType.PRICE);
+    }
+
+    private void writeColumns(int row, ClassMetadataDto dto) {
+        prices[row] = dto.price();
+        LocalDateTime registeredAt = dto.registeredAt();
+        registeredAtSeconds[row] = registeredAt != null ? registeredAt.toEpochSecond(ZoneOffset.UTC) : NULL_TIME;
+        registeredAtNanos[row] = registeredAt != null ? registeredAt.getNano() : 0;
+    }
+
+    private void linkToTeacher(int row) {
+        int head = firstRowByTeacher.get(teacherIds[row]);
+        nextRowOfTeacher[row] = head == LongIntHashMap.MISSING ? NO_ROW : head;
+        firstRowByTeacher.put(teacherIds[row], row);
+    }
+
+    private void unlinkFromTeacher(int row) {
+        long teacherId = teacherIds[row];
+        int head = firstRowByTeacher.get(teacherId);
+        if (head == row) {
+            firstRowByTeacher.put(teacherId, nextRowOfTeacher[row]);
+            return;
+        }
+        for (int previous = head; previous != NO_ROW; previous = nextRowOfTeacher[previous]) {
+            if (nextRowOfTeacher[previous] == row) {
+                nextRowOfTeacher[previous] = nextRowOfTeacher[row];
+                return;
+            }
+        }
+    }
+
+    private ClassMetadataDto toDto(int row) {
+        LocalDateTime registeredAt = registeredAtSeconds[row] == NULL_TIME
+                ? null
+                : LocalDateTime.ofEpochSecond(registeredAtSeconds[row], registeredAtNanos[row], ZoneOffset.UTC);
+        return new ClassMetadataDto(
+                ids[row],
+                teacherIds[row],
+                titles.decode(titleCodes[row]),
+                descriptions.decode(descriptionCodes[row]),
+                prices[row],
+                registeredAt
+        );
+    }
+
+    private int[] permutationOf(SortType sortType) {
+        if (sortType == SortType.LATEST) {
+            return byLatest;
+        }
+        if (sortType == SortType.PRICE) {
+            return byPrice;
+        }
+        return byId;
+    }
+
+    /**
+     * Orders rows as the database query does, with the id as the final tie-breaker.
+     * Without a sort type rows are ordered by id.
+     */
+    private int compare(int a, int b, SortType sortType) {
+        if (sortType == SortType.LATEST) {
+            int result = Long.compare(registeredAtSeconds[b], registeredAtSeconds[a]);
+            if (result == 0) {
+                result = Integer.compare(registeredAtNanos[b], registeredAtNanos[a]);
+            }
+            return result != 0 ? result : Long.compare(ids[b], ids[a]);
+        }
+        if (sortType == SortType.PRICE) {
+            int result = Integer.compare(prices[a], prices[b]);
+            return result != 0 ? result : Long.compare(ids[a], ids[b]);
+        }
+        return Long.compare(ids[a], ids[b]);
+    }
+
+    /**
+     * @return the first position in the permutation whose row does not sort before the given row
+     */
+    private int positionOf(int[] permutation, int length, int row, SortType sortType) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(permutation[mid], row, sortType) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void insertInto(int[] permutation, int length, int row, SortType sortType) {
+        int position = positionOf(permutation, length, row, sortType);
+        System.arraycopy(permutation, position, permutation, position + 1, length - position);
+        permutation[position] = row;
+    }
+
+    private void removeFrom(int[] permutation, int length, int row, SortType sortType) {
+        int position = positionOf(permutation, length, row, sortType);
+        System.arraycopy(permutation, position + 1, permutation, position, length - position - 1);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        teacherIds = Arrays.copyOf(teacherIds, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        registeredAtSeconds = Arrays.copyOf(registeredAtSeconds, capacity);
+        registeredAtNanos = Arrays.copyOf(registeredAtNanos, capacity);
+        titleCodes = Arrays.copyOf(titleCodes, capacity);
+        descriptionCodes = Arrays.copyOf(descriptionCodes, capacity);
+        nextRowOfTeacher = Arrays.copyOf(nextRowOfTeacher, capacity);
+        byId = Arrays.copyOf(byId, capacity);
+        byLatest = Arrays.copyOf(byLatest, capacity);
+        byPrice = Arrays.copyOf(byPrice, capacity);
+    }
+}
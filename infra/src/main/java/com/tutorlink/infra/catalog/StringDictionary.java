@@ -0,0 +1,124 @@
+package com.tutorlink.infra.catalog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of a string column: every distinct value is stored once and rows refer to it by an {@code int} code.
+ * <p>
+ * A case-folded dictionary also keeps the lower-cased form of every value for case-insensitive matching. Values that are
+ * already lower case share their instance, so the folded column only costs memory for values with upper-case letters.
+ * <p>
+ * Codes are reference counted: every {@link #encode(String)} takes a reference that the row gives back with
+ * {@link #release(int)} when its value is overwritten. A code without references is freed and reused by the next new value,
+ * so the dictionary stays proportional to the distinct values in use instead of every value ever written.
+ */
+final class StringDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final boolean caseFolded;
+    private String[] values = new String[256];
+    private String[] lowerCaseValues;
+    private int[] references = new int[256];
+    private int[] freeCodes = new int[16];
+    private int freeCount;
+    private int limit;
+
+    StringDictionary() {
+        this(false);
+    }
+
+    /**
+     * @param caseFolded whether to keep the lower-cased form of every value for {@link #decodeLowerCase(int)}
+     */
+    StringDictionary(boolean caseFolded) {
+        this.caseFolded = caseFolded;
+        this.lowerCaseValues = caseFolded ? new String[values.length] : null;
+    }
+
+    /**
+     * @return the code of the value, taking a reference to it
+     */
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer existing = codes.get(value);
+        if (existing != null) {
+            references[existing]++;
+            return existing;
+        }
+
+        int code;
+        if (freeCount > 0) {
+            code = freeCodes[--freeCount];
+        } else {
+            if (limit == values.length) {
+                values = Arrays.copyOf(values, limit + (limit >> 1));
+                references = Arrays.copyOf(references, values.length);
+                if (caseFolded) {
+                    lowerCaseValues = Arrays.copyOf(lowerCaseValues, values.length);
+                }
+            }
+            code = limit++;
+        }
+        values[code] = value;
+        if (caseFolded) {
+            lowerCaseValues[code] = value.toLowerCase(Locale.ROOT);
+        }
+        references[code] = 1;
+        codes.put(value, code);
+        return code;
+    }
+
+    /**
+     * Gives back a reference taken by {@link #encode(String)}, freeing the code once no row refers to it
+     */
+    void release(int code) {
+        if (code == NULL_CODE || --references[code] > 0) {
+            return;
+        }
+        codes.remove(values[code]);
+        values[code] = null;
+        if (caseFolded) {
+            lowerCaseValues[code] = null;
+        }
+        if (freeCount == freeCodes.length) {
+            freeCodes = Arrays.copyOf(freeCodes, freeCount * 2);
+        }
+        freeCodes[freeCount++] = code;
+    }
+
+    /**
+     * @return the value of the code, or null for {@link #NULL_CODE} and freed codes
+     */
+    String decode(int code) {
+        return code == NULL_CODE ? null : values[code];
+    }
+
+    /**
+     * @return the lower-cased value of the code, or null for {@link #NULL_CODE} and freed codes; only available on a
+     * case-folded dictionary
+     */
+    String decodeLowerCase(int code) {
+        return code == NULL_CODE ? null : lowerCaseValues[code];
+    }
+
+    /**
+     * @return the number of distinct values in use
+     */
+    int size() {
+        return limit - freeCount;
+    }
+
+    /**
+     * @return one past the highest code handed out so far; codes below it may be freed
+     */
+    int limit() {
+        return limit;
+    }
+}
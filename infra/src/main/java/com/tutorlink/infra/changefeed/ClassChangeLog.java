@@ -0,0 +1,216 @@
+package com.tutorlink.infra.changefeed;
+
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.dto.ClassChange;
+import com.tutorlink.teacher.dto.ClassChangeFeed;
+import com.tutorlink.teacher.dto.ClassChangeType;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Change log of classes and teachers behind the class change feed: the {@code class_change_log} table and the reads and
+ * compaction of it.
+ * <p>
+ * The write side appends an entry in the transaction of every change, so an entry exists exactly when its change committed.
+ * The generated id is the change token. Ids are assigned when the entry is inserted, not when it commits, so an entry may
+ * become visible after entries with a higher id. A batch therefore only advances its token over entries older than
+ * {@code settleWindow}, by which time every transaction holding a lower id has committed; newer entries are returned too but
+ * read again by the next batch. When the feed is read from a replica, the window must also cover the replica lag.
+ * <p>
+ * Compaction deletes the entries older than {@code retention} that are superseded by a later entry of the same class or
+ * teacher. A client behind the compacted range still ends up with the latest state of every class and teacher, although an
+ * insert may then arrive as an update.
+ */
+public class ClassChangeLog {
+
+    private static final String COLUMNS =
+            "id, change_type, teacher_id, class_id, title, description, price, registered_at, teacher_name, active_status, created_at";
+    private static final String INSERT_ENTRY =
+            "insert into class_change_log (change_type, teacher_id, class_id, title, description, price, registered_at,"
+                    + " teacher_name, active_status, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_SUPERSEDED_CLASS_ENTRIES =
+            "select c.id from class_change_log c where c.id <= ? and c.class_id is not null"
+                    + " and exists (select 1 from class_change_log n where n.class_id = c.class_id and n.id > c.id)"
+                    + " order by c.id limit ";
+    private static final String SELECT_SUPERSEDED_TEACHER_ENTRIES =
+            "select c.id from class_change_log c where c.id <= ? and c.class_id is null"
+                    + " and exists (select 1 from class_change_log n where n.teacher_id = c.teacher_id and n.class_id is null and n.id > c.id)"
+                    + " order by c.id limit ";
+
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> {
+        long token = rs.getLong("id");
+        ClassChangeType type = ClassChangeType.valueOf(rs.getString("change_type"));
+        Long teacherId = rs.getLong("teacher_id");
+        ClassChange change = type == ClassChangeType.TEACHER_CHANGED
+                ? ClassChange.ofTeacher(token, teacherId, rs.getString("teacher_name"), rs.getString("active_status"))
+                : ClassChange.ofClass(token, type, new ClassMetadataDto(rs.getLong("class_id"), teacherId, rs.getString("title"),
+                rs.getString("description"), rs.getInt("price"),
+                rs.getTimestamp("registered_at") != null ? rs.getTimestamp("registered_at").toLocalDateTime() : null));
+        return new Entry(change, rs.getTimestamp("created_at").toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration settleWindow;
+    private final Duration retention;
+    private final int compactionChunkSize;
+
+    /**
+     * @param settleWindow        the longest time between the insert of an entry and the commit of its transaction
+     * @param retention           how long entries are kept before compaction may drop them
+     * @param compactionChunkSize the largest number of entries deleted with one statement
+     */
+    public ClassChangeLog(JdbcTemplate jdbcTemplate, Duration settleWindow, Duration retention, int compactionChunkSize) {
+        if (compactionChunkSize <= 0) {
+            throw new IllegalArgumentException("compactionChunkSize must be positive: " + compactionChunkSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.settleWindow = settleWindow;
+        this.retention = retention;
+        this.compactionChunkSize = compactionChunkSize;
+    }
+
+    /**
+     * Record registered or edited classes, in the caller's transaction
+     *
+     * @param type    {@link ClassChangeType#CLASS_INSERTED} or {@link ClassChangeType#CLASS_UPDATED}
+     * @param classes the classes after the change
+     */
+    public void appendClasses(ClassChangeType type, List<ClassMetadataDto> classes) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(classes.size());
+        for (ClassMetadataDto teachingClass : classes) {
+            rows.add(new Object[]{type.name(), teachingClass.teacherId(), teachingClass.id(), teachingClass.title(),
+                    teachingClass.description(), teachingClass.price(),
+                    teachingClass.registeredAt() != null ? Timestamp.valueOf(teachingClass.registeredAt()) : null,
+                    null, null, createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, rows);
+    }
+
+    /**
+     * Record a registered teacher or a change of its name or status, in the caller's transaction
+     */
+    public void appendTeacher(Long teacherId, String name, ActiveStatus activeStatus) {
+        jdbcTemplate.update(INSERT_ENTRY, ClassChangeType.TEACHER_CHANGED.name(), teacherId, null, null, null, null, null,
+                name, activeStatus.name(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Record registered teachers, in the caller's transaction. Their classes are recorded with {@link #appendClasses}.
+     *
+     * @param teachers the registered teachers
+     */
+    public void appendTeachers(List<Teacher> teachers) {
+        if (teachers.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(teachers.size());
+        for (Teacher teacher : teachers) {
+            rows.add(new Object[]{ClassChangeType.TEACHER_CHANGED.name(), teacher.id(), null, null, null, null, null,
+                    teacher.name(), teacher.activeStatus().name(), createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, rows);
+    }
+
+    /**
+     * Read the entries after a change token, oldest first
+     *
+     * @param teacherId  the ID of the teacher whose entries to read, or null for all teachers
+     * @param sinceToken the token returned by the previous batch
+     * @param limit      the largest number of entries to return
+     * @return the entries with the token to request the next batch with
+     */
+    public ClassChangeFeed findChanges(Long teacherId, long sinceToken, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        List<Entry> entries = teacherId == null
+                ? jdbcTemplate.query("select " + COLUMNS + " from class_change_log where id > ? order by id limit " + limit,
+                ENTRY_MAPPER, sinceToken)
+                : jdbcTemplate.query("select " + COLUMNS + " from class_change_log where teacher_id = ? and id > ? order by id limit " + limit,
+                ENTRY_MAPPER, teacherId, sinceToken);
+
+        // Advance over the settled prefix only: a lower id than an unsettled entry may still be uncommitted
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleWindow);
+        long nextToken = sinceToken;
+        boolean settled = true;
+        List<ClassChange> changes = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            changes.add(entry.change());
+            settled = settled && !entry.createdAt().isAfter(settledBefore);
+            if (settled) {
+                nextToken = entry.change().token();
+            }
+        }
+        return ClassChangeFeed.of(changes, nextToken, settled && entries.size() == limit);
+    }
+
+    /**
+     * Read the token of the newest settled entry. Every entry up to it has committed, so a read that starts afterwards sees
+     * all of their changes.
+     *
+     * @return the token to read the changes made after such a read with, or 0 if no entry has settled yet
+     */
+    public long settledToken() {
+        Long token = jdbcTemplate.queryForObject("select max(id) from class_change_log where created_at <= ?", Long.class,
+                Timestamp.valueOf(LocalDateTime.now().minus(settleWindow)));
+        return token != null ? token : 0L;
+    }
+
+    /**
+     * Delete the entries older than the retention that are superseded by a later entry of the same class or teacher
+     *
+     * @return the number of deleted entries
+     */
+    public int compact() {
+        Long horizon = jdbcTemplate.queryForObject("select max(id) from class_change_log where created_at < ?", Long.class,
+                Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+        if (horizon == null) {
+            return 0;
+        }
+        return deleteSuperseded(SELECT_SUPERSEDED_CLASS_ENTRIES, horizon)
+                + deleteSuperseded(SELECT_SUPERSEDED_TEACHER_ENTRIES, horizon);
+    }
+
+    /**
+     * @return the number of entries in the change log
+     */
+    public long size() {
+        Long size = jdbcTemplate.queryForObject("select count(*) from class_change_log", Long.class);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * Deletes in chunks so that compaction never holds many row locks at once
+     */
+    private int deleteSuperseded(String selectSuperseded, long horizon) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(selectSuperseded + compactionChunkSize, Long.class, horizon);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            deleted += jdbcTemplate.update("delete from class_change_log where id in (" + placeholders + ")", ids.toArray());
+            if (ids.size() < compactionChunkSize) {
+                return deleted;
+            }
+        }
+    }
+
+    private record Entry(ClassChange change, LocalDateTime createdAt) {
+    }
+}
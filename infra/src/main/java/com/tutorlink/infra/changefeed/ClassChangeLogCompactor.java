@@ -0,0 +1,102 @@
+package com.tutorlink.infra.changefeed;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compacts the {@link ClassChangeLog} periodically on a background thread, so the log stays proportional to the number of
+ * classes and teachers instead of growing with every change.
+ */
+public class ClassChangeLogCompactor implements AutoCloseable {
+
+    private final ClassChangeLog changeLog;
+    private final Duration interval;
+    private final Thread worker;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failedRuns = new LongAdder();
+    private final LongAdder deletedEntries = new LongAdder();
+
+    /**
+     * @param interval how long the compactor waits between two runs
+     */
+    public ClassChangeLogCompactor(ClassChangeLog changeLog, Duration interval) {
+        this.changeLog = changeLog;
+        this.interval = interval;
+        this.worker = Thread.ofPlatform().name("class-change-log-compactor").daemon().unstarted(this::compactLoop);
+    }
+
+    /**
+     * Start the compacting thread once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * Compact the change log once
+     *
+     * @return the number of deleted entries
+     */
+    public int compact() {
+        int deleted = changeLog.compact();
+        runs.increment();
+        deletedEntries.add(deleted);
+        return deleted;
+    }
+
+    /**
+     * @return the counters of the compactor
+     */
+    public Stats stats() {
+        return new Stats(runs.sum(), failedRuns.sum(), deletedEntries.sum());
+    }
+
+    /**
+     * Stop the compacting thread after its current run
+     */
+    @Override
+    public void close() {
+        stopped.countDown();
+        if (!worker.isAlive()) {
+            return;
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void compactLoop() {
+        try {
+            while (!stopped.await(interval.toMillis(), TimeUnit.MILLISECONDS)) {
+                try {
+                    compact();
+                } catch (RuntimeException e) {
+                    // Whatever was deleted stays deleted, the next run continues from there
+                    failedRuns.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Compaction statistics
+     *
+     * @param runs           the number of completed runs
+     * @param failedRuns     the number of runs that failed
+     * @param deletedEntries the number of superseded entries deleted
+     */
+    public record Stats(long runs, long failedRuns, long deletedEntries) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.tutorlink.infra.changefeed;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the class change log, written by {@link ClassChangeLog} in the same transaction as the change it records.
+ * <p>
+ * The generated id is the change token of the feed. Class entries have a class id and the class fields, teacher entries have
+ * no class id and carry the teacher's name and status instead. Every entry holds the full state after the change, which lets
+ * compaction drop the entries superseded by a later entry of the same class or teacher.
+ */
+@Entity
+@Table(name = "class_change_log", indexes = {
+        @Index(name = "idx_class_change_log_teacher_id_id", columnList = "teacher_id, id"),
+        @Index(name = "idx_class_change_log_class_id_id", columnList = "class_id, id"),
+        @Index(name = "idx_class_change_log_created_at", columnList = "created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ClassChangeLogEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "change_type", nullable = false, length = 32)
+    private String changeType;
+
+    @Column(name = "teacher_id", nullable = false)
+    private Long teacherId;
+
+    @Column(name = "class_id")
+    private Long classId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "price")
+    private Integer price;
+
+    @Column(name = "registered_at")
+    private LocalDateTime registeredAt;
+
+    @Column(name = "teacher_name")
+    private String teacherName;
+
+    @Column(name = "active_status", length = 32)
+    private String activeStatus;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,74 @@
+package com.tutorlink.infra.config;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tutorlink.infra.catalog.ClassCatalogFollower;
+import com.tutorlink.infra.catalog.ClassCatalogLoader;
+import com.tutorlink.infra.catalog.ColumnarClassCatalog;
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the in-memory class catalog, enabled with {@code tutorlink.catalog.in-memory.enabled=true}
+ * <p>
+ * The catalog of a node only sees that node's writes by itself. Unless {@code tutorlink.catalog.in-memory.single-node=true}
+ * declares that there is no other node, the catalog follows the class change log, which therefore has to be enabled.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tutorlink.catalog.in-memory", name = "enabled", havingValue = "true")
+public class ClassCatalogConfig {
+
+    /**
+     * Creates the catalog that serves class listings once it has been loaded
+     *
+     * @param singleNode   whether this node is the only one writing classes ({@code tutorlink.catalog.in-memory.single-node})
+     * @param maxStaleness how long after its last sync a following catalog may still serve ({@code tutorlink.catalog.in-memory.max-staleness})
+     * @return an empty ColumnarClassCatalog instance
+     */
+    @Bean
+    public ColumnarClassCatalog columnarClassCatalog(@Value("${tutorlink.catalog.in-memory.single-node:false}") boolean singleNode,
+                                                     @Value("${tutorlink.catalog.in-memory.max-staleness:2s}") Duration maxStaleness) {
+        return singleNode ? new ColumnarClassCatalog() : new ColumnarClassCatalog(maxStaleness);
+    }
+
+    /**
+     * Creates the follower that applies the writes of other nodes to the catalog
+     *
+     * @param catalog      the catalog to keep in sync
+     * @param changeLog    the class change log, which must be enabled with {@code tutorlink.change-feed.enabled=true}
+     * @param pollInterval how long the follower waits between two polls ({@code tutorlink.catalog.in-memory.poll-interval})
+     * @param batchSize    the largest number of entries read per query ({@code tutorlink.catalog.in-memory.poll-batch-size})
+     * @return a ClassCatalogFollower instance, started by the loader and closed with the context
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "tutorlink.catalog.in-memory", name = "single-node", havingValue = "false", matchIfMissing = true)
+    public ClassCatalogFollower classCatalogFollower(ColumnarClassCatalog catalog, ObjectProvider<ClassChangeLog> changeLog,
+                                                     @Value("${tutorlink.catalog.in-memory.poll-interval:200ms}") Duration pollInterval,
+                                                     @Value("${tutorlink.catalog.in-memory.poll-batch-size:1000}") int batchSize) {
+        ClassChangeLog classChangeLog = changeLog.getIfAvailable();
+        if (classChangeLog == null) {
+            throw new IllegalStateException("The in-memory catalog needs tutorlink.change-feed.enabled=true"
+                    + " unless tutorlink.catalog.in-memory.single-node=true");
+        }
+        return new ClassCatalogFollower(catalog, classChangeLog, pollInterval, batchSize);
+    }
+
+    /**
+     * Creates the loader that fills the catalog from the database when the application is ready
+     *
+     * @param catalog      the catalog to fill
+     * @param queryFactory the query factory used to read the classes
+     * @param follower     the follower to start after the load, absent on a single-node deployment
+     * @return a ClassCatalogLoader instance
+     */
+    @Bean
+    public ClassCatalogLoader classCatalogLoader(ColumnarClassCatalog catalog, JPAQueryFactory queryFactory,
+                                                 ObjectProvider<ClassCatalogFollower> follower) {
+        return new ClassCatalogLoader(catalog, queryFactory, follower.getIfAvailable());
+    }
+}
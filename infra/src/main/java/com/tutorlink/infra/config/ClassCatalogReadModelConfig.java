@@ -0,0 +1,48 @@
+package com.tutorlink.infra.config;
+
+import com.tutorlink.infra.readmodel.ClassCatalogReadModel;
+import com.tutorlink.infra.readmodel.ClassCatalogRebuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration class for the class catalog read model, enabled with {@code tutorlink.catalog.read-model.enabled=true}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tutorlink.catalog.read-model", name = "enabled", havingValue = "true")
+public class ClassCatalogReadModelConfig {
+
+    /**
+     * Creates the read model that is written with every change of a teacher or class and serves the class listings
+     *
+     * @param jdbcTemplate the JDBC template used to read and write the catalog table
+     * @return a ClassCatalogReadModel instance
+     */
+    @Bean
+    public ClassCatalogReadModel classCatalogReadModel(JdbcTemplate jdbcTemplate) {
+        return new ClassCatalogReadModel(jdbcTemplate);
+    }
+
+    /**
+     * Creates the job that rebuilds the catalog table from the teacher and class tables
+     *
+     * @param readModel          the read model to rebuild
+     * @param jdbcTemplate       the JDBC template used to copy the rows
+     * @param transactionManager the transaction manager of the copied chunks
+     * @param chunkSize          the number of classes copied per transaction ({@code tutorlink.catalog.read-model.rebuild-chunk-size})
+     * @param rebuildOnStartup   whether to rebuild when the application is ready ({@code tutorlink.catalog.read-model.rebuild-on-startup})
+     * @return a ClassCatalogRebuilder instance
+     */
+    @Bean
+    public ClassCatalogRebuilder classCatalogRebuilder(ClassCatalogReadModel readModel, JdbcTemplate jdbcTemplate,
+                                                       PlatformTransactionManager transactionManager,
+                                                       @Value("${tutorlink.catalog.read-model.rebuild-chunk-size:10000}") int chunkSize,
+                                                       @Value("${tutorlink.catalog.read-model.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        return new ClassCatalogRebuilder(readModel, jdbcTemplate, new TransactionTemplate(transactionManager), chunkSize, rebuildOnStartup);
+    }
+}
@@ -0,0 +1,49 @@
+package com.tutorlink.infra.config;
+
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.changefeed.ClassChangeLogCompactor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the class change feed, enabled with {@code tutorlink.change-feed.enabled=true}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tutorlink.change-feed", name = "enabled", havingValue = "true")
+public class ClassChangeFeedConfig {
+
+    /**
+     * Creates the change log that is written with every change of a teacher or class and serves the change feed
+     *
+     * @param jdbcTemplate        the JDBC template used to read and write the change log table
+     * @param settleWindow        the longest time between the insert of an entry and its commit ({@code tutorlink.change-feed.settle-window})
+     * @param retention           how long entries are kept before compaction ({@code tutorlink.change-feed.retention})
+     * @param compactionChunkSize the largest number of entries deleted per statement ({@code tutorlink.change-feed.compaction-chunk-size})
+     * @return a ClassChangeLog instance
+     */
+    @Bean
+    public ClassChangeLog classChangeLog(JdbcTemplate jdbcTemplate,
+                                         @Value("${tutorlink.change-feed.settle-window:5s}") Duration settleWindow,
+                                         @Value("${tutorlink.change-feed.retention:1h}") Duration retention,
+                                         @Value("${tutorlink.change-feed.compaction-chunk-size:1000}") int compactionChunkSize) {
+        return new ClassChangeLog(jdbcTemplate, settleWindow, retention, compactionChunkSize);
+    }
+
+    /**
+     * Creates the job that compacts the change log
+     *
+     * @param changeLog          the change log to compact
+     * @param compactionInterval how long the compactor waits between two runs ({@code tutorlink.change-feed.compaction-interval})
+     * @return a ClassChangeLogCompactor instance, started when the application is ready and closed with the context
+     */
+    @Bean(destroyMethod = "close")
+    public ClassChangeLogCompactor classChangeLogCompactor(ClassChangeLog changeLog,
+                                                           @Value("${tutorlink.change-feed.compaction-interval:10m}") Duration compactionInterval) {
+        return new ClassChangeLogCompactor(changeLog, compactionInterval);
+    }
+}
@@ -0,0 +1,28 @@
+package com.tutorlink.infra.config;
+
+import com.tutorlink.common.id.IdGenerator;
+import com.tutorlink.common.id.IdGenerators;
+import com.tutorlink.common.id.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for application-assigned entity ids
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * Creates the id generator of this node and installs it for the Hibernate identifier generator
+     *
+     * @param nodeId the node id, unique per running instance ({@code tutorlink.id.node-id})
+     * @return a TimeOrderedIdGenerator instance
+     */
+    @Bean
+    public IdGenerator idGenerator(@Value("${tutorlink.id.node-id:0}") int nodeId) {
+        IdGenerator idGenerator = new TimeOrderedIdGenerator(nodeId);
+        IdGenerators.use(idGenerator);
+        return idGenerator;
+    }
+}
@@ -0,0 +1,31 @@
+package com.tutorlink.infra.config;
+
+import com.tutorlink.infra.idempotency.IdempotencyKeyPurger;
+import com.tutorlink.infra.idempotency.JdbcIdempotencyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the idempotency key table. Keys expire after {@code tutorlink.idempotency.ttl}.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    /**
+     * Creates the job that deletes expired idempotency keys
+     *
+     * @param repository     the repository whose expired keys are deleted
+     * @param purgeInterval  how long the purger waits between two runs ({@code tutorlink.idempotency.purge-interval})
+     * @param purgeChunkSize the largest number of keys deleted per statement ({@code tutorlink.idempotency.purge-chunk-size})
+     * @return an IdempotencyKeyPurger instance, started when the application is ready and closed with the context
+     */
+    @Bean(destroyMethod = "close")
+    public IdempotencyKeyPurger idempotencyKeyPurger(JdbcIdempotencyRepository repository,
+                                                     @Value("${tutorlink.idempotency.purge-interval:10m}") Duration purgeInterval,
+                                                     @Value("${tutorlink.idempotency.purge-chunk-size:1000}") int purgeChunkSize) {
+        return new IdempotencyKeyPurger(repository, purgeInterval, purgeChunkSize);
+    }
+}
@@ -0,0 +1,42 @@
+package com.tutorlink.infra.config;
+
+import com.tutorlink.infra.outbox.OutboxRelay;
+import com.tutorlink.teacher.domain.repository.TeacherEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the teacher event outbox relay, enabled with {@code tutorlink.outbox.relay.enabled=true}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tutorlink.outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelayConfig {
+
+    /**
+     * Creates the relay that dispatches the outbox to the configured sink
+     *
+     * @param jdbcTemplate       the JDBC template used to claim and delete events
+     * @param transactionManager the transaction manager of the relayed batches
+     * @param sink               the destination of the events
+     * @param batchSize          the largest number of events relayed in one transaction ({@code tutorlink.outbox.relay.batch-size})
+     * @param pollInterval       how long an idle worker waits before it polls again ({@code tutorlink.outbox.relay.poll-interval})
+     * @param workers            the number of relaying threads on this node ({@code tutorlink.outbox.relay.workers})
+     * @return an OutboxRelay instance, started when the application is ready and closed with the context
+     */
+    @Bean(destroyMethod = "close")
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   TeacherEventSink sink,
+                                   @Value("${tutorlink.outbox.relay.batch-size:1000}") int batchSize,
+                                   @Value("${tutorlink.outbox.relay.poll-interval:100ms}") Duration pollInterval,
+                                   @Value("${tutorlink.outbox.relay.workers:1}") int workers) {
+        return new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), sink, batchSize, pollInterval, workers);
+    }
+}
@@ -0,0 +1,74 @@
+package com.tutorlink.infra.config;
+
+import com.tutorlink.infra.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration class for read-only transactions on read replicas, enabled with {@code tutorlink.datasource.routing.enabled=true}.
+ * The primary is configured with the {@code spring.datasource} properties.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tutorlink.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * Creates the DataSource routing between the primary pool and the replica pools
+     *
+     * @param properties          the properties of the primary ({@code spring.datasource})
+     * @param replicaUrls         the JDBC URLs of the replicas ({@code tutorlink.datasource.routing.replica-urls})
+     * @param replicaUsername     the user of the replicas, the primary's by default ({@code tutorlink.datasource.routing.replica-username})
+     * @param replicaPassword     the password of the replicas, the primary's by default ({@code tutorlink.datasource.routing.replica-password})
+     * @param connectionTimeout   how long a read waits for a replica connection before it moves on ({@code tutorlink.datasource.routing.replica-connection-timeout})
+     * @param healthCheckInterval how often the replicas are validated ({@code tutorlink.datasource.routing.health-check-interval})
+     * @return a ReadWriteRoutingDataSource instance, closing the pools with the context
+     */
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties properties,
+                                                                @Value("${tutorlink.datasource.routing.replica-urls}") List<String> replicaUrls,
+                                                                @Value("${tutorlink.datasource.routing.replica-username:${spring.datasource.username:}}") String replicaUsername,
+                                                                @Value("${tutorlink.datasource.routing.replica-password:${spring.datasource.password:}}") String replicaPassword,
+                                                                @Value("${tutorlink.datasource.routing.replica-connection-timeout:1s}") Duration connectionTimeout,
+                                                                @Value("${tutorlink.datasource.routing.health-check-interval:5s}") Duration healthCheckInterval) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, healthCheckInterval);
+    }
+
+    /**
+     * Creates the DataSource used by JPA and JDBC, which fetches the physical connection at the first statement so that the
+     * routing sees whether the transaction is read-only
+     *
+     * @param routingDataSource the routing DataSource
+     * @return a LazyConnectionDataSourceProxy instance
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
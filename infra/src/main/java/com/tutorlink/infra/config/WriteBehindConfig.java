@@ -0,0 +1,63 @@
+package com.tutorlink.infra.config;
+
+import com.tutorlink.infra.catalog.ColumnarClassCatalog;
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.readmodel.ClassCatalogReadModel;
+import com.tutorlink.infra.writebehind.ClassGroupCommitWriter;
+import com.tutorlink.infra.writebehind.ClassRegistrationJournal;
+import com.tutorlink.infra.writebehind.WriteBehindClassBuffer;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.repository.TeacherEventOutbox;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Configuration class for write-behind class registration, enabled with {@code tutorlink.write-behind.enabled=true}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tutorlink.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+    /**
+     * Creates the buffer that journals accepted classes locally and writes them in group commits
+     *
+     * @param jdbcTemplate          the JDBC template used by the group commits
+     * @param transactionManager    the transaction manager of the group commits
+     * @param classCatalog          the in-memory catalog, if enabled
+     * @param classCatalogReadModel the class catalog read model, if enabled
+     * @param classChangeLog        the class change log, if enabled
+     * @param teacherEventOutbox    the outbox of the registration events
+     * @param journalDirectory      the directory of the journal segments, on a local disk of this node ({@code tutorlink.write-behind.journal-dir})
+     * @param segmentSize           the size at which the journal starts a new segment ({@code tutorlink.write-behind.segment-size})
+     * @param flushInterval         the longest time a class waits for its group commit ({@code tutorlink.write-behind.flush-interval})
+     * @param maxBatchRows          the largest number of classes in a group commit ({@code tutorlink.write-behind.max-batch-rows})
+     * @return a WriteBehindClassBuffer instance, started when the application is ready and closed with the context
+     */
+    @Bean(destroyMethod = "close")
+    public WriteBehindClassBuffer writeBehindClassBuffer(JdbcTemplate jdbcTemplate,
+                                                         PlatformTransactionManager transactionManager,
+                                                         Optional<ColumnarClassCatalog> classCatalog,
+                                                         Optional<ClassCatalogReadModel> classCatalogReadModel,
+                                                         Optional<ClassChangeLog> classChangeLog,
+                                                         TeacherEventOutbox teacherEventOutbox,
+                                                         @Value("${tutorlink.write-behind.journal-dir}") Path journalDirectory,
+                                                         @Value("${tutorlink.write-behind.segment-size:64MB}") DataSize segmentSize,
+                                                         @Value("${tutorlink.write-behind.flush-interval:20ms}") Duration flushInterval,
+                                                         @Value("${tutorlink.write-behind.max-batch-rows:500}") int maxBatchRows) {
+        ClassRegistrationJournal journal = new ClassRegistrationJournal(journalDirectory, segmentSize.toBytes());
+        ClassGroupCommitWriter writer = new ClassGroupCommitWriter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                classCatalog.orElse(null), classCatalogReadModel.orElse(null), classChangeLog.orElse(null),
+                teacherEventOutbox, ClassPolicy.MAX_CLASS_COUNT);
+        return new WriteBehindClassBuffer(journal, writer, flushInterval, maxBatchRows);
+    }
+}
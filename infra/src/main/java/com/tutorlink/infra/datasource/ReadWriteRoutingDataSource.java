@@ -0,0 +1,202 @@
+package com.tutorlink.infra.datasource;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource sending read-only transactions to a pool of replicas and everything else to the primary.
+ * <p>
+ * The target is chosen when a connection is requested, so this DataSource must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction managers fetch their connection
+ * before they publish the read-only flag of the transaction, and the proxy defers that fetch to the first statement.
+ * <p>
+ * Read-your-writes is not provided: a read-only transaction right after a write may see a replica that lags behind, so callers
+ * that must see their own writes read in a transaction that is not read-only.
+ * <p>
+ * Reads go to the primary only when no replica is healthy. Replicas are used round-robin; a replica that fails to hand out a
+ * connection is skipped until the health check finds it valid again.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration healthCheckInterval;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Thread healthChecker;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    /**
+     * @param primary             the DataSource of the primary
+     * @param replicas            the DataSources of the replicas
+     * @param healthCheckInterval how often the replicas are validated
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration healthCheckInterval) {
+        this.primary = primary;
+        List<Replica> replicaList = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaList.add(new Replica("replica-" + i, replicas.get(i)));
+        }
+        this.replicas = Collections.unmodifiableList(replicaList);
+        this.healthCheckInterval = healthCheckInterval;
+        this.healthChecker = Thread.ofPlatform().name("replica-health-check").daemon().unstarted(this::healthCheckLoop);
+    }
+
+    /**
+     * Start validating the replicas periodically once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        healthChecker.start();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Validate every replica once, marking it healthy or unhealthy
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                replica.healthy = false;
+            }
+        }
+    }
+
+    /**
+     * @return the routing counters and the health of every replica
+     */
+    public Stats stats() {
+        List<ReplicaStats> replicaStats = replicas.stream()
+                .map(replica -> new ReplicaStats(replica.name, replica.healthy, replica.connections.sum(), replica.failures.sum()))
+                .toList();
+        return new Stats(primaryConnections.sum(), replicaConnections.sum(), fallbackReads.sum(), replicaStats);
+    }
+
+    /**
+     * Stop the health check and close the pools of the primary and the replicas
+     */
+    @Override
+    public void close() throws Exception {
+        stopped.countDown();
+        if (healthChecker.isAlive()) {
+            healthChecker.join();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.increment();
+            return opener.open(primary);
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replica.connections.increment();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                // Skipped until the health check validates it again
+                replica.healthy = false;
+                replica.failures.increment();
+            }
+        }
+        fallbackReads.increment();
+        primaryConnections.increment();
+        return opener.open(primary);
+    }
+
+    private void healthCheckLoop() {
+        try {
+            while (!stopped.await(healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                checkReplicas();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder connections = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    /**
+     * Routing statistics
+     *
+     * @param primaryConnections the number of connections taken from the primary
+     * @param replicaConnections the number of connections taken from the replicas
+     * @param fallbackReads      the number of read-only connections sent to the primary because no replica was available
+     * @param replicas           the statistics of every replica
+     */
+    public record Stats(long primaryConnections, long replicaConnections, long fallbackReads, List<ReplicaStats> replicas) {
+    }
+
+    /**
+     * Statistics of a replica
+     *
+     * @param name        the name of the replica
+     * @param healthy     whether reads are currently sent to the replica
+     * @param connections the number of connections taken from the replica
+     * @param failures    the number of connections the replica failed to hand out
+     */
+    public record ReplicaStats(String name, boolean healthy, long connections, long failures) {
+    }
+}
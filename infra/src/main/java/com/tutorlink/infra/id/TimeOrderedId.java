@@ -0,0 +1,21 @@
+package com.tutorlink.infra.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks an entity id as assigned by the application's {@link com.tutorlink.common.id.IdGenerator}.
+ * Unlike {@code GenerationType.IDENTITY}, the id is known before the INSERT, so Hibernate can batch the inserts.
+ * An id already set on the entity (e.g. carried by the domain object) is kept.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,21 @@
+package com.tutorlink.infra.id;
+
+import com.tutorlink.common.id.IdGenerators;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate identifier generator backed by the installed {@link com.tutorlink.common.id.IdGenerator}
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return IdGenerators.current().nextId();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.tutorlink.infra.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of a completed idempotent command. Written by {@link JdbcIdempotencyRepository} in the same transaction as the command and
+ * deleted by {@link IdempotencyKeyPurger} once it expires.
+ */
+@Entity
+@Table(name = "idempotency_key", indexes = @Index(name = "idx_idempotency_key_created_at", columnList = "created_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class IdempotencyKeyEntity {
+
+    @EmbeddedId
+    private IdempotencyKeyId id;
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyKeyEntity(String operation, String idempotencyKey, Long resultId, LocalDateTime createdAt) {
+        this.id = new IdempotencyKeyId(operation, idempotencyKey);
+        this.resultId = resultId;
+        this.createdAt = createdAt;
+    }
+}
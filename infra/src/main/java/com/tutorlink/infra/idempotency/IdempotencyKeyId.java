@@ -0,0 +1,28 @@
+package com.tutorlink.infra.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EqualsAndHashCode
+public class IdempotencyKeyId implements Serializable {
+
+    @Column(length = 32)
+    private String operation;
+
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    public IdempotencyKeyId(String operation, String idempotencyKey) {
+        this.operation = operation;
+        this.idempotencyKey = idempotencyKey;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tutorlink.infra.idempotency;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deletes expired idempotency keys periodically on a background thread, so the key table stays proportional to the commands
+ * of one TTL instead of growing with every command.
+ */
+public class IdempotencyKeyPurger implements AutoCloseable {
+
+    private final JdbcIdempotencyRepository repository;
+    private final Duration interval;
+    private final int chunkSize;
+    private final Thread worker;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failedRuns = new LongAdder();
+    private final LongAdder deletedKeys = new LongAdder();
+
+    /**
+     * @param interval  how long the purger waits between two runs
+     * @param chunkSize the largest number of keys deleted with one statement
+     */
+    public IdempotencyKeyPurger(JdbcIdempotencyRepository repository, Duration interval, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.repository = repository;
+        this.interval = interval;
+        this.chunkSize = chunkSize;
+        this.worker = Thread.ofPlatform().name("idempotency-key-purger").daemon().unstarted(this::purgeLoop);
+    }
+
+    /**
+     * Start the purging thread once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * Delete the expired keys once
+     *
+     * @return the number of deleted keys
+     */
+    public int purge() {
+        int deleted = repository.purgeExpired(chunkSize);
+        runs.increment();
+        deletedKeys.add(deleted);
+        return deleted;
+    }
+
+    /**
+     * @return the counters of the purger
+     */
+    public Stats stats() {
+        return new Stats(runs.sum(), failedRuns.sum(), deletedKeys.sum());
+    }
+
+    /**
+     * Stop the purging thread after its current run
+     */
+    @Override
+    public void close() {
+        stopped.countDown();
+        if (!worker.isAlive()) {
+            return;
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void purgeLoop() {
+        try {
+            while (!stopped.await(interval.toMillis(), TimeUnit.MILLISECONDS)) {
+                try {
+                    purge();
+                } catch (RuntimeException e) {
+                    // Expired keys are no longer found anyway, the next run deletes what is left
+                    failedRuns.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Purge statistics
+     *
+     * @param runs        the number of completed runs
+     * @param failedRuns  the number of runs that failed
+     * @param deletedKeys the number of expired keys deleted
+     */
+    public record Stats(long runs, long failedRuns, long deletedKeys) {
+    }
+}
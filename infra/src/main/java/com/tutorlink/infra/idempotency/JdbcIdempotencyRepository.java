@@ -0,0 +1,116 @@
+package com.tutorlink.infra.idempotency;
+
+import com.tutorlink.teacher.domain.repository.IdempotencyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of the idempotency key table.
+ * <p>
+ * Only consulted when the in-memory store misses, e.g. after a restart or on another node, so it is a single primary key lookup.
+ * Keys expire after {@code ttl}: expired keys are no longer found, are taken over by a new command with the same key, and are
+ * deleted by {@link #purgeExpired(int)}.
+ */
+@Repository
+public class JdbcIdempotencyRepository implements IdempotencyRepository {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    private static final String INSERT_KEY =
+            "insert into idempotency_key (operation, idempotency_key, result_id, created_at) values (?, ?, ?, ?)";
+    private static final RowMapper<StoredKey> STORED_KEY_MAPPER = (rs, rowNum) ->
+            new StoredKey(rs.getLong("result_id"), rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+
+    public JdbcIdempotencyRepository(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_TTL);
+    }
+
+    /**
+     * @param ttl how long a key is kept after its command ({@code tutorlink.idempotency.ttl})
+     */
+    @Autowired
+    public JdbcIdempotencyRepository(JdbcTemplate jdbcTemplate, @Value("${tutorlink.idempotency.ttl:24h}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<Long> findResultId(String operation, String idempotencyKey) {
+        List<Long> resultIds = jdbcTemplate.queryForList(
+                "select result_id from idempotency_key where operation = ? and idempotency_key = ? and created_at >= ?",
+                Long.class, operation, idempotencyKey, Timestamp.valueOf(expiredBefore()));
+        return resultIds.stream().findFirst();
+    }
+
+    @Override
+    public Optional<Long> save(String operation, String idempotencyKey, Long resultId) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update(INSERT_KEY, operation, idempotencyKey, resultId, createdAt);
+            return Optional.empty();
+        } catch (DuplicateKeyException e) {
+            // The insert waited for the transaction that holds the key. A locking read sees the row it committed
+            // instead of this transaction's snapshot.
+            List<StoredKey> stored = jdbcTemplate.query(
+                    "select result_id, created_at from idempotency_key where operation = ? and idempotency_key = ? for update",
+                    STORED_KEY_MAPPER, operation, idempotencyKey);
+            if (stored.isEmpty()) {
+                // Purged in the meantime, so the key is free again
+                jdbcTemplate.update(INSERT_KEY, operation, idempotencyKey, resultId, createdAt);
+                return Optional.empty();
+            }
+            if (!stored.getFirst().createdAt().isBefore(expiredBefore())) {
+                return Optional.of(stored.getFirst().resultId());
+            }
+
+            // An expired key that has not been purged yet is taken over
+            jdbcTemplate.update("update idempotency_key set result_id = ?, created_at = ? where operation = ? and idempotency_key = ?",
+                    resultId, createdAt, operation, idempotencyKey);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Delete the expired keys. Deletes in chunks so that the purge never holds many row locks at once.
+     *
+     * @param chunkSize the largest number of keys deleted with one statement
+     * @return the number of deleted keys
+     */
+    public int purgeExpired(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        Timestamp horizon = Timestamp.valueOf(expiredBefore());
+        int deleted = 0;
+        while (true) {
+            // The creation time of the chunkSize-th oldest expired key bounds the next chunk
+            List<Timestamp> boundary = jdbcTemplate.queryForList(
+                    "select created_at from idempotency_key where created_at < ? order by created_at limit 1 offset " + (chunkSize - 1),
+                    Timestamp.class, horizon);
+            if (boundary.isEmpty()) {
+                return deleted + jdbcTemplate.update("delete from idempotency_key where created_at < ?", horizon);
+            }
+            deleted += jdbcTemplate.update("delete from idempotency_key where created_at <= ?", boundary.getFirst());
+        }
+    }
+
+    private LocalDateTime expiredBefore() {
+        return LocalDateTime.now().minus(ttl);
+    }
+
+    private record StoredKey(long resultId, LocalDateTime createdAt) {
+    }
+}
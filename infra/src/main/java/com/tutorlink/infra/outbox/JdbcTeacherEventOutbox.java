@@ -0,0 +1,53 @@
+package com.tutorlink.infra.outbox;
+
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import com.tutorlink.teacher.domain.event.TeacherRegistered;
+import com.tutorlink.teacher.domain.repository.TeacherEventOutbox;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of the teacher event outbox.
+ * <p>
+ * Events are inserted with one batch statement through the connection of the caller's transaction, so they commit or roll back
+ * together with the registration.
+ */
+@Repository
+public class JdbcTeacherEventOutbox implements TeacherEventOutbox {
+
+    static final String TEACHER_REGISTERED = "TeacherRegistered";
+    static final String CLASS_REGISTERED = "ClassRegistered";
+
+    private static final String INSERT_EVENT =
+            "insert into outbox_event (event_type, teacher_id, class_id, name, price, registered_at, created_at) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTeacherEventOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(List<? extends TeacherEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (TeacherEvent event : events) {
+            rows.add(switch (event) {
+                case TeacherRegistered registered -> new Object[]{TEACHER_REGISTERED, registered.teacherId(), null,
+                        registered.name(), null, null, createdAt};
+                case ClassRegistered registered -> new Object[]{CLASS_REGISTERED, registered.teacherId(), registered.classId(),
+                        registered.title(), registered.price(), Timestamp.valueOf(registered.registeredAt()), createdAt};
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+}
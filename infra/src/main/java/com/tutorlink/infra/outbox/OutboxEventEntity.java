@@ -0,0 +1,52 @@
+package com.tutorlink.infra.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Teacher event waiting to be relayed. Written by {@link JdbcTeacherEventOutbox} in the same transaction as the change that
+ * produced it, and deleted by the {@link OutboxRelay} once dispatched.
+ * <p>
+ * The columns hold the fields of every {@link com.tutorlink.teacher.domain.event.TeacherEvent} type; fields that do not apply
+ * to an event type are null. The generated id gives the relay order.
+ */
+@Entity
+@Table(name = "outbox_event")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String eventType;
+
+    @Column(name = "teacher_id", nullable = false)
+    private Long teacherId;
+
+    @Column(name = "class_id")
+    private Long classId;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "price")
+    private Integer price;
+
+    @Column(name = "registered_at")
+    private LocalDateTime registeredAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,209 @@
+package com.tutorlink.infra.outbox;
+
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import com.tutorlink.teacher.domain.event.TeacherRegistered;
+import com.tutorlink.teacher.domain.repository.TeacherEventSink;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Relays the events of the {@code outbox_event} table to a {@link TeacherEventSink} in batches.
+ * <p>
+ * Every batch runs in one transaction: the oldest rows are claimed with {@code FOR UPDATE SKIP LOCKED}, dispatched to the sink
+ * and deleted with a single statement. Rows claimed by another worker, on this node or another one, are skipped instead of
+ * waited for, so workers never dispatch the same row concurrently. A batch that fails is rolled back and dispatched again by
+ * the next poll, so delivery is at least once.
+ * <p>
+ * A worker polls again right away while it finds full batches and waits {@code pollInterval} otherwise; at most
+ * {@code batchSize} events per worker are held in memory.
+ */
+public class OutboxRelay implements AutoCloseable {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    private static final RowMapper<OutboxRow> OUTBOX_ROW_MAPPER = (rs, rowNum) -> {
+        long id = rs.getLong("id");
+        long teacherId = rs.getLong("teacher_id");
+        LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+        TeacherEvent event = switch (rs.getString("event_type")) {
+            case JdbcTeacherEventOutbox.TEACHER_REGISTERED -> new TeacherRegistered(teacherId, rs.getString("name"));
+            case JdbcTeacherEventOutbox.CLASS_REGISTERED -> new ClassRegistered(rs.getLong("class_id"), teacherId,
+                    rs.getString("name"), rs.getInt("price"), rs.getTimestamp("registered_at").toLocalDateTime());
+            default -> throw new IllegalStateException("Unknown outbox event type: " + rs.getString("event_type"));
+        };
+        return new OutboxRow(id, event, createdAt);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TeacherEventSink sink;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final List<Thread> workers;
+    private final String claimBatch;
+    private volatile boolean closed;
+
+    private final LongAdder relayedEvents = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+
+    /**
+     * @param sink         the destination of the events
+     * @param batchSize    the largest number of events claimed and dispatched in one transaction
+     * @param pollInterval how long an idle worker waits before it polls again
+     * @param workerCount  the number of relaying threads on this node
+     */
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, TeacherEventSink sink,
+                       int batchSize, Duration pollInterval, int workerCount) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.claimBatch = "select id, event_type, teacher_id, class_id, name, price, registered_at, created_at from outbox_event"
+                + " order by id limit " + batchSize + " for update skip locked";
+        List<Thread> threads = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            threads.add(Thread.ofPlatform().name("outbox-relay-" + i).daemon().unstarted(this::relayLoop));
+        }
+        this.workers = Collections.unmodifiableList(threads);
+    }
+
+    /**
+     * Start the relaying threads once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Claim, dispatch and delete one batch of events in one transaction
+     *
+     * @return the number of relayed events, 0 if the outbox is empty or all of its rows are claimed by other workers
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(claimBatch, OUTBOX_ROW_MAPPER);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            List<TeacherEvent> events = new ArrayList<>(rows.size());
+            Object[] ids = new Object[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                events.add(rows.get(i).event());
+                ids[i] = rows.get(i).id();
+            }
+            sink.dispatch(events);
+            String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+            jdbcTemplate.update("delete from outbox_event where id in (" + placeholders + ")", ids);
+
+            // The oldest event of the batch waited the longest
+            lastLagMillis.set(Duration.between(rows.getFirst().createdAt(), LocalDateTime.now()).toMillis());
+            return rows.size();
+        });
+        int count = relayed != null ? relayed : 0;
+        if (count > 0) {
+            relayedEvents.add(count);
+            batches.increment();
+            lastBatchSize.set(count);
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of events still in the outbox, including the ones being relayed
+     */
+    public long pendingEvents() {
+        Long pending = jdbcTemplate.queryForObject("select count(*) from outbox_event", Long.class);
+        return pending != null ? pending : 0;
+    }
+
+    /**
+     * @return the counters of the relay
+     */
+    public Stats stats() {
+        long batchCount = batches.sum();
+        long relayed = relayedEvents.sum();
+        return new Stats(relayed, batchCount, failedBatches.sum(), lastBatchSize.get(),
+                batchCount > 0 ? (double) relayed / batchCount : 0, lastLagMillis.get());
+    }
+
+    /**
+     * Stop the workers after their current batch or poll interval. Events left in the outbox are relayed after the next start.
+     */
+    @Override
+    public void close() {
+        // Workers are not interrupted, so a batch in progress is never cut off in the middle of its transaction
+        closed = true;
+        for (Thread worker : workers) {
+            if (!worker.isAlive()) {
+                continue;
+            }
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void relayLoop() {
+        long backoffMillis = Math.max(1, pollInterval.toMillis());
+        try {
+            while (!closed) {
+                try {
+                    if (relayBatch() < batchSize) {
+                        Thread.sleep(pollInterval);
+                    }
+                    backoffMillis = Math.max(1, pollInterval.toMillis());
+                } catch (RuntimeException e) {
+                    // The batch was rolled back and stays in the outbox
+                    failedBatches.increment();
+                    Thread.sleep(backoffMillis);
+                    backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record OutboxRow(long id, TeacherEvent event, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Relay statistics
+     *
+     * @param relayedEvents the number of events dispatched and deleted
+     * @param batches       the number of relayed batches
+     * @param failedBatches the number of batches rolled back
+     * @param lastBatchSize the number of events in the last relayed batch
+     * @param avgBatchSize  the average number of events per relayed batch
+     * @param lastLagMillis how long the oldest event of the last batch waited in the outbox
+     */
+    public record Stats(long relayedEvents, long batches, long failedBatches, long lastBatchSize, double avgBatchSize,
+                        long lastLagMillis) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.tutorlink.infra.readmodel;
+
+import com.tutorlink.teacher.domain.ActiveStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model of a class with the teacher fields the listings need, maintained by {@link ClassCatalogReadModel}.
+ * <p>
+ * There is one index per listing and sort type, each ending with the class id tie-breaker, so every page is read in index
+ * order: the storefront filters on the active status and the teacher listings on the teacher id.
+ * Keyword searches go through the {@code title_gram} posting lists, which are keyed by the same class id.
+ */
+@Entity
+@Table(name = "class_catalog", indexes = {
+        @Index(name = "idx_class_catalog_status_registered_at_id", columnList = "active_status, registered_at, class_id"),
+        @Index(name = "idx_class_catalog_status_price_id", columnList = "active_status, price, class_id"),
+        @Index(name = "idx_class_catalog_teacher_registered_at_id", columnList = "teacher_id, registered_at, class_id"),
+        @Index(name = "idx_class_catalog_teacher_price_id", columnList = "teacher_id, price, class_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ClassCatalogEntity {
+
+    @Id
+    @Column(name = "class_id")
+    private Long classId;
+
+    @Column(name = "teacher_id", nullable = false)
+    private Long teacherId;
+
+    @Column(name = "teacher_name", nullable = false)
+    private String teacherName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "active_status", nullable = false)
+    private ActiveStatus activeStatus;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "price", nullable = false)
+    private int price;
+
+    @Column(name = "registered_at")
+    private LocalDateTime registeredAt;
+}
@@ -0,0 +1,232 @@
+package com.tutorlink.infra.readmodel;
+
+import com.tutorlink.infra.teacher.TitleGramTokenizer;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.PageResponse;
+import com.tutorlink.teacher.dto.SortType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CQRS read model of the class listings: the flat {@code class_catalog} table and the queries served from it.
+ * <p>
+ * The write side keeps the table up to date in the transaction of every change, so the listings never read stale rows:
+ * new and edited classes are written with the teacher's name and status, and a change of the teacher is copied to all of its
+ * rows. Listing queries then read a single table without joining the teacher, and the storefront filters on the copied status.
+ * {@link ClassCatalogRebuilder} rebuilds the table from the write-side tables.
+ */
+public class ClassCatalogReadModel {
+
+    private static final String COLUMNS = "class_id, teacher_id, title, description, price, registered_at";
+    private static final String INSERT_ROW =
+            "insert into class_catalog (class_id, teacher_id, teacher_name, active_status, title, description, price, registered_at)"
+                    + " values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ROW_OF_STORED_TEACHER =
+            "insert into class_catalog (class_id, teacher_id, teacher_name, active_status, title, description, price, registered_at)"
+                    + " select ?, t.id, t.name, t.active_status, ?, ?, ?, ? from teacher_entity t where t.id = ?";
+    private static final String UPDATE_CLASS =
+            "update class_catalog set title = ?, description = ?, price = ?, registered_at = ? where class_id = ?";
+    private static final String UPDATE_TEACHER =
+            "update class_catalog set teacher_name = ?, active_status = ? where teacher_id = ?";
+
+    private static final RowMapper<ClassMetadataDto> CLASS_METADATA_MAPPER = (rs, rowNum) -> new ClassMetadataDto(
+            rs.getLong("class_id"),
+            rs.getLong("teacher_id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getInt("price"),
+            rs.getTimestamp("registered_at") != null ? rs.getTimestamp("registered_at").toLocalDateTime() : null);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean ready = true;
+
+    public ClassCatalogReadModel(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return whether listings can be served from the read model, false while it is being rebuilt
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    /**
+     * Add new classes whose teacher fields are known to the caller, in the caller's transaction
+     *
+     * @param rows the classes with their teacher's name and status
+     */
+    public void insertClasses(List<ClassCatalogRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (ClassCatalogRow row : rows) {
+            ClassMetadataDto teachingClass = row.teachingClass();
+            args.add(new Object[]{teachingClass.id(), teachingClass.teacherId(), row.teacherName(), row.activeStatus().name(),
+                    teachingClass.title(), teachingClass.description(), teachingClass.price(), timestamp(teachingClass)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROW, args);
+    }
+
+    /**
+     * Add new classes of teachers already stored in the database, copying the teacher fields from {@code teacher_entity}
+     *
+     * @param classes the new classes
+     */
+    public void insertClassesOfStoredTeachers(List<ClassMetadataDto> classes) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(classes.size());
+        for (ClassMetadataDto teachingClass : classes) {
+            args.add(new Object[]{teachingClass.id(), teachingClass.title(), teachingClass.description(), teachingClass.price(),
+                    timestamp(teachingClass), teachingClass.teacherId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROW_OF_STORED_TEACHER, args);
+    }
+
+    /**
+     * Apply edits of existing classes
+     *
+     * @param classes the edited classes
+     */
+    public void updateClasses(List<ClassMetadataDto> classes) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(classes.size());
+        for (ClassMetadataDto teachingClass : classes) {
+            args.add(new Object[]{teachingClass.title(), teachingClass.description(), teachingClass.price(),
+                    timestamp(teachingClass), teachingClass.id()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_CLASS, args);
+    }
+
+    /**
+     * Copy a change of a teacher's name or status to all of its classes
+     */
+    public void updateTeacher(Long teacherId, String name, ActiveStatus activeStatus) {
+        jdbcTemplate.update(UPDATE_TEACHER, name, activeStatus.name(), teacherId);
+    }
+
+    /**
+     * Same result as {@code TeacherRepositoryCustom#findClassesByTeacherId}, read from the catalog table only
+     */
+    public PageResponse<ClassMetadataDto> findClassesByTeacherId(Long teacherId, ClassSearchCondition condition) {
+        Where where = new Where()
+                .and("teacher_id = ?", teacherId)
+                .titleContains(condition.titleKeyword());
+        return findPage(where, condition.sortType(), condition.pageRequest());
+    }
+
+    /**
+     * Same result as {@code TeacherRepositoryCustom#searchClassCatalog}, read from the catalog table only
+     */
+    public PageResponse<ClassMetadataDto> searchClassCatalog(ClassSearchCondition condition) {
+        // The storefront always lists in a defined order so that every page is served from a (status, sort key, id) index
+        SortType sortType = condition.sortType() != null ? condition.sortType() : SortType.LATEST;
+        Where where = new Where()
+                .and("active_status = ?", ActiveStatus.ACTIVE.name())
+                .titleContains(condition.titleKeyword());
+        return findPage(where, sortType, condition.pageRequest());
+    }
+
+    private PageResponse<ClassMetadataDto> findPage(Where where, SortType sortType, PageRequest pageRequest) {
+        StringBuilder sql = new StringBuilder("select ").append(COLUMNS).append(" from class_catalog").append(where.sql());
+        // The class id tie-breaker makes the order total and matches the indexes
+        if (sortType == SortType.LATEST) {
+            sql.append(" order by registered_at desc, class_id desc");
+        } else if (sortType == SortType.PRICE) {
+            sql.append(" order by price asc, class_id asc");
+        }
+        if (pageRequest != null) {
+            sql.append(" limit ").append(pageRequest.size()).append(" offset ").append((long) pageRequest.page() * pageRequest.size());
+        }
+        List<ClassMetadataDto> content = jdbcTemplate.query(sql.toString(), CLASS_METADATA_MAPPER, where.args());
+
+        long total = countTotal(where, pageRequest, content.size());
+        int pageNumber = pageRequest != null ? pageRequest.page() : 0;
+        int pageSize = pageRequest != null ? pageRequest.size() : content.size();
+        int totalPages = pageSize > 0 ? (int) Math.ceil((double) total / pageSize) : 1;
+        return PageResponse.of(content, pageNumber, pageSize, total, totalPages);
+    }
+
+    /**
+     * Skips the count query when the fetched page already determines the total, like the QueryDSL listing does
+     */
+    private long countTotal(Where where, PageRequest pageRequest, int contentSize) {
+        if (pageRequest == null) {
+            return contentSize;
+        }
+        long offset = (long) pageRequest.page() * pageRequest.size();
+        if (contentSize < pageRequest.size() && (offset == 0 || contentSize > 0)) {
+            return offset + contentSize;
+        }
+        Long count = jdbcTemplate.queryForObject("select count(*) from class_catalog" + where.sql(), Long.class, where.args());
+        return count != null ? count : 0L;
+    }
+
+    private static Timestamp timestamp(ClassMetadataDto teachingClass) {
+        return teachingClass.registeredAt() != null ? Timestamp.valueOf(teachingClass.registeredAt()) : null;
+    }
+
+    /**
+     * WHERE clause and its arguments, built from the filters that apply
+     */
+    private static final class Where {
+
+        private final List<String> predicates = new ArrayList<>();
+        private final List<Object> args = new ArrayList<>();
+
+        Where and(String predicate, Object arg) {
+            if (arg != null) {
+                predicates.add(predicate);
+                args.add(arg);
+            }
+            return this;
+        }
+
+        /**
+         * Same semantics as the listing's keyword filter: candidates come from the intersection of the title gram posting lists,
+         * and the LIKE check drops titles whose grams are not next to each other
+         */
+        Where titleContains(String keyword) {
+            if (keyword == null || keyword.isEmpty()) {
+                return this;
+            }
+            Set<String> grams = TitleGramTokenizer.grams(keyword);
+            if (!grams.isEmpty()) {
+                predicates.add("class_id in (select class_id from title_gram where gram in ("
+                        + String.join(", ", Collections.nCopies(grams.size(), "?"))
+                        + ") group by class_id having count(*) = ?)");
+                args.addAll(grams);
+                args.add(grams.size());
+            }
+            predicates.add("title like ? escape '!'");
+            args.add("%" + keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%");
+            return this;
+        }
+
+        String sql() {
+            return predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates);
+        }
+
+        Object[] args() {
+            return args.toArray();
+        }
+    }
+}
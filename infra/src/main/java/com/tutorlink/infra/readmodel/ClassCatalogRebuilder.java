@@ -0,0 +1,102 @@
+package com.tutorlink.infra.readmodel;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Rebuilds the {@code class_catalog} read model from {@code teaching_class_entity} and {@code teacher_entity}.
+ * <p>
+ * Classes are rebuilt in ranges of ids, one transaction per range: the range is deleted from the catalog and copied again with
+ * a single {@code INSERT ... SELECT}, so no class is held in memory and each transaction stays small. Only the classes that
+ * existed when the rebuild started are copied; classes registered during the rebuild get higher ids and are written by the
+ * write side. Listings fall back to the write-side queries until the rebuild has finished.
+ */
+public class ClassCatalogRebuilder {
+
+    private static final String COPY_RANGE =
+            "insert into class_catalog (class_id, teacher_id, teacher_name, active_status, title, description, price, registered_at)"
+                    + " select c.id, t.id, t.name, t.active_status, c.title, c.description, c.price, c.registered_at"
+                    + " from teaching_class_entity c join teacher_entity t on t.id = c.teacher_id"
+                    + " where c.id > ? and c.id <= ?";
+
+    private final ClassCatalogReadModel readModel;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean rebuildOnStartup;
+
+    /**
+     * @param chunkSize        the number of classes copied per transaction
+     * @param rebuildOnStartup whether to rebuild when the application is ready, e.g. the first time the read model is enabled
+     */
+    public ClassCatalogRebuilder(ClassCatalogReadModel readModel, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 int chunkSize, boolean rebuildOnStartup) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.readModel = readModel;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+        if (rebuildOnStartup) {
+            // Requests served before the application is ready must not see a partial catalog
+            readModel.setReady(false);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuild the whole catalog
+     *
+     * @return the number of classes copied
+     */
+    public long rebuild() {
+        readModel.setReady(false);
+        try {
+            Long maxId = jdbcTemplate.queryForObject("select max(id) from teaching_class_entity", Long.class);
+            long copied = 0;
+            long lowerBound = Long.MIN_VALUE;
+            while (maxId != null && lowerBound < maxId) {
+                long upperBound = nextUpperBound(lowerBound, maxId);
+                long from = lowerBound;
+                Integer rows = transactionTemplate.execute(status -> {
+                    jdbcTemplate.update("delete from class_catalog where class_id > ? and class_id <= ?", from, upperBound);
+                    return jdbcTemplate.update(COPY_RANGE, from, upperBound);
+                });
+                copied += rows != null ? rows : 0;
+                lowerBound = upperBound;
+            }
+
+            // Rows of classes that no longer exist, beyond the rebuilt ranges
+            long lastCopiedId = maxId != null ? maxId : Long.MIN_VALUE;
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    "delete from class_catalog where class_id > ?"
+                            + " and not exists (select 1 from teaching_class_entity c where c.id = class_catalog.class_id)",
+                    lastCopiedId));
+            return copied;
+        } finally {
+            readModel.setReady(true);
+        }
+    }
+
+    /**
+     * @return the id of the last class of the next chunk, or maxId for the last chunk
+     */
+    private long nextUpperBound(long lowerBound, long maxId) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select id from teaching_class_entity where id > ? and id <= ? order by id limit " + chunkSize,
+                Long.class, lowerBound, maxId);
+        return ids.size() < chunkSize ? maxId : ids.getLast();
+    }
+}
@@ -0,0 +1,14 @@
+package com.tutorlink.infra.readmodel;
+
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+
+/**
+ * A new row of the class catalog read model
+ *
+ * @param teachingClass the class
+ * @param teacherName   the name of the class's teacher
+ * @param activeStatus  the status of the class's teacher
+ */
+public record ClassCatalogRow(ClassMetadataDto teachingClass, String teacherName, ActiveStatus activeStatus) {
+}
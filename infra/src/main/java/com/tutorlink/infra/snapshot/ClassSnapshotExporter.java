@@ -0,0 +1,150 @@
+package com.tutorlink.infra.snapshot;
+
+import com.tutorlink.teacher.domain.ActiveStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Dumps the teacher and teaching_class tables into a binary snapshot file (see {@link SnapshotLayout}).
+ * <p>
+ * Rows are streamed with keyset-paginated JDBC queries and written into memory-mapped columns, so neither the
+ * persistence context nor the heap grows with the table size. The export runs in one read-only transaction to
+ * see a consistent state of both tables.
+ */
+@Component
+public class ClassSnapshotExporter {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ClassSnapshotExporter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param target the snapshot file to create (overwritten if it exists)
+     * @return the number of rows, the file size and the checksum of the snapshot
+     * @throws IOException if the file cannot be written
+     */
+    @Transactional(readOnly = true)
+    public SnapshotSummary export(Path target) throws IOException {
+        long teacherCount = count("teacher_entity");
+        long classCount = count("teaching_class_entity");
+        SnapshotLayout layout = new SnapshotLayout(teacherCount, classCount);
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            StringHeapWriter heap = new StringHeapWriter(channel, layout.heap);
+            writeTeachers(channel, layout, heap);
+            writeClasses(channel, layout, heap);
+            long heapBytes = heap.finish();
+
+            long size = layout.heap + heapBytes;
+            long checksum = SnapshotLayout.checksum(channel, size);
+            SnapshotLayout.writeHeader(channel, teacherCount, classCount, heapBytes, checksum);
+            channel.force(true);
+            return new SnapshotSummary(teacherCount, classCount, size, checksum);
+        }
+    }
+
+    private void writeTeachers(FileChannel channel, SnapshotLayout layout, StringHeapWriter heap) throws IOException {
+        long count = layout.teacherCount;
+        MappedColumn ids = column(channel, layout.teacherIds, Long.BYTES * count);
+        MappedColumn statuses = column(channel, layout.teacherStatuses, count);
+        MappedColumn classCounts = column(channel, layout.teacherClassCounts, Integer.BYTES * count);
+        MappedColumn nameOffsets = column(channel, layout.teacherNameOffsets, Long.BYTES * count);
+        MappedColumn nameLengths = column(channel, layout.teacherNameLengths, Integer.BYTES * count);
+
+        scan("select id, name, active_status, class_count from teacher_entity where id > ? order by id limit ?", count, rs -> {
+            ids.putLong(rs.getLong("id"));
+            statuses.put((byte) ActiveStatus.valueOf(rs.getString("active_status")).ordinal());
+            classCounts.putInt(rs.getInt("class_count"));
+            heap.append(rs.getString("name"), nameOffsets, nameLengths);
+        });
+    }
+
+    private void writeClasses(FileChannel channel, SnapshotLayout layout, StringHeapWriter heap) throws IOException {
+        long count = layout.classCount;
+        MappedColumn ids = column(channel, layout.classIds, Long.BYTES * count);
+        MappedColumn teacherIds = column(channel, layout.classTeacherIds, Long.BYTES * count);
+        MappedColumn prices = column(channel, layout.classPrices, Integer.BYTES * count);
+        MappedColumn registeredAt = column(channel, layout.classRegisteredAt, Long.BYTES * count);
+        MappedColumn titleOffsets = column(channel, layout.classTitleOffsets, Long.BYTES * count);
+        MappedColumn titleLengths = column(channel, layout.classTitleLengths, Integer.BYTES * count);
+        MappedColumn descriptionOffsets = column(channel, layout.classDescriptionOffsets, Long.BYTES * count);
+        MappedColumn descriptionLengths = column(channel, layout.classDescriptionLengths, Integer.BYTES * count);
+
+        scan("select id, teacher_id, price, registered_at, title, description from teaching_class_entity where id > ? order by id limit ?", count, rs -> {
+            ids.putLong(rs.getLong("id"));
+            teacherIds.putLong(rs.getLong("teacher_id"));
+            prices.putInt(rs.getInt("price"));
+            registeredAt.putLong(toEpochMicros(rs.getTimestamp("registered_at")));
+            heap.append(rs.getString("title"), titleOffsets, titleLengths);
+            heap.append(rs.getString("description"), descriptionOffsets, descriptionLengths);
+        });
+    }
+
+    /**
+     * Walks the table in id order, {@link #FETCH_SIZE} rows per query, until the counted number of rows is written.
+     */
+    private void scan(String sql, long count, RowWriter rowWriter) throws IOException {
+        long written = 0;
+        long lastId = Long.MIN_VALUE;
+        while (written < count) {
+            long[] chunk = {lastId, 0};
+            try {
+                jdbcTemplate.query(sql, rs -> {
+                    try {
+                        rowWriter.write(rs);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    chunk[0] = rs.getLong("id");
+                    chunk[1]++;
+                }, lastId, (int) Math.min(FETCH_SIZE, count - written));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (chunk[1] == 0) {
+                throw new IllegalStateException("Rows disappeared while exporting the snapshot");
+            }
+            lastId = chunk[0];
+            written += chunk[1];
+        }
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private static MappedColumn column(FileChannel channel, long start, long length) {
+        return new MappedColumn(channel, FileChannel.MapMode.READ_WRITE, start, length);
+    }
+
+    private static long toEpochMicros(Timestamp timestamp) {
+        if (timestamp == null) {
+            return SnapshotLayout.NULL_TIME;
+        }
+        LocalDateTime time = timestamp.toLocalDateTime();
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,210 @@
+package com.tutorlink.infra.snapshot;
+
+import com.tutorlink.infra.catalog.ColumnarClassCatalog;
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.readmodel.ClassCatalogReadModel;
+import com.tutorlink.infra.teacher.TitleGramTokenizer;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.dto.ClassChangeType;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads a binary snapshot written by {@link ClassSnapshotExporter} into empty teacher and teaching_class tables.
+ * <p>
+ * The whole file is verified against its checksum before any row is inserted. Columns are then read straight out of
+ * the mapped file into JDBC batches, and the title inverted index is rebuilt on the way. Every batch commits on its own
+ * to keep transactions small, so a restore that fails halfway leaves the rows of the committed batches behind;
+ * empty the tables before retrying.
+ * <p>
+ * The restored classes are added to the in-memory class catalog when it is enabled, after the commit of their batch, and
+ * to the class catalog read model when it is enabled, in the transaction of their batch. The change log records the
+ * restored teachers and classes like registrations, so change feed clients pick them up.
+ */
+@Component
+public class ClassSnapshotRestorer {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final ActiveStatus[] STATUSES = ActiveStatus.values();
+
+    private static final String INSERT_TEACHER =
+            "insert into teacher_entity (id, name, active_status, class_count) values (?, ?, ?, ?)";
+    private static final String INSERT_CLASS =
+            "insert into teaching_class_entity (id, title, description, price, registered_at, teacher_id) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GRAM =
+            "insert into title_gram (gram, class_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Optional<ColumnarClassCatalog> classCatalog;
+    private final Optional<ClassCatalogReadModel> classCatalogReadModel;
+    private final Optional<ClassChangeLog> classChangeLog;
+
+    public ClassSnapshotRestorer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 Optional<ColumnarClassCatalog> classCatalog, Optional<ClassCatalogReadModel> classCatalogReadModel,
+                                 Optional<ClassChangeLog> classChangeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.classCatalog = classCatalog;
+        this.classCatalogReadModel = classCatalogReadModel;
+        this.classChangeLog = classChangeLog;
+    }
+
+    /**
+     * @param source the snapshot file
+     * @return the number of rows, the file size and the checksum of the snapshot
+     * @throws IOException           if the file cannot be read
+     * @throws IllegalStateException if the file is not a valid snapshot, fails the checksum, or the tables are not empty
+     */
+    public SnapshotSummary restore(Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            SnapshotLayout.Header header = SnapshotLayout.readHeader(channel);
+            SnapshotLayout layout = new SnapshotLayout(header.teacherCount(), header.classCount());
+            long size = layout.heap + header.heapBytes();
+            if (SnapshotLayout.checksum(channel, size) != header.checksum()) {
+                throw new IllegalStateException("Snapshot checksum mismatch: the file is corrupted");
+            }
+            requireEmptyTables();
+
+            StringHeapReader heap = new StringHeapReader(channel, layout.heap, header.heapBytes());
+            restoreTeachers(channel, layout, heap);
+            restoreClasses(channel, layout, heap);
+            return new SnapshotSummary(header.teacherCount(), header.classCount(), size, header.checksum());
+        }
+    }
+
+    private void restoreTeachers(FileChannel channel, SnapshotLayout layout, StringHeapReader heap) throws IOException {
+        long count = layout.teacherCount;
+        MappedColumn ids = column(channel, layout.teacherIds, Long.BYTES * count);
+        MappedColumn statuses = column(channel, layout.teacherStatuses, count);
+        MappedColumn classCounts = column(channel, layout.teacherClassCounts, Integer.BYTES * count);
+        MappedColumn nameOffsets = column(channel, layout.teacherNameOffsets, Long.BYTES * count);
+        MappedColumn nameLengths = column(channel, layout.teacherNameLengths, Integer.BYTES * count);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        List<Teacher> teachers = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < count; i++) {
+            long id = ids.getLong();
+            ActiveStatus status = STATUSES[statuses.get()];
+            int classCount = classCounts.getInt();
+            String name = heap.read(nameOffsets.getLong(), nameLengths.getInt());
+            batch.add(new Object[]{id, name, status.name(), classCount});
+            teachers.add(new Teacher(id, name, List.of(), status));
+            if (batch.size() == BATCH_SIZE) {
+                insertTeachers(batch, teachers);
+            }
+        }
+        insertTeachers(batch, teachers);
+    }
+
+    private void restoreClasses(FileChannel channel, SnapshotLayout layout, StringHeapReader heap) throws IOException {
+        long count = layout.classCount;
+        MappedColumn ids = column(channel, layout.classIds, Long.BYTES * count);
+        MappedColumn teacherIds = column(channel, layout.classTeacherIds, Long.BYTES * count);
+        MappedColumn prices = column(channel, layout.classPrices, Integer.BYTES * count);
+        MappedColumn registeredAt = column(channel, layout.classRegisteredAt, Long.BYTES * count);
+        MappedColumn titleOffsets = column(channel, layout.classTitleOffsets, Long.BYTES * count);
+        MappedColumn titleLengths = column(channel, layout.classTitleLengths, Integer.BYTES * count);
+        MappedColumn descriptionOffsets = column(channel, layout.classDescriptionOffsets, Long.BYTES * count);
+        MappedColumn descriptionLengths = column(channel, layout.classDescriptionLengths, Integer.BYTES * count);
+
+        List<ClassMetadataDto> batch = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < count; i++) {
+            long id = ids.getLong();
+            long teacherId = teacherIds.getLong();
+            int price = prices.getInt();
+            LocalDateTime time = toLocalDateTime(registeredAt.getLong());
+            String title = heap.read(titleOffsets.getLong(), titleLengths.getInt());
+            String description = heap.read(descriptionOffsets.getLong(), descriptionLengths.getInt());
+            batch.add(new ClassMetadataDto(id, teacherId, title, description, price, time));
+            if (batch.size() == BATCH_SIZE) {
+                insertClasses(batch);
+            }
+        }
+        insertClasses(batch);
+    }
+
+    /**
+     * Inserts a batch of teachers in its own transaction and clears the buffers for the next one
+     *
+     * @param rows     the insert arguments of the teachers
+     * @param teachers the same teachers, recorded in the change log
+     */
+    private void insertTeachers(List<Object[]> rows, List<Teacher> teachers) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TEACHER, rows);
+            classChangeLog.ifPresent(changeLog -> changeLog.appendTeachers(teachers));
+        });
+        rows.clear();
+        teachers.clear();
+    }
+
+    /**
+     * Inserts a batch of classes with the postings of their titles in its own transaction and clears the buffer for the next one
+     */
+    private void insertClasses(List<ClassMetadataDto> classes) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(classes.size());
+        List<Object[]> grams = new ArrayList<>();
+        for (ClassMetadataDto teachingClass : classes) {
+            rows.add(new Object[]{teachingClass.id(), teachingClass.title(), teachingClass.description(), teachingClass.price(),
+                    teachingClass.registeredAt() != null ? Timestamp.valueOf(teachingClass.registeredAt()) : null,
+                    teachingClass.teacherId()});
+            for (String gram : TitleGramTokenizer.grams(teachingClass.title())) {
+                grams.add(new Object[]{gram, teachingClass.id()});
+            }
+        }
+        List<ClassMetadataDto> restored = List.copyOf(classes);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_CLASS, rows);
+            if (!grams.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_GRAM, grams);
+            }
+            // Teachers are restored before their classes, so the catalog rows can copy the teacher fields from the table
+            classCatalogReadModel.ifPresent(readModel -> readModel.insertClassesOfStoredTeachers(restored));
+            classChangeLog.ifPresent(changeLog -> changeLog.appendClasses(ClassChangeType.CLASS_INSERTED, restored));
+            classCatalog.ifPresent(catalog -> catalog.upsertAllAfterCommit(restored));
+        });
+        classes.clear();
+    }
+
+    private void requireEmptyTables() {
+        Long teachers = jdbcTemplate.queryForObject("select count(*) from teacher_entity", Long.class);
+        if (teachers != null && teachers > 0) {
+            throw new IllegalStateException("Snapshots can only be restored into empty tables, found " + teachers + " teachers");
+        }
+    }
+
+    private static MappedColumn column(FileChannel channel, long start, long length) {
+        return new MappedColumn(channel, FileChannel.MapMode.READ_ONLY, start, length);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMicros) {
+        if (epochMicros == SnapshotLayout.NULL_TIME) {
+            return null;
+        }
+        long seconds = Math.floorDiv(epochMicros, 1_000_000L);
+        int nanos = (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,68 @@
+package com.tutorlink.infra.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Sequential reader and writer of one fixed-width column of a snapshot file.
+ * <p>
+ * The column is mapped in windows of {@link #WINDOW_BYTES}, so columns larger than a single mapping (2 GB) work and the
+ * address space in use stays bounded. Columns start on an 8-byte boundary and windows are a multiple of 8 bytes,
+ * so a value never straddles two windows.
+ */
+final class MappedColumn {
+
+    static final int WINDOW_BYTES = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private final long end;
+    private long windowEnd;
+    private MappedByteBuffer window;
+
+    MappedColumn(FileChannel channel, FileChannel.MapMode mode, long start, long length) {
+        this.channel = channel;
+        this.mode = mode;
+        this.end = start + length;
+        this.windowEnd = start;
+    }
+
+    void putLong(long value) throws IOException {
+        ensure(Long.BYTES).putLong(value);
+    }
+
+    void putInt(int value) throws IOException {
+        ensure(Integer.BYTES).putInt(value);
+    }
+
+    void put(byte value) throws IOException {
+        ensure(Byte.BYTES).put(value);
+    }
+
+    long getLong() throws IOException {
+        return ensure(Long.BYTES).getLong();
+    }
+
+    int getInt() throws IOException {
+        return ensure(Integer.BYTES).getInt();
+    }
+
+    byte get() throws IOException {
+        return ensure(Byte.BYTES).get();
+    }
+
+    private MappedByteBuffer ensure(int bytes) throws IOException {
+        if (window == null || window.remaining() < bytes) {
+            long size = Math.min(WINDOW_BYTES, end - windowEnd);
+            if (size < bytes) {
+                throw new IllegalStateException("Read or write past the end of a snapshot column");
+            }
+            window = channel.map(mode, windowEnd, size);
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            windowEnd += size;
+        }
+        return window;
+    }
+}
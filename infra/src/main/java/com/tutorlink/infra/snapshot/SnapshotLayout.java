@@ -0,0 +1,156 @@
+package com.tutorlink.infra.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * File layout of a class snapshot.
+ * <p>
+ * A 64-byte header is followed by one fixed-width column per field, each starting on an 8-byte boundary,
+ * and finally the string heap holding the UTF-8 bytes of names, titles and descriptions. Strings are referenced
+ * by an (offset into the heap, byte length) pair; a length of {@link #NULL_LENGTH} marks a null string.
+ * All numbers are little-endian.
+ * <pre>
+ * header   magic(8) version(4) reserved(4) teacherCount(8) classCount(8) heapBytes(8) checksum(8) reserved(16)
+ * teachers id(8) status(1) classCount(4) nameOffset(8) nameLength(4)
+ * classes  id(8) teacherId(8) price(4) registeredAt(8, epoch micros UTC) titleOffset(8) titleLength(4) descriptionOffset(8) descriptionLength(4)
+ * heap     UTF-8 bytes
+ * </pre>
+ * The checksum is the CRC32C of every byte after the header.
+ */
+final class SnapshotLayout {
+
+    static final int HEADER_BYTES = 64;
+    static final int NULL_LENGTH = -1;
+    static final long NULL_TIME = Long.MIN_VALUE;
+
+    private static final byte[] MAGIC = "TLSNAP01".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+
+    final long teacherCount;
+    final long classCount;
+
+    final long teacherIds;
+    final long teacherStatuses;
+    final long teacherClassCounts;
+    final long teacherNameOffsets;
+    final long teacherNameLengths;
+
+    final long classIds;
+    final long classTeacherIds;
+    final long classPrices;
+    final long classRegisteredAt;
+    final long classTitleOffsets;
+    final long classTitleLengths;
+    final long classDescriptionOffsets;
+    final long classDescriptionLengths;
+
+    final long heap;
+
+    SnapshotLayout(long teacherCount, long classCount) {
+        this.teacherCount = teacherCount;
+        this.classCount = classCount;
+
+        long position = HEADER_BYTES;
+        teacherIds = position;
+        position = align(position + Long.BYTES * teacherCount);
+        teacherStatuses = position;
+        position = align(position + teacherCount);
+        teacherClassCounts = position;
+        position = align(position + Integer.BYTES * teacherCount);
+        teacherNameOffsets = position;
+        position = align(position + Long.BYTES * teacherCount);
+        teacherNameLengths = position;
+        position = align(position + Integer.BYTES * teacherCount);
+
+        classIds = position;
+        position = align(position + Long.BYTES * classCount);
+        classTeacherIds = position;
+        position = align(position + Long.BYTES * classCount);
+        classPrices = position;
+        position = align(position + Integer.BYTES * classCount);
+        classRegisteredAt = position;
+        position = align(position + Long.BYTES * classCount);
+        classTitleOffsets = position;
+        position = align(position + Long.BYTES * classCount);
+        classTitleLengths = position;
+        position = align(position + Integer.BYTES * classCount);
+        classDescriptionOffsets = position;
+        position = align(position + Long.BYTES * classCount);
+        classDescriptionLengths = position;
+        position = align(position + Integer.BYTES * classCount);
+
+        heap = position;
+    }
+
+    static void writeHeader(FileChannel channel, long teacherCount, long classCount, long heapBytes, long checksum) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC)
+                .putInt(VERSION)
+                .putInt(0)
+                .putLong(teacherCount)
+                .putLong(classCount)
+                .putLong(heapBytes)
+                .putLong(checksum)
+                .position(0);
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    /**
+     * Reads and checks the header.
+     *
+     * @return the header fields
+     * @throws IllegalStateException if the file is not a snapshot of a supported version or is truncated
+     */
+    static Header readHeader(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            throw new IllegalStateException("Not a class snapshot: file is shorter than the header");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        header.flip();
+
+        byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        int version = header.getInt();
+        header.getInt();
+        if (!Arrays.equals(magic, MAGIC) || version != VERSION) {
+            throw new IllegalStateException("Not a class snapshot of version " + VERSION);
+        }
+        Header result = new Header(header.getLong(), header.getLong(), header.getLong(), header.getLong());
+        long expectedSize = new SnapshotLayout(result.teacherCount(), result.classCount()).heap + result.heapBytes();
+        if (channel.size() != expectedSize) {
+            throw new IllegalStateException("Snapshot is truncated: expected " + expectedSize + " bytes but found " + channel.size());
+        }
+        return result;
+    }
+
+    /**
+     * Computes the CRC32C of everything between the header and the end of the snapshot, window by window.
+     */
+    static long checksum(FileChannel channel, long end) throws IOException {
+        CRC32C crc = new CRC32C();
+        for (long position = HEADER_BYTES; position < end; position += MappedColumn.WINDOW_BYTES) {
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MappedColumn.WINDOW_BYTES, end - position)));
+        }
+        return crc.getValue();
+    }
+
+    private static long align(long position) {
+        return (position + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    record Header(long teacherCount, long classCount, long heapBytes, long checksum) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.tutorlink.infra.snapshot;
+
+/**
+ * Outcome of a snapshot export or restore.
+ *
+ * @param teacherCount the number of teachers in the snapshot
+ * @param classCount   the number of classes in the snapshot
+ * @param bytes        the size of the snapshot file
+ * @param checksum     the CRC32C of the snapshot body
+ */
+public record SnapshotSummary(long teacherCount, long classCount, long bytes, long checksum) {
+}
@@ -0,0 +1,46 @@
+package com.tutorlink.infra.snapshot;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes strings straight out of the mapped heap section of a snapshot file.
+ * <p>
+ * Strings are read in the order they were written, so a window is remapped only when a string lies past its end.
+ */
+final class StringHeapReader {
+
+    private final FileChannel channel;
+    private final long start;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+    private byte[] scratch = new byte[256];
+
+    StringHeapReader(FileChannel channel, long start, long size) {
+        this.channel = channel;
+        this.start = start;
+        this.size = size;
+    }
+
+    String read(long offset, int length) throws IOException {
+        if (length == SnapshotLayout.NULL_LENGTH) {
+            return null;
+        }
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IllegalStateException("Snapshot string reference is out of the heap bounds");
+        }
+        if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+            windowStart = offset;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start + offset,
+                    Math.min(size - offset, Math.max(MappedColumn.WINDOW_BYTES, length)));
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        window.get((int) (offset - windowStart), scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,67 @@
+package com.tutorlink.infra.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Appends strings to the heap section of a snapshot file through a direct buffer.
+ * The heap size is only known once every row has been written, which is why it is the last section.
+ */
+final class StringHeapWriter {
+
+    private static final int BUFFER_BYTES = 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long start;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long size;
+    private long flushed;
+
+    StringHeapWriter(FileChannel channel, long start) {
+        this.channel = channel;
+        this.start = start;
+    }
+
+    /**
+     * Appends a string and writes its reference to the given offset and length columns.
+     */
+    void append(String value, MappedColumn offsets, MappedColumn lengths) throws IOException {
+        if (value == null) {
+            offsets.putLong(0L);
+            lengths.putInt(SnapshotLayout.NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        offsets.putLong(size);
+        lengths.putInt(bytes.length);
+
+        int written = 0;
+        while (written < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int chunk = Math.min(buffer.remaining(), bytes.length - written);
+            buffer.put(bytes, written, chunk);
+            written += chunk;
+        }
+        size += bytes.length;
+    }
+
+    /**
+     * @return the number of heap bytes written so far
+     */
+    long finish() throws IOException {
+        flush();
+        return size;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            flushed += channel.write(buffer, start + flushed);
+        }
+        buffer.clear();
+    }
+}
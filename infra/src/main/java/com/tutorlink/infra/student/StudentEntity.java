@@ -1,5 +1,6 @@
 package com.tutorlink.infra.student;
 
+import com.tutorlink.infra.id.TimeOrderedId;
 import com.tutorlink.student.domain.ActiveStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -12,7 +13,7 @@ import lombok.NoArgsConstructor;
 public class StudentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String name;
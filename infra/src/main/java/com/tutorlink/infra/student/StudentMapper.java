@@ -15,7 +15,7 @@ public class StudentMapper {
 
     public static StudentEntity toEntity(Student domain) {
         return new StudentEntity(
-                domain.id(),
+                domain.id() == 0L ? null : domain.id(),
                 domain.name(),
                 domain.email().value(),
                 domain.activeStatus()
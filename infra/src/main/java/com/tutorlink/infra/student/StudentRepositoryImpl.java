@@ -2,13 +2,19 @@ package com.tutorlink.infra.student;
 
 import com.tutorlink.student.domain.Student;
 import com.tutorlink.student.domain.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public class StudentRepositoryImpl implements StudentRepository {
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private final JpaStudentRepository jpaStudentRepository;
 
     public StudentRepositoryImpl(JpaStudentRepository jpaStudentRepository) {
@@ -16,12 +22,28 @@ public class StudentRepositoryImpl implements StudentRepository {
     }
 
     @Override
+    @Transactional
     public Student save(Student student) {
         StudentEntity entity = StudentMapper.toEntity(student);
+
+        // Without an id the student is new and gets one on persist; an assigned id may belong to a stored student
+        if (entity.getId() == null) {
+            entityManager.persist(entity);
+            return StudentMapper.toDomain(entity);
+        }
         StudentEntity savedEntity = jpaStudentRepository.save(entity);
         return StudentMapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public Student insert(Student student) {
+        // Persist rather than merge: the entity is known to be new, and merging an entity with an assigned id would SELECT it first
+        StudentEntity entity = StudentMapper.toEntity(student);
+        entityManager.persist(entity);
+        return StudentMapper.toDomain(entity);
+    }
+
     @Override
     public Optional<Student> findById(Long id) {
         return jpaStudentRepository.findById(id)
@@ -0,0 +1,41 @@
+package com.tutorlink.infra.teacher;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Backfills {@code class_count} of teachers whose classes were registered before the column existed.
+ * <p>
+ * The column was added with a default of 0, while {@code appendClass} and the write-behind writer cap registrations with a
+ * conditional UPDATE on it, so such a teacher could otherwise register the maximum number of classes on top of the existing
+ * ones. The backfill runs once all singletons are created, before the application is ready and any registration is accepted.
+ * Teachers whose counter is already right are left untouched, so running it on every start is cheap after the first time.
+ */
+@Component
+public class ClassCountBackfill implements SmartInitializingSingleton {
+
+    private final JpaTeacherRepository jpaTeacherRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ClassCountBackfill(JpaTeacherRepository jpaTeacherRepository, PlatformTransactionManager transactionManager) {
+        this.jpaTeacherRepository = jpaTeacherRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfill();
+    }
+
+    /**
+     * Raise the counter of every teacher that has more classes than counted
+     *
+     * @return the number of updated teachers
+     */
+    public int backfill() {
+        Integer updated = transactionTemplate.execute(status -> jpaTeacherRepository.recountClasses());
+        return updated != null ? updated : 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tutorlink.infra.teacher;
+
+import com.tutorlink.teacher.dto.ClassFacetRequest;
+import com.tutorlink.teacher.dto.ClassFacets;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+
+/**
+ * Custom repository interface for the facet counts of class searches
+ */
+public interface ClassFacetRepository {
+
+    /**
+     * Compute the facet counts of the classes matching a search condition in a single grouped query
+     *
+     * @param teacherId    the ID of the teacher (null for all teachers)
+     * @param condition    the search condition (only the filtering parameters are used)
+     * @param facetRequest the price buckets and date histogram to compute
+     * @return the facet counts over all matching classes
+     */
+    ClassFacets findClassFacets(Long teacherId, ClassSearchCondition condition, ClassFacetRequest facetRequest);
+}
@@ -0,0 +1,140 @@
+package com.tutorlink.infra.teacher;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tutorlink.teacher.dto.*;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.tutorlink.infra.teacher.ClassSearchPredicates.teacherIdEq;
+import static com.tutorlink.infra.teacher.ClassSearchPredicates.titleContains;
+
+@Repository
+public class ClassFacetRepositoryImpl implements ClassFacetRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ClassFacetRepositoryImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    @Override
+    public ClassFacets findClassFacets(Long teacherId, ClassSearchCondition condition, ClassFacetRequest facetRequest) {
+        return aggregate(teacherId, condition.titleKeyword(), facetRequest);
+    }
+
+    /**
+     * Counts the matching classes grouped by (price bucket, registration interval) in one query,
+     * then rolls the groups up into the individual facets.
+     */
+    private ClassFacets aggregate(Long teacherId, String titleKeyword, ClassFacetRequest facetRequest) {
+        QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
+        QTeacherEntity teacher = QTeacherEntity.teacherEntity;
+
+        List<Integer> boundaries = facetRequest.priceBoundaries();
+        DateHistogramInterval interval = facetRequest.registrationInterval();
+
+        List<Expression<?>> groups = new ArrayList<>();
+        if (!boundaries.isEmpty()) {
+            groups.add(priceBucketOf(boundaries, teachingClass));
+        }
+        List<NumberExpression<Integer>> dateParts = datePartsOf(interval, teachingClass);
+        groups.addAll(dateParts);
+
+        List<Expression<?>> projection = new ArrayList<>(groups);
+        projection.add(teachingClass.count());
+
+        List<Tuple> rows = queryFactory
+                .select(projection.toArray(new Expression<?>[0]))
+                .from(teachingClass)
+                .join(teachingClass.teacher, teacher)
+                .where(teacherIdEq(teacherId, teacher),
+                        titleContains(titleKeyword, teachingClass))
+                .groupBy(groups.toArray(new Expression<?>[0]))
+                .fetch();
+
+        long[] priceCounts = new long[boundaries.size() + 1];
+        Map<LocalDate, Long> histogram = new TreeMap<>();
+        int datePartsFrom = boundaries.isEmpty() ? 0 : 1;
+        for (Tuple row : rows) {
+            long count = numberAt(row, groups.size()).longValue();
+            if (!boundaries.isEmpty()) {
+                priceCounts[numberAt(row, 0).intValue()] += count;
+            }
+            LocalDate start = intervalStart(row, datePartsFrom, interval);
+            if (start != null) {
+                histogram.merge(start, count, Long::sum);
+            }
+        }
+
+        return new ClassFacets(toPriceBuckets(boundaries, priceCounts), toDateBuckets(histogram));
+    }
+
+    /**
+     * Maps a price to the index of its bucket. The boundaries are validated integers, so they are inlined as
+     * literals: the same SQL text then appears in SELECT and GROUP BY, as ONLY_FULL_GROUP_BY requires.
+     */
+    private NumberExpression<Integer> priceBucketOf(List<Integer> boundaries, QTeachingClassEntity teachingClass) {
+        StringBuilder template = new StringBuilder("case");
+        for (int i = 0; i < boundaries.size(); i++) {
+            template.append(" when {0} < ").append(boundaries.get(i)).append(" then ").append(i);
+        }
+        template.append(" else ").append(boundaries.size()).append(" end");
+        return Expressions.numberTemplate(Integer.class, template.toString(), teachingClass.price);
+    }
+
+    private List<NumberExpression<Integer>> datePartsOf(DateHistogramInterval interval, QTeachingClassEntity teachingClass) {
+        if (interval == null) {
+            return List.of();
+        }
+        return switch (interval) {
+            case YEAR -> List.of(teachingClass.registeredAt.year());
+            case MONTH -> List.of(teachingClass.registeredAt.year(), teachingClass.registeredAt.month());
+            case DAY -> List.of(teachingClass.registeredAt.year(), teachingClass.registeredAt.month(), teachingClass.registeredAt.dayOfMonth());
+        };
+    }
+
+    private LocalDate intervalStart(Tuple row, int from, DateHistogramInterval interval) {
+        if (interval == null || row.get(from, Object.class) == null) {
+            return null;
+        }
+        int year = numberAt(row, from).intValue();
+        return switch (interval) {
+            case YEAR -> LocalDate.of(year, 1, 1);
+            case MONTH -> LocalDate.of(year, numberAt(row, from + 1).intValue(), 1);
+            case DAY -> LocalDate.of(year, numberAt(row, from + 1).intValue(), numberAt(row, from + 2).intValue());
+        };
+    }
+
+    private List<PriceBucket> toPriceBuckets(List<Integer> boundaries, long[] priceCounts) {
+        if (boundaries.isEmpty()) {
+            return List.of();
+        }
+        List<PriceBucket> buckets = new ArrayList<>(priceCounts.length);
+        for (int i = 0; i < priceCounts.length; i++) {
+            Integer from = i > 0 ? boundaries.get(i - 1) : null;
+            Integer to = i < boundaries.size() ? boundaries.get(i) : null;
+            buckets.add(new PriceBucket(from, to, priceCounts[i]));
+        }
+        return buckets;
+    }
+
+    private List<DateBucket> toDateBuckets(Map<LocalDate, Long> histogram) {
+        return histogram.entrySet().stream()
+                .map(entry -> new DateBucket(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private Number numberAt(Tuple row, int index) {
+        // Databases disagree on the numeric type of CASE, YEAR() and COUNT() results
+        return (Number) row.get(index, Object.class);
+    }
+}
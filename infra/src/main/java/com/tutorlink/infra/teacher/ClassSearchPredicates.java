@@ -0,0 +1,56 @@
+package com.tutorlink.infra.teacher;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.tutorlink.teacher.domain.ActiveStatus;
+
+import java.util.Set;
+
+/**
+ * Filter predicates shared by the class listing, count and facet queries, so that every query over
+ * the same {@link com.tutorlink.teacher.dto.ClassSearchCondition} matches the same classes.
+ * Each method returns null when its filter does not apply, which QueryDSL ignores in {@code where}.
+ */
+final class ClassSearchPredicates {
+
+    private ClassSearchPredicates() {
+    }
+
+    static BooleanExpression teacherIdFkEq(Long teacherId, QTeachingClassEntity teachingClass) {
+        // Mirrors the inner join of the content query: classes without a teacher are never listed
+        return teacherId != null ? teachingClass.teacher.id.eq(teacherId) : teachingClass.teacher.isNotNull();
+    }
+
+    static BooleanExpression teacherIdEq(Long teacherId, QTeacherEntity teacher) {
+        return teacherId != null ? teacher.id.eq(teacherId) : null;
+    }
+
+    static BooleanExpression activeTeacher(boolean activeTeachersOnly, QTeacherEntity teacher) {
+        return activeTeachersOnly ? teacher.activeStatus.eq(ActiveStatus.ACTIVE) : null;
+    }
+
+    /**
+     * Resolves the keyword through the title inverted index: only classes holding every gram of the keyword
+     * (the intersection of the posting lists) are candidates, and the LIKE check runs on those candidates only
+     * to drop grams that occur in the title but not next to each other.
+     * Keywords shorter than a gram have no posting list to look up and fall back to a plain LIKE scan.
+     */
+    static BooleanExpression titleContains(String keyword, QTeachingClassEntity teachingClass) {
+        if (keyword == null || keyword.isEmpty()) {
+            return null;
+        }
+        Set<String> grams = TitleGramTokenizer.grams(keyword);
+        if (grams.isEmpty()) {
+            return teachingClass.title.contains(keyword);
+        }
+
+        QTitleGramEntity titleGram = QTitleGramEntity.titleGramEntity;
+        return teachingClass.id.in(
+                        JPAExpressions.select(titleGram.id.classId)
+                                .from(titleGram)
+                                .where(titleGram.id.gram.in(grams))
+                                .groupBy(titleGram.id.classId)
+                                .having(titleGram.id.gram.count().eq((long) grams.size())))
+                .and(teachingClass.title.contains(keyword));
+    }
+}
@@ -0,0 +1,38 @@
+package com.tutorlink.infra.teacher;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk import: the last source line whose records are committed.
+ * Written by {@link JdbcTeacherImportRepository} in the same transaction as the imported rows.
+ */
+@Entity
+@Table(name = "import_checkpoint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ImportCheckpointEntity {
+
+    @Id
+    @Column(name = "import_key")
+    private String importKey;
+
+    @Column(name = "last_line", nullable = false)
+    private long lastLine;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ImportCheckpointEntity(String importKey, long lastLine, LocalDateTime updatedAt) {
+        this.importKey = importKey;
+        this.lastLine = lastLine;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,123 @@
+package com.tutorlink.infra.teacher;
+
+import com.tutorlink.infra.catalog.ColumnarClassCatalog;
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.readmodel.ClassCatalogReadModel;
+import com.tutorlink.infra.readmodel.ClassCatalogRow;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import com.tutorlink.teacher.domain.event.TeacherRegistered;
+import com.tutorlink.teacher.domain.repository.TeacherEventOutbox;
+import com.tutorlink.teacher.domain.repository.TeacherImportRepository;
+import com.tutorlink.teacher.dto.ClassChangeType;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of the bulk import write path.
+ * <p>
+ * Rows are written with {@link JdbcTemplate#batchUpdate} straight from the domain objects, skipping entity mapping,
+ * persistence context bookkeeping and dirty checking. With {@code rewriteBatchedStatements} the MySQL driver sends
+ * every batch as multi-row INSERT statements. The registration events of the imported teachers and classes are stored in
+ * the outbox in the transaction of their chunk, like those of a registration through the service.
+ */
+@Repository
+public class JdbcTeacherImportRepository implements TeacherImportRepository {
+
+    private static final String INSERT_TEACHER =
+            "insert into teacher_entity (id, name, active_status, class_count) values (?, ?, ?, ?)";
+    private static final String INSERT_CLASS =
+            "insert into teaching_class_entity (id, title, description, price, registered_at, teacher_id) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GRAM =
+            "insert into title_gram (gram, class_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Optional<ColumnarClassCatalog> classCatalog;
+    private final Optional<ClassCatalogReadModel> classCatalogReadModel;
+    private final Optional<ClassChangeLog> classChangeLog;
+    private final TeacherEventOutbox teacherEventOutbox;
+
+    public JdbcTeacherImportRepository(JdbcTemplate jdbcTemplate, Optional<ColumnarClassCatalog> classCatalog,
+                                       Optional<ClassCatalogReadModel> classCatalogReadModel, Optional<ClassChangeLog> classChangeLog,
+                                       TeacherEventOutbox teacherEventOutbox) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.classCatalog = classCatalog;
+        this.classCatalogReadModel = classCatalogReadModel;
+        this.classChangeLog = classChangeLog;
+        this.teacherEventOutbox = teacherEventOutbox;
+    }
+
+    /**
+     * Not read-only, so that with read/write routing the checkpoint is read from the primary: a lagging replica would return an
+     * older checkpoint, and the chunks after it would be imported again
+     */
+    @Override
+    @Transactional
+    public long findCheckpoint(String importKey) {
+        List<Long> lastLines = jdbcTemplate.queryForList(
+                "select last_line from import_checkpoint where import_key = ?", Long.class, importKey);
+        return lastLines.isEmpty() ? 0L : lastLines.getFirst();
+    }
+
+    @Override
+    @Transactional
+    public void importChunk(String importKey, long checkpoint, List<Teacher> teachers) {
+        List<Object[]> teacherRows = new ArrayList<>(teachers.size());
+        List<Object[]> classRows = new ArrayList<>();
+        List<Object[]> gramRows = new ArrayList<>();
+        List<ClassMetadataDto> importedClasses = new ArrayList<>();
+        List<ClassCatalogRow> catalogRows = new ArrayList<>();
+        List<TeacherEvent> events = new ArrayList<>();
+        for (Teacher teacher : teachers) {
+            teacherRows.add(new Object[]{teacher.id(), teacher.name(), teacher.activeStatus().name(), teacher.teachingClasses().size()});
+            events.add(new TeacherRegistered(teacher.id(), teacher.name()));
+            for (TeachingClass teachingClass : teacher.teachingClasses()) {
+                classRows.add(new Object[]{teachingClass.id(), teachingClass.title(), teachingClass.description(),
+                        teachingClass.price(), Timestamp.valueOf(teachingClass.registeredAt()), teacher.id()});
+                for (String gram : TitleGramTokenizer.grams(teachingClass.title())) {
+                    gramRows.add(new Object[]{gram, teachingClass.id()});
+                }
+                ClassMetadataDto importedClass = new ClassMetadataDto(teachingClass.id(), teacher.id(), teachingClass.title(),
+                        teachingClass.description(), teachingClass.price(), teachingClass.registeredAt());
+                importedClasses.add(importedClass);
+                catalogRows.add(new ClassCatalogRow(importedClass, teacher.name(), teacher.activeStatus()));
+                events.add(new ClassRegistered(teachingClass.id(), teacher.id(), teachingClass.title(), teachingClass.price(),
+                        teachingClass.registeredAt()));
+            }
+        }
+
+        // Parents first, so the foreign keys of the class and gram rows are satisfied within each batch
+        jdbcTemplate.batchUpdate(INSERT_TEACHER, teacherRows);
+        jdbcTemplate.batchUpdate(INSERT_CLASS, classRows);
+        jdbcTemplate.batchUpdate(INSERT_GRAM, gramRows);
+        classCatalogReadModel.ifPresent(readModel -> readModel.insertClasses(catalogRows));
+        classChangeLog.ifPresent(changeLog -> {
+            changeLog.appendTeachers(teachers);
+            changeLog.appendClasses(ClassChangeType.CLASS_INSERTED, importedClasses);
+        });
+        teacherEventOutbox.append(events);
+        saveCheckpoint(importKey, checkpoint);
+
+        classCatalog.ifPresent(catalog -> catalog.upsertAllAfterCommit(importedClasses));
+    }
+
+    private void saveCheckpoint(String importKey, long checkpoint) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+                "update import_checkpoint set last_line = ?, updated_at = ? where import_key = ?", checkpoint, now, importKey);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "insert into import_checkpoint (import_key, last_line, updated_at) values (?, ?, ?)", importKey, checkpoint, now);
+        }
+    }
+}
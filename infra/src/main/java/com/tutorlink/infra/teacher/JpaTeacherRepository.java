@@ -1,8 +1,38 @@
 package com.tutorlink.infra.teacher;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface JpaTeacherRepository extends JpaRepository<TeacherEntity, Long>, TeacherRepositoryCustom {
+public interface JpaTeacherRepository extends JpaRepository<TeacherEntity, Long>, TeacherRepositoryCustom, ClassFacetRepository {
+
+    /**
+     * Loads a teacher together with all of its classes in a single fetch-join statement.
+     * The entities are loaded read-only, so Hibernate keeps no dirty-checking snapshot for them.
+     *
+     * @param id the ID of the teacher
+     * @return the teacher with its classes initialized
+     */
+    @EntityGraph(attributePaths = "teachingClasses")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<TeacherEntity> findWithClassesById(Long id);
+
+    /**
+     * Raises every teacher's class counter that is below the number of its class rows, e.g. for teachers registered before the
+     * counter existed. Counters are never lowered, so a concurrent registration cannot end up uncounted.
+     *
+     * @return the number of updated teachers
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update TeacherEntity t set t.classCount = (select count(c) from TeachingClassEntity c where c.teacher = t)"
+            + " where t.classCount < (select count(c) from TeachingClassEntity c where c.teacher = t)")
+    int recountClasses();
 }
@@ -1,10 +1,12 @@
 package com.tutorlink.infra.teacher;
 
+import com.tutorlink.infra.id.TimeOrderedId;
 import com.tutorlink.teacher.domain.ActiveStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,7 +17,7 @@ import java.util.List;
 public class TeacherEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String name;
@@ -23,7 +25,23 @@ public class TeacherEntity {
     @Enumerated(EnumType.STRING)
     private ActiveStatus activeStatus;
 
+    /**
+     * Number of classes of the teacher, maintained on every registration so the cap can be checked without counting rows
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int classCount;
+
+    /**
+     * Optimistic lock version, incremented on every change of the aggregate (including class registrations)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "teacher", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id asc")
     private List<TeachingClassEntity> teachingClasses = new ArrayList<>();
 
     protected TeacherEntity(Long id, String name, ActiveStatus activeStatus) {
@@ -50,6 +68,12 @@ public class TeacherEntity {
             this.teachingClasses = new ArrayList<>();
         }
         this.teachingClasses.add(teachingClassEntity);
+        this.classCount++;
         teachingClassEntity.addTeacher(this);
     }
+
+    public void update(String name, ActiveStatus activeStatus) {
+        this.name = name;
+        this.activeStatus = activeStatus != null ? activeStatus : ActiveStatus.ACTIVE;
+    }
 }
@@ -2,6 +2,7 @@ package com.tutorlink.infra.teacher;
 
 import com.tutorlink.teacher.domain.Teacher;
 import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,12 +14,14 @@ public class TeacherMapper {
                 entity.getId(),
                 entity.getName(),
                 mapTeachingClassesToDomain(entity.getTeachingClasses(), entity.getId()),
-                entity.getActiveStatus()
+                entity.getActiveStatus(),
+                entity.getVersion()
         );
     }
 
     public static TeacherEntity toEntity(Teacher domain) {
         TeacherEntity entity = new TeacherEntity(
+                assignedId(domain.id()),
                 domain.name(),
                 domain.activeStatus()
         );
@@ -27,6 +30,7 @@ public class TeacherMapper {
         if (domain.teachingClasses() != null && !domain.teachingClasses().isEmpty()) {
             for (TeachingClass teachingClass : domain.teachingClasses()) {
                 TeachingClassEntity classEntity = new TeachingClassEntity(
+                        assignedId(teachingClass.id()),
                         teachingClass.title(),
                         teachingClass.description(),
                         teachingClass.price(),
@@ -56,4 +60,22 @@ public class TeacherMapper {
                 ))
                 .collect(Collectors.toList());
     }
+
+    public static ClassMetadataDto toClassMetadata(TeachingClassEntity entity) {
+        return new ClassMetadataDto(
+                entity.getId(),
+                entity.getTeacher().getId(),
+                entity.getTitle(),
+                entity.getDescription(),
+                entity.getPrice(),
+                entity.getRegisteredAt()
+        );
+    }
+
+    /**
+     * The domain uses 0 as the placeholder of an unassigned id, the entity uses null so that one is generated on persist
+     */
+    static Long assignedId(Long id) {
+        return id == null || id == 0L ? null : id;
+    }
 }
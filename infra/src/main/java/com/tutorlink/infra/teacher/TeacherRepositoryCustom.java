@@ -2,7 +2,10 @@ package com.tutorlink.infra.teacher;
 
 import com.tutorlink.teacher.dto.ClassMetadataDto;
 import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.CursorPageRequest;
+import com.tutorlink.teacher.dto.CursorPageResponse;
 import com.tutorlink.teacher.dto.PageResponse;
+import com.tutorlink.teacher.dto.SliceResponse;
 
 /**
  * Custom repository interface for TeacherRepository
@@ -17,4 +20,31 @@ public interface TeacherRepositoryCustom {
      * @return a page of class metadata DTOs
      */
     PageResponse<ClassMetadataDto> findClassesByTeacherId(Long teacherId, ClassSearchCondition condition);
-}
\ No newline at end of file
+
+    /**
+     * Search the classes of all active teachers with pagination and filtering
+     *
+     * @param condition the search condition including pagination, filtering, and sorting parameters (latest first if no sort type is given)
+     * @return a page of class metadata DTOs
+     */
+    PageResponse<ClassMetadataDto> searchClassCatalog(ClassSearchCondition condition);
+
+    /**
+     * Find classes by teacher ID as a slice, without counting the total number of matching classes
+     *
+     * @param teacherId the ID of the teacher
+     * @param condition the search condition including pagination, filtering, and sorting parameters
+     * @return a slice of class metadata DTOs telling whether a next slice exists
+     */
+    SliceResponse<ClassMetadataDto> findClassSliceByTeacherId(Long teacherId, ClassSearchCondition condition);
+
+    /**
+     * Find classes by teacher ID with keyset (cursor) pagination and filtering
+     *
+     * @param teacherId         the ID of the teacher
+     * @param condition         the search condition including filtering and sorting parameters (the page request is ignored)
+     * @param cursorPageRequest the cursor and size of the page to fetch
+     * @return a page of class metadata DTOs with the cursor of the next page
+     */
+    CursorPageResponse<ClassMetadataDto> findClassesByTeacherIdWithCursor(Long teacherId, ClassSearchCondition condition, CursorPageRequest cursorPageRequest);
+}
@@ -7,8 +7,14 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tutorlink.teacher.dto.*;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.tutorlink.infra.teacher.ClassSearchPredicates.activeTeacher;
+import static com.tutorlink.infra.teacher.ClassSearchPredicates.teacherIdEq;
+import static com.tutorlink.infra.teacher.ClassSearchPredicates.teacherIdFkEq;
+import static com.tutorlink.infra.teacher.ClassSearchPredicates.titleContains;
+
 @Repository
 public class TeacherRepositoryCustomImpl implements TeacherRepositoryCustom {
 
@@ -20,34 +26,79 @@ public class TeacherRepositoryCustomImpl implements TeacherRepositoryCustom {
 
     @Override
     public PageResponse<ClassMetadataDto> findClassesByTeacherId(Long teacherId, ClassSearchCondition condition) {
+        return findPage(teacherId, false, condition);
+    }
+
+    @Override
+    public PageResponse<ClassMetadataDto> searchClassCatalog(ClassSearchCondition condition) {
+        // The storefront always lists in a defined order so that every page is served from a (sort key, id) index
+        SortType sortType = condition.sortType() != null ? condition.sortType() : SortType.LATEST;
+        return findPage(null, true, ClassSearchCondition.of(condition.titleKeyword(), sortType, condition.pageRequest()));
+    }
+
+    @Override
+    public SliceResponse<ClassMetadataDto> findClassSliceByTeacherId(Long teacherId, ClassSearchCondition condition) {
+        JPAQuery<ClassMetadataDto> query = selectClassMetadata(teacherId, condition.titleKeyword());
+        applySort(query, condition.sortType());
+
+        PageRequest pageRequest = condition.pageRequest();
+        if (pageRequest == null) {
+            List<ClassMetadataDto> content = query.fetch();
+            return SliceResponse.of(content, 0, content.size(), false);
+        }
+
+        // Fetch one extra row to find out whether a next slice exists, no count query needed
+        List<ClassMetadataDto> content = query
+                .offset((long) pageRequest.page() * pageRequest.size())
+                .limit(pageRequest.size() + 1L)
+                .fetch();
+        boolean hasNext = content.size() > pageRequest.size();
+        if (hasNext) {
+            content = content.subList(0, pageRequest.size());
+        }
+        return SliceResponse.of(content, pageRequest.page(), pageRequest.size(), hasNext);
+    }
+
+    @Override
+    public CursorPageResponse<ClassMetadataDto> findClassesByTeacherIdWithCursor(Long teacherId, ClassSearchCondition condition, CursorPageRequest cursorPageRequest) {
         QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
-        QTeacherEntity teacher = QTeacherEntity.teacherEntity;
 
-        // Create base query
-        JPAQuery<ClassMetadataDto> query = queryFactory
-                .select(Projections.constructor(ClassMetadataDto.class,
-                        teachingClass.id,
-                        teachingClass.teacher.id,
-                        teachingClass.title,
-                        teachingClass.description,
-                        teachingClass.price,
-                        teachingClass.registeredAt))
-                .from(teachingClass)
-                .join(teachingClass.teacher, teacher)
-                .where(teacherIdEq(teacherId, teacher),
-                        titleContains(condition.titleKeyword(), teachingClass));
+        // Keyset pagination needs a total order, so fall back to the latest-first order when no sort type is given
+        SortType sortType = condition.sortType() != null ? condition.sortType() : SortType.LATEST;
+        ClassCursor cursor = cursorPageRequest.isFirst() ? null : ClassCursor.decode(cursorPageRequest.cursor());
+        if (cursor != null && cursor.sortType() != sortType) {
+            throw new IllegalArgumentException("Cursor was issued for sort type " + cursor.sortType() + " but " + sortType + " was requested");
+        }
 
-        // Apply sorting
-        if (condition.sortType() != null) {
-            if (condition.sortType() == SortType.LATEST) {
-                query.orderBy(teachingClass.registeredAt.desc());
-            } else if (condition.sortType() == SortType.PRICE) {
-                query.orderBy(teachingClass.price.asc());
-            }
+        // Seek past the last returned row instead of skipping rows with an offset
+        JPAQuery<ClassMetadataDto> query = selectClassMetadata(teacherId, condition.titleKeyword())
+                .where(seekAfter(cursor, teachingClass));
+        if (sortType == SortType.PRICE) {
+            query.orderBy(teachingClass.price.asc(), teachingClass.id.asc());
+        } else {
+            // Databases disagree on where nulls sort, so classes without a registration time are placed last explicitly
+            query.orderBy(teachingClass.registeredAt.desc().nullsLast(), teachingClass.id.desc());
+        }
+
+        // Fetch one extra row to find out whether a next page exists
+        int size = cursorPageRequest.size();
+        List<ClassMetadataDto> content = query.limit(size + 1L).fetch();
+        if (content.size() <= size) {
+            return CursorPageResponse.of(content, size, null);
         }
 
-        // Count total elements
-        long total = query.fetchCount();
+        List<ClassMetadataDto> page = content.subList(0, size);
+        String nextCursor = ClassCursor.after(sortType, page.getLast()).encode();
+        return CursorPageResponse.of(page, size, nextCursor);
+    }
+
+    private PageResponse<ClassMetadataDto> findPage(Long teacherId, boolean activeTeachersOnly, ClassSearchCondition condition) {
+        // Create base query
+        JPAQuery<ClassMetadataDto> query = selectClassMetadata(teacherId, condition.titleKeyword())
+                .where(activeTeacher(activeTeachersOnly, QTeacherEntity.teacherEntity));
+
+        // Apply sorting
+        applySort(query, condition.sortType());
 
         // Apply pagination if requested
         PageRequest pageRequest = condition.pageRequest();
@@ -59,6 +110,9 @@ public class TeacherRepositoryCustomImpl implements TeacherRepositoryCustom {
         // Execute query
         List<ClassMetadataDto> content = query.fetch();
 
+        // Count total elements only when the page itself does not tell us
+        long total = countTotal(teacherId, activeTeachersOnly, condition.titleKeyword(), pageRequest, content.size());
+
         // Calculate pagination metadata
         int pageNumber = pageRequest != null ? pageRequest.page() : 0;
         int pageSize = pageRequest != null ? pageRequest.size() : content.size();
@@ -68,11 +122,89 @@ public class TeacherRepositoryCustomImpl implements TeacherRepositoryCustom {
         return PageResponse.of(content, pageNumber, pageSize, total, totalPages);
     }
 
-    private BooleanExpression teacherIdEq(Long teacherId, QTeacherEntity teacher) {
-        return teacherId != null ? teacher.id.eq(teacherId) : null;
+    private JPAQuery<ClassMetadataDto> selectClassMetadata(Long teacherId, String titleKeyword) {
+        QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
+        QTeacherEntity teacher = QTeacherEntity.teacherEntity;
+
+        return queryFactory
+                .select(Projections.constructor(ClassMetadataDto.class,
+                        teachingClass.id,
+                        teachingClass.teacher.id,
+                        teachingClass.title,
+                        teachingClass.description,
+                        teachingClass.price,
+                        teachingClass.registeredAt))
+                .from(teachingClass)
+                .join(teachingClass.teacher, teacher)
+                .where(teacherIdEq(teacherId, teacher),
+                        titleContains(titleKeyword, teachingClass));
+    }
+
+    private void applySort(JPAQuery<ClassMetadataDto> query, SortType sortType) {
+        QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
+
+        // The id tie-breaker makes the order total and matches the (registered_at, id) / (price, id) indexes
+        if (sortType == SortType.LATEST) {
+            query.orderBy(teachingClass.registeredAt.desc(), teachingClass.id.desc());
+        } else if (sortType == SortType.PRICE) {
+            query.orderBy(teachingClass.price.asc(), teachingClass.id.asc());
+        }
     }
 
-    private BooleanExpression titleContains(String keyword, QTeachingClassEntity teachingClass) {
-        return keyword != null && !keyword.isEmpty() ? teachingClass.title.contains(keyword) : null;
+    /**
+     * Resolves the total number of matching classes, skipping the count query when the fetched page already
+     * determines it (no pagination, or a non-empty page smaller than the page size, i.e. the last page).
+     */
+    private long countTotal(Long teacherId, boolean activeTeachersOnly, String titleKeyword, PageRequest pageRequest, int contentSize) {
+        if (pageRequest == null) {
+            return contentSize;
+        }
+        long offset = (long) pageRequest.page() * pageRequest.size();
+        if (contentSize < pageRequest.size() && (offset == 0 || contentSize > 0)) {
+            return offset + contentSize;
+        }
+        return countClasses(teacherId, activeTeachersOnly, titleKeyword);
+    }
+
+    /**
+     * Dedicated count query: no ORDER BY and no projection. The teacher table is only joined when the
+     * teacher's status must be checked; a teacher filter alone only needs the teacher_id foreign key column.
+     */
+    private long countClasses(Long teacherId, boolean activeTeachersOnly, String titleKeyword) {
+        QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
+        QTeacherEntity teacher = QTeacherEntity.teacherEntity;
+
+        JPAQuery<Long> query = queryFactory
+                .select(teachingClass.count())
+                .from(teachingClass);
+        if (activeTeachersOnly) {
+            query.join(teachingClass.teacher, teacher)
+                    .where(teacherIdEq(teacherId, teacher), activeTeacher(true, teacher));
+        } else {
+            query.where(teacherIdFkEq(teacherId, teachingClass));
+        }
+
+        Long count = query
+                .where(titleContains(titleKeyword, teachingClass))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    private BooleanExpression seekAfter(ClassCursor cursor, QTeachingClassEntity teachingClass) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.sortType() == SortType.PRICE) {
+            int price = cursor.price();
+            return teachingClass.price.gt(price)
+                    .or(teachingClass.price.eq(price).and(teachingClass.id.gt(cursor.id())));
+        }
+        LocalDateTime registeredAt = cursor.registeredAt();
+        if (registeredAt == null) {
+            return teachingClass.registeredAt.isNull().and(teachingClass.id.lt(cursor.id()));
+        }
+        return teachingClass.registeredAt.lt(registeredAt)
+                .or(teachingClass.registeredAt.eq(registeredAt).and(teachingClass.id.lt(cursor.id())))
+                .or(teachingClass.registeredAt.isNull());
     }
-}
\ No newline at end of file
+}
@@ -1,41 +1,264 @@
 package com.tutorlink.infra.teacher;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tutorlink.infra.catalog.ColumnarClassCatalog;
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.readmodel.ClassCatalogReadModel;
+import com.tutorlink.infra.readmodel.ClassCatalogRow;
+import com.tutorlink.teacher.domain.ActiveStatus;
 import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
 import com.tutorlink.teacher.domain.repository.TeacherRepository;
 import com.tutorlink.teacher.dto.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
 public class TeacherRepositoryImpl implements TeacherRepository {
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private final JpaTeacherRepository jpaTeacherRepository;
+    private final JPAQueryFactory queryFactory;
+    private final TitleGramIndexer titleGramIndexer;
+    private final Optional<ColumnarClassCatalog> classCatalog;
+    private final Optional<ClassCatalogReadModel> classCatalogReadModel;
+    private final Optional<ClassChangeLog> classChangeLog;
 
-    public TeacherRepositoryImpl(JpaTeacherRepository jpaTeacherRepository) {
+    public TeacherRepositoryImpl(JpaTeacherRepository jpaTeacherRepository, JPAQueryFactory queryFactory,
+                                 TitleGramIndexer titleGramIndexer, Optional<ColumnarClassCatalog> classCatalog,
+                                 Optional<ClassCatalogReadModel> classCatalogReadModel, Optional<ClassChangeLog> classChangeLog) {
         this.jpaTeacherRepository = jpaTeacherRepository;
+        this.queryFactory = queryFactory;
+        this.titleGramIndexer = titleGramIndexer;
+        this.classCatalog = classCatalog;
+        this.classCatalogReadModel = classCatalogReadModel;
+        this.classChangeLog = classChangeLog;
     }
 
     @Override
+    @Transactional
     public Teacher save(Teacher teacher) {
+        // Ids are assigned by the application, so an id alone does not tell whether the teacher is already stored
+        Optional<TeacherEntity> existing = isNew(teacher.id()) ? Optional.empty() : loadForUpdate(teacher.id());
+        if (existing.isEmpty()) {
+            return insert(teacher);
+        }
+
+        // The teacher was loaded in an earlier transaction and someone else has saved it since
+        TeacherEntity entity = existing.get();
+        if (entity.getVersion() != teacher.version()) {
+            throw new ObjectOptimisticLockingFailureException(TeacherEntity.class, teacher.id());
+        }
+
+        // Apply only what changed to the managed aggregate instead of rebuilding it
+        boolean teacherChanged = !Objects.equals(entity.getName(), teacher.name()) || entity.getActiveStatus() != teacher.activeStatus();
+        entity.update(teacher.name(), teacher.activeStatus());
+
+        Map<Long, TeachingClassEntity> existingClasses = entity.getTeachingClasses().stream()
+                .collect(Collectors.toMap(TeachingClassEntity::getId, Function.identity()));
+        List<TeachingClassEntity> insertedClasses = new ArrayList<>();
+        List<TeachingClassEntity> changedClasses = new ArrayList<>();
+        for (TeachingClass teachingClass : teacher.teachingClasses()) {
+            TeachingClassEntity classEntity = isNew(teachingClass.id()) ? null : existingClasses.get(teachingClass.id());
+            if (classEntity == null) {
+                classEntity = new TeachingClassEntity(
+                        TeacherMapper.assignedId(teachingClass.id()),
+                        teachingClass.title(),
+                        teachingClass.description(),
+                        teachingClass.price(),
+                        entity,
+                        teachingClass.registeredAt()
+                );
+                entity.addClass(classEntity);
+                entityManager.persist(classEntity);
+                insertedClasses.add(classEntity);
+            } else if (classEntity.update(teachingClass.title(), teachingClass.description(), teachingClass.price(), teachingClass.registeredAt())) {
+                changedClasses.add(classEntity);
+            }
+        }
+
+        // A registration bumps the version through class_count; a class edit alone leaves the teacher row clean, so bump it explicitly
+        if (insertedClasses.isEmpty() && !changedClasses.isEmpty()) {
+            entityManager.lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        }
+
+        insertedClasses.forEach(titleGramIndexer::index);
+        changedClasses.forEach(titleGramIndexer::reindex);
+        List<TeachingClassEntity> touchedClasses = new ArrayList<>(insertedClasses);
+        touchedClasses.addAll(changedClasses);
+        classCatalog.ifPresent(catalog -> upsertAfterCommit(catalog, touchedClasses));
+        classCatalogReadModel.ifPresent(readModel -> {
+            if (teacherChanged) {
+                readModel.updateTeacher(entity.getId(), entity.getName(), entity.getActiveStatus());
+            }
+            insertIntoReadModel(readModel, entity, insertedClasses);
+            readModel.updateClasses(changedClasses.stream().map(TeacherMapper::toClassMetadata).toList());
+        });
+        classChangeLog.ifPresent(changeLog -> {
+            if (teacherChanged) {
+                changeLog.appendTeacher(entity.getId(), entity.getName(), entity.getActiveStatus());
+            }
+            changeLog.appendClasses(ClassChangeType.CLASS_INSERTED, insertedClasses.stream().map(TeacherMapper::toClassMetadata).toList());
+            changeLog.appendClasses(ClassChangeType.CLASS_UPDATED, changedClasses.stream().map(TeacherMapper::toClassMetadata).toList());
+        });
+
+        // Flush here so that a concurrent save surfaces as a conflict of this call and the returned teacher carries the new version
+        entityManager.flush();
+        return TeacherMapper.toDomain(entity);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> appendClass(TeachingClass teachingClass, int maxClassCount) {
+        QTeacherEntity teacher = QTeacherEntity.teacherEntity;
+
+        // Claim a slot first: the row lock taken by the update serializes concurrent registrations of the same teacher
+        long claimed = queryFactory
+                .update(teacher)
+                .set(teacher.classCount, teacher.classCount.add(1))
+                .set(teacher.version, teacher.version.add(1))
+                .where(teacher.id.eq(teachingClass.teacherId()),
+                        teacher.classCount.lt(maxClassCount),
+                        teacher.activeStatus.eq(ActiveStatus.ACTIVE))
+                .execute();
+        if (claimed == 0) {
+            return Optional.empty();
+        }
+
+        // The teacher is referenced by id only, it is never loaded
+        TeachingClassEntity classEntity = new TeachingClassEntity(
+                TeacherMapper.assignedId(teachingClass.id()),
+                teachingClass.title(),
+                teachingClass.description(),
+                teachingClass.price(),
+                entityManager.getReference(TeacherEntity.class, teachingClass.teacherId()),
+                teachingClass.registeredAt()
+        );
+        entityManager.persist(classEntity);
+        titleGramIndexer.index(classEntity);
+        classCatalog.ifPresent(catalog -> upsertAfterCommit(catalog, List.of(classEntity)));
+        // Only the teacher's id is at hand, the catalog copies its name and status from the teacher row
+        classCatalogReadModel.ifPresent(readModel -> readModel.insertClassesOfStoredTeachers(List.of(TeacherMapper.toClassMetadata(classEntity))));
+        classChangeLog.ifPresent(changeLog -> changeLog.appendClasses(ClassChangeType.CLASS_INSERTED, List.of(TeacherMapper.toClassMetadata(classEntity))));
+        return Optional.of(classEntity.getId());
+    }
+
+    @Override
+    @Transactional
+    public Teacher insert(Teacher teacher) {
+        // Persist rather than merge: the entity is known to be new, and merging an entity with an assigned id would SELECT it first
         TeacherEntity entity = TeacherMapper.toEntity(teacher);
-        TeacherEntity savedEntity = jpaTeacherRepository.save(entity);
-        return TeacherMapper.toDomain(savedEntity);
+        entityManager.persist(entity);
+        entity.getTeachingClasses().forEach(titleGramIndexer::index);
+        classCatalog.ifPresent(catalog -> upsertAfterCommit(catalog, entity.getTeachingClasses()));
+        classCatalogReadModel.ifPresent(readModel -> insertIntoReadModel(readModel, entity, entity.getTeachingClasses()));
+        classChangeLog.ifPresent(changeLog -> {
+            changeLog.appendTeacher(entity.getId(), entity.getName(), entity.getActiveStatus());
+            changeLog.appendClasses(ClassChangeType.CLASS_INSERTED, entity.getTeachingClasses().stream().map(TeacherMapper::toClassMetadata).toList());
+        });
+        return TeacherMapper.toDomain(entity);
+    }
+
+    /**
+     * Loads the aggregate with the fetch-join query and makes it writable again,
+     * since the same query serves read-only lookups and may have left the entities read-only in this persistence context.
+     */
+    private Optional<TeacherEntity> loadForUpdate(Long id) {
+        Optional<TeacherEntity> entity = jpaTeacherRepository.findWithClassesById(id);
+        Session session = entityManager.unwrap(Session.class);
+        entity.ifPresent(teacherEntity -> {
+            session.setReadOnly(teacherEntity, false);
+            teacherEntity.getTeachingClasses().forEach(classEntity -> session.setReadOnly(classEntity, false));
+        });
+        return entity;
+    }
+
+    private boolean isNew(Long id) {
+        return TeacherMapper.assignedId(id) == null;
     }
 
     @Override
     public Optional<Teacher> findById(Long id) {
-        return jpaTeacherRepository.findById(id)
+        // Load the teacher and its classes in one statement, the mapper touches every class anyway
+        return jpaTeacherRepository.findWithClassesById(id)
                 .map(TeacherMapper::toDomain);
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        return jpaTeacherRepository.existsById(id);
+    }
+
     @Override
     public PageResponse<ClassMetadataDto> findClassesByTeacherId(Long teacherId, ClassSearchCondition condition) {
-        // Delegate to the QueryDSL implementation in TeacherRepositoryCustomImpl
+        // Serve from the in-memory catalog once it is loaded and in sync, then from the read model table, otherwise from the QueryDSL implementation
+        Optional<ColumnarClassCatalog> loadedCatalog = classCatalog.filter(ColumnarClassCatalog::isReady);
+        if (loadedCatalog.isPresent()) {
+            return loadedCatalog.get().findClassesByTeacherId(teacherId, condition);
+        }
+        Optional<ClassCatalogReadModel> readModel = classCatalogReadModel.filter(ClassCatalogReadModel::isReady);
+        if (readModel.isPresent()) {
+            return readModel.get().findClassesByTeacherId(teacherId, condition);
+        }
         return jpaTeacherRepository.findClassesByTeacherId(teacherId, condition);
     }
+
+    @Override
+    public ClassFacets findClassFacets(Long teacherId, ClassSearchCondition condition, ClassFacetRequest facetRequest) {
+        return jpaTeacherRepository.findClassFacets(teacherId, condition, facetRequest);
+    }
+
+    @Override
+    public PageResponse<ClassMetadataDto> searchClassCatalog(ClassSearchCondition condition) {
+        Optional<ClassCatalogReadModel> readModel = classCatalogReadModel.filter(ClassCatalogReadModel::isReady);
+        if (readModel.isPresent()) {
+            return readModel.get().searchClassCatalog(condition);
+        }
+        return jpaTeacherRepository.searchClassCatalog(condition);
+    }
+
+    @Override
+    public SliceResponse<ClassMetadataDto> findClassSliceByTeacherId(Long teacherId, ClassSearchCondition condition) {
+        return jpaTeacherRepository.findClassSliceByTeacherId(teacherId, condition);
+    }
+
+    @Override
+    public CursorPageResponse<ClassMetadataDto> findClassesByTeacherIdWithCursor(Long teacherId, ClassSearchCondition condition, CursorPageRequest cursorPageRequest) {
+        return jpaTeacherRepository.findClassesByTeacherIdWithCursor(teacherId, condition, cursorPageRequest);
+    }
+
+    @Override
+    public ClassChangeFeed findClassChanges(Long teacherId, long sinceToken, int limit) {
+        return classChangeLog
+                .orElseThrow(() -> new IllegalStateException("The class change feed is not enabled"))
+                .findChanges(teacherId, sinceToken, limit);
+    }
+
+    private void insertIntoReadModel(ClassCatalogReadModel readModel, TeacherEntity teacher, List<TeachingClassEntity> classEntities) {
+        readModel.insertClasses(classEntities.stream()
+                .map(classEntity -> new ClassCatalogRow(TeacherMapper.toClassMetadata(classEntity), teacher.getName(), teacher.getActiveStatus()))
+                .toList());
+    }
+
+    private void upsertAfterCommit(ColumnarClassCatalog catalog, List<TeachingClassEntity> classEntities) {
+        catalog.upsertAllAfterCommit(classEntities.stream()
+                .map(TeacherMapper::toClassMetadata)
+                .toList());
+    }
 }
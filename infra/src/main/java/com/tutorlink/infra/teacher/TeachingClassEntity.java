@@ -1,19 +1,26 @@
 package com.tutorlink.infra.teacher;
 
+import com.tutorlink.infra.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_teaching_class_registered_at_id", columnList = "registered_at, id"),
+        @Index(name = "idx_teaching_class_price_id", columnList = "price, id"),
+        @Index(name = "idx_teaching_class_teacher_id_registered_at", columnList = "teacher_id, registered_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class TeachingClassEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String title;
@@ -34,6 +41,14 @@ public class TeachingClassEntity {
     }
 
     public TeachingClassEntity(String title, String description, int price, TeacherEntity teacher, LocalDateTime registeredAt) {
+        this(null, title, description, price, teacher, registeredAt);
+    }
+
+    /**
+     * @param id the id assigned by the application, or null to have one generated on persist
+     */
+    public TeachingClassEntity(Long id, String title, String description, int price, TeacherEntity teacher, LocalDateTime registeredAt) {
+        this.id = id;
         this.title = title;
         this.description = description;
         this.price = price;
@@ -44,4 +59,19 @@ public class TeachingClassEntity {
     public void addTeacher(TeacherEntity teacherEntity) {
         this.teacher = teacherEntity;
     }
+
+    /**
+     * @return whether any of the values differed from the current ones
+     */
+    public boolean update(String title, String description, int price, LocalDateTime registeredAt) {
+        boolean changed = !Objects.equals(this.title, title)
+                || !Objects.equals(this.description, description)
+                || this.price != price
+                || !Objects.equals(this.registeredAt, registeredAt);
+        this.title = title;
+        this.description = description;
+        this.price = price;
+        this.registeredAt = registeredAt;
+        return changed;
+    }
 }
@@ -0,0 +1,27 @@
+package com.tutorlink.infra.teacher;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Posting of the title inverted index: one row per (gram, class) pair.
+ * <p>
+ * The primary key leads with the gram, so the posting list of a gram is a contiguous range of class ids.
+ */
+@Entity
+@Table(name = "title_gram")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TitleGramEntity {
+
+    @EmbeddedId
+    private TitleGramId id;
+
+    public TitleGramEntity(String gram, Long classId) {
+        this.id = new TitleGramId(gram, classId);
+    }
+}
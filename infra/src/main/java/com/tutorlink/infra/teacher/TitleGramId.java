@@ -0,0 +1,28 @@
+package com.tutorlink.infra.teacher;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EqualsAndHashCode
+public class TitleGramId implements Serializable {
+
+    @Column(length = 8)
+    private String gram;
+
+    @Column(name = "class_id")
+    private Long classId;
+
+    public TitleGramId(String gram, Long classId) {
+        this.gram = gram;
+        this.classId = classId;
+    }
+}
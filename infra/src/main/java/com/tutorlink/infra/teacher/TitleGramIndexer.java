@@ -0,0 +1,82 @@
+package com.tutorlink.infra.teacher;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Maintains the title inverted index ({@link TitleGramEntity}) for registered classes.
+ */
+@Component
+public class TitleGramIndexer {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JPAQueryFactory queryFactory;
+
+    public TitleGramIndexer(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * Adds the postings of a newly persisted class. Runs in the caller's transaction.
+     *
+     * @param classEntity a persisted class (its id must be assigned)
+     */
+    @Transactional
+    public void index(TeachingClassEntity classEntity) {
+        for (String gram : TitleGramTokenizer.grams(classEntity.getTitle())) {
+            entityManager.persist(new TitleGramEntity(gram, classEntity.getId()));
+        }
+    }
+
+    /**
+     * Replaces the postings of a class whose title may have changed. Runs in the caller's transaction.
+     *
+     * @param classEntity a persisted class
+     */
+    @Transactional
+    public void reindex(TeachingClassEntity classEntity) {
+        QTitleGramEntity titleGram = QTitleGramEntity.titleGramEntity;
+        queryFactory.delete(titleGram)
+                .where(titleGram.id.classId.eq(classEntity.getId()))
+                .execute();
+        index(classEntity);
+    }
+
+    /**
+     * Drops and rebuilds the whole index, e.g. for classes registered before the index existed.
+     */
+    @Transactional
+    public void rebuild() {
+        QTitleGramEntity titleGram = QTitleGramEntity.titleGramEntity;
+        QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
+
+        queryFactory.delete(titleGram).execute();
+
+        long lastId = 0L;
+        while (true) {
+            List<TeachingClassEntity> chunk = queryFactory
+                    .selectFrom(teachingClass)
+                    .where(teachingClass.id.gt(lastId))
+                    .orderBy(teachingClass.id.asc())
+                    .limit(REBUILD_CHUNK_SIZE)
+                    .fetch();
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(this::index);
+            lastId = chunk.getLast().getId();
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.tutorlink.infra.teacher;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits class titles and search keywords into bigrams for the title inverted index.
+ * <p>
+ * Grams are taken over code points rather than words, so Korean titles without word boundaries
+ * (e.g. "자바프로그래밍") are searchable by any substring of two or more characters.
+ * Grams are lower-cased, which only widens the candidate set; the final LIKE check keeps the original semantics.
+ */
+public class TitleGramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private TitleGramTokenizer() {
+    }
+
+    /**
+     * @param text a class title or a search keyword
+     * @return the distinct grams of the text in order of appearance (empty if the text is shorter than a gram)
+     */
+    public static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,221 @@
+package com.tutorlink.infra.writebehind;
+
+import com.tutorlink.infra.catalog.ColumnarClassCatalog;
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.readmodel.ClassCatalogReadModel;
+import com.tutorlink.infra.teacher.TitleGramTokenizer;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.repository.TeacherEventOutbox;
+import com.tutorlink.teacher.dto.ClassChangeType;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inserts a group of journaled classes in a single transaction, so the whole group costs one commit.
+ * <p>
+ * Slots are claimed per teacher with one conditional update that adds all of the teacher's classes in the group at once.
+ * Only a teacher whose classes do not all fit is locked and read, to claim what is left; classes of a teacher that does not
+ * exist or is not active, and classes beyond the limit, are rejected. Teachers are updated in id order, so group commits lock
+ * teacher rows in the same order.
+ * <p>
+ * Classes already in the database are skipped: they are replayed from the journal after a crash that followed their commit,
+ * or belong to a group commit that is retried. A {@link ClassRegistered} event is stored in the outbox for every inserted class
+ * only, so replays do not dispatch an event twice.
+ */
+public class ClassGroupCommitWriter {
+
+    private static final String CLAIM_SLOTS =
+            "update teacher_entity set class_count = class_count + ?, version = version + 1"
+                    + " where id = ? and active_status = ? and class_count + ? <= ?";
+    private static final String INSERT_CLASS =
+            "insert into teaching_class_entity (id, title, description, price, registered_at, teacher_id) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GRAM =
+            "insert into title_gram (gram, class_id) values (?, ?)";
+    private static final int IN_CLAUSE_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ColumnarClassCatalog classCatalog;
+    private final ClassCatalogReadModel classCatalogReadModel;
+    private final ClassChangeLog classChangeLog;
+    private final TeacherEventOutbox teacherEventOutbox;
+    private final int maxClassCount;
+
+    /**
+     * @param classCatalog  the in-memory catalog to publish inserted classes to, or null if it is disabled
+     * @param maxClassCount the maximum number of classes a teacher may have
+     */
+    public ClassGroupCommitWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  ColumnarClassCatalog classCatalog, int maxClassCount) {
+        this(jdbcTemplate, transactionTemplate, classCatalog, null, null, null, maxClassCount);
+    }
+
+    /**
+     * @param classCatalog          the in-memory catalog to publish inserted classes to, or null if it is disabled
+     * @param classCatalogReadModel the read model table to insert the classes into in the same transaction, or null if it is disabled
+     * @param classChangeLog        the change log to record the classes in the same transaction, or null if it is disabled
+     * @param teacherEventOutbox    the outbox to store the registration events in the same transaction, or null to store none
+     * @param maxClassCount         the maximum number of classes a teacher may have
+     */
+    public ClassGroupCommitWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  ColumnarClassCatalog classCatalog, ClassCatalogReadModel classCatalogReadModel,
+                                  ClassChangeLog classChangeLog, TeacherEventOutbox teacherEventOutbox, int maxClassCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.classCatalog = classCatalog;
+        this.classCatalogReadModel = classCatalogReadModel;
+        this.classChangeLog = classChangeLog;
+        this.teacherEventOutbox = teacherEventOutbox;
+        this.maxClassCount = maxClassCount;
+    }
+
+    /**
+     * Insert the classes that fit in one transaction
+     *
+     * @param classes the classes to insert, in journal order
+     * @return the classes that are in the database after the commit and the rejected ones
+     */
+    public Result write(List<TeachingClass> classes) {
+        return transactionTemplate.execute(status -> writeInTransaction(classes));
+    }
+
+    private Result writeInTransaction(List<TeachingClass> classes) {
+        Set<Long> existingIds = findExistingIds(classes);
+        List<TeachingClass> written = new ArrayList<>(classes.size());
+        Map<Long, List<TeachingClass>> newClassesByTeacher = new TreeMap<>();
+        for (TeachingClass teachingClass : classes) {
+            if (existingIds.contains(teachingClass.id())) {
+                written.add(teachingClass);
+            } else {
+                newClassesByTeacher.computeIfAbsent(teachingClass.teacherId(), teacherId -> new ArrayList<>()).add(teachingClass);
+            }
+        }
+
+        List<TeachingClass> inserted = new ArrayList<>();
+        List<Rejection> rejected = new ArrayList<>();
+        newClassesByTeacher.forEach((teacherId, teacherClasses) -> {
+            int claimed = claimSlots(teacherId, teacherClasses.size());
+            inserted.addAll(teacherClasses.subList(0, claimed));
+            for (TeachingClass teachingClass : teacherClasses.subList(claimed, teacherClasses.size())) {
+                rejected.add(new Rejection(teachingClass, rejectionReason(teacherId)));
+            }
+        });
+
+        insert(inserted);
+        written.addAll(inserted);
+        return new Result(written, rejected);
+    }
+
+    /**
+     * @return how many of the requested slots were claimed
+     */
+    private int claimSlots(Long teacherId, int requested) {
+        if (jdbcTemplate.update(CLAIM_SLOTS, requested, teacherId, ActiveStatus.ACTIVE.name(), requested, maxClassCount) == 1) {
+            return requested;
+        }
+
+        // Not all of them fit: lock the teacher row and claim what is left
+        List<Integer> classCounts = jdbcTemplate.queryForList(
+                "select class_count from teacher_entity where id = ? and active_status = ? for update",
+                Integer.class, teacherId, ActiveStatus.ACTIVE.name());
+        if (classCounts.isEmpty()) {
+            return 0;
+        }
+        int available = Math.max(0, maxClassCount - classCounts.getFirst());
+        if (available == 0) {
+            return 0;
+        }
+        jdbcTemplate.update(CLAIM_SLOTS, available, teacherId, ActiveStatus.ACTIVE.name(), available, maxClassCount);
+        return available;
+    }
+
+    private String rejectionReason(Long teacherId) {
+        List<String> statuses = jdbcTemplate.queryForList(
+                "select active_status from teacher_entity where id = ?", String.class, teacherId);
+        if (statuses.isEmpty()) {
+            return "Teacher " + teacherId + " does not exist";
+        }
+        if (!ActiveStatus.ACTIVE.name().equals(statuses.getFirst())) {
+            return "Teacher " + teacherId + " is not active";
+        }
+        return "Teacher " + teacherId + " already has " + maxClassCount + " classes";
+    }
+
+    private void insert(List<TeachingClass> classes) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        List<Object[]> classRows = new ArrayList<>(classes.size());
+        List<Object[]> gramRows = new ArrayList<>();
+        List<ClassMetadataDto> insertedClasses = new ArrayList<>(classes.size());
+        for (TeachingClass teachingClass : classes) {
+            classRows.add(new Object[]{teachingClass.id(), teachingClass.title(), teachingClass.description(),
+                    teachingClass.price(), Timestamp.valueOf(teachingClass.registeredAt()), teachingClass.teacherId()});
+            for (String gram : TitleGramTokenizer.grams(teachingClass.title())) {
+                gramRows.add(new Object[]{gram, teachingClass.id()});
+            }
+            insertedClasses.add(new ClassMetadataDto(teachingClass.id(), teachingClass.teacherId(), teachingClass.title(),
+                    teachingClass.description(), teachingClass.price(), teachingClass.registeredAt()));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_CLASS, classRows);
+        if (!gramRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_GRAM, gramRows);
+        }
+        if (classCatalogReadModel != null) {
+            classCatalogReadModel.insertClassesOfStoredTeachers(insertedClasses);
+        }
+        if (classChangeLog != null) {
+            classChangeLog.appendClasses(ClassChangeType.CLASS_INSERTED, insertedClasses);
+        }
+        if (teacherEventOutbox != null) {
+            teacherEventOutbox.append(classes.stream().map(ClassRegistered::of).toList());
+        }
+        if (classCatalog != null) {
+            classCatalog.upsertAllAfterCommit(insertedClasses);
+        }
+    }
+
+    private Set<Long> findExistingIds(List<TeachingClass> classes) {
+        if (classes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> existingIds = new HashSet<>();
+        for (int from = 0; from < classes.size(); from += IN_CLAUSE_SIZE) {
+            List<TeachingClass> chunk = classes.subList(from, Math.min(from + IN_CLAUSE_SIZE, classes.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            existingIds.addAll(jdbcTemplate.queryForList(
+                    "select id from teaching_class_entity where id in (" + placeholders + ")",
+                    Long.class, chunk.stream().map(TeachingClass::id).toArray()));
+        }
+        return existingIds;
+    }
+
+    /**
+     * Outcome of a group commit
+     *
+     * @param written  the classes that are in the database after the commit, in journal order per teacher
+     * @param rejected the classes that were dropped
+     */
+    public record Result(List<TeachingClass> written, List<Rejection> rejected) {
+    }
+
+    /**
+     * @param teachingClass the dropped class
+     * @param reason        why the class was dropped
+     */
+    public record Rejection(TeachingClass teachingClass, String reason) {
+    }
+}
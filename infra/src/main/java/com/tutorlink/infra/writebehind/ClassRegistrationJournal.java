@@ -0,0 +1,310 @@
+package com.tutorlink.infra.writebehind;
+
+import com.tutorlink.teacher.domain.TeachingClass;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only local journal of accepted class registrations, split into segment files.
+ * <p>
+ * Every record is {@code [payload length][CRC32C][payload]}. A record only counts once {@link #sync(long)} returned for its
+ * position; concurrent callers of {@code sync} share a single {@code fsync}, so the cost of an fsync is paid once per group of
+ * registrations instead of once per registration.
+ * <p>
+ * Positions are {@code (segment << 40) | offset}, so they grow across segments and tell which segment a record lives in.
+ * Segments whose records are all in the database are deleted with {@link #release(long)} and {@link #releaseAll()}.
+ * On open, the records of existing segments are read back up to the first torn or corrupt record and exposed by {@link #recovered()}.
+ */
+public class ClassRegistrationJournal implements Closeable {
+
+    static final String SEGMENT_PREFIX = "registrations-";
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final int SEGMENT_SHIFT = 40;
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final List<Entry> recovered;
+
+    // Segments that still hold records not known to be in the database, by segment number
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+    private long segment;
+    private long offset;
+    private volatile long appended;
+    private long synced;
+
+    public ClassRegistrationJournal(Path directory, long segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            this.recovered = readSegments();
+            this.segment = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the records found in the journal when it was opened, in append order
+     */
+    public List<Entry> recovered() {
+        return recovered;
+    }
+
+    /**
+     * Write a record to the current segment. The record is not durable until {@link #sync(long)} returned for its position.
+     *
+     * @param teachingClass the class to record
+     * @return the position right after the record
+     */
+    public long append(TeachingClass teachingClass) {
+        ByteBuffer record = encode(teachingClass);
+        synchronized (writeLock) {
+            try {
+                if (offset > 0 && offset + record.remaining() > segmentBytes) {
+                    rotate();
+                }
+                while (record.hasRemaining()) {
+                    offset += channel.write(record);
+                }
+                appended = position(segment, offset);
+                return appended;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Make every record up to the given position durable. Callers arriving while an fsync is in progress wait for it and are
+     * then usually covered by the next one, which includes everything appended in the meantime.
+     *
+     * @param position a position returned by {@link #append(TeachingClass)}
+     */
+    public void sync(long position) {
+        synchronized (syncLock) {
+            if (synced >= position) {
+                return;
+            }
+            FileChannel target;
+            long covered;
+            synchronized (writeLock) {
+                target = channel;
+                covered = appended;
+            }
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // The segment was rotated in the meantime, and rotation forces a segment before closing it
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            synced = Math.max(synced, covered);
+        }
+    }
+
+    /**
+     * Drop the segments that only hold records before the given position.
+     *
+     * @param position the position of the last record written to the database; every record before it is written too
+     */
+    public void release(long position) {
+        synchronized (writeLock) {
+            deleteSegmentsBefore(Math.min(segmentOf(position), segment));
+        }
+    }
+
+    /**
+     * Drop every record appended so far. The caller guarantees that all of them are in the database and that no append
+     * is in progress.
+     */
+    public void releaseAll() {
+        synchronized (writeLock) {
+            try {
+                if (offset > 0) {
+                    rotate();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            deleteSegmentsBefore(segment);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            try {
+                channel.force(false);
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void deleteSegmentsBefore(long firstKept) {
+        try {
+            while (!segments.isEmpty() && segments.firstKey() < firstKept) {
+                Files.deleteIfExists(segments.pollFirstEntry().getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void rotate() throws IOException {
+        channel.force(false);
+        channel.close();
+        segment++;
+        openSegment();
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%016d", segment) + SEGMENT_SUFFIX);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        offset = 0;
+        appended = position(segment, 0);
+        segments.put(segment, path);
+        forceDirectory();
+    }
+
+    /**
+     * Makes the creation of a segment file durable. Not every platform allows opening a directory, in which case the file system's
+     * own guarantees apply.
+     */
+    private void forceDirectory() {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // best effort
+        }
+    }
+
+    private List<Entry> readSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .forEach(path -> {
+                        String name = path.getFileName().toString();
+                        segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), path);
+                    });
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (var segmentFile : segments.entrySet()) {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segmentFile.getValue())).order(ByteOrder.LITTLE_ENDIAN);
+            // A crash can leave a partly written record at the end of a segment; it was never acknowledged
+            while (data.remaining() >= RECORD_HEADER_BYTES) {
+                int length = data.getInt();
+                int checksum = data.getInt();
+                if (length <= 0 || length > data.remaining()) {
+                    break;
+                }
+                ByteBuffer payload = data.slice(data.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+                if (crc(payload) != checksum) {
+                    break;
+                }
+                data.position(data.position() + length);
+                entries.add(new Entry(position(segmentFile.getKey(), data.position()), decode(payload)));
+            }
+        }
+        return entries;
+    }
+
+    private static ByteBuffer encode(TeachingClass teachingClass) {
+        byte[] title = bytes(teachingClass.title());
+        byte[] description = bytes(teachingClass.description());
+        int length = 8 + 8 + 4 + 8 + 4 + 4 + title.length + 4 + description.length;
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + length).order(ByteOrder.LITTLE_ENDIAN);
+        record.putInt(length).putInt(0)
+                .putLong(teachingClass.id())
+                .putLong(teachingClass.teacherId())
+                .putInt(teachingClass.price())
+                .putLong(teachingClass.registeredAt().toEpochSecond(ZoneOffset.UTC))
+                .putInt(teachingClass.registeredAt().getNano());
+        putString(record, teachingClass.title(), title);
+        putString(record, teachingClass.description(), description);
+        record.putInt(4, crc(record.slice(RECORD_HEADER_BYTES, length)));
+        return record.flip();
+    }
+
+    private static TeachingClass decode(ByteBuffer payload) {
+        long id = payload.getLong();
+        long teacherId = payload.getLong();
+        int price = payload.getInt();
+        LocalDateTime registeredAt = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+        String title = string(payload);
+        String description = string(payload);
+        return new TeachingClass(id, teacherId, title, description, price, registeredAt);
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    /**
+     * Writes the length, -1 for null, followed by the UTF-8 bytes
+     */
+    private static void putString(ByteBuffer record, String value, byte[] bytes) {
+        record.putInt(value != null ? bytes.length : -1).put(bytes);
+    }
+
+    private static String string(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        payload.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static int crc(ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static long position(long segment, long offset) {
+        return (segment << SEGMENT_SHIFT) | offset;
+    }
+
+    private static long segmentOf(long position) {
+        return position >>> SEGMENT_SHIFT;
+    }
+
+    /**
+     * A recovered record
+     *
+     * @param position      the position right after the record
+     * @param teachingClass the recorded class
+     */
+    public record Entry(long position, TeachingClass teachingClass) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.tutorlink.infra.writebehind;
+
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.ClassWriteBehindBuffer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer backed by a {@link ClassRegistrationJournal} and flushed by a {@link ClassGroupCommitWriter}.
+ * <p>
+ * {@link #append(TeachingClass)} returns once the class is in the journal and the journal is synced; concurrent appends share
+ * one fsync. A single flushing thread takes the pending classes in journal order and writes them to the database in group
+ * commits, as soon as {@code maxBatchRows} classes are pending or {@code flushInterval} after the first of them arrived.
+ * <p>
+ * A failed group commit is reported and retried with backoff; its classes stay in the journal, so they are replayed after a
+ * restart even if the retries never succeed. Journal segments are released once the classes they hold are in the database.
+ */
+public class WriteBehindClassBuffer implements ClassWriteBehindBuffer, AutoCloseable {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    private final ClassRegistrationJournal journal;
+    private final ClassGroupCommitWriter writer;
+    private final Duration flushInterval;
+    private final int maxBatchRows;
+
+    private final BlockingQueue<ClassRegistrationJournal.Entry> pending = new LinkedBlockingQueue<>();
+    private final List<FlushListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object appendLock = new Object();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder writtenRows = new LongAdder();
+    private final LongAdder groupCommits = new LongAdder();
+    private final LongAdder rejectedRows = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    public WriteBehindClassBuffer(ClassRegistrationJournal journal, ClassGroupCommitWriter writer, Duration flushInterval, int maxBatchRows) {
+        if (maxBatchRows <= 0) {
+            throw new IllegalArgumentException("maxBatchRows must be positive: " + maxBatchRows);
+        }
+        this.journal = journal;
+        this.writer = writer;
+        this.flushInterval = flushInterval;
+        this.maxBatchRows = maxBatchRows;
+        // Classes accepted before a crash or shutdown are written first
+        this.pending.addAll(journal.recovered());
+        this.flusher = Thread.ofPlatform().name("class-write-behind").daemon().unstarted(this::flushLoop);
+    }
+
+    /**
+     * Start the flushing thread once the application has started,
+     * so listeners added on startup are notified of the replayed classes too.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        flusher.start();
+    }
+
+    @Override
+    public void append(TeachingClass teachingClass) {
+        long position;
+        // The queue must follow journal order, otherwise a segment could be released before all its classes are written
+        synchronized (appendLock) {
+            if (closed) {
+                throw new IllegalStateException("Write-behind buffer is closed");
+            }
+            position = journal.append(teachingClass);
+            pending.add(new ClassRegistrationJournal.Entry(position, teachingClass));
+        }
+        journal.sync(position);
+        appended.increment();
+    }
+
+    @Override
+    public void addListener(FlushListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return the counters of the buffer and the number of classes not yet written
+     */
+    public Stats stats() {
+        return new Stats(appended.sum(), writtenRows.sum(), groupCommits.sum(), rejectedRows.sum(), failedFlushes.sum(), pending.size());
+    }
+
+    /**
+     * Stop accepting classes, write the pending ones and close the journal.
+     * Classes that cannot be written stay in the journal and are written after the next start.
+     */
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            closed = true;
+        }
+        if (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+    }
+
+    private void flushLoop() {
+        try {
+            List<ClassRegistrationJournal.Entry> batch = new ArrayList<>(maxBatchRows);
+            while (!closed || !pending.isEmpty()) {
+                if (collect(batch) && !flush(batch)) {
+                    // Closed while the database is unavailable: the remaining classes stay in the journal
+                    return;
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for the first pending class, then collect more until the batch is full or the flush interval has passed.
+     *
+     * @return whether the batch holds any class
+     */
+    private boolean collect(List<ClassRegistrationJournal.Entry> batch) throws InterruptedException {
+        ClassRegistrationJournal.Entry first = pending.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < maxBatchRows) {
+            pending.drainTo(batch, maxBatchRows - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchRows || remaining <= 0 || closed) {
+                break;
+            }
+            ClassRegistrationJournal.Entry next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    /**
+     * Write a batch, retrying until it succeeds or the buffer is closed.
+     *
+     * @return whether the batch was written
+     */
+    private boolean flush(List<ClassRegistrationJournal.Entry> batch) throws InterruptedException {
+        long lastPosition = batch.getLast().position();
+        List<TeachingClass> classes = batch.stream().map(ClassRegistrationJournal.Entry::teachingClass).toList();
+        long backoffMillis = Math.max(1, flushInterval.toMillis());
+        while (true) {
+            try {
+                // Replayed classes are already durable; new ones are synced by their appender, usually before they get here
+                journal.sync(lastPosition);
+                ClassGroupCommitWriter.Result result = writer.write(classes);
+                groupCommits.increment();
+                writtenRows.add(result.written().size());
+                rejectedRows.add(result.rejected().size());
+                notifyListeners(result);
+                release(lastPosition);
+                return true;
+            } catch (RuntimeException e) {
+                failedFlushes.increment();
+                listeners.forEach(listener -> notifySafely(() -> listener.flushFailed(classes.size(), e)));
+                if (closed) {
+                    return false;
+                }
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF.toMillis());
+            }
+        }
+    }
+
+    private void release(long lastPosition) {
+        synchronized (appendLock) {
+            // Nothing pending means nothing was appended after this batch: the whole journal can go
+            if (pending.isEmpty()) {
+                journal.releaseAll();
+            } else {
+                journal.release(lastPosition);
+            }
+        }
+    }
+
+    private void notifyListeners(ClassGroupCommitWriter.Result result) {
+        for (FlushListener listener : listeners) {
+            if (!result.written().isEmpty()) {
+                notifySafely(() -> listener.flushed(result.written()));
+            }
+            for (ClassGroupCommitWriter.Rejection rejection : result.rejected()) {
+                notifySafely(() -> listener.rejected(rejection.teachingClass(), rejection.reason()));
+            }
+        }
+    }
+
+    /**
+     * A failing listener must not stop the flushing thread
+     */
+    private static void notifySafely(Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException ignored) {
+            // the other listeners and the next group commits still run
+        }
+    }
+
+    /**
+     * Write-behind statistics
+     *
+     * @param appended      the number of classes accepted since start
+     * @param writtenRows   the number of classes written to the database
+     * @param groupCommits  the number of successful group commits
+     * @param rejectedRows  the number of classes dropped because their teacher could not take them
+     * @param failedFlushes the number of failed group commits
+     * @param pending       the number of classes waiting for a group commit
+     */
+    public record Stats(long appended, long writtenRows, long groupCommits, long rejectedRows, long failedFlushes, int pending) {
+    }
+}
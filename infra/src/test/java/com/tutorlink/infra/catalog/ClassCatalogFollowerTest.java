@@ -0,0 +1,136 @@
+package com.tutorlink.infra.catalog;
+
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.config.ClassChangeFeedConfig;
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.infra.teacher.TeacherRepositoryImpl;
+import com.tutorlink.infra.teacher.TitleGramIndexer;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.SortType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 카탈로그가 등록되지 않은 컨텍스트에서 저장하므로, 저장은 다른 노드에서 일어난 쓰기처럼 카탈로그에 바로 반영되지 않는다.
+ * 변경 로그에 기록된 변경은 바로 확정된 것으로 본다.
+ */
+@DataJpaTest(properties = {
+        "tutorlink.change-feed.enabled=true",
+        "tutorlink.change-feed.settle-window=0s"
+})
+@Import({QuerydslConfig.class, TitleGramIndexer.class, TeacherRepositoryImpl.class, ClassChangeFeedConfig.class})
+class ClassCatalogFollowerTest {
+
+    private static final long TEACHER_ID = 1_000L;
+    private static final ClassSearchCondition CONDITION = ClassSearchCondition.withSortType(SortType.LATEST);
+
+    @Autowired
+    private TeacherRepositoryImpl teacherRepository;
+
+    @Autowired
+    private ClassChangeLog changeLog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ColumnarClassCatalog catalog;
+    private ClassCatalogFollower follower;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ColumnarClassCatalog(Duration.ofMinutes(1));
+        catalog.markReady();
+        follower = new ClassCatalogFollower(catalog, changeLog, Duration.ofSeconds(1), 2);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 등록된 클래스를 변경 로그에서 읽어 카탈로그에 반영하고 동기화된 것으로 표시한다.")
+    void poll_appliesClassesOfOtherNodes() {
+        // given
+        teacherRepository.save(newTeacher(3));
+        flushAndClear();
+        assertThat(catalog.isReady()).isFalse();
+
+        // when
+        int applied = follower.poll();
+
+        // then
+        assertThat(applied).isEqualTo(3);
+        assertThat(catalog.isReady()).isTrue();
+        assertThat(catalog.findClassesByTeacherId(TEACHER_ID, CONDITION).content())
+                .extracting(ClassMetadataDto::id)
+                .containsExactly(TEACHER_ID + 3, TEACHER_ID + 2, TEACHER_ID + 1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 수정된 클래스는 다음 폴링에서 카탈로그에 반영된다.")
+    void poll_appliesUpdatesOfOtherNodes() {
+        // given
+        teacherRepository.save(newTeacher(1));
+        flushAndClear();
+        follower.poll();
+
+        Teacher teacher = teacherRepository.findById(TEACHER_ID).orElseThrow();
+        TeachingClass edited = teacher.teachingClasses().getFirst();
+        teacherRepository.save(new Teacher(teacher.id(), teacher.name(),
+                List.of(new TeachingClass(edited.id(), TEACHER_ID, "수정한 클래스", edited.description(), 99_000, edited.registeredAt())),
+                teacher.activeStatus(), teacher.version()));
+        flushAndClear();
+
+        // when
+        follower.poll();
+
+        // then
+        assertThat(catalog.findClassesByTeacherId(TEACHER_ID, CONDITION).content())
+                .extracting(ClassMetadataDto::title, ClassMetadataDto::price)
+                .containsExactly(tuple("수정한 클래스", 99_000));
+    }
+
+    @Test
+    @DisplayName("로드 전에 확정된 변경은 다시 읽지 않는다.")
+    void settledToken_skipsChangesBeforeLoad() {
+        // given
+        teacherRepository.save(newTeacher(2));
+        flushAndClear();
+        long token = follower.settledToken();
+
+        // when
+        follower.start(token);
+        follower.close();
+        int applied = follower.poll();
+
+        // then
+        assertThat(applied).isZero();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Teacher newTeacher(int classCount) {
+        List<TeachingClass> classes = new ArrayList<>();
+        for (int i = 1; i <= classCount; i++) {
+            classes.add(new TeachingClass(TEACHER_ID + i, TEACHER_ID, "자바 클래스 " + i, "설명", 10_000,
+                    LocalDateTime.of(2024, 1, 1, 7, 0).plusDays(i)));
+        }
+        return new Teacher(TEACHER_ID, "suchan", classes, ActiveStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,161 @@
+package com.tutorlink.infra.catalog;
+
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.PageResponse;
+import com.tutorlink.teacher.dto.SortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ColumnarClassCatalogTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private ColumnarClassCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ColumnarClassCatalog();
+        catalog.upsertAll(List.of(
+                new ClassMetadataDto(1L, 1L, "Math Class", "Learn math", 10000, BASE_TIME),
+                new ClassMetadataDto(2L, 1L, "Science Class", "Learn science", 30000, BASE_TIME.plusDays(2)),
+                new ClassMetadataDto(3L, 1L, "English Class", "Learn english", 20000, BASE_TIME.plusDays(1)),
+                new ClassMetadataDto(4L, 2L, "History Class", "Learn history", 15000, BASE_TIME.plusDays(3))
+        ));
+    }
+
+    @Test
+    @DisplayName("선생님의 클래스를 최신순으로 조회할 수 있다.")
+    void findClassesByTeacherId_latest() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+
+        // when
+        PageResponse<ClassMetadataDto> result = catalog.findClassesByTeacherId(1L, condition);
+
+        // then
+        assertThat(result.content()).extracting(ClassMetadataDto::id).containsExactly(2L, 3L, 1L);
+        assertThat(result.totalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전체 클래스를 가격순으로 페이지 단위로 조회할 수 있다.")
+    void findClassesByTeacherId_price_page() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.PRICE, PageRequest.of(1, 2));
+
+        // when
+        PageResponse<ClassMetadataDto> result = catalog.findClassesByTeacherId(null, condition);
+
+        // then
+        assertThat(result.content()).extracting(ClassMetadataDto::id).containsExactly(3L, 2L);
+        assertThat(result.pageNumber()).isEqualTo(1);
+        assertThat(result.totalElements()).isEqualTo(4);
+        assertThat(result.totalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제목 키워드로 클래스를 대소문자 구분 없이 필터링할 수 있다.")
+    void findClassesByTeacherId_keyword() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of("en", SortType.LATEST, null);
+
+        // when
+        PageResponse<ClassMetadataDto> result = catalog.findClassesByTeacherId(1L, condition);
+
+        // then
+        assertThat(result.content()).extracting(ClassMetadataDto::title).containsExactly("Science Class", "English Class");
+        assertThat(result.totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 클래스를 대문자 제목 키워드로 필터링할 수 있다.")
+    void findClassesByTeacherId_all_teachers_keyword() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of("HIST", SortType.LATEST, null);
+
+        // when
+        PageResponse<ClassMetadataDto> result = catalog.findClassesByTeacherId(null, condition);
+
+        // then
+        assertThat(result.content()).extracting(ClassMetadataDto::id).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("이미 있는 클래스를 다시 넣으면 정렬 순서와 값이 갱신된다.")
+    void upsertAll_update() {
+        // given
+        catalog.upsertAll(List.of(new ClassMetadataDto(1L, 1L, "Math Class", "Learn math", 50000, BASE_TIME)));
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.PRICE, PageRequest.of(0, 10));
+
+        // when
+        PageResponse<ClassMetadataDto> result = catalog.findClassesByTeacherId(1L, condition);
+
+        // then
+        assertThat(catalog.size()).isEqualTo(4);
+        assertThat(result.content()).extracting(ClassMetadataDto::id).containsExactly(3L, 2L, 1L);
+        assertThat(result.content().getLast().price()).isEqualTo(50000);
+    }
+
+    @Test
+    @DisplayName("클래스가 없는 선생님은 빈 페이지를 반환한다.")
+    void findClassesByTeacherId_unknown_teacher() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+
+        // when
+        PageResponse<ClassMetadataDto> result = catalog.findClassesByTeacherId(99L, condition);
+
+        // then
+        assertThat(result.content()).isEmpty();
+        assertThat(result.totalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("덮어쓴 제목과 설명은 사전에서 해제되어 사전이 계속 커지지 않는다.")
+    void upsertAll_releasesOverwrittenValues() {
+        // given
+        int dictionarySize = catalog.dictionarySize();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            catalog.upsertAll(List.of(new ClassMetadataDto(1L, 1L, "Algebra Class " + i, "Learn algebra " + i, 10000, BASE_TIME)));
+        }
+
+        // then
+        assertThat(catalog.dictionarySize()).isEqualTo(dictionarySize);
+        assertThat(catalog.findClassesByTeacherId(null, ClassSearchCondition.withTitleKeyword("math")).content()).isEmpty();
+        assertThat(catalog.findClassesByTeacherId(null, ClassSearchCondition.withTitleKeyword("algebra class 99")).content())
+                .extracting(ClassMetadataDto::id, ClassMetadataDto::description)
+                .containsExactly(tuple(1L, "Learn algebra 99"));
+    }
+
+    @Test
+    @DisplayName("다른 노드를 따르는 카탈로그는 허용된 시간 안에 동기화된 동안에만 조회를 제공한다.")
+    void isReady_followingCatalog() {
+        // given
+        ColumnarClassCatalog followingCatalog = new ColumnarClassCatalog(Duration.ofMinutes(1));
+        followingCatalog.markReady();
+        boolean beforeSync = followingCatalog.isReady();
+
+        // when
+        followingCatalog.markSynced(System.nanoTime());
+        boolean afterSync = followingCatalog.isReady();
+        followingCatalog.markSynced(System.nanoTime() - Duration.ofMinutes(2).toNanos());
+        boolean afterStaleSync = followingCatalog.isReady();
+
+        // then
+        assertThat(beforeSync).isFalse();
+        assertThat(afterSync).isTrue();
+        assertThat(afterStaleSync).isFalse();
+    }
+}
@@ -0,0 +1,187 @@
+package com.tutorlink.infra.changefeed;
+
+import com.tutorlink.infra.config.ClassChangeFeedConfig;
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.infra.teacher.TeacherRepositoryImpl;
+import com.tutorlink.infra.teacher.TitleGramIndexer;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.dto.ClassChange;
+import com.tutorlink.teacher.dto.ClassChangeFeed;
+import com.tutorlink.teacher.dto.ClassChangeType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 변경 로그는 보존 기간 없이 바로 압축되고, 기록된 변경은 바로 확정된 것으로 본다.
+ */
+@DataJpaTest(properties = {
+        "tutorlink.change-feed.enabled=true",
+        "tutorlink.change-feed.settle-window=0s",
+        "tutorlink.change-feed.retention=0s"
+})
+@Import({QuerydslConfig.class, TitleGramIndexer.class, TeacherRepositoryImpl.class, ClassChangeFeedConfig.class})
+class ClassChangeLogTest {
+
+    private static final long TEACHER_ID = 1_000L;
+    private static final long OTHER_TEACHER_ID = 2_000L;
+
+    @Autowired
+    private TeacherRepositoryImpl teacherRepository;
+
+    @Autowired
+    private ClassChangeLog changeLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private long initialToken;
+
+    @BeforeEach
+    void setUp() {
+        teacherRepository.save(newTeacher(TEACHER_ID, "suchan", 2));
+        teacherRepository.save(newTeacher(OTHER_TEACHER_ID, "jiwon", 1));
+        flushAndClear();
+        initialToken = changeLog.findChanges(null, 0, 100).nextToken();
+    }
+
+    @Test
+    @DisplayName("새 선생님을 저장하면 선생님 정보와 클래스가 저장된 순서대로 변경 로그에 기록된다.")
+    void save_recordsNewTeacher() {
+        // when
+        ClassChangeFeed feed = teacherRepository.findClassChanges(TEACHER_ID, 0, 100);
+
+        // then
+        assertThat(feed.changes())
+                .extracting(ClassChange::type, ClassChange::teacherName, ClassChange::teacherStatus)
+                .containsExactly(
+                        tuple(ClassChangeType.TEACHER_CHANGED, "suchan", "ACTIVE"),
+                        tuple(ClassChangeType.CLASS_INSERTED, null, null),
+                        tuple(ClassChangeType.CLASS_INSERTED, null, null));
+        assertThat(feed.changes()).extracting(ClassChange::token).isSorted();
+        assertThat(feed.nextToken()).isEqualTo(feed.changes().getLast().token());
+        assertThat(feed.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 이후에 바뀐 클래스와 선생님 정보만 조회되고, 바뀌지 않은 클래스는 조회되지 않는다.")
+    void findChanges_returnsOnlyChangesSinceToken() {
+        // given
+        Teacher teacher = teacherRepository.findById(TEACHER_ID).orElseThrow();
+        TeachingClass edited = teacher.teachingClasses().getFirst();
+        List<TeachingClass> classes = new ArrayList<>(teacher.teachingClasses());
+        classes.set(0, new TeachingClass(edited.id(), TEACHER_ID, "수정한 클래스", edited.description(), 99_000, edited.registeredAt()));
+
+        // when
+        teacherRepository.save(new Teacher(teacher.id(), teacher.name(), classes, ActiveStatus.INACTIVE, teacher.version()));
+        teacherRepository.appendClass(newClass(TEACHER_ID + 50, OTHER_TEACHER_ID, 50), 10);
+        flushAndClear();
+        ClassChangeFeed feed = teacherRepository.findClassChanges(null, initialToken, 100);
+
+        // then
+        assertThat(feed.changes())
+                .extracting(ClassChange::type, ClassChange::teacherId, ClassChange::teacherStatus)
+                .containsExactly(
+                        tuple(ClassChangeType.TEACHER_CHANGED, TEACHER_ID, "INACTIVE"),
+                        tuple(ClassChangeType.CLASS_UPDATED, TEACHER_ID, null),
+                        tuple(ClassChangeType.CLASS_INSERTED, OTHER_TEACHER_ID, null));
+        assertThat(feed.changes().get(1).teachingClass().title()).isEqualTo("수정한 클래스");
+        assertThat(feed.changes().get(1).teachingClass().price()).isEqualTo(99_000);
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 건수를 넘는 변경은 다음 토큰으로 이어서 조회한다.")
+    void findChanges_continuesFromNextToken() {
+        // when
+        ClassChangeFeed first = teacherRepository.findClassChanges(null, 0, 3);
+        ClassChangeFeed second = teacherRepository.findClassChanges(null, first.nextToken(), 3);
+
+        // then
+        assertThat(first.changes()).hasSize(3);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.changes())
+                .extracting(ClassChange::type, ClassChange::teacherId)
+                .containsExactly(
+                        tuple(ClassChangeType.TEACHER_CHANGED, OTHER_TEACHER_ID),
+                        tuple(ClassChangeType.CLASS_INSERTED, OTHER_TEACHER_ID));
+        assertThat(second.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록된 지 얼마 안 된 변경은 조회되지만 다음 토큰은 그 변경을 넘어가지 않는다.")
+    void findChanges_doesNotAdvancePastUnsettledChanges() {
+        // given
+        ClassChangeLog unsettledLog = new ClassChangeLog(jdbcTemplate, Duration.ofHours(1), Duration.ZERO, 100);
+
+        // when
+        ClassChangeFeed feed = unsettledLog.findChanges(null, 0, 3);
+
+        // then
+        assertThat(feed.changes()).hasSize(3);
+        assertThat(feed.nextToken()).isZero();
+        assertThat(feed.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("압축하면 같은 클래스와 선생님의 이전 변경이 지워지고, 처음부터 조회하면 최신 상태만 남는다.")
+    void compact_keepsLatestChangePerKey() {
+        // given
+        for (int price = 1; price <= 3; price++) {
+            Teacher teacher = teacherRepository.findById(TEACHER_ID).orElseThrow();
+            TeachingClass edited = teacher.teachingClasses().getFirst();
+            List<TeachingClass> classes = new ArrayList<>(teacher.teachingClasses());
+            classes.set(0, new TeachingClass(edited.id(), TEACHER_ID, edited.title(), edited.description(), price, edited.registeredAt()));
+            teacherRepository.save(new Teacher(teacher.id(), "renamed" + price, classes, ActiveStatus.ACTIVE, teacher.version()));
+            flushAndClear();
+        }
+        long sizeBefore = changeLog.size();
+
+        // when
+        int deleted = changeLog.compact();
+
+        // then
+        assertThat(deleted).isEqualTo(6);
+        assertThat(changeLog.size()).isEqualTo(sizeBefore - 6);
+        List<ClassChange> changes = changeLog.findChanges(TEACHER_ID, 0, 100).changes();
+        assertThat(changes)
+                .extracting(ClassChange::type)
+                .containsExactly(ClassChangeType.CLASS_INSERTED, ClassChangeType.TEACHER_CHANGED, ClassChangeType.CLASS_UPDATED);
+        assertThat(changes.get(1).teacherName()).isEqualTo("renamed3");
+        assertThat(changes.get(2).teachingClass().price()).isEqualTo(3);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Teacher newTeacher(long teacherId, String name, int classCount) {
+        List<TeachingClass> classes = new ArrayList<>();
+        for (int i = 1; i <= classCount; i++) {
+            classes.add(newClass(teacherId + i, teacherId, i));
+        }
+        return new Teacher(teacherId, name, classes, ActiveStatus.ACTIVE);
+    }
+
+    private TeachingClass newClass(long classId, long teacherId, int day) {
+        return new TeachingClass(classId, teacherId, "자바 클래스 " + day, "설명", 10_000, LocalDateTime.of(2024, 1, 1, 7, 0).plusDays(day));
+    }
+}
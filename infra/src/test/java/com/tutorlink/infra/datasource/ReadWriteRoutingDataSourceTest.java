@@ -0,0 +1,245 @@
+package com.tutorlink.infra.datasource;
+
+import com.tutorlink.application.cache.ClassListCache;
+import com.tutorlink.application.event.TeacherEventBus;
+import com.tutorlink.application.idempotency.IdempotencyStore;
+import com.tutorlink.application.service.PrimaryReader;
+import com.tutorlink.application.service.TeacherService;
+import com.tutorlink.common.id.TimeOrderedIdGenerator;
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.infra.config.ReadReplicaDataSourceConfig;
+import com.tutorlink.infra.idempotency.JdbcIdempotencyRepository;
+import com.tutorlink.infra.outbox.JdbcTeacherEventOutbox;
+import com.tutorlink.infra.teacher.TeacherRepositoryImpl;
+import com.tutorlink.infra.teacher.TitleGramIndexer;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.repository.TeacherRepository;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.CreateTeacherCommand;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+import com.tutorlink.teacher.dto.SortType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 두 개의 H2 인메모리 DB를 주 DB와 복제본으로 사용한다.
+ * 각 DB의 database_node 테이블에 DB 이름을 넣어 두고, 조회된 이름으로 연결된 DB를 확인한다.
+ * 엔티티 테이블은 주 DB에만 만들어지므로 복제본에서 실행된 엔티티 조회는 실패한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingDataSourceTest.PRIMARY_URL,
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "tutorlink.datasource.routing.enabled=true",
+        "tutorlink.datasource.routing.replica-urls=" + ReadWriteRoutingDataSourceTest.REPLICA_URL
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadReplicaDataSourceConfig.class, QuerydslConfig.class, TitleGramIndexer.class, TeacherRepositoryImpl.class,
+        ReadWriteRoutingDataSourceTest.ServiceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadWriteRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+    private static final String MISSING_REPLICA_URL = "jdbc:h2:mem:missing-replica;IFEXISTS=TRUE";
+    private static final String LATE_REPLICA_URL = "jdbc:h2:mem:late-replica";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    private final DataSource primary = new DriverManagerDataSource(PRIMARY_URL, "sa", "");
+    private final DataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+
+    @BeforeEach
+    void setUp() {
+        markNode(primary, "primary");
+        markNode(replica, "replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("drop table database_node");
+        new JdbcTemplate(replica).execute("drop table database_node");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서, 그 밖의 트랜잭션은 주 DB에서 실행된다.")
+    void routesByReadOnlyFlag() {
+        // when & then
+        assertThat(readNode(jdbcTemplate, transactionManager, true)).isEqualTo("replica");
+        assertThat(readNode(jdbcTemplate, transactionManager, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후의 읽기 전용 트랜잭션도 복제본에서 실행된다.")
+    void readOnlyAfterWriteReadsReplica() {
+        // given
+        writeNode(jdbcTemplate, transactionManager);
+
+        // when
+        String node = readNode(jdbcTemplate, transactionManager, true);
+
+        // then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("연결할 수 없는 복제본은 건너뛰고, 사용할 복제본이 없으면 주 DB에서 읽는다.")
+    void fallsBackWhenReplicaFails() throws Exception {
+        // given
+        DataSource missing = new DriverManagerDataSource(MISSING_REPLICA_URL, "sa", "");
+        try (ReadWriteRoutingDataSource withHealthyReplica = newRoutingDataSource(List.of(missing, replica));
+             ReadWriteRoutingDataSource withoutHealthyReplica = newRoutingDataSource(List.of(missing))) {
+            LazyConnectionDataSourceProxy first = new LazyConnectionDataSourceProxy(withHealthyReplica);
+            LazyConnectionDataSourceProxy second = new LazyConnectionDataSourceProxy(withoutHealthyReplica);
+
+            // when
+            String failedOver = readNode(new JdbcTemplate(first), new DataSourceTransactionManager(first), true);
+            String fellBack = readNode(new JdbcTemplate(second), new DataSourceTransactionManager(second), true);
+
+            // then
+            assertThat(failedOver).isEqualTo("replica");
+            assertThat(withHealthyReplica.stats().replicas())
+                    .extracting(ReadWriteRoutingDataSource.ReplicaStats::healthy, ReadWriteRoutingDataSource.ReplicaStats::failures)
+                    .containsExactly(tuple(false, 1L), tuple(true, 0L));
+            assertThat(fellBack).isEqualTo("primary");
+            assertThat(withoutHealthyReplica.stats().fallbackReads()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("상태 확인은 연결할 수 없는 복제본을 제외하고, 다시 연결되면 복제본을 돌려놓는다.")
+    void checkReplicas_marksReplicaHealth() throws Exception {
+        // given
+        DataSource lateReplica = new DriverManagerDataSource(LATE_REPLICA_URL + ";IFEXISTS=TRUE", "sa", "");
+        try (ReadWriteRoutingDataSource routing = newRoutingDataSource(List.of(lateReplica))) {
+            // when
+            routing.checkReplicas();
+            boolean healthyBeforeStart = routing.stats().replicas().getFirst().healthy();
+            new JdbcTemplate(new DriverManagerDataSource(LATE_REPLICA_URL + ";DB_CLOSE_DELAY=-1", "sa", "")).execute("select 1");
+            routing.checkReplicas();
+
+            // then
+            assertThat(healthyBeforeStart).isFalse();
+            assertThat(routing.stats().replicas().getFirst().healthy()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("클래스를 등록한 직후 다른 스레드에서 목록을 조회하면 캐시를 채우는 조회가 주 DB에서 실행되어 새 클래스가 보인다.")
+    void cachedListing_readsPrimaryAfterRegistration() throws Exception {
+        // given
+        Long teacherId = teacherService.registerTeacher(new CreateTeacherCommand("suchan")).id();
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            Long classId = teacherService.registerClass(new RegisterClassCommand(teacherId, "프로그래밍 기초 클래스", "자바 프로그래밍 기초",
+                    50000, LocalDateTime.of(2024, 1, 1, 7, 0)));
+            long replicaConnections = routingDataSource.stats().replicaConnections();
+
+            // when
+            List<ClassMetadataDto> classes = reader.submit(() -> teacherService.getClassesByTeacherId(teacherId, condition)).get();
+            List<ClassMetadataDto> cached = reader.submit(() -> teacherService.getClassesByTeacherId(teacherId, condition)).get();
+
+            // then
+            assertThat(classes).extracting(ClassMetadataDto::id).containsExactly(classId);
+            assertThat(cached).isEqualTo(classes);
+            assertThat(routingDataSource.stats().replicaConnections()).isEqualTo(replicaConnections);
+        } finally {
+            reader.shutdown();
+            jdbcTemplate.update("delete from outbox_event");
+            jdbcTemplate.update("delete from title_gram");
+            jdbcTemplate.update("delete from teaching_class_entity");
+            jdbcTemplate.update("delete from teacher_entity");
+        }
+    }
+
+    @Test
+    @DisplayName("최근에 클래스가 등록되지 않은 선생님의 목록은 복제본에서 조회한다.")
+    void cachedListing_readsReplicaWithoutRecentRegistration() {
+        // given
+        long replicaConnections = routingDataSource.stats().replicaConnections();
+        ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+
+        // when & then
+        // 복제본에는 엔티티 테이블이 없으므로 복제본에서 실행된 조회는 실패한다
+        assertThatThrownBy(() -> teacherService.getClassesByTeacherId(1L, condition)).isInstanceOf(RuntimeException.class);
+        assertThat(routingDataSource.stats().replicaConnections()).isEqualTo(replicaConnections + 1);
+    }
+
+    private ReadWriteRoutingDataSource newRoutingDataSource(List<DataSource> replicas) {
+        return new ReadWriteRoutingDataSource(primary, replicas, Duration.ofHours(1));
+    }
+
+    private static String readNode(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from database_node", String.class));
+    }
+
+    private static void writeNode(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("update database_node set name = name"));
+    }
+
+    private static void markNode(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table database_node (name varchar(16))");
+        jdbcTemplate.update("insert into database_node (name) values (?)", name);
+    }
+
+    @TestConfiguration
+    static class ServiceConfig {
+
+        @Bean
+        PrimaryReader primaryReader() {
+            return new PrimaryReader();
+        }
+
+        @Bean
+        TeacherService teacherService(TeacherRepository teacherRepository, JdbcTemplate jdbcTemplate, PrimaryReader primaryReader) {
+            return new TeacherService(teacherRepository, new ClassPolicy(), new ClassListCache(), new TimeOrderedIdGenerator(0),
+                    new IdempotencyStore(new JdbcIdempotencyRepository(jdbcTemplate)), new TeacherEventBus(),
+                    new JdbcTeacherEventOutbox(jdbcTemplate), primaryReader);
+        }
+    }
+}
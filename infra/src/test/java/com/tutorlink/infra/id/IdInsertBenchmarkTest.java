@@ -0,0 +1,114 @@
+package com.tutorlink.infra.id;
+
+import com.tutorlink.common.id.IdGenerator;
+import com.tutorlink.common.id.TimeOrderedIdGenerator;
+import com.tutorlink.infra.student.StudentRepositoryImpl;
+import com.tutorlink.student.domain.ActiveStatus;
+import com.tutorlink.student.domain.Email;
+import com.tutorlink.student.domain.Student;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 방식(행마다 INSERT 후 생성된 키 조회)과 애플리케이션에서 발급한 id로 리포지토리를 통해 저장하는 방식의 처리량을 비교하는 벤치마크입니다.
+ * <p>
+ * 리포지토리 경로는 새 학생을 바로 persist 하는 {@code insert}와, 발급된 id가 이미 저장되어 있는지 merge 로 먼저 조회하는 {@code save}를 함께 측정합니다.
+ * <p>
+ * 기본 빌드에서는 실행되지 않습니다. {@code -Dbenchmark=true -Dbenchmark.rows=200000} 으로 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import(StudentRepositoryImpl.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdInsertBenchmarkTest {
+
+    private static final int ROW_COUNT = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StudentRepositoryImpl studentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table identity_bench (id bigint auto_increment primary key, name varchar(255), email varchar(255))");
+    }
+
+    @Test
+    @DisplayName("IDENTITY 방식과 애플리케이션 발급 id로 리포지토리에 저장하는 방식의 처리량을 비교한다")
+    void compareInsertThroughput() {
+        IdGenerator idGenerator = new TimeOrderedIdGenerator(1);
+        long identityNanos = measure(this::insertWithIdentity);
+        long insertNanos = measure(() -> saveThroughRepository(idGenerator, studentRepository::insert));
+        long saveNanos = measure(() -> saveThroughRepository(idGenerator, studentRepository::save));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from identity_bench", Long.class)).isEqualTo(ROW_COUNT);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student_entity", Long.class)).isEqualTo(2L * ROW_COUNT);
+        System.out.printf("[insert] rows=%d identity=%.0f rows/s repository.insert=%.0f rows/s repository.save=%.0f rows/s%n",
+                ROW_COUNT, ROW_COUNT / (identityNanos / 1e9), ROW_COUNT / (insertNanos / 1e9), ROW_COUNT / (saveNanos / 1e9));
+    }
+
+    /**
+     * IDENTITY 전략과 같은 경로: 행마다 INSERT 하고 생성된 키를 받아온다
+     */
+    private void insertWithIdentity() {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            int row = i;
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "insert into identity_bench (name, email) values (?, ?)", Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, "학생 " + row);
+                statement.setString(2, "student" + row + "@tutorlink.com");
+                return statement;
+            }, keyHolder);
+        }
+    }
+
+    /**
+     * id를 미리 발급하므로 Hibernate 가 INSERT 를 배치로 묶을 수 있다. 배치마다 flush 하고 영속성 컨텍스트를 비운다
+     */
+    private void saveThroughRepository(IdGenerator idGenerator, Function<Student, Student> store) {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            long id = idGenerator.nextId();
+            store.apply(new Student(id, "학생 " + i, new Email("student" + id + "@tutorlink.com"), ActiveStatus.ACTIVE));
+            if ((i + 1) % BATCH_SIZE == 0 || i == ROW_COUNT - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+
+    private long measure(Runnable insert) {
+        long started = System.nanoTime();
+        insert.run();
+        return System.nanoTime() - started;
+    }
+}
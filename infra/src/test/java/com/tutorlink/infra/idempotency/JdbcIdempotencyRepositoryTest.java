@@ -0,0 +1,138 @@
+package com.tutorlink.infra.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JdbcIdempotencyRepository.class)
+class JdbcIdempotencyRepositoryTest {
+
+    @Autowired
+    private JdbcIdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("멱등성 키로 저장한 결과를 명령별로 조회할 수 있다.")
+    void findResultId() {
+        // given
+        idempotencyRepository.save("registerClass", "key-1", 2_000L);
+
+        // when & then
+        assertThat(idempotencyRepository.findResultId("registerClass", "key-1")).contains(2_000L);
+        assertThat(idempotencyRepository.findResultId("registerTeacher", "key-1")).isEmpty();
+        assertThat(idempotencyRepository.findResultId("registerClass", "key-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 명령에 같은 멱등성 키를 다시 저장하면 먼저 저장된 결과를 돌려주고 덮어쓰지 않는다.")
+    void save_duplicateKey() {
+        // given
+        idempotencyRepository.save("registerClass", "key-1", 2_000L);
+
+        // when
+        Optional<Long> recorded = idempotencyRepository.save("registerClass", "key-1", 2_001L);
+
+        // then
+        assertThat(recorded).contains(2_000L);
+        assertThat(idempotencyRepository.findResultId("registerClass", "key-1")).contains(2_000L);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 멱등성 키는 조회되지 않고, 같은 키의 새 명령이 결과를 덮어쓴다.")
+    void expiredKey() {
+        // given
+        JdbcIdempotencyRepository repository = new JdbcIdempotencyRepository(jdbcTemplate, Duration.ofHours(1));
+        insertKey("registerClass", "key-1", 2_000L, LocalDateTime.now().minusHours(2));
+
+        // when & then
+        assertThat(repository.findResultId("registerClass", "key-1")).isEmpty();
+        assertThat(repository.save("registerClass", "key-1", 2_001L)).isEmpty();
+        assertThat(repository.findResultId("registerClass", "key-1")).contains(2_001L);
+    }
+
+    @Test
+    @DisplayName("만료된 멱등성 키만 나누어 삭제한다.")
+    void purgeExpired() {
+        // given
+        JdbcIdempotencyRepository repository = new JdbcIdempotencyRepository(jdbcTemplate, Duration.ofHours(1));
+        for (int i = 0; i < 5; i++) {
+            insertKey("registerClass", "expired-" + i, 1_000L + i, LocalDateTime.now().minusHours(2).plusMinutes(i));
+        }
+        repository.save("registerClass", "key-1", 2_000L);
+
+        // when
+        int deleted = repository.purgeExpired(2);
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from idempotency_key", Long.class)).isEqualTo(1L);
+        assertThat(repository.findResultId("registerClass", "key-1")).contains(2_000L);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 멱등성 키의 첫 요청이 동시에 들어오면 늦은 쪽은 먼저 저장한 쪽의 커밋을 기다렸다가 그 결과를 받는다.")
+    void save_concurrentFirstRequests() throws Exception {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch saved = new CountDownLatch(1);
+        CompletableFuture<Optional<Long>> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Optional<Long> recorded = idempotencyRepository.save("registerClass", "key-1", 2_000L);
+            saved.countDown();
+            sleep(300);
+            return recorded;
+        }));
+
+        try {
+            assertThat(saved.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            Optional<Long> second = transactionTemplate.execute(status ->
+                    idempotencyRepository.save("registerClass", "key-1", 2_001L));
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+            assertThat(second).contains(2_000L);
+            assertThat(idempotencyRepository.findResultId("registerClass", "key-1")).contains(2_000L);
+        } finally {
+            first.join();
+            jdbcTemplate.update("delete from idempotency_key");
+        }
+    }
+
+    private void insertKey(String operation, String idempotencyKey, Long resultId, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into idempotency_key (operation, idempotency_key, result_id, created_at) values (?, ?, ?, ?)",
+                operation, idempotencyKey, resultId, Timestamp.valueOf(createdAt));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
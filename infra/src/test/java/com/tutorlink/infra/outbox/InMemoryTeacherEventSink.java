@@ -0,0 +1,63 @@
+package com.tutorlink.infra.outbox;
+
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import com.tutorlink.teacher.domain.repository.TeacherEventSink;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 릴레이된 이벤트를 메모리에 모아 두는 테스트용 싱크. 메시지 브로커 대신 사용한다.
+ */
+class InMemoryTeacherEventSink implements TeacherEventSink {
+
+    private final List<TeacherEvent> events = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final CountDownLatch received;
+    private volatile RuntimeException failure;
+
+    InMemoryTeacherEventSink() {
+        this(0);
+    }
+
+    /**
+     * @param expectedEvents {@link #await(Duration)}가 기다릴 이벤트 수
+     */
+    InMemoryTeacherEventSink(int expectedEvents) {
+        this.received = new CountDownLatch(expectedEvents);
+    }
+
+    @Override
+    public void dispatch(List<TeacherEvent> batch) {
+        if (failure != null) {
+            throw failure;
+        }
+        synchronized (this) {
+            events.addAll(batch);
+            batchSizes.add(batch.size());
+        }
+        batch.forEach(event -> received.countDown());
+    }
+
+    /**
+     * 이후의 전달이 주어진 예외로 실패하게 한다. null이면 다시 성공한다.
+     */
+    void failWith(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    boolean await(Duration timeout) throws InterruptedException {
+        return received.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    synchronized List<TeacherEvent> events() {
+        return List.copyOf(events);
+    }
+
+    synchronized List<Integer> batchSizes() {
+        return List.copyOf(batchSizes);
+    }
+}
@@ -0,0 +1,79 @@
+package com.tutorlink.infra.outbox;
+
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스에 쌓인 이벤트를 릴레이가 초당 몇 건 전달하는지 측정하는 벤치마크입니다.
+ * <p>
+ * 기본 빌드에서는 실행되지 않습니다. {@code -Dbenchmark=true -Dbenchmark.events=200000} 으로 실행합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OutboxRelayBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 200_000);
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WORKERS = 4;
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2024, 1, 1, 7, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from outbox_event");
+    }
+
+    @Test
+    @DisplayName("쌓여 있는 이벤트를 여러 워커가 묶음으로 전달하는 초당 처리량을 측정한다")
+    void relayThroughput() throws Exception {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        JdbcTeacherEventOutbox outbox = new JdbcTeacherEventOutbox(jdbcTemplate);
+        for (int from = 0; from < EVENTS; from += BATCH_SIZE) {
+            List<TeacherEvent> events = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, EVENTS); i++) {
+                events.add(new ClassRegistered((long) i, (long) i / 10, "프로그래밍 클래스 " + i, 10000, REGISTERED_AT));
+            }
+            transactionTemplate.executeWithoutResult(status -> outbox.append(events));
+        }
+        InMemoryTeacherEventSink sink = new InMemoryTeacherEventSink(EVENTS);
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionTemplate, sink, BATCH_SIZE, Duration.ofMillis(10), WORKERS);
+
+        // when
+        long started = System.nanoTime();
+        relay.start();
+        assertThat(sink.await(Duration.ofMinutes(5))).isTrue();
+        long elapsed = System.nanoTime() - started;
+        relay.close();
+
+        // then
+        OutboxRelay.Stats stats = relay.stats();
+        assertThat(stats.relayedEvents()).isEqualTo(EVENTS);
+        System.out.printf("[outbox] events=%d relayed=%.0f/s batches=%d avgBatchSize=%.1f lastLag=%dms%n",
+                EVENTS, EVENTS / (elapsed / 1_000_000_000.0), stats.batches(), stats.avgBatchSize(), stats.lastLagMillis());
+    }
+}
@@ -0,0 +1,188 @@
+package com.tutorlink.infra.outbox;
+
+import com.tutorlink.teacher.domain.event.ClassRegistered;
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+import com.tutorlink.teacher.domain.event.TeacherRegistered;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아웃박스에 남긴 이벤트가 묶음으로 전달되고 지워지는지 확인한다.
+ * 릴레이가 자기 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2024, 1, 1, 7, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private JdbcTeacherEventOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outbox = new JdbcTeacherEventOutbox(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from outbox_event");
+    }
+
+    @Test
+    @DisplayName("아웃박스의 이벤트를 저장된 순서대로 묶어 전달하고 지운다.")
+    void relayBatch() {
+        // given
+        List<TeacherEvent> events = List.of(
+                new TeacherRegistered(1L, "suchan"),
+                new ClassRegistered(10L, 1L, "프로그래밍 기초 클래스", 50000, REGISTERED_AT),
+                new ClassRegistered(11L, 1L, "자료구조 클래스", 30000, REGISTERED_AT));
+        append(events);
+        InMemoryTeacherEventSink sink = new InMemoryTeacherEventSink();
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionTemplate, sink, 2, Duration.ofMillis(10), 1);
+
+        // when
+        int first = relay.relayBatch();
+        int second = relay.relayBatch();
+        int third = relay.relayBatch();
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly(2, 1, 0);
+        assertThat(sink.events()).containsExactlyElementsOf(events);
+        assertThat(sink.batchSizes()).containsExactly(2, 1);
+        assertThat(relay.pendingEvents()).isZero();
+        OutboxRelay.Stats stats = relay.stats();
+        assertThat(stats.relayedEvents()).isEqualTo(3);
+        assertThat(stats.batches()).isEqualTo(2);
+        assertThat(stats.lastBatchSize()).isEqualTo(1);
+        assertThat(stats.avgBatchSize()).isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("롤백된 등록 트랜잭션의 이벤트는 아웃박스에 남지 않는다.")
+    void append_rolledBack() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(List.of(new TeacherRegistered(1L, "suchan")));
+            status.setRollbackOnly();
+        });
+
+        // then
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionTemplate, new InMemoryTeacherEventSink(), 10, Duration.ofMillis(10), 1);
+        assertThat(relay.pendingEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("싱크가 전달에 실패하면 이벤트는 아웃박스에 남아 다음 릴레이에서 다시 전달된다.")
+    void relayBatch_sinkFails() {
+        // given
+        append(List.of(new TeacherRegistered(1L, "suchan")));
+        InMemoryTeacherEventSink sink = new InMemoryTeacherEventSink();
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionTemplate, sink, 10, Duration.ofMillis(10), 1);
+        sink.failWith(new IllegalStateException("broker unavailable"));
+
+        // when
+        assertThatThrownBy(relay::relayBatch).isInstanceOf(IllegalStateException.class);
+        sink.failWith(null);
+        int relayed = relay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(sink.events()).containsExactly(new TeacherRegistered(1L, "suchan"));
+        assertThat(relay.pendingEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 워커가 가져간 이벤트는 기다리지 않고 건너뛰어 같은 이벤트를 두 번 전달하지 않는다.")
+    void relayBatch_skipsLockedEvents() throws Exception {
+        // given
+        List<TeacherEvent> events = new ArrayList<>();
+        for (long teacherId = 1; teacherId <= 5; teacherId++) {
+            events.add(new TeacherRegistered(teacherId, "teacher" + teacherId));
+        }
+        append(events);
+
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryTeacherEventSink blockingSink = new InMemoryTeacherEventSink() {
+            @Override
+            public void dispatch(List<TeacherEvent> batch) {
+                claimed.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.dispatch(batch);
+            }
+        };
+        OutboxRelay slowWorker = new OutboxRelay(jdbcTemplate, transactionTemplate, blockingSink, 2, Duration.ofMillis(10), 1);
+        InMemoryTeacherEventSink sink = new InMemoryTeacherEventSink();
+        OutboxRelay worker = new OutboxRelay(jdbcTemplate, transactionTemplate, sink, 10, Duration.ofMillis(10), 1);
+
+        // when
+        CompletableFuture<Integer> slowBatch = CompletableFuture.supplyAsync(slowWorker::relayBatch);
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+        int relayed = worker.relayBatch();
+        release.countDown();
+
+        // then
+        assertThat(relayed).isEqualTo(3);
+        assertThat(slowBatch.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        List<TeacherEvent> delivered = new ArrayList<>(blockingSink.events());
+        delivered.addAll(sink.events());
+        assertThat(delivered).containsExactlyInAnyOrderElementsOf(events);
+        assertThat(worker.pendingEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작된 릴레이는 아웃박스에 쌓이는 이벤트를 계속 전달한다.")
+    void start_relaysInBackground() throws Exception {
+        // given
+        InMemoryTeacherEventSink sink = new InMemoryTeacherEventSink(20);
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionTemplate, sink, 8, Duration.ofMillis(10), 2);
+        relay.start();
+
+        // when
+        for (long teacherId = 1; teacherId <= 20; teacherId++) {
+            append(List.of(new TeacherRegistered(teacherId, "teacher" + teacherId)));
+        }
+
+        // then
+        assertThat(sink.await(Duration.ofSeconds(10))).isTrue();
+        relay.close();
+        assertThat(sink.events()).hasSize(20).doesNotHaveDuplicates();
+        assertThat(relay.pendingEvents()).isZero();
+    }
+
+    private void append(List<? extends TeacherEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> outbox.append(events));
+    }
+}
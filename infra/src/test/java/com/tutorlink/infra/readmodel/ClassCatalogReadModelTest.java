@@ -0,0 +1,169 @@
+package com.tutorlink.infra.readmodel;
+
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.infra.teacher.JpaTeacherRepository;
+import com.tutorlink.infra.teacher.TeacherRepositoryImpl;
+import com.tutorlink.infra.teacher.TitleGramIndexer;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.SortType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QuerydslConfig.class, TitleGramIndexer.class, TeacherRepositoryImpl.class, ClassCatalogReadModel.class})
+class ClassCatalogReadModelTest {
+
+    private static final long TEACHER_ID = 1_000L;
+    private static final long OTHER_TEACHER_ID = 2_000L;
+
+    @Autowired
+    private TeacherRepositoryImpl teacherRepository;
+
+    @Autowired
+    private JpaTeacherRepository jpaTeacherRepository;
+
+    @Autowired
+    private ClassCatalogReadModel readModel;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        teacherRepository.save(newTeacher(TEACHER_ID, "suchan", 1, 6));
+        teacherRepository.save(newTeacher(OTHER_TEACHER_ID, "jiwon", 7, 4));
+        flushAndClear();
+    }
+
+    @Test
+    @DisplayName("새 선생님의 클래스는 선생님 이름과 상태와 함께 카탈로그에 저장된다.")
+    void save_insertsCatalogRows() {
+        // when
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "select teacher_name, active_status from class_catalog where teacher_id = ?", TEACHER_ID);
+
+        // then
+        assertThat(rows).hasSize(6)
+                .allSatisfy(row -> {
+                    assertThat(row.get("teacher_name")).isEqualTo("suchan");
+                    assertThat(row.get("active_status")).isEqualTo("ACTIVE");
+                });
+    }
+
+    @Test
+    @DisplayName("선생님의 이름이나 상태가 바뀌면 모든 클래스의 카탈로그 행에 반영되고, 비활성화된 선생님의 클래스는 전체 검색에서 빠진다.")
+    void save_updatesTeacherFields() {
+        // given
+        Teacher teacher = teacherRepository.findById(TEACHER_ID).orElseThrow();
+
+        // when
+        teacherRepository.save(new Teacher(teacher.id(), "renamed", teacher.teachingClasses(), ActiveStatus.INACTIVE, teacher.version()));
+        flushAndClear();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select distinct teacher_name from class_catalog where teacher_id = ?", String.class, TEACHER_ID))
+                .containsExactly("renamed");
+        assertThat(readModel.searchClassCatalog(ClassSearchCondition.empty()).content())
+                .extracting(metadata -> metadata.teacherId())
+                .containsOnly(OTHER_TEACHER_ID);
+        assertThat(readModel.findClassesByTeacherId(TEACHER_ID, ClassSearchCondition.empty()).content()).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("애그리거트 없이 등록된 클래스도 저장된 선생님의 이름과 상태로 카탈로그에 저장된다.")
+    void appendClass_insertsCatalogRow() {
+        // when
+        teacherRepository.appendClass(newClass(9_000L, OTHER_TEACHER_ID, "새로 등록한 클래스", 5_000, 1), 10);
+        flushAndClear();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select teacher_name from class_catalog where class_id = ?", String.class, 9_000L))
+                .isEqualTo("jiwon");
+    }
+
+    @Test
+    @DisplayName("카탈로그 조회 결과는 조인 쿼리의 결과와 같다.")
+    void queries_matchJoinQueries() {
+        for (SortType sortType : new SortType[]{SortType.LATEST, SortType.PRICE}) {
+            for (String keyword : new String[]{null, "클래스", "자바", "5"}) {
+                for (int page = 0; page < 3; page++) {
+                    // given
+                    ClassSearchCondition condition = ClassSearchCondition.of(keyword, sortType, PageRequest.of(page, 3));
+
+                    // when & then
+                    assertThat(readModel.findClassesByTeacherId(TEACHER_ID, condition))
+                            .isEqualTo(jpaTeacherRepository.findClassesByTeacherId(TEACHER_ID, condition));
+                    assertThat(readModel.searchClassCatalog(condition))
+                            .isEqualTo(jpaTeacherRepository.searchClassCatalog(condition));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("카탈로그를 처음부터 다시 만들면 선생님과 클래스 테이블과 같아지고, 없는 클래스의 행은 지워진다.")
+    void rebuild() {
+        // given
+        jdbcTemplate.update("delete from class_catalog where teacher_id = ?", OTHER_TEACHER_ID);
+        jdbcTemplate.update("update class_catalog set teacher_name = 'stale' where teacher_id = ?", TEACHER_ID);
+        jdbcTemplate.update("insert into class_catalog (class_id, teacher_id, teacher_name, active_status, title, description, price, registered_at)"
+                + " values (99999, ?, 'suchan', 'ACTIVE', '삭제된 클래스', null, 1000, null)", TEACHER_ID);
+        ClassCatalogRebuilder rebuilder = new ClassCatalogRebuilder(readModel, jdbcTemplate, new TransactionTemplate(transactionManager), 4, false);
+
+        // when
+        long copied = rebuilder.rebuild();
+
+        // then
+        assertThat(copied).isEqualTo(10);
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from class_catalog", Long.class)).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForList("select distinct teacher_name from class_catalog order by teacher_name", String.class))
+                .containsExactly("jiwon", "suchan");
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 클래스 ID는 선생님 ID 뒤에 순번을 붙이고, 가격과 등록일은 클래스마다 다르게 한다.
+     */
+    private Teacher newTeacher(long teacherId, String name, int firstClass, int classCount) {
+        List<TeachingClass> classes = new ArrayList<>();
+        for (int i = firstClass; i < firstClass + classCount; i++) {
+            String title = i % 2 == 0 ? "자바 프로그래밍 클래스 " + i : "파이썬 데이터 클래스 " + i;
+            classes.add(newClass(teacherId + i, teacherId, title, 10_000 * (i % 3 + 1), i));
+        }
+        return new Teacher(teacherId, name, classes, ActiveStatus.ACTIVE);
+    }
+
+    private TeachingClass newClass(long classId, long teacherId, String title, int price, int day) {
+        return new TeachingClass(classId, teacherId, title, "설명", price, LocalDateTime.of(2024, 1, day, 7, 0));
+    }
+}
@@ -0,0 +1,96 @@
+package com.tutorlink.infra.snapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 내보내기와 복원 속도를 측정하는 벤치마크입니다.
+ * <p>
+ * 기본 빌드에서는 실행되지 않습니다. {@code -Dbenchmark=true -Dbenchmark.classes=10000000} 으로 실행합니다.
+ */
+@DataJpaTest
+@Import({ClassSnapshotExporter.class, ClassSnapshotRestorer.class})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ClassSnapshotBenchmarkTest {
+
+    private static final int CLASS_COUNT = Integer.getInteger("benchmark.classes", 1_000_000);
+    private static final int CLASSES_PER_TEACHER = 10;
+    private static final int BATCH_SIZE = 5_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ClassSnapshotExporter exporter;
+
+    @Autowired
+    private ClassSnapshotRestorer restorer;
+
+    @TempDir
+    private Path tempDir;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 6, 0);
+
+        List<Object[]> teachers = new ArrayList<>();
+        List<Object[]> classes = new ArrayList<>();
+        for (long classId = 1; classId <= CLASS_COUNT; classId++) {
+            long teacherId = (classId - 1) / CLASSES_PER_TEACHER + 1;
+            if ((classId - 1) % CLASSES_PER_TEACHER == 0) {
+                teachers.add(new Object[]{teacherId, "teacher" + teacherId, "ACTIVE", CLASSES_PER_TEACHER});
+            }
+            classes.add(new Object[]{classId, "프로그래밍 클래스 " + classId, "설명 " + classId, 10_000 + (int) (classId % 90_000),
+                    Timestamp.valueOf(baseTime.plusSeconds(classId)), teacherId});
+
+            if (classes.size() >= BATCH_SIZE || classId == CLASS_COUNT) {
+                jdbcTemplate.batchUpdate("insert into teacher_entity (id, name, active_status, class_count) values (?, ?, ?, ?)", teachers);
+                jdbcTemplate.batchUpdate("insert into teaching_class_entity (id, title, description, price, registered_at, teacher_id) values (?, ?, ?, ?, ?, ?)", classes);
+                teachers.clear();
+                classes.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 내보내기와 복원 처리량을 측정한다")
+    void measureSnapshot() throws Exception {
+        Path snapshot = tempDir.resolve("classes.snapshot");
+
+        long started = System.nanoTime();
+        SnapshotSummary exported = exporter.export(snapshot);
+        long exportNanos = System.nanoTime() - started;
+
+        jdbcTemplate.update("delete from teaching_class_entity");
+        jdbcTemplate.update("delete from teacher_entity");
+
+        started = System.nanoTime();
+        SnapshotSummary restored = restorer.restore(snapshot);
+        long restoreNanos = System.nanoTime() - started;
+
+        assertThat(restored).isEqualTo(exported);
+        System.out.printf("[snapshot] classes=%d bytes=%d export=%.0fms (%.1f MB/s) restore=%.0fms (%.1f MB/s)%n",
+                CLASS_COUNT, exported.bytes(),
+                exportNanos / 1e6, exported.bytes() / 1e6 / (exportNanos / 1e9),
+                restoreNanos / 1e6, exported.bytes() / 1e6 / (restoreNanos / 1e9));
+    }
+}
@@ -0,0 +1,218 @@
+package com.tutorlink.infra.snapshot;
+
+import com.tutorlink.infra.catalog.ColumnarClassCatalog;
+import com.tutorlink.infra.changefeed.ClassChangeLog;
+import com.tutorlink.infra.readmodel.ClassCatalogReadModel;
+import com.tutorlink.infra.teacher.TeacherEntity;
+import com.tutorlink.infra.teacher.TeachingClassEntity;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.dto.ClassChange;
+import com.tutorlink.teacher.dto.ClassChangeFeed;
+import com.tutorlink.teacher.dto.ClassChangeType;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.SortType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({ClassSnapshotExporter.class, ClassSnapshotRestorer.class})
+class ClassSnapshotTest {
+
+    @Autowired
+    private ClassSnapshotExporter exporter;
+
+    @Autowired
+    private ClassSnapshotRestorer restorer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private Long teacherId;
+    private Long classId;
+
+    @BeforeEach
+    void setUp() {
+        TeacherEntity teacher = new TeacherEntity("suchan", ActiveStatus.ACTIVE);
+        TeachingClassEntity teachingClass = new TeachingClassEntity("프로그래밍 기초 클래스", null, 50000, teacher, LocalDateTime.of(2024, 1, 1, 7, 30, 15, 123_456_000));
+        teacher.addClass(teachingClass);
+        teacher.addClass(new TeachingClassEntity("프로그래밍 심화 클래스", "자바 심화", 70000, teacher, LocalDateTime.of(2024, 1, 2, 8, 0)));
+        entityManager.persist(teacher);
+        entityManager.persist(new TeacherEntity("inactive", ActiveStatus.INACTIVE));
+        entityManager.flush();
+        entityManager.clear();
+        teacherId = teacher.getId();
+        classId = teachingClass.getId();
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 내보낸 선생님과 클래스를 빈 테이블에 그대로 복원한다.")
+    void export_and_restore() throws Exception {
+        // given
+        Path snapshot = tempDir.resolve("classes.snapshot");
+        SnapshotSummary exported = exporter.export(snapshot);
+        deleteAll();
+
+        // when
+        SnapshotSummary restored = restorer.restore(snapshot);
+
+        // then
+        assertThat(exported.teacherCount()).isEqualTo(2);
+        assertThat(exported.classCount()).isEqualTo(2);
+        assertThat(restored).isEqualTo(exported);
+
+        TeacherEntity teacher = entityManager.find(TeacherEntity.class, teacherId);
+        assertThat(teacher.getName()).isEqualTo("suchan");
+        assertThat(teacher.getActiveStatus()).isEqualTo(ActiveStatus.ACTIVE);
+        assertThat(teacher.getClassCount()).isEqualTo(2);
+
+        TeachingClassEntity teachingClass = entityManager.find(TeachingClassEntity.class, classId);
+        assertThat(teachingClass.getTitle()).isEqualTo("프로그래밍 기초 클래스");
+        assertThat(teachingClass.getDescription()).isNull();
+        assertThat(teachingClass.getPrice()).isEqualTo(50000);
+        assertThat(teachingClass.getRegisteredAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 7, 30, 15, 123_456_000));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from title_gram where class_id = ?", Long.class, classId)).isPositive();
+    }
+
+    @Test
+    @DisplayName("복원한 클래스는 커밋 후 메모리 카탈로그에서 조회된다.")
+    void restore_into_columnar_catalog() throws Exception {
+        // given
+        ColumnarClassCatalog catalog = new ColumnarClassCatalog();
+        catalog.markReady();
+        ClassSnapshotRestorer catalogRestorer = new ClassSnapshotRestorer(jdbcTemplate, transactionManager, Optional.of(catalog), Optional.empty(),
+                Optional.empty());
+        Path snapshot = tempDir.resolve("classes.snapshot");
+        exporter.export(snapshot);
+        deleteAll();
+
+        // when
+        catalogRestorer.restore(snapshot);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // then
+        try {
+            ClassSearchCondition condition = ClassSearchCondition.of(null, SortType.LATEST, PageRequest.of(0, 10));
+            assertThat(catalog.findClassesByTeacherId(teacherId, condition).content())
+                    .extracting(ClassMetadataDto::title)
+                    .containsExactly("프로그래밍 심화 클래스", "프로그래밍 기초 클래스");
+        } finally {
+            TestTransaction.start();
+            deleteAll();
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    @DisplayName("복원한 클래스는 선생님 정보와 함께 클래스 카탈로그 읽기 모델에 추가된다.")
+    void restore_into_read_model() throws Exception {
+        // given
+        ClassSnapshotRestorer readModelRestorer = new ClassSnapshotRestorer(jdbcTemplate, transactionManager, Optional.empty(),
+                Optional.of(new ClassCatalogReadModel(jdbcTemplate)), Optional.empty());
+        Path snapshot = tempDir.resolve("classes.snapshot");
+        exporter.export(snapshot);
+        deleteAll();
+
+        // when
+        readModelRestorer.restore(snapshot);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from class_catalog where teacher_id = ?", Long.class, teacherId))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select teacher_name from class_catalog where class_id = ?", String.class, classId))
+                .isEqualTo("suchan");
+        assertThat(jdbcTemplate.queryForObject("select active_status from class_catalog where class_id = ?", String.class, classId))
+                .isEqualTo(ActiveStatus.ACTIVE.name());
+    }
+
+    @Test
+    @DisplayName("복원한 선생님과 클래스는 변경 로그에 등록으로 기록된다.")
+    void restore_into_change_log() throws Exception {
+        // given
+        ClassChangeLog changeLog = new ClassChangeLog(jdbcTemplate, Duration.ZERO, Duration.ofDays(7), 100);
+        ClassSnapshotRestorer changeLogRestorer = new ClassSnapshotRestorer(jdbcTemplate, transactionManager, Optional.empty(),
+                Optional.empty(), Optional.of(changeLog));
+        Path snapshot = tempDir.resolve("classes.snapshot");
+        exporter.export(snapshot);
+        deleteAll();
+
+        // when
+        changeLogRestorer.restore(snapshot);
+
+        // then
+        ClassChangeFeed feed = changeLog.findChanges(teacherId, 0, 10);
+        assertThat(feed.changes()).extracting(ClassChange::type)
+                .containsExactly(ClassChangeType.TEACHER_CHANGED, ClassChangeType.CLASS_INSERTED, ClassChangeType.CLASS_INSERTED);
+        assertThat(changeLog.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞지 않는 스냅샷은 복원하지 않는다.")
+    void restore_corrupted_snapshot() throws Exception {
+        // given
+        Path snapshot = tempDir.resolve("classes.snapshot");
+        exporter.export(snapshot);
+        deleteAll();
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), SnapshotLayout.HEADER_BYTES + 3);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> restorer.restore(snapshot))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("checksum");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from teacher_entity", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("데이터가 남아 있는 테이블에는 스냅샷을 복원하지 않는다.")
+    void restore_into_non_empty_tables() throws Exception {
+        // given
+        Path snapshot = tempDir.resolve("classes.snapshot");
+        exporter.export(snapshot);
+
+        // when & then
+        assertThatThrownBy(() -> restorer.restore(snapshot))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("empty tables");
+    }
+
+    private void deleteAll() {
+        jdbcTemplate.update("delete from title_gram");
+        jdbcTemplate.update("delete from teaching_class_entity");
+        jdbcTemplate.update("delete from teacher_entity");
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package com.tutorlink.infra.student;
+
+import com.tutorlink.student.domain.ActiveStatus;
+import com.tutorlink.student.domain.Email;
+import com.tutorlink.student.domain.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(StudentRepositoryImpl.class)
+class StudentRepositoryImplTest {
+
+    @Autowired
+    private StudentRepositoryImpl studentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("발급된 id를 가진 새 학생은 조회 없이 INSERT 한 번으로 저장한다.")
+    void insert_without_select() {
+        // when
+        Student saved = studentRepository.insert(new Student(1_000L, "suchan", new Email("suchan@tutorlink.com"), ActiveStatus.ACTIVE));
+        entityManager.flush();
+
+        // then
+        assertThat(saved.id()).isEqualTo(1_000L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 학생을 다시 저장하면 변경된 값으로 갱신한다.")
+    void save_existing_student() {
+        // given
+        studentRepository.insert(new Student(1_000L, "suchan", new Email("suchan@tutorlink.com"), ActiveStatus.ACTIVE));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        studentRepository.save(new Student(1_000L, "suchan", new Email("suchan@tutorlink.com"), ActiveStatus.INACTIVE));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(studentRepository.findById(1_000L)).get()
+                .extracting(Student::activeStatus)
+                .isEqualTo(ActiveStatus.INACTIVE);
+    }
+}
@@ -0,0 +1,99 @@
+package com.tutorlink.infra.teacher;
+
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.dto.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+class ClassFacetRepositoryImplTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ClassFacetRepositoryImpl classFacetRepository;
+
+    private TeacherEntity teacher1;
+
+    @BeforeEach
+    void setUp() {
+        teacher1 = new TeacherEntity("John Doe", ActiveStatus.ACTIVE);
+        teacher1.addClass(new TeachingClassEntity("Math Class", "Learn mathematics", 10000, teacher1, LocalDateTime.of(2023, 1, 1, 7, 0)));
+        teacher1.addClass(new TeachingClassEntity("English Class", "Learn English language", 15000, teacher1, LocalDateTime.of(2023, 2, 1, 7, 0)));
+        teacher1.addClass(new TeachingClassEntity("Science Class", "Learn science", 12000, teacher1, LocalDateTime.of(2023, 3, 1, 7, 0)));
+        entityManager.persist(teacher1);
+
+        TeacherEntity teacher2 = new TeacherEntity("Jane Smith", ActiveStatus.ACTIVE);
+        teacher2.addClass(new TeachingClassEntity("History Class", "Learn history", 11000, teacher2, LocalDateTime.of(2023, 1, 15, 7, 0)));
+        teacher2.addClass(new TeachingClassEntity("Art Class", "Learn art", 9000, teacher2, LocalDateTime.of(2023, 2, 15, 7, 0)));
+        entityManager.persist(teacher2);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("가격 구간별 클래스 개수를 계산할 수 있다")
+    void priceBuckets() {
+        // given
+        ClassFacetRequest facetRequest = ClassFacetRequest.of(List.of(11000, 13000), null);
+
+        // when
+        ClassFacets result = classFacetRepository.findClassFacets(teacher1.getId(), ClassSearchCondition.empty(), facetRequest);
+
+        // then
+        assertThat(result.priceBuckets()).containsExactly(
+                new PriceBucket(null, 11000, 1),
+                new PriceBucket(11000, 13000, 1),
+                new PriceBucket(13000, null, 1));
+        assertThat(result.registrationHistogram()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격 구간과 월별 등록 개수를 한 번에 계산할 수 있다")
+    void priceBucketsAndMonthlyHistogram() {
+        // given
+        ClassFacetRequest facetRequest = ClassFacetRequest.of(List.of(11000, 13000), DateHistogramInterval.MONTH);
+
+        // when
+        ClassFacets result = classFacetRepository.findClassFacets(null, ClassSearchCondition.empty(), facetRequest);
+
+        // then
+        assertThat(result.priceBuckets()).containsExactly(
+                new PriceBucket(null, 11000, 2),
+                new PriceBucket(11000, 13000, 2),
+                new PriceBucket(13000, null, 1));
+        assertThat(result.registrationHistogram()).containsExactly(
+                new DateBucket(LocalDate.of(2023, 1, 1), 2),
+                new DateBucket(LocalDate.of(2023, 2, 1), 2),
+                new DateBucket(LocalDate.of(2023, 3, 1), 1));
+    }
+
+    @Test
+    @DisplayName("제목 키워드 조건이 facet 개수에도 적용된다")
+    void facetsWithTitleKeyword() {
+        // given
+        ClassFacetRequest facetRequest = ClassFacetRequest.of(List.of(), DateHistogramInterval.YEAR);
+
+        // when
+        ClassFacets result = classFacetRepository.findClassFacets(null, ClassSearchCondition.withTitleKeyword("M"), facetRequest);
+
+        // then
+        assertThat(result.priceBuckets()).isEmpty();
+        assertThat(result.registrationHistogram()).containsExactly(new DateBucket(LocalDate.of(2023, 1, 1), 1));
+    }
+}
@@ -0,0 +1,67 @@
+package com.tutorlink.infra.teacher;
+
+import com.tutorlink.infra.outbox.JdbcTeacherEventOutbox;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcTeacherImportRepository.class, JdbcTeacherEventOutbox.class})
+class JdbcTeacherImportRepositoryTest {
+
+    @Autowired
+    private JdbcTeacherImportRepository teacherImportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("선생님과 클래스, 제목 색인, 등록 이벤트를 JDBC 배치로 저장하고 체크포인트를 남긴다.")
+    void importChunk() {
+        // given
+        Teacher teacher = new Teacher(1_000L, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE)
+                .registerClasses(List.of(
+                        new TeachingClass(2_000L, 1_000L, "프로그래밍 기초 클래스", "설명", 50000, LocalDateTime.of(2024, 1, 1, 7, 0)),
+                        new TeachingClass(2_001L, 1_000L, "프로그래밍 심화 클래스", "설명", 70000, LocalDateTime.of(2024, 1, 2, 7, 0))));
+
+        // when
+        teacherImportRepository.importChunk("classes", 3L, List.of(teacher));
+
+        // then
+        TeacherEntity saved = entityManager.find(TeacherEntity.class, 1_000L);
+        assertThat(saved.getClassCount()).isEqualTo(2);
+        assertThat(saved.getTeachingClasses()).extracting(TeachingClassEntity::getId).containsExactly(2_000L, 2_001L);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from title_gram where class_id = 2000", Long.class)).isPositive();
+        assertThat(teacherImportRepository.findCheckpoint("classes")).isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForList("select event_type from outbox_event order by id", String.class))
+                .containsExactly("TeacherRegistered", "ClassRegistered", "ClassRegistered");
+    }
+
+    @Test
+    @DisplayName("체크포인트는 가져오기마다 따로 관리되고 청크를 저장할 때마다 앞으로 옮겨진다.")
+    void findCheckpoint() {
+        // when
+        teacherImportRepository.importChunk("classes", 10L, List.of());
+        teacherImportRepository.importChunk("classes", 20L, List.of());
+
+        // then
+        assertThat(teacherImportRepository.findCheckpoint("classes")).isEqualTo(20L);
+        assertThat(teacherImportRepository.findCheckpoint("other")).isZero();
+    }
+}
@@ -0,0 +1,164 @@
+package com.tutorlink.infra.teacher;
+
+import com.tutorlink.application.cache.ClassListCache;
+import com.tutorlink.application.event.TeacherEventBus;
+import com.tutorlink.application.idempotency.IdempotencyStore;
+import com.tutorlink.application.service.ClassRegistrationFacade;
+import com.tutorlink.application.service.PrimaryReader;
+import com.tutorlink.application.service.TeacherService;
+import com.tutorlink.common.id.TimeOrderedIdGenerator;
+import com.tutorlink.common.retry.RetryPolicy;
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.infra.idempotency.JdbcIdempotencyRepository;
+import com.tutorlink.infra.outbox.JdbcTeacherEventOutbox;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.TeacherRepository;
+import com.tutorlink.teacher.dto.RegisterClassCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 선생님에게 {@link ClassRegistrationFacade}로 동시에 클래스를 등록해도 버전 충돌을 재시도하며 최대 클래스 개수를 지키는지 확인한다.
+ * 시도마다 트랜잭션을 새로 열어야 하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@Import({QuerydslConfig.class, TitleGramIndexer.class, TeacherRepositoryImpl.class, TeacherRegistrationConcurrencyTest.ServiceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeacherRegistrationConcurrencyTest {
+
+    private static final int REGISTRATIONS = 200;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TeacherRepositoryImpl teacherRepository;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private Long teacherId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        teacherId = transactionTemplate.execute(status ->
+                teacherRepository.save(new Teacher(null, "suchan", new ArrayList<>(), ActiveStatus.ACTIVE)).id());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from title_gram");
+        jdbcTemplate.update("delete from teaching_class_entity");
+        jdbcTemplate.update("delete from teacher_entity");
+        jdbcTemplate.update("delete from outbox_event");
+    }
+
+    @Test
+    @DisplayName("수백 건을 동시에 등록해도 최대 클래스 개수만큼만 등록된다.")
+    void concurrent_registrations_respect_class_cap() throws Exception {
+        // given
+        RetryPolicy retryPolicy = new RetryPolicy(30, Duration.ofMillis(1), Duration.ofMillis(50),
+                e -> e instanceof ConcurrencyFailureException);
+        ClassRegistrationFacade classRegistrationFacade = new ClassRegistrationFacade(teacherService, retryPolicy);
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REGISTRATIONS; i++) {
+            RegisterClassCommand command = new RegisterClassCommand(teacherId, "프로그래밍 클래스 " + i, "설명", 10000, LocalDateTime.of(2024, 1, 1, 7, 0));
+            futures.add(executor.submit(() -> {
+                try {
+                    classRegistrationFacade.registerClass(command);
+                    registered.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(registered).hasValue(ClassPolicy.MAX_CLASS_COUNT);
+        assertThat(rejected).hasValue(REGISTRATIONS - ClassPolicy.MAX_CLASS_COUNT);
+        assertThat(retryPolicy.stats().exhausted()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from teaching_class_entity where teacher_id = ?", Long.class, teacherId))
+                .isEqualTo(ClassPolicy.MAX_CLASS_COUNT);
+        assertThat(jdbcTemplate.queryForObject("select class_count from teacher_entity where id = ?", Integer.class, teacherId))
+                .isEqualTo(ClassPolicy.MAX_CLASS_COUNT);
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 먼저 저장한 선생님을 저장하면 버전 충돌이 발생한다.")
+    void save_stale_teacher_conflicts() {
+        // given
+        Teacher stale = transactionTemplate.execute(status -> teacherRepository.findById(teacherId).orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> {
+            Teacher current = teacherRepository.findById(teacherId).orElseThrow();
+            teacherRepository.save(current.registerClass(newClass("프로그래밍 클래스 1")));
+        });
+
+        // when & then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                        teacherRepository.save(stale.registerClass(newClass("프로그래밍 클래스 2")))))
+                .isInstanceOf(ConcurrencyFailureException.class);
+    }
+
+    private TeachingClass newClass(String title) {
+        return new TeachingClass(null, teacherId, title, "설명", 10000, LocalDateTime.of(2024, 1, 1, 7, 0));
+    }
+
+    @TestConfiguration
+    static class ServiceConfig {
+
+        @Bean
+        PrimaryReader primaryReader() {
+            return new PrimaryReader();
+        }
+
+        @Bean
+        TeacherService teacherService(TeacherRepository teacherRepository, JdbcTemplate jdbcTemplate, PrimaryReader primaryReader) {
+            return new TeacherService(teacherRepository, new ClassPolicy(), new ClassListCache(), new TimeOrderedIdGenerator(0),
+                    new IdempotencyStore(new JdbcIdempotencyRepository(jdbcTemplate)), new TeacherEventBus(),
+                    new JdbcTeacherEventOutbox(jdbcTemplate), primaryReader);
+        }
+    }
+}
@@ -14,9 +14,10 @@ import org.springframework.context.annotation.Import;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import(QuerydslConfig.class)
+@Import({QuerydslConfig.class, TitleGramIndexer.class})
 class TeacherRepositoryCustomImplTest {
 
     @Autowired
@@ -25,6 +26,9 @@ class TeacherRepositoryCustomImplTest {
     @Autowired
     private TeacherRepositoryCustomImpl teacherRepositoryCustom;
 
+    @Autowired
+    private TitleGramIndexer titleGramIndexer;
+
     private TeacherEntity teacher1;
     private TeacherEntity teacher2;
 
@@ -84,6 +88,9 @@ class TeacherRepositoryCustomImplTest {
         );
         teacher2.addClass(artClass);
 
+        entityManager.flush();
+        teacher1.getTeachingClasses().forEach(titleGramIndexer::index);
+        teacher2.getTeachingClasses().forEach(titleGramIndexer::index);
         entityManager.flush();
         entityManager.clear();
     }
@@ -121,6 +128,55 @@ class TeacherRepositoryCustomImplTest {
         assertThat(result.content().get(0).title()).isEqualTo("Math Class");
     }
 
+    @Test
+    @DisplayName("한글 제목도 단어 경계와 관계없이 키워드로 검색할 수 있다")
+    void testSearchByKoreanTitleKeyword() {
+        // given
+        TeacherEntity teacher = entityManager.find(TeacherEntity.class, teacher1.getId());
+        TeachingClassEntity koreanClass = new TeachingClassEntity("자바프로그래밍 기초 클래스", "자바 입문", 30000, teacher, LocalDateTime.of(2023, 4, 1, 7, 0));
+        teacher.addClass(koreanClass);
+        entityManager.flush();
+        titleGramIndexer.index(koreanClass);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherRepositoryCustom.findClassesByTeacherId(
+                teacher1.getId(), ClassSearchCondition.withTitleKeyword("프로그래밍"));
+
+        // then
+        assertThat(result.content()).extracting("title")
+                .containsExactly("자바프로그래밍 기초 클래스");
+    }
+
+    @Test
+    @DisplayName("키워드의 글자들이 제목에 떨어져 있으면 검색되지 않는다")
+    void testSearchByTitleKeywordRequiresAdjacentGrams() {
+        // given
+        // "Science Class"에는 "en", "nc", "cl"이 모두 있지만 "encl"은 없다
+        ClassSearchCondition condition = ClassSearchCondition.withTitleKeyword("encl");
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherRepositoryCustom.findClassesByTeacherId(teacher1.getId(), condition);
+
+        // then
+        assertThat(result.content()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드는 인덱스 없이 제목에서 검색한다")
+    void testSearchBySingleCharacterKeyword() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.withTitleKeyword("M");
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherRepositoryCustom.findClassesByTeacherId(teacher1.getId(), condition);
+
+        // then
+        assertThat(result.content()).extracting("title")
+                .containsExactly("Math Class");
+    }
+
     @Test
     @DisplayName("최신순으로 수업을 정렬할 수 있다")
     void testSortByLatest() {
@@ -211,4 +267,199 @@ class TeacherRepositoryCustomImplTest {
         assertThat(result.totalElements()).isEqualTo(3);
         assertThat(result.totalPages()).isEqualTo(2);
     }
+
+    @Test
+    @DisplayName("활성화된 모든 선생님의 클래스를 최신순으로 검색할 수 있다")
+    void testSearchClassCatalog() {
+        // given
+        TeacherEntity inactiveTeacher = new TeacherEntity("Inactive Teacher", ActiveStatus.INACTIVE);
+        inactiveTeacher.addClass(new TeachingClassEntity("Hidden Class", "Not listed", 5000, inactiveTeacher, LocalDateTime.of(2023, 5, 1, 0, 0)));
+        entityManager.persist(inactiveTeacher);
+        entityManager.flush();
+        entityManager.clear();
+
+        ClassSearchCondition condition = ClassSearchCondition.withPageRequest(PageRequest.of(0, 4));
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherRepositoryCustom.searchClassCatalog(condition);
+
+        // then
+        assertThat(result.content()).extracting("title")
+                .containsExactly("Science Class", "Art Class", "English Class", "History Class");
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.totalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 클래스를 가격순과 키워드로 검색할 수 있다")
+    void testSearchClassCatalogByPriceAndKeyword() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of("is", SortType.PRICE, PageRequest.of(0, 10));
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherRepositoryCustom.searchClassCatalog(condition);
+
+        // then
+        assertThat(result.content()).extracting("title")
+                .containsExactly("History Class", "English Class");
+        assertThat(result.totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 페이지 크기보다 작으면 조회된 개수로 전체 개수를 계산한다")
+    void testTotalElementsOfSmallFirstPage() {
+        // given
+        Long teacherId = teacher1.getId();
+        ClassSearchCondition condition = ClassSearchCondition.withPageRequest(PageRequest.of(0, 10));
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherRepositoryCustom.findClassesByTeacherId(teacherId, condition);
+
+        // then
+        assertThat(result.content()).hasSize(3);
+        assertThat(result.totalElements()).isEqualTo(3);
+        assertThat(result.totalPages()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 페이지를 조회해도 전체 개수를 계산한다")
+    void testTotalElementsOfPageOutOfRange() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.of("Class", null, PageRequest.of(5, 2));
+
+        // when
+        PageResponse<ClassMetadataDto> result = teacherRepositoryCustom.findClassesByTeacherId(null, condition);
+
+        // then
+        assertThat(result.content()).isEmpty();
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.totalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("슬라이스로 조회하면 다음 페이지 존재 여부를 알 수 있다")
+    void testSlice() {
+        // given
+        Long teacherId = teacher1.getId();
+        ClassSearchCondition firstCondition = ClassSearchCondition.of(null, SortType.PRICE, PageRequest.of(0, 2));
+        ClassSearchCondition lastCondition = ClassSearchCondition.of(null, SortType.PRICE, PageRequest.of(1, 2));
+
+        // when
+        SliceResponse<ClassMetadataDto> firstSlice = teacherRepositoryCustom.findClassSliceByTeacherId(teacherId, firstCondition);
+        SliceResponse<ClassMetadataDto> lastSlice = teacherRepositoryCustom.findClassSliceByTeacherId(teacherId, lastCondition);
+
+        // then
+        assertThat(firstSlice.content()).extracting("title")
+                .containsExactly("Math Class", "Science Class");
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(lastSlice.content()).extracting("title")
+                .containsExactly("English Class");
+        assertThat(lastSlice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서를 이용해 최신순으로 다음 페이지를 조회할 수 있다")
+    void testCursorPagingByLatest() {
+        // given
+        Long teacherId = teacher1.getId();
+        ClassSearchCondition condition = ClassSearchCondition.withSortType(SortType.LATEST);
+
+        // when
+        CursorPageResponse<ClassMetadataDto> firstPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, condition, CursorPageRequest.first(2));
+        CursorPageResponse<ClassMetadataDto> secondPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, condition, CursorPageRequest.of(firstPage.nextCursor(), 2));
+
+        // then
+        assertThat(firstPage.content()).extracting("title")
+                .containsExactly("Science Class", "English Class");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.content()).extracting("title")
+                .containsExactly("Math Class");
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서를 이용해 가격순으로 다음 페이지를 조회할 수 있다")
+    void testCursorPagingByPrice() {
+        // given
+        ClassSearchCondition condition = ClassSearchCondition.withSortType(SortType.PRICE);
+
+        // when
+        CursorPageResponse<ClassMetadataDto> firstPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                null, condition, CursorPageRequest.first(3));
+        CursorPageResponse<ClassMetadataDto> secondPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                null, condition, CursorPageRequest.of(firstPage.nextCursor(), 3));
+
+        // then
+        assertThat(firstPage.content()).extracting("title")
+                .containsExactly("Art Class", "Math Class", "History Class");
+        assertThat(secondPage.content()).extracting("title")
+                .containsExactly("Science Class", "English Class");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 조회 이후에 등록된 클래스는 다음 페이지를 밀어내지 않는다")
+    void testCursorPagingIsStableUnderInserts() {
+        // given
+        Long teacherId = teacher1.getId();
+        ClassSearchCondition condition = ClassSearchCondition.withSortType(SortType.LATEST);
+        CursorPageResponse<ClassMetadataDto> firstPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, condition, CursorPageRequest.first(2));
+
+        TeacherEntity teacher = entityManager.find(TeacherEntity.class, teacherId);
+        teacher.addClass(new TeachingClassEntity("Music Class", "Learn music", 8000, teacher, LocalDateTime.of(2023, 4, 1, 0, 0)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        CursorPageResponse<ClassMetadataDto> secondPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, condition, CursorPageRequest.of(firstPage.nextCursor(), 2));
+
+        // then
+        assertThat(secondPage.content()).extracting("title")
+                .containsExactly("Math Class");
+    }
+
+    @Test
+    @DisplayName("등록 시간이 없는 클래스는 최신순 커서 조회의 마지막에 오고 다음 페이지 커서를 만들 수 있다")
+    void testCursorPagingByLatestWithoutRegisteredAt() {
+        // given
+        Long teacherId = teacher1.getId();
+        TeacherEntity teacher = entityManager.find(TeacherEntity.class, teacherId);
+        teacher.addClass(new TeachingClassEntity("Imported Class 1", "Imported", 9000, teacher, null));
+        teacher.addClass(new TeachingClassEntity("Imported Class 2", "Imported", 9000, teacher, null));
+        entityManager.flush();
+        entityManager.clear();
+        ClassSearchCondition condition = ClassSearchCondition.withSortType(SortType.LATEST);
+
+        // when
+        CursorPageResponse<ClassMetadataDto> firstPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, condition, CursorPageRequest.first(4));
+        CursorPageResponse<ClassMetadataDto> secondPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, condition, CursorPageRequest.of(firstPage.nextCursor(), 4));
+
+        // then
+        assertThat(firstPage.content()).extracting("title")
+                .containsExactly("Science Class", "English Class", "Math Class", "Imported Class 2");
+        assertThat(secondPage.content()).extracting("title")
+                .containsExactly("Imported Class 1");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 발급된 커서로는 조회할 수 없다")
+    void testCursorSortTypeMismatch() {
+        // given
+        Long teacherId = teacher1.getId();
+        CursorPageResponse<ClassMetadataDto> firstPage = teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, ClassSearchCondition.withSortType(SortType.LATEST), CursorPageRequest.first(1));
+
+        // when & then
+        assertThatThrownBy(() -> teacherRepositoryCustom.findClassesByTeacherIdWithCursor(
+                teacherId, ClassSearchCondition.withSortType(SortType.PRICE), CursorPageRequest.of(firstPage.nextCursor(), 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
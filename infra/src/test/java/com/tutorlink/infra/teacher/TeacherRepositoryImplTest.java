@@ -0,0 +1,289 @@
+package com.tutorlink.infra.teacher;
+
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.teacher.domain.ActiveStatus;
+import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import({QuerydslConfig.class, TitleGramIndexer.class, TeacherRepositoryImpl.class, ClassCountBackfill.class})
+class TeacherRepositoryImplTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TeacherRepositoryImpl teacherRepository;
+
+    @Autowired
+    private ClassCountBackfill classCountBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Long teacherId;
+
+    @BeforeEach
+    void setUp() {
+        TeacherEntity teacher = new TeacherEntity("suchan", ActiveStatus.ACTIVE);
+        for (int i = 1; i <= 3; i++) {
+            teacher.addClass(new TeachingClassEntity("프로그래밍 클래스 " + i, "설명 " + i, 10000 * i, teacher, LocalDateTime.of(2024, 1, i, 6, 0)));
+        }
+        entityManager.persist(teacher);
+        entityManager.flush();
+        entityManager.clear();
+        teacherId = teacher.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("선생님과 모든 클래스를 하나의 쿼리로 조회한다.")
+    void findById_single_statement() {
+        // when
+        Optional<Teacher> result = teacherRepository.findById(teacherId);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().teachingClasses()).hasSize(3)
+                .extracting(teachingClass -> teachingClass.title())
+                .containsExactly("프로그래밍 클래스 1", "프로그래밍 클래스 2", "프로그래밍 클래스 3");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회만 하는 선생님 애그리거트는 읽기 전용으로 로딩된다.")
+    void findById_read_only() {
+        // when
+        teacherRepository.findById(teacherId);
+
+        // then
+        TeacherEntity loaded = entityManager.find(TeacherEntity.class, teacherId);
+        assertThat(entityManager.unwrap(Session.class).isReadOnly(loaded)).isTrue();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선생님은 빈 값을 반환한다.")
+    void findById_not_found() {
+        // when
+        Optional<Teacher> result = teacherRepository.findById(999L);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("10번째 클래스를 등록하면 새 클래스 한 건만 INSERT 한다.")
+    void save_inserts_only_new_class() {
+        // given
+        Teacher teacher = teacherRepository.findById(teacherId).orElseThrow();
+        for (int i = 4; i <= 9; i++) {
+            teacher = teacherRepository.save(teacher.registerClass(newClass("프로그래밍 클래스 " + i)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Teacher loaded = teacherRepository.findById(teacherId).orElseThrow();
+        statistics.clear();
+
+        // when
+        Teacher result = teacherRepository.save(loaded.registerClass(newClass("프로그래밍 클래스 10")));
+        entityManager.flush();
+
+        // then
+        assertThat(result.teachingClasses()).hasSize(10);
+        assertThat(result.teachingClasses().getLast().id()).isNotNull().isPositive();
+        assertThat(classStatistics().getInsertCount()).isEqualTo(1);
+        assertThat(classStatistics().getUpdateCount()).isZero();
+        assertThat(statistics.getEntityStatistics(TeacherEntity.class.getName()).getInsertCount()).isZero();
+        // 선생님 행은 class_count 갱신만 UPDATE 된다
+        assertThat(statistics.getEntityStatistics(TeacherEntity.class.getName()).getUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경된 클래스만 UPDATE 한다.")
+    void save_updates_only_changed_class() {
+        // given
+        Teacher loaded = teacherRepository.findById(teacherId).orElseThrow();
+        TeachingClass first = loaded.teachingClasses().getFirst();
+        List<TeachingClass> teachingClasses = new ArrayList<>(loaded.teachingClasses());
+        teachingClasses.set(0, new TeachingClass(first.id(), first.teacherId(), first.title(), first.description(), 99000, first.registeredAt()));
+        statistics.clear();
+
+        // when
+        teacherRepository.save(new Teacher(loaded.id(), loaded.name(), teachingClasses, loaded.activeStatus()));
+        entityManager.flush();
+
+        // then
+        assertThat(classStatistics().getInsertCount()).isZero();
+        assertThat(classStatistics().getUpdateCount()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(entityManager.find(TeachingClassEntity.class, first.id()).getPrice()).isEqualTo(99000);
+    }
+
+    @Test
+    @DisplayName("선생님 애그리거트를 조회하지 않고 클래스를 추가하고 클래스 개수를 늘린다.")
+    void appendClass() {
+        // when
+        Optional<Long> classId = teacherRepository.appendClass(newClass("프로그래밍 클래스 4"), 10);
+        entityManager.flush();
+
+        // then
+        assertThat(classId).isPresent();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(classStatistics().getInsertCount()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(entityManager.find(TeacherEntity.class, teacherId).getClassCount()).isEqualTo(4);
+        assertThat(entityManager.find(TeachingClassEntity.class, classId.get()).getTeacher().getId()).isEqualTo(teacherId);
+    }
+
+    @Test
+    @DisplayName("클래스가 최대 개수만큼 등록된 선생님에게는 클래스를 추가하지 않는다.")
+    void appendClass_max_class_count() {
+        // given
+        for (int i = 4; i <= 10; i++) {
+            teacherRepository.appendClass(newClass("프로그래밍 클래스 " + i), 10);
+        }
+
+        // when
+        Optional<Long> classId = teacherRepository.appendClass(newClass("프로그래밍 클래스 11"), 10);
+
+        // then
+        assertThat(classId).isEmpty();
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(entityManager.find(TeacherEntity.class, teacherId).getClassCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("클래스 개수 컬럼이 생기기 전에 클래스를 등록한 선생님도 백필 후에는 최대 개수를 넘겨 클래스를 추가할 수 없다.")
+    void appendClass_max_class_count_after_backfill() {
+        // given
+        TeacherEntity teacher = entityManager.find(TeacherEntity.class, teacherId);
+        for (int i = 4; i <= 10; i++) {
+            teacher.addClass(new TeachingClassEntity("프로그래밍 클래스 " + i, "설명 " + i, 10000, teacher, LocalDateTime.of(2024, 1, i, 6, 0)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.update("update teacher_entity set class_count = 0 where id = ?", teacherId);
+
+        // when
+        int updated = classCountBackfill.backfill();
+        Optional<Long> classId = teacherRepository.appendClass(newClass("프로그래밍 클래스 11"), 10);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(classId).isEmpty();
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(entityManager.find(TeacherEntity.class, teacherId).getClassCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("백필은 이미 맞는 클래스 개수를 바꾸지 않는다.")
+    void backfill_keeps_counted_teachers() {
+        // when
+        int updated = classCountBackfill.backfill();
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(entityManager.find(TeacherEntity.class, teacherId).getClassCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화된 선생님에게는 클래스를 추가하지 않는다.")
+    void appendClass_inactive_teacher() {
+        // given
+        TeacherEntity inactiveTeacher = new TeacherEntity("inactive", ActiveStatus.INACTIVE);
+        entityManager.persist(inactiveTeacher);
+        entityManager.flush();
+
+        // when
+        Optional<Long> classId = teacherRepository.appendClass(
+                new TeachingClass(null, inactiveTeacher.getId(), "프로그래밍 클래스", "설명", 10000, LocalDateTime.of(2024, 2, 1, 6, 0)), 10);
+
+        // then
+        assertThat(classId).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도메인에서 발급한 id 그대로 새 선생님과 클래스를 저장한다.")
+    void save_new_teacher_with_assigned_ids() {
+        // given
+        Teacher teacher = new Teacher(1_000L, "newbie", new ArrayList<>(), ActiveStatus.ACTIVE)
+                .registerClass(new TeachingClass(2_000L, 1_000L, "프로그래밍 클래스", "설명", 10000, LocalDateTime.of(2024, 2, 1, 6, 0)));
+
+        // when
+        Teacher result = teacherRepository.insert(teacher);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        // 저장된 선생님을 먼저 조회하지 않고 선생님, 클래스, 제목 색인 INSERT 만 실행한다
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(result.id()).isEqualTo(1_000L);
+        assertThat(result.teachingClasses().getFirst().id()).isEqualTo(2_000L);
+        assertThat(entityManager.find(TeachingClassEntity.class, 2_000L).getTeacher().getId()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("여러 클래스를 한 번에 등록하면 한 번의 flush 에서 배치로 INSERT 한다.")
+    void save_batches_new_classes() {
+        // given
+        Teacher loaded = teacherRepository.findById(teacherId).orElseThrow();
+        List<TeachingClass> newClasses = new ArrayList<>();
+        for (int i = 4; i <= 8; i++) {
+            newClasses.add(new TeachingClass(10_000L + i, teacherId, "프로그래밍 클래스 " + i, "설명", 10000, LocalDateTime.of(2024, 2, 1, 6, 0)));
+        }
+        statistics.clear();
+
+        // when
+        Teacher result = teacherRepository.save(loaded.registerClasses(newClasses));
+        entityManager.flush();
+
+        // then
+        assertThat(result.teachingClasses()).hasSize(8);
+        assertThat(classStatistics().getInsertCount()).isEqualTo(5);
+        // 애그리거트 조회, 클래스 INSERT 배치, 제목 색인 INSERT 배치, 선생님 UPDATE 만 실행된다
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        entityManager.clear();
+        assertThat(entityManager.find(TeacherEntity.class, teacherId).getClassCount()).isEqualTo(8);
+    }
+
+    private EntityStatistics classStatistics() {
+        return statistics.getEntityStatistics(TeachingClassEntity.class.getName());
+    }
+
+    private TeachingClass newClass(String title) {
+        return new TeachingClass(null, teacherId, title, "설명", 10000, LocalDateTime.of(2024, 2, 1, 6, 0));
+    }
+}
@@ -0,0 +1,137 @@
+package com.tutorlink.infra.teacher;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.teacher.dto.ClassMetadataDto;
+import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.PageRequest;
+import com.tutorlink.teacher.dto.SortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목 키워드 검색의 LIKE 스캔과 n-gram 역색인 조회를 비교하는 벤치마크입니다.
+ * <p>
+ * 수백만 건의 클래스를 적재하므로 기본 빌드에서는 실행되지 않습니다.
+ * {@code -Dbenchmark=true -Dbenchmark.classes=3000000} 으로 실행합니다.
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TitleGramSearchBenchmarkTest {
+
+    private static final int CLASS_COUNT = Integer.getInteger("benchmark.classes", 2_000_000);
+    private static final int CLASSES_PER_TEACHER = 10;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ITERATIONS = 20;
+    private static final String[] WORDS = {
+            "자바", "스프링", "알고리즘", "데이터베이스", "프로그래밍", "기초", "심화", "실전", "입문", "마스터",
+            "Java", "Spring", "Kotlin", "Python", "React", "Docker", "Kubernetes", "MySQL", "Redis", "Kafka"
+    };
+    private static final List<String> KEYWORDS = List.of("스프링 심화", "Kafka", "데이터베이스", "Redis 실전");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TeacherRepositoryCustomImpl teacherRepositoryCustom;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Random random = new Random(42);
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 6, 0);
+
+        List<Object[]> teachers = new ArrayList<>();
+        List<Object[]> classes = new ArrayList<>();
+        List<Object[]> grams = new ArrayList<>();
+        for (long classId = 1; classId <= CLASS_COUNT; classId++) {
+            long teacherId = (classId - 1) / CLASSES_PER_TEACHER + 1;
+            if ((classId - 1) % CLASSES_PER_TEACHER == 0) {
+                teachers.add(new Object[]{teacherId, "teacher" + teacherId, "ACTIVE", CLASSES_PER_TEACHER});
+            }
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " 클래스 " + classId;
+            classes.add(new Object[]{classId, title, "설명", 10_000 + random.nextInt(90_000),
+                    Timestamp.valueOf(baseTime.plusSeconds(classId)), teacherId});
+            for (String gram : TitleGramTokenizer.grams(title)) {
+                grams.add(new Object[]{gram, classId});
+            }
+
+            if (classes.size() >= BATCH_SIZE || classId == CLASS_COUNT) {
+                jdbcTemplate.batchUpdate("insert into teacher_entity (id, name, active_status, class_count) values (?, ?, ?, ?)", teachers);
+                jdbcTemplate.batchUpdate("insert into teaching_class_entity (id, title, description, price, registered_at, teacher_id) values (?, ?, ?, ?, ?, ?)", classes);
+                jdbcTemplate.batchUpdate("insert into title_gram (gram, class_id) values (?, ?)", grams);
+                teachers.clear();
+                classes.clear();
+                grams.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("n-gram 역색인 조회와 LIKE 스캔의 키워드 검색 시간을 비교한다")
+    void compareTitleSearch() {
+        for (String keyword : KEYWORDS) {
+            ClassSearchCondition condition = ClassSearchCondition.of(keyword, SortType.LATEST, PageRequest.of(0, 20));
+
+            long likeNanos = measure(() -> searchWithLike(keyword));
+            long gramNanos = measure(() -> teacherRepositoryCustom.findClassesByTeacherId(null, condition).content());
+
+            assertThat(teacherRepositoryCustom.findClassesByTeacherId(null, condition).content())
+                    .containsExactlyElementsOf(searchWithLike(keyword));
+            System.out.printf("[title search] classes=%d keyword='%s' like=%.2fms ngram=%.2fms%n",
+                    CLASS_COUNT, keyword, likeNanos / 1_000_000.0, gramNanos / 1_000_000.0);
+        }
+    }
+
+    /**
+     * 역색인 도입 전의 조회 경로 ({@code title LIKE '%keyword%'})
+     */
+    private List<ClassMetadataDto> searchWithLike(String keyword) {
+        QTeachingClassEntity teachingClass = QTeachingClassEntity.teachingClassEntity;
+        return queryFactory
+                .select(Projections.constructor(ClassMetadataDto.class,
+                        teachingClass.id,
+                        teachingClass.teacher.id,
+                        teachingClass.title,
+                        teachingClass.description,
+                        teachingClass.price,
+                        teachingClass.registeredAt))
+                .from(teachingClass)
+                .join(teachingClass.teacher, QTeacherEntity.teacherEntity)
+                .where(teachingClass.title.contains(keyword))
+                .orderBy(teachingClass.registeredAt.desc())
+                .limit(20)
+                .fetch();
+    }
+
+    private long measure(Supplier<List<ClassMetadataDto>> search) {
+        // warm up
+        search.get();
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - started) / ITERATIONS;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tutorlink.infra.teacher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleGramTokenizerTest {
+
+    @Test
+    @DisplayName("제목을 중복 없는 소문자 bigram으로 나눌 수 있다.")
+    void grams() {
+        // when
+        var result = TitleGramTokenizer.grams("Java java");
+
+        // then
+        assertThat(result).containsExactly("ja", "av", "va", "a ", " j");
+    }
+
+    @Test
+    @DisplayName("한글 제목은 음절 단위로 나눈다.")
+    void korean_grams() {
+        // when
+        var result = TitleGramTokenizer.grams("자바기초");
+
+        // then
+        assertThat(result).containsExactly("자바", "바기", "기초");
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드는 gram이 없다.")
+    void single_character() {
+        // when
+        var result = TitleGramTokenizer.grams("자");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package com.tutorlink.infra.writebehind;
+
+import com.tutorlink.teacher.domain.TeachingClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassRegistrationJournalTest {
+
+    private static final long SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("저널에 기록한 클래스는 다시 열 때 기록한 순서대로 복구된다.")
+    void recovered() {
+        // given
+        List<TeachingClass> classes = List.of(newClass(1L, "프로그래밍 기초 클래스", "자바 기초"), newClass(2L, "프로그래밍 심화 클래스", null));
+        try (ClassRegistrationJournal journal = new ClassRegistrationJournal(tempDir, SEGMENT_BYTES)) {
+            long position = 0;
+            for (TeachingClass teachingClass : classes) {
+                position = journal.append(teachingClass);
+            }
+            journal.sync(position);
+        }
+
+        // when
+        try (ClassRegistrationJournal reopened = new ClassRegistrationJournal(tempDir, SEGMENT_BYTES)) {
+
+            // then
+            assertThat(reopened.recovered()).extracting(ClassRegistrationJournal.Entry::teachingClass).containsExactlyElementsOf(classes);
+        }
+    }
+
+    @Test
+    @DisplayName("쓰다 만 마지막 기록은 복구하지 않는다.")
+    void recovered_ignoresTornRecord() throws IOException {
+        // given
+        try (ClassRegistrationJournal journal = new ClassRegistrationJournal(tempDir, SEGMENT_BYTES)) {
+            journal.sync(journal.append(newClass(1L, "프로그래밍 기초 클래스", "자바 기초")));
+        }
+        Path segment = segmentFiles().getFirst();
+        Files.write(segment, new byte[]{40, 0, 0, 0, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // when
+        try (ClassRegistrationJournal reopened = new ClassRegistrationJournal(tempDir, SEGMENT_BYTES)) {
+
+            // then
+            assertThat(reopened.recovered()).extracting(entry -> entry.teachingClass().id()).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 기록만 담은 세그먼트는 지워진다.")
+    void release() throws IOException {
+        // given
+        try (ClassRegistrationJournal journal = new ClassRegistrationJournal(tempDir, 100)) {
+            journal.append(newClass(1L, "프로그래밍 기초 클래스", "자바 기초"));
+            long second = journal.append(newClass(2L, "프로그래밍 심화 클래스", "자바 심화"));
+            long third = journal.append(newClass(3L, "프로그래밍 실전 클래스", "자바 실전"));
+            journal.sync(third);
+            assertThat(segmentFiles()).hasSize(3);
+
+            // when
+            journal.release(second);
+
+            // then
+            assertThat(segmentFiles()).hasSize(2);
+
+            // when
+            journal.releaseAll();
+
+            // then
+            assertThat(segmentFiles()).hasSize(1);
+        }
+        try (ClassRegistrationJournal reopened = new ClassRegistrationJournal(tempDir, 100)) {
+            assertThat(reopened.recovered()).isEmpty();
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(ClassRegistrationJournal.SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static TeachingClass newClass(Long id, String title, String description) {
+        return new TeachingClass(id, 1L, title, description, 50000, LocalDateTime.of(2024, 1, 1, 7, 30, 15, 123_456_000));
+    }
+}
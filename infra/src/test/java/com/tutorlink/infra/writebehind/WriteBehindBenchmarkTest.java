@@ -0,0 +1,151 @@
+package com.tutorlink.infra.writebehind;
+
+import com.tutorlink.infra.config.QuerydslConfig;
+import com.tutorlink.infra.teacher.TeacherRepositoryImpl;
+import com.tutorlink.infra.teacher.TitleGramIndexer;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.ClassWriteBehindBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 등록마다 트랜잭션을 커밋하는 동기 경로와, 저널에 기록한 뒤 그룹 커밋으로 저장하는 write-behind 경로의 처리량을 비교하는 벤치마크입니다.
+ * <p>
+ * 기본 빌드에서는 실행되지 않습니다. {@code -Dbenchmark=true -Dbenchmark.registrations=20000} 으로 실행합니다.
+ * 저널의 fsync는 실제 디스크에 일어나지만 H2 메모리 DB의 커밋은 fsync를 하지 않으므로, MySQL에서는 차이가 더 커집니다.
+ */
+@DataJpaTest
+@Import({QuerydslConfig.class, TitleGramIndexer.class, TeacherRepositoryImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WriteBehindBenchmarkTest {
+
+    private static final int REGISTRATIONS = Integer.getInteger("benchmark.registrations", 20_000);
+    private static final int THREADS = 32;
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2024, 1, 1, 7, 0);
+
+    @Autowired
+    private TeacherRepositoryImpl teacherRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path journalDirectory;
+
+    private TransactionTemplate transactionTemplate;
+    private final AtomicLong nextId = new AtomicLong(1_000_000);
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Object[]> teachers = new ArrayList<>();
+        for (long teacherId = 1; teacherId <= 2L * REGISTRATIONS / ClassPolicy.MAX_CLASS_COUNT; teacherId++) {
+            teachers.add(new Object[]{teacherId, "teacher" + teacherId});
+        }
+        jdbcTemplate.batchUpdate("insert into teacher_entity (id, name, active_status, class_count, version) values (?, ?, 'ACTIVE', 0, 0)", teachers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from title_gram");
+        jdbcTemplate.update("delete from teaching_class_entity");
+        jdbcTemplate.update("delete from teacher_entity");
+    }
+
+    @Test
+    @DisplayName("동기 등록과 write-behind 등록의 초당 처리량과 커밋 수를 비교한다")
+    void compareRegistrationThroughput() throws Exception {
+        // 동기 경로: 등록마다 트랜잭션 하나
+        long syncNanos = run(i -> transactionTemplate.execute(status ->
+                teacherRepository.appendClass(newClass(i), ClassPolicy.MAX_CLASS_COUNT)));
+
+        // write-behind 경로: 저널 기록 후 응답, 그룹 커밋으로 저장 (동기 경로와 다른 선생님들에게 등록)
+        CountDownLatch written = new CountDownLatch(REGISTRATIONS);
+        ClassGroupCommitWriter writer = new ClassGroupCommitWriter(jdbcTemplate, transactionTemplate, null, ClassPolicy.MAX_CLASS_COUNT);
+        WriteBehindClassBuffer buffer = new WriteBehindClassBuffer(
+                new ClassRegistrationJournal(journalDirectory, 64L * 1024 * 1024), writer, Duration.ofMillis(10), 500);
+        buffer.addListener(new ClassWriteBehindBuffer.FlushListener() {
+            @Override
+            public void flushed(List<TeachingClass> classes) {
+                classes.forEach(teachingClass -> written.countDown());
+            }
+        });
+        buffer.start();
+        long started = System.nanoTime();
+        long acknowledgedNanos = run(i -> buffer.append(newClass(REGISTRATIONS + i)));
+        assertThat(written.await(5, TimeUnit.MINUTES)).isTrue();
+        long writtenNanos = System.nanoTime() - started;
+        buffer.close();
+
+        WriteBehindClassBuffer.Stats stats = buffer.stats();
+        assertThat(stats.writtenRows()).isEqualTo(REGISTRATIONS);
+        System.out.printf("[write-behind] registrations=%d sync=%.0f/s (commits=%d) write-behind acknowledged=%.0f/s written=%.0f/s (commits=%d)%n",
+                REGISTRATIONS, perSecond(syncNanos), REGISTRATIONS,
+                perSecond(acknowledgedNanos), perSecond(writtenNanos), stats.groupCommits());
+    }
+
+    /**
+     * i번째 등록은 (i / 최대 클래스 개수) 번째 선생님에게 한다.
+     */
+    private TeachingClass newClass(long i) {
+        long teacherId = i / ClassPolicy.MAX_CLASS_COUNT + 1;
+        return new TeachingClass(nextId.getAndIncrement(), teacherId, "프로그래밍 클래스 " + i, "설명", 10000, REGISTERED_AT);
+    }
+
+    private long run(LongConsumer registration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicLong next = new AtomicLong();
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                long i;
+                while ((i = next.getAndIncrement()) < REGISTRATIONS) {
+                    registration.accept(i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private static double perSecond(long nanos) {
+        return REGISTRATIONS / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,177 @@
+package com.tutorlink.infra.writebehind;
+
+import com.tutorlink.infra.outbox.JdbcTeacherEventOutbox;
+import com.tutorlink.teacher.domain.ClassPolicy;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.domain.repository.ClassWriteBehindBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 저널에 기록된 클래스가 그룹 커밋으로 저장되는지 확인한다.
+ * 버퍼가 자기 스레드에서 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindClassBufferTest {
+
+    private static final long SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path journalDirectory;
+
+    private ClassGroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ClassGroupCommitWriter(jdbcTemplate, new TransactionTemplate(transactionManager), null, null, null,
+                new JdbcTeacherEventOutbox(jdbcTemplate), ClassPolicy.MAX_CLASS_COUNT);
+        jdbcTemplate.update("insert into teacher_entity (id, name, active_status, class_count, version) values (1, 'suchan', 'ACTIVE', 0, 0)");
+        jdbcTemplate.update("insert into teacher_entity (id, name, active_status, class_count, version) values (2, 'inactive', 'INACTIVE', 0, 0)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from title_gram");
+        jdbcTemplate.update("delete from teaching_class_entity");
+        jdbcTemplate.update("delete from teacher_entity");
+        jdbcTemplate.update("delete from outbox_event");
+    }
+
+    @Test
+    @DisplayName("저널에 기록된 클래스를 모아 저장하고, 최대 클래스 개수를 넘거나 비활성화된 선생님의 클래스는 거절한다.")
+    void append_groupCommit() throws Exception {
+        // given
+        RecordingListener listener = new RecordingListener(13);
+        WriteBehindClassBuffer buffer = new WriteBehindClassBuffer(
+                new ClassRegistrationJournal(journalDirectory, SEGMENT_BYTES), writer, Duration.ofMillis(50), 100);
+        buffer.addListener(listener);
+        buffer.start();
+
+        // when
+        for (long id = 1; id <= 12; id++) {
+            buffer.append(newClass(1_000L + id, 1L));
+        }
+        buffer.append(newClass(2_000L, 2L));
+
+        // then
+        assertThat(listener.done.await(10, TimeUnit.SECONDS)).isTrue();
+        buffer.close();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from teaching_class_entity where teacher_id = 1", Long.class))
+                .isEqualTo(ClassPolicy.MAX_CLASS_COUNT);
+        assertThat(jdbcTemplate.queryForObject("select class_count from teacher_entity where id = 1", Integer.class))
+                .isEqualTo(ClassPolicy.MAX_CLASS_COUNT);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from title_gram where class_id = 1001", Long.class)).isPositive();
+        assertThat(listener.rejected).containsOnlyKeys(1_011L, 1_012L, 2_000L);
+        assertThat(listener.rejected.get(2_000L)).contains("not active");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_event where event_type = 'ClassRegistered'", Long.class))
+                .isEqualTo(ClassPolicy.MAX_CLASS_COUNT);
+
+        WriteBehindClassBuffer.Stats stats = buffer.stats();
+        assertThat(stats.writtenRows()).isEqualTo(ClassPolicy.MAX_CLASS_COUNT);
+        assertThat(stats.rejectedRows()).isEqualTo(3);
+        assertThat(stats.groupCommits()).isLessThan(13);
+        try (ClassRegistrationJournal reopened = new ClassRegistrationJournal(journalDirectory, SEGMENT_BYTES)) {
+            assertThat(reopened.recovered()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("저장되기 전에 멈춘 클래스는 다시 시작할 때 저널에서 복구해 저장한다.")
+    void start_replaysJournal() throws Exception {
+        // given
+        try (ClassRegistrationJournal journal = new ClassRegistrationJournal(journalDirectory, SEGMENT_BYTES)) {
+            journal.append(newClass(1_001L, 1L));
+            journal.sync(journal.append(newClass(1_002L, 1L)));
+        }
+        // 커밋된 뒤 저널이 정리되기 전에 멈춘 클래스는 다시 저장하지 않는다
+        jdbcTemplate.update("update teacher_entity set class_count = 1 where id = 1");
+        jdbcTemplate.update("insert into teaching_class_entity (id, title, description, price, registered_at, teacher_id) values (1001, '프로그래밍 클래스', '설명', 10000, ?, 1)",
+                LocalDateTime.of(2024, 1, 1, 7, 0));
+        RecordingListener listener = new RecordingListener(2);
+        WriteBehindClassBuffer buffer = new WriteBehindClassBuffer(
+                new ClassRegistrationJournal(journalDirectory, SEGMENT_BYTES), writer, Duration.ofMillis(50), 100);
+        buffer.addListener(listener);
+
+        // when
+        buffer.start();
+
+        // then
+        assertThat(listener.done.await(10, TimeUnit.SECONDS)).isTrue();
+        buffer.close();
+        assertThat(jdbcTemplate.queryForList("select id from teaching_class_entity where teacher_id = 1 order by id", Long.class))
+                .containsExactly(1_001L, 1_002L);
+        assertThat(jdbcTemplate.queryForObject("select class_count from teacher_entity where id = 1", Integer.class)).isEqualTo(2);
+        assertThat(listener.rejected).isEmpty();
+        assertThat(jdbcTemplate.queryForList("select class_id from outbox_event", Long.class)).containsExactly(1_002L);
+    }
+
+    @Test
+    @DisplayName("닫힌 버퍼는 클래스를 받지 않는다.")
+    void append_afterClose() {
+        // given
+        WriteBehindClassBuffer buffer = new WriteBehindClassBuffer(
+                new ClassRegistrationJournal(journalDirectory, SEGMENT_BYTES), writer, Duration.ofMillis(50), 100);
+        buffer.close();
+
+        // when & then
+        assertThatThrownBy(() -> buffer.append(newClass(1_001L, 1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static TeachingClass newClass(Long id, Long teacherId) {
+        return new TeachingClass(id, teacherId, "프로그래밍 클래스 " + id, "설명", 10000, LocalDateTime.of(2024, 1, 1, 7, 0));
+    }
+
+    /**
+     * 저장되거나 거절된 클래스 수가 기대한 만큼 모이면 알린다.
+     */
+    private static class RecordingListener implements ClassWriteBehindBuffer.FlushListener {
+
+        private final CountDownLatch done;
+        private final Map<Long, String> rejected = new ConcurrentHashMap<>();
+
+        RecordingListener(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void flushed(List<TeachingClass> classes) {
+            classes.forEach(teachingClass -> done.countDown());
+        }
+
+        @Override
+        public void rejected(TeachingClass teachingClass, String reason) {
+            rejected.put(teachingClass.id(), reason);
+            done.countDown();
+        }
+    }
+}
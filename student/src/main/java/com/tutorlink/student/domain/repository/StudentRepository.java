@@ -7,6 +7,15 @@ import java.util.Optional;
 public interface StudentRepository {
     Student save(Student student);
 
+    /**
+     * Store a new student without first looking for a stored copy, as {@link #save(Student)} must for students with
+     * assigned ids
+     *
+     * @param student a student that is not stored yet
+     * @return the stored student
+     */
+    Student insert(Student student);
+
     Optional<Student> findById(Long id);
 
     Optional<Student> findByEmail(String email);
@@ -2,10 +2,48 @@ package com.tutorlink.teacher.domain;
 
 import com.tutorlink.teacher.dto.RegisterClassCommand;
 
+import java.util.List;
+
 public class ClassPolicy {
+    public static final int MAX_CLASS_COUNT = 10;
+
     public void validate(Teacher teacher, RegisterClassCommand registerClassCommand) {
         validateTeacher(teacher);
-        validateTotalClassCnt(teacher);
+        validateClassCount(teacher.teachingClasses().size(), 1);
+        validateCommand(registerClassCommand);
+    }
+
+    /**
+     * 여러 클래스를 한 번에 등록하는 요청을 검증한다.
+     * 기존 클래스와 요청된 클래스를 합한 개수가 최대 클래스 개수를 넘으면 하나도 등록할 수 없다.
+     */
+    public void validateAll(Teacher teacher, List<RegisterClassCommand> registerClassCommands) {
+        validateTeacher(teacher);
+        if (registerClassCommands == null || registerClassCommands.isEmpty()) {
+            throw new IllegalArgumentException("등록할 클래스가 없습니다.");
+        }
+        validateClassCount(teacher.teachingClasses().size(), registerClassCommands.size());
+        registerClassCommands.forEach(this::validateCommand);
+    }
+
+    /**
+     * 이미 등록된 클래스에 더해 클래스를 등록해도 최대 클래스 개수를 넘지 않는지 검증한다.
+     * 한 건을 등록할 때는 이미 최대 개수만큼 등록된 경우에 거절된다.
+     *
+     * @param registeredCount 이미 등록된 클래스 개수
+     * @param requestedCount  등록하려는 클래스 개수
+     */
+    static void validateClassCount(int registeredCount, int requestedCount) {
+        if (registeredCount + requestedCount > MAX_CLASS_COUNT) {
+            throw new IllegalStateException("최대 클래스 개수를 초과했습니다.");
+        }
+    }
+
+    /**
+     * 선생님 정보 없이 검증할 수 있는 등록 요청 자체의 규칙(제목, 등록 시간)만 검증한다.
+     * 선생님 상태와 클래스 개수는 저장 시점에 원자적으로 검증하는 등록 경로에서 사용한다.
+     */
+    public void validateCommand(RegisterClassCommand registerClassCommand) {
         validateClassTitle(registerClassCommand.title());
         validateClassRegistrationTime(registerClassCommand);
     }
@@ -20,12 +58,6 @@ public class ClassPolicy {
         }
     }
 
-    private void validateTotalClassCnt(Teacher teacher) {
-        if (teacher.teachingClasses().size() > 10) {
-            throw new IllegalStateException("최대 클래스 개수를 초과했습니다.");
-        }
-    }
-
     private void validateClassTitle(String title) {
         if (title.length() < 10) {
             throw new IllegalArgumentException("클래스 제목은 10자 이상이어야 합니다.");
@@ -4,7 +4,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-public record Teacher(Long id, String name, List<TeachingClass> teachingClasses, ActiveStatus activeStatus) {
+/**
+ * @param version 저장된 선생님의 버전. 다른 요청이 먼저 저장했다면 이 선생님은 저장되지 않는다 (새 선생님은 0)
+ */
+public record Teacher(Long id, String name, List<TeachingClass> teachingClasses, ActiveStatus activeStatus, long version) {
+    public Teacher(Long id, String name, List<TeachingClass> teachingClasses, ActiveStatus activeStatus) {
+        this(id, name, teachingClasses, activeStatus, 0L);
+    }
+
     public Teacher {
         if (Objects.isNull(id)) {
             id = 0L;
@@ -20,12 +27,18 @@ public record Teacher(Long id, String name, List<TeachingClass> teachingClasses,
 
     public Teacher registerClass(TeachingClass teachingClass) {
         Objects.requireNonNull(teachingClass, "클래스를 등록할 수 없습니다.");
-        if (teachingClasses.size() >= 10) {
-            throw new IllegalStateException("클래스는 10개 이상 등록할 수 없습니다.");
-        }
+        ClassPolicy.validateClassCount(teachingClasses.size(), 1);
         List<TeachingClass> newTeachingClasses = new ArrayList<>(teachingClasses);
         newTeachingClasses.add(teachingClass);
-        return new Teacher(id, name, newTeachingClasses, activeStatus);
+        return new Teacher(id, name, newTeachingClasses, activeStatus, version);
+    }
+
+    public Teacher registerClasses(List<TeachingClass> teachingClasses) {
+        Objects.requireNonNull(teachingClasses, "클래스를 등록할 수 없습니다.");
+        ClassPolicy.validateClassCount(this.teachingClasses.size(), teachingClasses.size());
+        List<TeachingClass> newTeachingClasses = new ArrayList<>(this.teachingClasses);
+        newTeachingClasses.addAll(teachingClasses);
+        return new Teacher(id, name, newTeachingClasses, activeStatus, version);
     }
 
 }
@@ -0,0 +1,22 @@
+package com.tutorlink.teacher.domain.event;
+
+import com.tutorlink.teacher.domain.TeachingClass;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선생님이 클래스를 등록했다.
+ *
+ * @param classId      클래스 ID
+ * @param teacherId    선생님 ID
+ * @param title        클래스 제목
+ * @param price        클래스 가격
+ * @param registeredAt 등록 시간
+ */
+public record ClassRegistered(Long classId, Long teacherId, String title, int price, LocalDateTime registeredAt) implements TeacherEvent {
+
+    public static ClassRegistered of(TeachingClass teachingClass) {
+        return new ClassRegistered(teachingClass.id(), teachingClass.teacherId(), teachingClass.title(),
+                teachingClass.price(), teachingClass.registeredAt());
+    }
+}
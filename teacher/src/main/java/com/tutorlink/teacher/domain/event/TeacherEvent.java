@@ -0,0 +1,9 @@
+package com.tutorlink.teacher.domain.event;
+
+/**
+ * 선생님 애그리거트에서 일어난 일을 알리는 도메인 이벤트. 이벤트는 등록 트랜잭션이 커밋된 뒤에만 발행된다.
+ */
+public sealed interface TeacherEvent permits TeacherRegistered, ClassRegistered {
+
+    Long teacherId();
+}
@@ -0,0 +1,10 @@
+package com.tutorlink.teacher.domain.event;
+
+/**
+ * 선생님이 등록되었다.
+ *
+ * @param teacherId 선생님 ID
+ * @param name      선생님 이름
+ */
+public record TeacherRegistered(Long teacherId, String name) implements TeacherEvent {
+}
@@ -0,0 +1,63 @@
+package com.tutorlink.teacher.domain.repository;
+
+import com.tutorlink.teacher.domain.TeachingClass;
+
+import java.util.List;
+
+/**
+ * Write-behind path of class registration: accepts classes once they are durably journaled on this node,
+ * and inserts them into the database later in group commits.
+ * <p>
+ * The teacher's state and class limit are checked when a class is inserted, not when it is accepted,
+ * so an accepted class can still be rejected; rejections are reported to the registered listeners.
+ */
+public interface ClassWriteBehindBuffer {
+
+    /**
+     * Durably append a class to the local journal. Returns once the class survives a crash of this node;
+     * it is inserted into the database by a later group commit.
+     *
+     * @param teachingClass the class to register, with an application-assigned id
+     * @throws IllegalStateException if the buffer is closed
+     */
+    void append(TeachingClass teachingClass);
+
+    /**
+     * Register a listener notified of the outcome of every group commit
+     *
+     * @param listener the listener to notify
+     */
+    void addListener(FlushListener listener);
+
+    /**
+     * Outcome of the group commits. Called from the flushing thread, so implementations must not block.
+     */
+    interface FlushListener {
+
+        /**
+         * Classes inserted by a group commit, called after the commit
+         *
+         * @param classes the inserted classes
+         */
+        default void flushed(List<TeachingClass> classes) {
+        }
+
+        /**
+         * A class that was dropped because its teacher does not exist, is not active or already has the maximum number of classes
+         *
+         * @param teachingClass the dropped class
+         * @param reason        why the class was dropped
+         */
+        default void rejected(TeachingClass teachingClass, String reason) {
+        }
+
+        /**
+         * A group commit failed; its classes stay in the journal and are retried
+         *
+         * @param rows    the number of classes in the failed group commit
+         * @param failure the cause of the failure
+         */
+        default void flushFailed(int rows, RuntimeException failure) {
+        }
+    }
+}
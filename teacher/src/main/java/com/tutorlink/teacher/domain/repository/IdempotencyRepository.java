@@ -0,0 +1,30 @@
+package com.tutorlink.teacher.domain.repository;
+
+import java.util.Optional;
+
+/**
+ * Durable record of completed idempotent commands: which result a client-supplied idempotency key produced.
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * Find the result of a command that was already completed with the given key
+     *
+     * @param operation      the command the key belongs to, so the same key can be reused across commands
+     * @param idempotencyKey the client-supplied idempotency key
+     * @return the id the command produced, or empty if no command with this key was committed or the key expired
+     */
+    Optional<Long> findResultId(String operation, String idempotencyKey);
+
+    /**
+     * Record the result of a command in the caller's transaction, so the key is stored if and only if the command commits.
+     * A concurrent command with the same key waits for the first one; if that one commits, its result is returned instead.
+     * An expired key is taken over.
+     *
+     * @param operation      the command the key belongs to
+     * @param idempotencyKey the client-supplied idempotency key
+     * @param resultId       the id the command produced
+     * @return the id of a command that already recorded this key, or empty if this command's result was recorded
+     */
+    Optional<Long> save(String operation, String idempotencyKey, Long resultId);
+}
@@ -0,0 +1,19 @@
+package com.tutorlink.teacher.domain.repository;
+
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+
+import java.util.List;
+
+/**
+ * Transactional outbox of teacher events. Events are stored with the change that produced them and dispatched later by a relay,
+ * so an event is delivered if and only if its change commits, even if the process crashes right after the commit.
+ */
+public interface TeacherEventOutbox {
+
+    /**
+     * Store events in the caller's transaction
+     *
+     * @param events the events to dispatch after the commit, in order
+     */
+    void append(List<? extends TeacherEvent> events);
+}
@@ -0,0 +1,21 @@
+package com.tutorlink.teacher.domain.repository;
+
+import com.tutorlink.teacher.domain.event.TeacherEvent;
+
+import java.util.List;
+
+/**
+ * Destination of the events relayed from the {@link TeacherEventOutbox}, e.g. a message broker.
+ * <p>
+ * Delivery is at least once: a batch whose relay transaction fails after the sink accepted it is dispatched again,
+ * so receivers must tolerate duplicates.
+ */
+public interface TeacherEventSink {
+
+    /**
+     * Dispatch a batch of events. The batch is removed from the outbox only if this method returns normally.
+     *
+     * @param events the events, in outbox order
+     */
+    void dispatch(List<TeacherEvent> events);
+}
@@ -0,0 +1,29 @@
+package com.tutorlink.teacher.domain.repository;
+
+import com.tutorlink.teacher.domain.Teacher;
+
+import java.util.List;
+
+/**
+ * Write path of the bulk import: stores already validated teachers chunk by chunk, together with the import checkpoint.
+ */
+public interface TeacherImportRepository {
+
+    /**
+     * Find the last source line of an import whose records are stored
+     *
+     * @param importKey the key identifying the import (e.g. the source file name)
+     * @return the last committed line number, or 0 if nothing was imported yet
+     */
+    long findCheckpoint(String importKey);
+
+    /**
+     * Insert new teachers and their classes and advance the checkpoint in the same transaction,
+     * so a resumed import neither skips nor duplicates a chunk
+     *
+     * @param importKey  the key identifying the import
+     * @param checkpoint the last source line covered by this chunk
+     * @param teachers   new teachers with application-assigned ids, each holding its classes
+     */
+    void importChunk(String importKey, long checkpoint, List<Teacher> teachers);
+}
@@ -1,17 +1,51 @@
 package com.tutorlink.teacher.domain.repository;
 
 import com.tutorlink.teacher.domain.Teacher;
+import com.tutorlink.teacher.domain.TeachingClass;
+import com.tutorlink.teacher.dto.ClassChangeFeed;
+import com.tutorlink.teacher.dto.ClassFacetRequest;
+import com.tutorlink.teacher.dto.ClassFacets;
 import com.tutorlink.teacher.dto.ClassMetadataDto;
 import com.tutorlink.teacher.dto.ClassSearchCondition;
+import com.tutorlink.teacher.dto.CursorPageRequest;
+import com.tutorlink.teacher.dto.CursorPageResponse;
 import com.tutorlink.teacher.dto.PageResponse;
+import com.tutorlink.teacher.dto.SliceResponse;
 
 import java.util.Optional;
 
 public interface TeacherRepository {
     Teacher save(Teacher teacher);
 
+    /**
+     * Store a new teacher and its classes without first looking for a stored copy, as {@link #save(Teacher)} must for
+     * aggregates with assigned ids
+     *
+     * @param teacher a teacher that is not stored yet
+     * @return the stored teacher
+     */
+    Teacher insert(Teacher teacher);
+
     Optional<Teacher> findById(Long id);
 
+    /**
+     * Check whether a teacher exists without loading the aggregate
+     *
+     * @param id the ID of the teacher
+     * @return true if the teacher exists
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Append a class to an active teacher without loading the aggregate.
+     * The teacher's class counter is incremented with a conditional update, so the cap holds under concurrent registrations.
+     *
+     * @param teachingClass the class to register (its teacherId identifies the teacher)
+     * @param maxClassCount the maximum number of classes a teacher may have
+     * @return the ID of the new class, or empty if the teacher does not exist, is not active, or already has the maximum number of classes
+     */
+    Optional<Long> appendClass(TeachingClass teachingClass, int maxClassCount);
+
     /**
      * Find classes by teacher ID with pagination and filtering
      *
@@ -20,4 +54,52 @@ public interface TeacherRepository {
      * @return a page of class metadata DTOs
      */
     PageResponse<ClassMetadataDto> findClassesByTeacherId(Long teacherId, ClassSearchCondition condition);
+
+    /**
+     * Compute the facet counts (price buckets, registration date histogram) of the classes matching a search condition
+     *
+     * @param teacherId    the ID of the teacher
+     * @param condition    the search condition (only the filtering parameters are used)
+     * @param facetRequest the price buckets and date histogram to compute
+     * @return the facet counts over all matching classes
+     */
+    ClassFacets findClassFacets(Long teacherId, ClassSearchCondition condition, ClassFacetRequest facetRequest);
+
+    /**
+     * Search the classes of all active teachers with pagination and filtering
+     *
+     * @param condition the search condition including pagination, filtering, and sorting parameters (latest first if no sort type is given)
+     * @return a page of class metadata DTOs
+     */
+    PageResponse<ClassMetadataDto> searchClassCatalog(ClassSearchCondition condition);
+
+    /**
+     * Find classes by teacher ID as a slice, without counting the total number of matching classes
+     *
+     * @param teacherId the ID of the teacher
+     * @param condition the search condition including pagination, filtering, and sorting parameters
+     * @return a slice of class metadata DTOs telling whether a next slice exists
+     */
+    SliceResponse<ClassMetadataDto> findClassSliceByTeacherId(Long teacherId, ClassSearchCondition condition);
+
+    /**
+     * Find classes by teacher ID with keyset (cursor) pagination and filtering
+     *
+     * @param teacherId         the ID of the teacher
+     * @param condition         the search condition including filtering and sorting parameters
+     * @param cursorPageRequest the cursor and size of the page to fetch
+     * @return a page of class metadata DTOs with the cursor of the next page
+     */
+    CursorPageResponse<ClassMetadataDto> findClassesByTeacherIdWithCursor(Long teacherId, ClassSearchCondition condition, CursorPageRequest cursorPageRequest);
+
+    /**
+     * Read the changes of classes and teachers recorded after a change token, oldest first
+     *
+     * @param teacherId  the ID of the teacher whose changes to read, or null for the changes of all teachers
+     * @param sinceToken the token returned by the previous batch (0 to read from the start of the change log)
+     * @param limit      the largest number of changes to return
+     * @return the changes with the token to request the next batch with
+     * @throws IllegalStateException if the change log is not enabled
+     */
+    ClassChangeFeed findClassChanges(Long teacherId, long sinceToken, int limit);
 }
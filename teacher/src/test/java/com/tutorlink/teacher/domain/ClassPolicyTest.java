@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -184,4 +185,79 @@ public class ClassPolicyTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("선생님이 존재하지 않습니다.");
     }
+
+    @Test
+    @DisplayName("선생님 없이 등록 요청의 제목과 등록 시간만 검증할 수 있다.")
+    void validateCommand() {
+        // given
+        final ClassPolicy classPolicy = new ClassPolicy();
+        final RegisterClassCommand command = new RegisterClassCommand(1L, "A 클래스123456", "A 클래스 설명", 3000, LocalDateTime.now().withHour(11));
+
+        // when & then
+        assertThatThrownBy(() -> classPolicy.validateCommand(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("클래스 등록은 오전 6시부터 10시 사이에만 가능합니다.");
+    }
+
+    @Test
+    @DisplayName("최대 개수만큼 클래스를 등록한 선생님의 등록 요청은 정책 검증에서 거절된다.")
+    void validate_maxClassCount() {
+        // given
+        final ClassPolicy classPolicy = new ClassPolicy();
+        Teacher teacher = createTeacherWithEmptyClass();
+        for (long id = 1; id <= ClassPolicy.MAX_CLASS_COUNT; id++) {
+            teacher = teacher.registerClass(createTeachingClass(id));
+        }
+        final Teacher fullTeacher = teacher;
+        final RegisterClassCommand command = new RegisterClassCommand(1L, "A 클래스123456", "A 클래스 설명", 3000, LocalDateTime.now().withHour(7));
+
+        // when & then
+        assertThatThrownBy(() -> classPolicy.validate(fullTeacher, command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("최대 클래스 개수를 초과했습니다.");
+        assertThatThrownBy(() -> fullTeacher.registerClass(createTeachingClass(11L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("최대 클래스 개수를 초과했습니다.");
+    }
+
+    @Test
+    @DisplayName("기존 클래스와 함께 등록하려는 클래스가 최대 개수를 넘으면 한 건도 등록할 수 없다.")
+    void validateAll_cumulativeClassCount() {
+        // given
+        final ClassPolicy classPolicy = new ClassPolicy();
+        Teacher teacher = createTeacherWithEmptyClass();
+        for (long id = 1; id <= 8; id++) {
+            teacher = teacher.registerClass(createTeachingClass(id));
+        }
+        LocalDateTime registrationTime = LocalDateTime.now().withHour(7); // 오전 7시로 설정
+        List<RegisterClassCommand> twoCommands = List.of(
+                new RegisterClassCommand(1L, "A 클래스123456", "A 클래스 설명", 3000, registrationTime),
+                new RegisterClassCommand(1L, "B 클래스123456", "B 클래스 설명", 3000, registrationTime));
+        List<RegisterClassCommand> threeCommands = new ArrayList<>(twoCommands);
+        threeCommands.add(new RegisterClassCommand(1L, "C 클래스123456", "C 클래스 설명", 3000, registrationTime));
+
+        // when & then
+        classPolicy.validateAll(teacher, twoCommands);
+        final Teacher finalTeacher = teacher;
+        assertThatThrownBy(() -> classPolicy.validateAll(finalTeacher, threeCommands))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("최대 클래스 개수를 초과했습니다.");
+    }
+
+    @Test
+    @DisplayName("여러 클래스를 등록할 때 하나라도 올바르지 않으면 예외가 발생한다.")
+    void validateAll_invalidCommand() {
+        // given
+        final ClassPolicy classPolicy = new ClassPolicy();
+        Teacher teacher = createTeacherWithEmptyClass();
+        LocalDateTime registrationTime = LocalDateTime.now().withHour(7); // 오전 7시로 설정
+        List<RegisterClassCommand> commands = List.of(
+                new RegisterClassCommand(1L, "A 클래스123456", "A 클래스 설명", 3000, registrationTime),
+                new RegisterClassCommand(1L, "짧은 제목", "B 클래스 설명", 3000, registrationTime));
+
+        // when & then
+        assertThatThrownBy(() -> classPolicy.validateAll(teacher, commands))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("클래스 제목은 10자 이상이어야 합니다.");
+    }
 }